@@ -138,6 +138,12 @@ options {
         return functions;
     }
 
+    /** Returns the typedef names and their aliased types in declaration order,
+        as passed to {@link JavaConfiguration#addTypeInfo(String, Type)}. */
+    public List<Map.Entry<String, Type>> getTypeInfoAliases() {
+        return typeInfoAliases;
+    }
+
     private CompoundType lookupInStructDictionary(String structName,
                                                   CompoundTypeKind kind,
                                                   int cvAttrs, final ASTLocusTag locusTag) 
@@ -263,6 +269,7 @@ options {
     private TypeDictionary typedefDictionary;
     private TypeDictionary structDictionary;
     private List<FunctionSymbol> functions = new ArrayList<FunctionSymbol>();
+    private List<Map.Entry<String, Type>> typeInfoAliases = new ArrayList<Map.Entry<String, Type>>();
     // hash from name of an enumerated value to the EnumType to which it belongs
     private HashMap<String, EnumType> enumHash = new HashMap<String, EnumType>();
     private HashMap<String, EnumType> enumMap = new HashMap<String, EnumType>();
@@ -880,6 +887,7 @@ initDecl[TypeBox tb] {
         } else {
             // Adds typeInfo alias w/ t's typeInfo, if exists
             cfg.addTypeInfo(declName, t);
+            typeInfoAliases.add(new AbstractMap.SimpleImmutableEntry<String, Type>(declName, t));
             final Type alias;
             if( t.isCompound() ) {
                 // This aliases 'D' -> 'A' for 'typedef struct _a { } A, D;' in-place
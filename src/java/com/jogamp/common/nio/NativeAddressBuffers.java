@@ -0,0 +1,81 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.common.nio;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import com.jogamp.common.os.Platform;
+
+/**
+ * Creates direct {@link ByteBuffer}s at a given native address,
+ * e.g. to access a native array of structs referenced by a pointer w/ a single buffer.
+ * <p>
+ * Each buffer is created by a single JNI {@code NewDirectByteBuffer} call,
+ * which works on all JREs, incl. JDK 16+ encapsulating the JRE's {@code DirectByteBuffer} constructor.
+ * Hence callers shall wrap the whole native range once and slice it,
+ * instead of wrapping each element.
+ * </p>
+ * <p>
+ * The created buffers do not own the native memory, i.e. the caller is responsible
+ * for the referenced memory to stay valid while the buffer is in use.
+ * </p>
+ */
+public class NativeAddressBuffers {
+    static {
+        Platform.initSingleton(); // loads native gluegen-rt library
+    }
+
+    /**
+     * Returns a new direct {@link ByteBuffer} in {@link ByteOrder#nativeOrder() native order},
+     * covering {@code capacity} bytes at the given native address.
+     * <p>
+     * The capacity is passed as a {@code long}, allowing callers to compute it
+     * as {@code elementSize * elementCount} w/o {@code int} overflow.
+     * </p>
+     * @param address the native address
+     * @param capacity the capacity in bytes
+     * @return the new buffer or {@code null} if {@code address} is zero
+     * @throws IllegalArgumentException if {@code capacity} is negative or exceeds {@link Integer#MAX_VALUE}
+     */
+    public static ByteBuffer wrap(final long address, final long capacity) throws IllegalArgumentException {
+        if( 0 > capacity || capacity > Integer.MAX_VALUE ) {
+            throw new IllegalArgumentException("Capacity "+capacity+" not within [0.."+Integer.MAX_VALUE+"] @ 0x"+Long.toHexString(address));
+        }
+        if( 0 == address ) {
+            return null;
+        }
+        final ByteBuffer bb = newDirectByteBufferImpl(address, capacity);
+        if( null == bb ) {
+            throw new RuntimeException("Could not create ByteBuffer @ 0x"+Long.toHexString(address)+", capacity "+capacity);
+        }
+        return bb.order(ByteOrder.nativeOrder());
+    }
+
+    private static native ByteBuffer newDirectByteBufferImpl(long address, long capacity);
+}
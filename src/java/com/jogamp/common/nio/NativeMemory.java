@@ -0,0 +1,381 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.common.nio;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+
+import static com.jogamp.common.nio.UnsafeUtil.*;
+
+/**
+ * A native memory segment with a {@code long} base address and {@code long} size,
+ * hence not limited to the {@code int} indices of {@link java.nio.Buffer}s.
+ * <p>
+ * Provides bounds checked typed get and put operations in native byte order,
+ * {@link #slice(long, long) slicing} and bulk copy to and from Java primitive arrays and other segments.
+ * Segments are passed to native code by their {@link #getAddress() address},
+ * see the {@code NativeMemory} directive of the GlueGen configuration.
+ * </p>
+ * <p>
+ * A segment either {@link #allocate(long) owns} its memory, which must be {@link #free() freed} explicitly,
+ * or {@link #wrap(long, long) references} memory owned elsewhere, e.g. a {@link #wrap(Buffer) direct buffer}
+ * kept alive by this segment.
+ * </p>
+ * <p>
+ * Requires {@code sun.misc.Unsafe}, see {@link #isAvailable()}.
+ * </p>
+ */
+public class NativeMemory {
+    /** Returns {@code true} if {@code sun.misc.Unsafe} is available, otherwise {@code false}. */
+    public static boolean isAvailable() {
+        return null != UNSAFE;
+    }
+
+    private static void checkAvailable() throws UnsupportedOperationException {
+        if( null == UNSAFE ) {
+            throw new UnsupportedOperationException("sun.misc.Unsafe not available");
+        }
+    }
+
+    /**
+     * Allocates a new native memory segment of the given size, owned by the returned instance,
+     * which must be {@link #free() freed}.
+     * @throws UnsupportedOperationException if not {@link #isAvailable() available}
+     * @throws OutOfMemoryError if the allocation was refused by the system
+     */
+    public static NativeMemory allocate(final long size) throws UnsupportedOperationException, OutOfMemoryError {
+        checkAvailable();
+        if( 0 > size ) {
+            throw new IllegalArgumentException("negative size "+size);
+        }
+        return new NativeMemory(null, UnsafeUtil.allocateMemory(size), size, true);
+    }
+
+    /**
+     * Returns a segment referencing the given native memory, not owned by the returned instance.
+     * @throws UnsupportedOperationException if not {@link #isAvailable() available}
+     */
+    public static NativeMemory wrap(final long address, final long size) throws UnsupportedOperationException {
+        checkAvailable();
+        if( 0 == address || 0 > size ) {
+            throw new IllegalArgumentException("invalid address 0x"+Long.toHexString(address)+" or size "+size);
+        }
+        return new NativeMemory(null, address, size, false);
+    }
+
+    /**
+     * Returns a segment referencing the given direct buffer's memory from its position to its limit,
+     * keeping the buffer alive.
+     * @throws IllegalArgumentException if the buffer is not direct
+     * @throws UnsupportedOperationException if not {@link #isAvailable() available}
+     */
+    public static NativeMemory wrap(final Buffer directBuffer) throws IllegalArgumentException, UnsupportedOperationException {
+        checkAvailable();
+        if( !Buffers.isDirect(directBuffer) ) {
+            throw new IllegalArgumentException("Buffer is not direct: "+directBuffer);
+        }
+        final long elemSize = Buffers.sizeOfBufferElem(directBuffer);
+        return new NativeMemory(directBuffer, getDirectBufferAddress(directBuffer) + elemSize * directBuffer.position(),
+                                elemSize * directBuffer.remaining(), false);
+    }
+
+    /** Keeps the memory alive of a wrapped buffer or the parent of a slice, otherwise null. */
+    private final Object owner;
+    private final long address;
+    private final long size;
+    private final boolean freeable;
+    private volatile boolean freed;
+
+    private NativeMemory(final Object owner, final long address, final long size, final boolean freeable) {
+        this.owner = owner;
+        this.address = address;
+        this.size = size;
+        this.freeable = freeable;
+        this.freed = false;
+    }
+
+    /** Returns the native base address of this segment. */
+    public final long getAddress() {
+        return address;
+    }
+
+    /** Returns the size of this segment in bytes. */
+    public final long getSize() {
+        return size;
+    }
+
+    /** Returns {@code true} if this segment owns its memory, i.e. has been {@link #allocate(long) allocated}. */
+    public final boolean isOwner() {
+        return freeable;
+    }
+
+    /**
+     * Releases the memory of an {@link #isOwner() owning} segment.
+     * Accessing this segment or any of its slices afterwards is undefined.
+     * @throws IllegalStateException if this segment does not own its memory or has already been freed
+     */
+    public final void free() throws IllegalStateException {
+        if( !freeable ) {
+            throw new IllegalStateException("Segment does not own its memory: "+this);
+        }
+        synchronized( this ) {
+            if( freed ) {
+                throw new IllegalStateException("Segment already freed: "+this);
+            }
+            freed = true;
+        }
+        UnsafeUtil.freeMemory(address);
+    }
+
+    private final void checkRange(final long byteOffset, final long byteCount) throws IndexOutOfBoundsException {
+        if( 0 > byteOffset || 0 > byteCount || byteOffset > size - byteCount ) {
+            throw new IndexOutOfBoundsException("byteOffset "+byteOffset+" + byteCount "+byteCount+" exceeds size "+size);
+        }
+    }
+
+    /**
+     * Returns a new segment referencing {@code byteCount} bytes of this segment starting at {@code byteOffset},
+     * keeping this segment alive.
+     */
+    public final NativeMemory slice(final long byteOffset, final long byteCount) throws IndexOutOfBoundsException {
+        checkRange(byteOffset, byteCount);
+        return new NativeMemory(this, address + byteOffset, byteCount, false);
+    }
+
+    /**
+     * Returns a new direct {@link ByteBuffer} in native byte order covering {@code byteCount} bytes
+     * of this segment starting at {@code byteOffset}, e.g. to pass a part of a large segment to {@link Buffer} based APIs.
+     * <p>
+     * The returned buffer does not keep this segment alive.
+     * </p>
+     */
+    public final ByteBuffer asByteBuffer(final long byteOffset, final int byteCount) throws IndexOutOfBoundsException {
+        checkRange(byteOffset, byteCount);
+        return NativeAddressBuffers.wrap(address + byteOffset, byteCount);
+    }
+
+    public final byte getByte(final long byteOffset) {
+        checkRange(byteOffset, 1);
+        return UnsafeUtil.getByte(null, address + byteOffset);
+    }
+
+    public final void putByte(final long byteOffset, final byte v) {
+        checkRange(byteOffset, 1);
+        UnsafeUtil.putByte(null, address + byteOffset, v);
+    }
+
+    public final short getShort(final long byteOffset) {
+        checkRange(byteOffset, Buffers.SIZEOF_SHORT);
+        return UnsafeUtil.getShort(null, address + byteOffset);
+    }
+
+    public final void putShort(final long byteOffset, final short v) {
+        checkRange(byteOffset, Buffers.SIZEOF_SHORT);
+        UnsafeUtil.putShort(null, address + byteOffset, v);
+    }
+
+    public final char getChar(final long byteOffset) {
+        checkRange(byteOffset, Buffers.SIZEOF_CHAR);
+        return UnsafeUtil.getChar(null, address + byteOffset);
+    }
+
+    public final void putChar(final long byteOffset, final char v) {
+        checkRange(byteOffset, Buffers.SIZEOF_CHAR);
+        UnsafeUtil.putChar(null, address + byteOffset, v);
+    }
+
+    public final int getInt(final long byteOffset) {
+        checkRange(byteOffset, Buffers.SIZEOF_INT);
+        return UnsafeUtil.getInt(null, address + byteOffset);
+    }
+
+    public final void putInt(final long byteOffset, final int v) {
+        checkRange(byteOffset, Buffers.SIZEOF_INT);
+        UnsafeUtil.putInt(null, address + byteOffset, v);
+    }
+
+    public final long getLong(final long byteOffset) {
+        checkRange(byteOffset, Buffers.SIZEOF_LONG);
+        return UnsafeUtil.getLong(null, address + byteOffset);
+    }
+
+    public final void putLong(final long byteOffset, final long v) {
+        checkRange(byteOffset, Buffers.SIZEOF_LONG);
+        UnsafeUtil.putLong(null, address + byteOffset, v);
+    }
+
+    public final float getFloat(final long byteOffset) {
+        checkRange(byteOffset, Buffers.SIZEOF_FLOAT);
+        return UnsafeUtil.getFloat(null, address + byteOffset);
+    }
+
+    public final void putFloat(final long byteOffset, final float v) {
+        checkRange(byteOffset, Buffers.SIZEOF_FLOAT);
+        UnsafeUtil.putFloat(null, address + byteOffset, v);
+    }
+
+    public final double getDouble(final long byteOffset) {
+        checkRange(byteOffset, Buffers.SIZEOF_DOUBLE);
+        return UnsafeUtil.getDouble(null, address + byteOffset);
+    }
+
+    public final void putDouble(final long byteOffset, final double v) {
+        checkRange(byteOffset, Buffers.SIZEOF_DOUBLE);
+        UnsafeUtil.putDouble(null, address + byteOffset, v);
+    }
+
+    /** Retrieves the native pointer of size {@link PointerBuffer#ELEMENT_SIZE} at the given byte offset. */
+    public final long getPointer(final long byteOffset) {
+        checkRange(byteOffset, PointerBuffer.ELEMENT_SIZE);
+        return UnsafeUtil.getAddress(address + byteOffset);
+    }
+
+    /** Puts the native pointer of size {@link PointerBuffer#ELEMENT_SIZE} at the given byte offset. */
+    public final void putPointer(final long byteOffset, final long v) {
+        checkRange(byteOffset, PointerBuffer.ELEMENT_SIZE);
+        UnsafeUtil.putAddress(address + byteOffset, v);
+    }
+
+    private static void checkArrayRange(final int arrayLength, final int offset, final int length) {
+        if( 0 > offset || 0 > length || offset > arrayLength - length ) {
+            throw new IndexOutOfBoundsException("offset "+offset+" + length "+length+" exceeds array length "+arrayLength);
+        }
+    }
+
+    private final void copyToArray(final long byteOffset, final Object dst, final long dstBaseOffset, final int dstArrayLength,
+                              final int dstOffset, final int length, final int elemSize) {
+        checkArrayRange(dstArrayLength, dstOffset, length);
+        checkRange(byteOffset, (long)elemSize * length);
+        UnsafeUtil.copyMemory(null, address + byteOffset, dst, dstBaseOffset + (long)elemSize * dstOffset, (long)elemSize * length);
+    }
+
+    private final void copyFromArray(final long byteOffset, final Object src, final long srcBaseOffset, final int srcArrayLength,
+                                final int srcOffset, final int length, final int elemSize) {
+        checkArrayRange(srcArrayLength, srcOffset, length);
+        checkRange(byteOffset, (long)elemSize * length);
+        UnsafeUtil.copyMemory(src, srcBaseOffset + (long)elemSize * srcOffset, null, address + byteOffset, (long)elemSize * length);
+    }
+
+    /** Copies {@code length} bytes starting at {@code byteOffset} into {@code dst} starting at {@code dstOffset}. */
+    public final byte[] get(final long byteOffset, final byte[] dst, final int dstOffset, final int length) {
+        copyToArray(byteOffset, dst, BYTE_ARRAY_BASE_OFFSET, dst.length, dstOffset, length, 1);
+        return dst;
+    }
+
+    /** Copies {@code length} bytes from {@code src} starting at {@code srcOffset} into this segment starting at {@code byteOffset}. */
+    public final void put(final long byteOffset, final byte[] src, final int srcOffset, final int length) {
+        copyFromArray(byteOffset, src, BYTE_ARRAY_BASE_OFFSET, src.length, srcOffset, length, 1);
+    }
+
+    /** Copies {@code length} shorts starting at {@code byteOffset} into {@code dst} starting at {@code dstOffset}. */
+    public final short[] get(final long byteOffset, final short[] dst, final int dstOffset, final int length) {
+        copyToArray(byteOffset, dst, SHORT_ARRAY_BASE_OFFSET, dst.length, dstOffset, length, Buffers.SIZEOF_SHORT);
+        return dst;
+    }
+
+    /** Copies {@code length} shorts from {@code src} starting at {@code srcOffset} into this segment starting at {@code byteOffset}. */
+    public final void put(final long byteOffset, final short[] src, final int srcOffset, final int length) {
+        copyFromArray(byteOffset, src, SHORT_ARRAY_BASE_OFFSET, src.length, srcOffset, length, Buffers.SIZEOF_SHORT);
+    }
+
+    /** Copies {@code length} chars starting at {@code byteOffset} into {@code dst} starting at {@code dstOffset}. */
+    public final char[] get(final long byteOffset, final char[] dst, final int dstOffset, final int length) {
+        copyToArray(byteOffset, dst, CHAR_ARRAY_BASE_OFFSET, dst.length, dstOffset, length, Buffers.SIZEOF_CHAR);
+        return dst;
+    }
+
+    /** Copies {@code length} chars from {@code src} starting at {@code srcOffset} into this segment starting at {@code byteOffset}. */
+    public final void put(final long byteOffset, final char[] src, final int srcOffset, final int length) {
+        copyFromArray(byteOffset, src, CHAR_ARRAY_BASE_OFFSET, src.length, srcOffset, length, Buffers.SIZEOF_CHAR);
+    }
+
+    /** Copies {@code length} ints starting at {@code byteOffset} into {@code dst} starting at {@code dstOffset}. */
+    public final int[] get(final long byteOffset, final int[] dst, final int dstOffset, final int length) {
+        copyToArray(byteOffset, dst, INT_ARRAY_BASE_OFFSET, dst.length, dstOffset, length, Buffers.SIZEOF_INT);
+        return dst;
+    }
+
+    /** Copies {@code length} ints from {@code src} starting at {@code srcOffset} into this segment starting at {@code byteOffset}. */
+    public final void put(final long byteOffset, final int[] src, final int srcOffset, final int length) {
+        copyFromArray(byteOffset, src, INT_ARRAY_BASE_OFFSET, src.length, srcOffset, length, Buffers.SIZEOF_INT);
+    }
+
+    /** Copies {@code length} longs starting at {@code byteOffset} into {@code dst} starting at {@code dstOffset}. */
+    public final long[] get(final long byteOffset, final long[] dst, final int dstOffset, final int length) {
+        copyToArray(byteOffset, dst, LONG_ARRAY_BASE_OFFSET, dst.length, dstOffset, length, Buffers.SIZEOF_LONG);
+        return dst;
+    }
+
+    /** Copies {@code length} longs from {@code src} starting at {@code srcOffset} into this segment starting at {@code byteOffset}. */
+    public final void put(final long byteOffset, final long[] src, final int srcOffset, final int length) {
+        copyFromArray(byteOffset, src, LONG_ARRAY_BASE_OFFSET, src.length, srcOffset, length, Buffers.SIZEOF_LONG);
+    }
+
+    /** Copies {@code length} floats starting at {@code byteOffset} into {@code dst} starting at {@code dstOffset}. */
+    public final float[] get(final long byteOffset, final float[] dst, final int dstOffset, final int length) {
+        copyToArray(byteOffset, dst, FLOAT_ARRAY_BASE_OFFSET, dst.length, dstOffset, length, Buffers.SIZEOF_FLOAT);
+        return dst;
+    }
+
+    /** Copies {@code length} floats from {@code src} starting at {@code srcOffset} into this segment starting at {@code byteOffset}. */
+    public final void put(final long byteOffset, final float[] src, final int srcOffset, final int length) {
+        copyFromArray(byteOffset, src, FLOAT_ARRAY_BASE_OFFSET, src.length, srcOffset, length, Buffers.SIZEOF_FLOAT);
+    }
+
+    /** Copies {@code length} doubles starting at {@code byteOffset} into {@code dst} starting at {@code dstOffset}. */
+    public final double[] get(final long byteOffset, final double[] dst, final int dstOffset, final int length) {
+        copyToArray(byteOffset, dst, DOUBLE_ARRAY_BASE_OFFSET, dst.length, dstOffset, length, Buffers.SIZEOF_DOUBLE);
+        return dst;
+    }
+
+    /** Copies {@code length} doubles from {@code src} starting at {@code srcOffset} into this segment starting at {@code byteOffset}. */
+    public final void put(final long byteOffset, final double[] src, final int srcOffset, final int length) {
+        copyFromArray(byteOffset, src, DOUBLE_ARRAY_BASE_OFFSET, src.length, srcOffset, length, Buffers.SIZEOF_DOUBLE);
+    }
+
+    /**
+     * Copies {@code byteCount} bytes starting at {@code byteOffset} into the {@code dst} segment starting at {@code dstByteOffset}.
+     * Overlapping ranges are not supported.
+     */
+    public final void copyTo(final long byteOffset, final NativeMemory dst, final long dstByteOffset, final long byteCount) {
+        checkRange(byteOffset, byteCount);
+        dst.checkRange(dstByteOffset, byteCount);
+        UnsafeUtil.copyMemory(null, address + byteOffset, null, dst.address + dstByteOffset, byteCount);
+    }
+
+    /** Sets {@code byteCount} bytes starting at {@code byteOffset} to the given value. */
+    public final void fill(final long byteOffset, final long byteCount, final byte value) {
+        checkRange(byteOffset, byteCount);
+        UnsafeUtil.setMemory(address + byteOffset, byteCount, value);
+    }
+
+    @Override
+    public String toString() {
+        return "NativeMemory[address 0x"+Long.toHexString(address)+", size "+size+", owner "+freeable+(null != owner ? ", view" : "")+"]";
+    }
+}
@@ -42,20 +42,87 @@ package com.jogamp.common.nio;
 import java.nio.*;
 
 /**
+ * Accesses the fields of a struct at byte offsets within a {@link ByteBuffer}.
+ * <p>
+ * See {@link UnsafeStructAccessor} for an address based implementation.
+ * </p>
  * @author Kenneth Russel, et al.
  */
 public class StructAccessor {
 
     private final ByteBuffer bb;
+    private final int structSize;
+    private int baseOffset;
+    /** The struct's view of {@link #bb} at a non-zero {@link #baseOffset}, created lazily. */
+    private ByteBuffer baseBuffer;
 
+    /**
+     * Accesses the struct at byte offset zero of the given buffer,
+     * whose capacity is used as the struct size.
+     */
     public StructAccessor(final ByteBuffer bb) {
+        this(bb, bb.capacity());
+    }
+
+    /**
+     * Accesses the struct of the given size at byte offset zero of the given buffer,
+     * which may hold further structs, see {@link #setBaseOffset(int)}.
+     */
+    public StructAccessor(final ByteBuffer bb, final int structSize) {
         // Setting of byte order is concession to native code which needs
         // to instantiate these
         this.bb = bb.order(ByteOrder.nativeOrder());
+        this.structSize = structSize;
+        this.baseOffset = 0;
+        this.baseBuffer = null;
     }
 
+    /**
+     * Returns the buffer of the accessed struct, starting at the {@link #getBaseOffset() base offset}.
+     * <p>
+     * If the base offset is non-zero, a slice of the underlying buffer covering the {@link #getStructSize() struct}
+     * is returned, hence native code receiving it addresses the current struct.
+     * The slice is reused until the base offset changes.
+     * </p>
+     */
     public final ByteBuffer getBuffer() {
-        return bb;
+        if( 0 == baseOffset ) {
+            return bb;
+        }
+        if( null == baseBuffer ) {
+            baseBuffer = slice(0, structSize);
+        }
+        return baseBuffer;
+    }
+
+    /** Returns the size of the accessed struct in bytes. */
+    public final int getStructSize() {
+        return structSize;
+    }
+
+    /**
+     * Returns the byte offset of the accessed struct within the underlying buffer,
+     * added to all byte offsets passed to this accessor. Defaults to zero.
+     */
+    public final int getBaseOffset() {
+        return baseOffset;
+    }
+
+    /**
+     * Re-points this accessor to the struct at the given byte offset within the underlying buffer,
+     * allowing a single struct instance to traverse an array of structs w/o allocation.
+     * Note that this method is not thread-safe with respect to
+     * the other methods in this class.
+     * @throws IndexOutOfBoundsException if the struct at the given base offset exceeds the buffer's capacity
+     */
+    public void setBaseOffset(final int baseOffset) throws IndexOutOfBoundsException {
+        if( 0 > baseOffset || (long)baseOffset + structSize > bb.capacity() ) {
+            throw new IndexOutOfBoundsException("baseOffset "+baseOffset+" + struct size "+structSize+" > capacity "+bb.capacity());
+        }
+        if( this.baseOffset != baseOffset ) {
+            this.baseOffset = baseOffset;
+            this.baseBuffer = null;
+        }
     }
 
     /**
@@ -64,9 +131,9 @@ public class StructAccessor {
      * bytes. Note that this method is not thread-safe with respect to
      * the other methods in this class.
      */
-    public final ByteBuffer slice(final int byteOffset, final int byteLength) {
-        bb.position(byteOffset);
-        bb.limit(byteOffset + byteLength);
+    public ByteBuffer slice(final int byteOffset, final int byteLength) {
+        bb.position(baseOffset + byteOffset);
+        bb.limit(baseOffset + byteOffset + byteLength);
         final ByteBuffer newBuf = bb.slice().order(bb.order()); // slice and duplicate may change byte order
         bb.position(0);
         bb.limit(bb.capacity());
@@ -74,80 +141,80 @@ public class StructAccessor {
     }
 
     /** Retrieves the byte at the specified byteOffset. */
-    public final byte getByteAt(final int byteOffset) {
-        return bb.get(byteOffset);
+    public byte getByteAt(final int byteOffset) {
+        return bb.get(baseOffset + byteOffset);
     }
 
     /** Puts a byte at the specified byteOffset. */
-    public final void setByteAt(final int byteOffset, final byte v) {
-        bb.put(byteOffset, v);
+    public void setByteAt(final int byteOffset, final byte v) {
+        bb.put(baseOffset + byteOffset, v);
     }
 
     /** Retrieves the boolean at the specified byteOffset. */
-    public final boolean getBooleanAt(final int byteOffset) {
-        return (byte)0 != bb.get(byteOffset);
+    public boolean getBooleanAt(final int byteOffset) {
+        return (byte)0 != bb.get(baseOffset + byteOffset);
     }
 
     /** Puts a boolean at the specified byteOffset. */
-    public final void setBooleanAt(final int byteOffset, final boolean v) {
-        bb.put(byteOffset, v?(byte)1:(byte)0);
+    public void setBooleanAt(final int byteOffset, final boolean v) {
+        bb.put(baseOffset + byteOffset, v?(byte)1:(byte)0);
     }
 
     /** Retrieves the char at the specified byteOffset. */
-    public final char getCharAt(final int byteOffset) {
-        return bb.getChar(byteOffset);
+    public char getCharAt(final int byteOffset) {
+        return bb.getChar(baseOffset + byteOffset);
     }
 
     /** Puts a char at the specified byteOffset. */
-    public final void setCharAt(final int byteOffset, final char v) {
-        bb.putChar(byteOffset, v);
+    public void setCharAt(final int byteOffset, final char v) {
+        bb.putChar(baseOffset + byteOffset, v);
     }
 
     /** Retrieves the short at the specified byteOffset. */
-    public final short getShortAt(final int byteOffset) {
-        return bb.getShort(byteOffset);
+    public short getShortAt(final int byteOffset) {
+        return bb.getShort(baseOffset + byteOffset);
     }
 
     /** Puts a short at the specified byteOffset. */
-    public final void setShortAt(final int byteOffset, final short v) {
-        bb.putShort(byteOffset, v);
+    public void setShortAt(final int byteOffset, final short v) {
+        bb.putShort(baseOffset + byteOffset, v);
     }
 
     /** Retrieves the int at the specified byteOffset. */
-    public final int getIntAt(final int byteOffset) {
-        return bb.getInt(byteOffset);
+    public int getIntAt(final int byteOffset) {
+        return bb.getInt(baseOffset + byteOffset);
     }
 
     /** Puts a int at the specified byteOffset. */
-    public final void setIntAt(final int byteOffset, final int v) {
-        bb.putInt(byteOffset, v);
+    public void setIntAt(final int byteOffset, final int v) {
+        bb.putInt(baseOffset + byteOffset, v);
     }
 
     /** Retrieves the int at the specified byteOffset. */
-    public final int getIntAt(final int byteOffset, final int nativeSizeInBytes) {
+    public int getIntAt(final int byteOffset, final int nativeSizeInBytes) {
         switch(nativeSizeInBytes) {
             case 2:
-                return bb.getShort(byteOffset) & 0x0000FFFF ;
+                return bb.getShort(baseOffset + byteOffset) & 0x0000FFFF ;
             case 4:
-                return bb.getInt(byteOffset);
+                return bb.getInt(baseOffset + byteOffset);
             case 8:
-                return (int) ( bb.getLong(byteOffset) & 0x00000000FFFFFFFFL ) ;
+                return (int) ( bb.getLong(baseOffset + byteOffset) & 0x00000000FFFFFFFFL ) ;
             default:
                 throw new InternalError("invalid nativeSizeInBytes "+nativeSizeInBytes);
         }
     }
 
     /** Puts a int at the specified byteOffset. */
-    public final void setIntAt(final int byteOffset, final int v, final int nativeSizeInBytes) {
+    public void setIntAt(final int byteOffset, final int v, final int nativeSizeInBytes) {
         switch(nativeSizeInBytes) {
             case 2:
-                bb.putShort(byteOffset, (short) ( v & 0x0000FFFF ) );
+                bb.putShort(baseOffset + byteOffset, (short) ( v & 0x0000FFFF ) );
                 break;
             case 4:
-                bb.putInt(byteOffset, v);
+                bb.putInt(baseOffset + byteOffset, v);
                 break;
             case 8:
-                bb.putLong(byteOffset, v & 0x00000000FFFFFFFFL );
+                bb.putLong(baseOffset + byteOffset, v & 0x00000000FFFFFFFFL );
                 break;
             default:
                 throw new InternalError("invalid nativeSizeInBytes "+nativeSizeInBytes);
@@ -155,161 +222,161 @@ public class StructAccessor {
     }
 
     /** Retrieves the float at the specified byteOffset. */
-    public final float getFloatAt(final int byteOffset) {
-        return bb.getFloat(byteOffset);
+    public float getFloatAt(final int byteOffset) {
+        return bb.getFloat(baseOffset + byteOffset);
     }
 
     /** Puts a float at the specified byteOffset. */
-    public final void setFloatAt(final int byteOffset, final float v) {
-        bb.putFloat(byteOffset, v);
+    public void setFloatAt(final int byteOffset, final float v) {
+        bb.putFloat(baseOffset + byteOffset, v);
     }
 
     /** Retrieves the double at the specified byteOffset. */
-    public final double getDoubleAt(final int byteOffset) {
-        return bb.getDouble(byteOffset);
+    public double getDoubleAt(final int byteOffset) {
+        return bb.getDouble(baseOffset + byteOffset);
     }
 
     /** Puts a double at the specified byteOffset. */
-    public final void setDoubleAt(final int byteOffset, final double v) {
-        bb.putDouble(byteOffset, v);
+    public void setDoubleAt(final int byteOffset, final double v) {
+        bb.putDouble(baseOffset + byteOffset, v);
     }
 
     /** Retrieves the long at the specified byteOffset. */
-    public final long getLongAt(final int byteOffset) {
-        return bb.getLong(byteOffset);
+    public long getLongAt(final int byteOffset) {
+        return bb.getLong(baseOffset + byteOffset);
     }
 
     /** Puts a long at the specified byteOffset. */
-    public final void setLongAt(final int byteOffset, final long v) {
-        bb.putLong(byteOffset, v);
+    public void setLongAt(final int byteOffset, final long v) {
+        bb.putLong(baseOffset + byteOffset, v);
     }
 
     /** Retrieves the long at the specified byteOffset. */
-    public final long getLongAt(final int byteOffset, final int nativeSizeInBytes) {
+    public long getLongAt(final int byteOffset, final int nativeSizeInBytes) {
         switch(nativeSizeInBytes) {
             case 4:
-                return bb.getInt(byteOffset) & 0x00000000FFFFFFFFL;
+                return bb.getInt(baseOffset + byteOffset) & 0x00000000FFFFFFFFL;
             case 8:
-                return bb.getLong(byteOffset);
+                return bb.getLong(baseOffset + byteOffset);
             default:
                 throw new InternalError("invalid nativeSizeInBytes "+nativeSizeInBytes);
         }
     }
 
     /** Puts a long at the specified byteOffset. */
-    public final void setLongAt(final int byteOffset, final long v, final int nativeSizeInBytes) {
+    public void setLongAt(final int byteOffset, final long v, final int nativeSizeInBytes) {
         switch(nativeSizeInBytes) {
             case 4:
-                bb.putInt(byteOffset, (int) ( v & 0x00000000FFFFFFFFL ) );
+                bb.putInt(baseOffset + byteOffset, (int) ( v & 0x00000000FFFFFFFFL ) );
                 break;
             case 8:
-                bb.putLong(byteOffset, v);
+                bb.putLong(baseOffset + byteOffset, v);
                 break;
             default:
                 throw new InternalError("invalid nativeSizeInBytes "+nativeSizeInBytes);
         }
     }
 
-    public final void setBytesAt(int byteOffset, final byte[] v) {
+    public void setBytesAt(int byteOffset, final byte[] v) {
         for (int i = 0; i < v.length; i++) {
-            bb.put(byteOffset++, v[i]);
+            bb.put(baseOffset + byteOffset++, v[i]);
         }
     }
 
-    public final byte[] getBytesAt(int byteOffset, final byte[] v) {
+    public byte[] getBytesAt(int byteOffset, final byte[] v) {
         for (int i = 0; i < v.length; i++) {
-            v[i] = bb.get(byteOffset++);
+            v[i] = bb.get(baseOffset + byteOffset++);
         }
         return v;
     }
 
-    public final void setBooleansAt(int byteOffset, final boolean[] v) {
+    public void setBooleansAt(int byteOffset, final boolean[] v) {
         for (int i = 0; i < v.length; i++) {
-            bb.put(byteOffset++, v[i]?(byte)1:(byte)0);
+            bb.put(baseOffset + byteOffset++, v[i]?(byte)1:(byte)0);
         }
     }
 
-    public final boolean[] getBooleansAt(int byteOffset, final boolean[] v) {
+    public boolean[] getBooleansAt(int byteOffset, final boolean[] v) {
         for (int i = 0; i < v.length; i++) {
-            v[i] = (byte)0 != bb.get(byteOffset++);
+            v[i] = (byte)0 != bb.get(baseOffset + byteOffset++);
         }
         return v;
     }
 
-    public final void setCharsAt(int byteOffset, final char[] v) {
+    public void setCharsAt(int byteOffset, final char[] v) {
         for (int i = 0; i < v.length; i++, byteOffset+=2) {
-            bb.putChar(byteOffset, v[i]);
+            bb.putChar(baseOffset + byteOffset, v[i]);
         }
     }
 
-    public final char[] getCharsAt(int byteOffset, final char[] v) {
+    public char[] getCharsAt(int byteOffset, final char[] v) {
         for (int i = 0; i < v.length; i++, byteOffset+=2) {
-            v[i] = bb.getChar(byteOffset);
+            v[i] = bb.getChar(baseOffset + byteOffset);
         }
         return v;
     }
 
-    public final void setShortsAt(int byteOffset, final short[] v) {
+    public void setShortsAt(int byteOffset, final short[] v) {
         for (int i = 0; i < v.length; i++, byteOffset+=2) {
-            bb.putShort(byteOffset, v[i]);
+            bb.putShort(baseOffset + byteOffset, v[i]);
         }
     }
 
-    public final short[] getShortsAt(int byteOffset, final short[] v) {
+    public short[] getShortsAt(int byteOffset, final short[] v) {
         for (int i = 0; i < v.length; i++, byteOffset+=2) {
-            v[i] = bb.getShort(byteOffset);
+            v[i] = bb.getShort(baseOffset + byteOffset);
         }
         return v;
     }
 
-    public final void setIntsAt(int byteOffset, final int[] v) {
+    public void setIntsAt(int byteOffset, final int[] v) {
         for (int i = 0; i < v.length; i++, byteOffset+=4) {
-            bb.putInt(byteOffset, v[i]);
+            bb.putInt(baseOffset + byteOffset, v[i]);
         }
     }
 
-    public final int[] getIntsAt(int byteOffset, final int[] v) {
+    public int[] getIntsAt(int byteOffset, final int[] v) {
         for (int i = 0; i < v.length; i++, byteOffset+=4) {
-            v[i] = bb.getInt(byteOffset);
+            v[i] = bb.getInt(baseOffset + byteOffset);
         }
         return v;
     }
 
-    public final void setFloatsAt(int byteOffset, final float[] v) {
+    public void setFloatsAt(int byteOffset, final float[] v) {
         for (int i = 0; i < v.length; i++, byteOffset+=4) {
-            bb.putFloat(byteOffset, v[i]);
+            bb.putFloat(baseOffset + byteOffset, v[i]);
         }
     }
 
-    public final float[] getFloatsAt(int byteOffset, final float[] v) {
+    public float[] getFloatsAt(int byteOffset, final float[] v) {
         for (int i = 0; i < v.length; i++, byteOffset+=4) {
-            v[i] = bb.getFloat(byteOffset);
+            v[i] = bb.getFloat(baseOffset + byteOffset);
         }
         return v;
     }
 
-    public final void setDoublesAt(int byteOffset, final double[] v) {
+    public void setDoublesAt(int byteOffset, final double[] v) {
         for (int i = 0; i < v.length; i++, byteOffset+=8) {
-            bb.putDouble(byteOffset, v[i]);
+            bb.putDouble(baseOffset + byteOffset, v[i]);
         }
     }
 
-    public final double[] getDoublesAt(int byteOffset, final double[] v) {
+    public double[] getDoublesAt(int byteOffset, final double[] v) {
         for (int i = 0; i < v.length; i++, byteOffset+=8) {
-            v[i] = bb.getDouble(byteOffset);
+            v[i] = bb.getDouble(baseOffset + byteOffset);
         }
         return v;
     }
 
-    public final void setLongsAt(int byteOffset, final long[] v) {
+    public void setLongsAt(int byteOffset, final long[] v) {
         for (int i = 0; i < v.length; i++, byteOffset+=8) {
-            bb.putLong(byteOffset, v[i]);
+            bb.putLong(baseOffset + byteOffset, v[i]);
         }
     }
 
-    public final long[] getLongsAt(int byteOffset, final long[] v) {
+    public long[] getLongsAt(int byteOffset, final long[] v) {
         for (int i = 0; i < v.length; i++, byteOffset+=8) {
-            v[i] = bb.getLong(byteOffset);
+            v[i] = bb.getLong(baseOffset + byteOffset);
         }
         return v;
     }
@@ -0,0 +1,402 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.common.nio;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static com.jogamp.common.nio.UnsafeUtil.*;
+
+/**
+ * {@link StructAccessor} implementation using {@code sun.misc.Unsafe} for address based field access.
+ * <p>
+ * The accessed struct's extent is validated once, at construction and on {@link #setBaseOffset(int)}.
+ * Single field accesses are validated against the {@link #getStructSize() struct size},
+ * bulk operations and {@link #slice(int, int)} validate their whole range once.
+ * </p>
+ * <p>
+ * Unlike {@link StructAccessor#slice(int, int)}, {@link #slice(int, int)} does not modify the underlying buffer
+ * and hence is safe to be used concurrently.
+ * </p>
+ * <p>
+ * Bulk operations copy the native data into and from Java primitive arrays w/o per-element access.
+ * </p>
+ * <p>
+ * The underlying buffer must either be {@link ByteBuffer#isDirect() direct} or {@link ByteBuffer#hasArray() array backed},
+ * and writable, see {@link #isApplicable(ByteBuffer)}.
+ * </p>
+ */
+public class UnsafeStructAccessor extends StructAccessor {
+    /** Returns {@code true} if {@code sun.misc.Unsafe} is available, otherwise {@code false}. */
+    public static boolean isAvailable() {
+        return null != UNSAFE;
+    }
+
+    /**
+     * Returns {@code true} if {@link #isAvailable() available} and the given buffer is writable
+     * and either {@link ByteBuffer#isDirect() direct} or {@link ByteBuffer#hasArray() array backed},
+     * otherwise {@code false}.
+     */
+    public static boolean isApplicable(final ByteBuffer bb) {
+        return null != UNSAFE && null != bb && !bb.isReadOnly() && ( bb.isDirect() || bb.hasArray() );
+    }
+
+    /** The underlying buffer, also keeping its direct memory alive. */
+    private final ByteBuffer bb;
+    /** The backing array of an array backed buffer, otherwise null. */
+    private final Object base;
+    /** Address or array offset of the buffer's index zero. */
+    private final long address;
+    private final int capacity;
+    /** {@link #address} + {@link #getBaseOffset()} */
+    private long structAddress;
+
+    /**
+     * @param bb the underlying buffer, see {@link #isApplicable(ByteBuffer)}
+     * @param structSize the size of the accessed struct in bytes, used to validate its extent
+     * @throws IllegalArgumentException if not {@link #isApplicable(ByteBuffer) applicable}
+     * @throws IndexOutOfBoundsException if the buffer's capacity is less than {@code structSize}
+     */
+    public UnsafeStructAccessor(final ByteBuffer bb, final int structSize) throws IllegalArgumentException, IndexOutOfBoundsException {
+        super(bb, structSize);
+        if( !isApplicable(bb) ) {
+            throw new IllegalArgumentException("Buffer not applicable: "+bb+", Unsafe available "+isAvailable());
+        }
+        this.bb = bb;
+        if( bb.isDirect() ) {
+            base = null;
+            address = getDirectBufferAddress(bb);
+        } else {
+            base = bb.array();
+            address = BYTE_ARRAY_BASE_OFFSET + bb.arrayOffset();
+        }
+        capacity = bb.capacity();
+        if( 0 > structSize || structSize > capacity ) {
+            throw new IndexOutOfBoundsException("struct size "+structSize+" > capacity "+capacity);
+        }
+        structAddress = address;
+    }
+
+    private final void checkRange(final int byteOffset, final long byteCount) {
+        final long start = (long)getBaseOffset() + byteOffset;
+        if( 0 > byteOffset || 0 > byteCount || start + byteCount > capacity ) {
+            throw new IndexOutOfBoundsException("byteOffset "+byteOffset+" + byteCount "+byteCount+" exceeds capacity "+capacity+
+                                                " at base offset "+getBaseOffset());
+        }
+    }
+
+    private final void checkField(final int byteOffset, final int width) {
+        final int structSize = getStructSize();
+        if( 0 > byteOffset || byteOffset > structSize - width ) {
+            throw new IndexOutOfBoundsException("byteOffset "+byteOffset+" + width "+width+" exceeds struct size "+structSize);
+        }
+    }
+
+    @Override
+    public final void setBaseOffset(final int baseOffset) throws IndexOutOfBoundsException {
+        super.setBaseOffset(baseOffset);
+        structAddress = address + baseOffset;
+    }
+
+    /**
+     * Returns a slice of the underlying buffer starting at the
+     * specified byte offset and extending the specified number of
+     * bytes. This method does not modify the underlying buffer and is thread-safe.
+     */
+    @Override
+    public final ByteBuffer slice(final int byteOffset, final int byteLength) {
+        checkRange(byteOffset, byteLength);
+        final int start = getBaseOffset() + byteOffset;
+        final ByteBuffer dup = bb.duplicate();
+        dup.limit(start + byteLength).position(start);
+        return dup.slice().order(ByteOrder.nativeOrder());
+    }
+
+    @Override
+    public final byte getByteAt(final int byteOffset) {
+        checkField(byteOffset, 1);
+        return UnsafeUtil.getByte(base, structAddress + byteOffset);
+    }
+
+    @Override
+    public final void setByteAt(final int byteOffset, final byte v) {
+        checkField(byteOffset, 1);
+        UnsafeUtil.putByte(base, structAddress + byteOffset, v);
+    }
+
+    @Override
+    public final boolean getBooleanAt(final int byteOffset) {
+        checkField(byteOffset, 1);
+        return (byte)0 != UnsafeUtil.getByte(base, structAddress + byteOffset);
+    }
+
+    @Override
+    public final void setBooleanAt(final int byteOffset, final boolean v) {
+        checkField(byteOffset, 1);
+        UnsafeUtil.putByte(base, structAddress + byteOffset, v?(byte)1:(byte)0);
+    }
+
+    @Override
+    public final char getCharAt(final int byteOffset) {
+        checkField(byteOffset, 2);
+        return UnsafeUtil.getChar(base, structAddress + byteOffset);
+    }
+
+    @Override
+    public final void setCharAt(final int byteOffset, final char v) {
+        checkField(byteOffset, 2);
+        UnsafeUtil.putChar(base, structAddress + byteOffset, v);
+    }
+
+    @Override
+    public final short getShortAt(final int byteOffset) {
+        checkField(byteOffset, 2);
+        return UnsafeUtil.getShort(base, structAddress + byteOffset);
+    }
+
+    @Override
+    public final void setShortAt(final int byteOffset, final short v) {
+        checkField(byteOffset, 2);
+        UnsafeUtil.putShort(base, structAddress + byteOffset, v);
+    }
+
+    @Override
+    public final int getIntAt(final int byteOffset) {
+        checkField(byteOffset, 4);
+        return UnsafeUtil.getInt(base, structAddress + byteOffset);
+    }
+
+    @Override
+    public final void setIntAt(final int byteOffset, final int v) {
+        checkField(byteOffset, 4);
+        UnsafeUtil.putInt(base, structAddress + byteOffset, v);
+    }
+
+    @Override
+    public final int getIntAt(final int byteOffset, final int nativeSizeInBytes) {
+        checkField(byteOffset, nativeSizeInBytes);
+        switch(nativeSizeInBytes) {
+            case 2:
+                return UnsafeUtil.getShort(base, structAddress + byteOffset) & 0x0000FFFF ;
+            case 4:
+                return UnsafeUtil.getInt(base, structAddress + byteOffset);
+            case 8:
+                return (int) ( UnsafeUtil.getLong(base, structAddress + byteOffset) & 0x00000000FFFFFFFFL ) ;
+            default:
+                throw new InternalError("invalid nativeSizeInBytes "+nativeSizeInBytes);
+        }
+    }
+
+    @Override
+    public final void setIntAt(final int byteOffset, final int v, final int nativeSizeInBytes) {
+        checkField(byteOffset, nativeSizeInBytes);
+        switch(nativeSizeInBytes) {
+            case 2:
+                UnsafeUtil.putShort(base, structAddress + byteOffset, (short) ( v & 0x0000FFFF ));
+                break;
+            case 4:
+                UnsafeUtil.putInt(base, structAddress + byteOffset, v);
+                break;
+            case 8:
+                UnsafeUtil.putLong(base, structAddress + byteOffset, v & 0x00000000FFFFFFFFL);
+                break;
+            default:
+                throw new InternalError("invalid nativeSizeInBytes "+nativeSizeInBytes);
+        }
+    }
+
+    @Override
+    public final float getFloatAt(final int byteOffset) {
+        checkField(byteOffset, 4);
+        return UnsafeUtil.getFloat(base, structAddress + byteOffset);
+    }
+
+    @Override
+    public final void setFloatAt(final int byteOffset, final float v) {
+        checkField(byteOffset, 4);
+        UnsafeUtil.putFloat(base, structAddress + byteOffset, v);
+    }
+
+    @Override
+    public final double getDoubleAt(final int byteOffset) {
+        checkField(byteOffset, 8);
+        return UnsafeUtil.getDouble(base, structAddress + byteOffset);
+    }
+
+    @Override
+    public final void setDoubleAt(final int byteOffset, final double v) {
+        checkField(byteOffset, 8);
+        UnsafeUtil.putDouble(base, structAddress + byteOffset, v);
+    }
+
+    @Override
+    public final long getLongAt(final int byteOffset) {
+        checkField(byteOffset, 8);
+        return UnsafeUtil.getLong(base, structAddress + byteOffset);
+    }
+
+    @Override
+    public final void setLongAt(final int byteOffset, final long v) {
+        checkField(byteOffset, 8);
+        UnsafeUtil.putLong(base, structAddress + byteOffset, v);
+    }
+
+    @Override
+    public final long getLongAt(final int byteOffset, final int nativeSizeInBytes) {
+        checkField(byteOffset, nativeSizeInBytes);
+        switch(nativeSizeInBytes) {
+            case 4:
+                return UnsafeUtil.getInt(base, structAddress + byteOffset) & 0x00000000FFFFFFFFL;
+            case 8:
+                return UnsafeUtil.getLong(base, structAddress + byteOffset);
+            default:
+                throw new InternalError("invalid nativeSizeInBytes "+nativeSizeInBytes);
+        }
+    }
+
+    @Override
+    public final void setLongAt(final int byteOffset, final long v, final int nativeSizeInBytes) {
+        checkField(byteOffset, nativeSizeInBytes);
+        switch(nativeSizeInBytes) {
+            case 4:
+                UnsafeUtil.putInt(base, structAddress + byteOffset, (int) ( v & 0x00000000FFFFFFFFL ) );
+                break;
+            case 8:
+                UnsafeUtil.putLong(base, structAddress + byteOffset, v);
+                break;
+            default:
+                throw new InternalError("invalid nativeSizeInBytes "+nativeSizeInBytes);
+        }
+    }
+
+    private final void copyTo(final int byteOffset, final Object dst, final long dstBaseOffset, final long byteCount) {
+        checkRange(byteOffset, byteCount);
+        UnsafeUtil.copyMemory(base, structAddress + byteOffset, dst, dstBaseOffset, byteCount);
+    }
+
+    private final void copyFrom(final int byteOffset, final Object src, final long srcBaseOffset, final long byteCount) {
+        checkRange(byteOffset, byteCount);
+        UnsafeUtil.copyMemory(src, srcBaseOffset, base, structAddress + byteOffset, byteCount);
+    }
+
+    @Override
+    public final void setBytesAt(final int byteOffset, final byte[] v) {
+        copyFrom(byteOffset, v, BYTE_ARRAY_BASE_OFFSET, v.length);
+    }
+
+    @Override
+    public final byte[] getBytesAt(final int byteOffset, final byte[] v) {
+        copyTo(byteOffset, v, BYTE_ARRAY_BASE_OFFSET, v.length);
+        return v;
+    }
+
+    @Override
+    public final void setBooleansAt(final int byteOffset, final boolean[] v) {
+        checkRange(byteOffset, v.length);
+        final long addr = structAddress + byteOffset;
+        for (int i = 0; i < v.length; i++) {
+            UnsafeUtil.putByte(base, addr + i, v[i]?(byte)1:(byte)0);
+        }
+    }
+
+    @Override
+    public final boolean[] getBooleansAt(final int byteOffset, final boolean[] v) {
+        checkRange(byteOffset, v.length);
+        final long addr = structAddress + byteOffset;
+        for (int i = 0; i < v.length; i++) {
+            v[i] = (byte)0 != UnsafeUtil.getByte(base, addr + i);
+        }
+        return v;
+    }
+
+    @Override
+    public final void setCharsAt(final int byteOffset, final char[] v) {
+        copyFrom(byteOffset, v, CHAR_ARRAY_BASE_OFFSET, Buffers.SIZEOF_CHAR * (long)v.length);
+    }
+
+    @Override
+    public final char[] getCharsAt(final int byteOffset, final char[] v) {
+        copyTo(byteOffset, v, CHAR_ARRAY_BASE_OFFSET, Buffers.SIZEOF_CHAR * (long)v.length);
+        return v;
+    }
+
+    @Override
+    public final void setShortsAt(final int byteOffset, final short[] v) {
+        copyFrom(byteOffset, v, SHORT_ARRAY_BASE_OFFSET, Buffers.SIZEOF_SHORT * (long)v.length);
+    }
+
+    @Override
+    public final short[] getShortsAt(final int byteOffset, final short[] v) {
+        copyTo(byteOffset, v, SHORT_ARRAY_BASE_OFFSET, Buffers.SIZEOF_SHORT * (long)v.length);
+        return v;
+    }
+
+    @Override
+    public final void setIntsAt(final int byteOffset, final int[] v) {
+        copyFrom(byteOffset, v, INT_ARRAY_BASE_OFFSET, Buffers.SIZEOF_INT * (long)v.length);
+    }
+
+    @Override
+    public final int[] getIntsAt(final int byteOffset, final int[] v) {
+        copyTo(byteOffset, v, INT_ARRAY_BASE_OFFSET, Buffers.SIZEOF_INT * (long)v.length);
+        return v;
+    }
+
+    @Override
+    public final void setFloatsAt(final int byteOffset, final float[] v) {
+        copyFrom(byteOffset, v, FLOAT_ARRAY_BASE_OFFSET, Buffers.SIZEOF_FLOAT * (long)v.length);
+    }
+
+    @Override
+    public final float[] getFloatsAt(final int byteOffset, final float[] v) {
+        copyTo(byteOffset, v, FLOAT_ARRAY_BASE_OFFSET, Buffers.SIZEOF_FLOAT * (long)v.length);
+        return v;
+    }
+
+    @Override
+    public final void setDoublesAt(final int byteOffset, final double[] v) {
+        copyFrom(byteOffset, v, DOUBLE_ARRAY_BASE_OFFSET, Buffers.SIZEOF_DOUBLE * (long)v.length);
+    }
+
+    @Override
+    public final double[] getDoublesAt(final int byteOffset, final double[] v) {
+        copyTo(byteOffset, v, DOUBLE_ARRAY_BASE_OFFSET, Buffers.SIZEOF_DOUBLE * (long)v.length);
+        return v;
+    }
+
+    @Override
+    public final void setLongsAt(final int byteOffset, final long[] v) {
+        copyFrom(byteOffset, v, LONG_ARRAY_BASE_OFFSET, Buffers.SIZEOF_LONG * (long)v.length);
+    }
+
+    @Override
+    public final long[] getLongsAt(final int byteOffset, final long[] v) {
+        copyTo(byteOffset, v, LONG_ARRAY_BASE_OFFSET, Buffers.SIZEOF_LONG * (long)v.length);
+        return v;
+    }
+}
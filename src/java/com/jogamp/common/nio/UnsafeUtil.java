@@ -0,0 +1,353 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.common.nio;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.nio.Buffer;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.Arrays;
+
+import jogamp.common.Debug;
+
+/**
+ * Holds the {@code sun.misc.Unsafe} instance and the offsets used by
+ * {@link UnsafeStructAccessor} and {@link NativeMemory}, resolved once.
+ * <p>
+ * {@code sun.misc.Unsafe} is not referenced at compile time, avoiding javac's internal proprietary API warnings.
+ * Its methods are resolved reflectively once and invoked via static final {@link MethodHandle}s
+ * bound to the instance, which the JIT compiles to the direct intrinsic call, i.e. w/o boxing.
+ * </p>
+ */
+final class UnsafeUtil {
+    static final boolean DEBUG;
+    /** The {@code sun.misc.Unsafe} instance, or {@code null} if not available. */
+    static final Object UNSAFE;
+    static final long BUFFER_ADDRESS_OFFSET;
+    static final long BYTE_ARRAY_BASE_OFFSET;
+    static final long CHAR_ARRAY_BASE_OFFSET;
+    static final long SHORT_ARRAY_BASE_OFFSET;
+    static final long INT_ARRAY_BASE_OFFSET;
+    static final long FLOAT_ARRAY_BASE_OFFSET;
+    static final long DOUBLE_ARRAY_BASE_OFFSET;
+    static final long LONG_ARRAY_BASE_OFFSET;
+
+    private static final MethodHandle GET_BYTE, PUT_BYTE;
+    private static final MethodHandle GET_CHAR, PUT_CHAR;
+    private static final MethodHandle GET_SHORT, PUT_SHORT;
+    private static final MethodHandle GET_INT, PUT_INT;
+    private static final MethodHandle GET_LONG, PUT_LONG;
+    private static final MethodHandle GET_FLOAT, PUT_FLOAT;
+    private static final MethodHandle GET_DOUBLE, PUT_DOUBLE;
+    private static final MethodHandle GET_ADDRESS, PUT_ADDRESS;
+    private static final MethodHandle COPY_MEMORY, SET_MEMORY;
+    private static final MethodHandle ALLOCATE_MEMORY, FREE_MEMORY;
+
+    private static final int HANDLE_COUNT = 20;
+    private static final int ARRAY_TYPE_COUNT = 7;
+
+    static {
+        Debug.initSingleton();
+        DEBUG = Debug.debug("Unsafe");
+        final Object[] res = { null };
+        final MethodHandle[] mh = new MethodHandle[HANDLE_COUNT];
+        final long[] offsets = new long[1 + ARRAY_TYPE_COUNT];
+        AccessController.doPrivileged(new PrivilegedAction<Object>() {
+            @Override
+            public Object run() {
+                try {
+                    final Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+                    final Field f = unsafeClass.getDeclaredField("theUnsafe");
+                    f.setAccessible(true);
+                    final Object unsafe = f.get(null);
+                    int i = 0;
+                    mh[i++] = bind(unsafeClass, unsafe, "getByte", Object.class, long.class);
+                    mh[i++] = bind(unsafeClass, unsafe, "putByte", Object.class, long.class, byte.class);
+                    mh[i++] = bind(unsafeClass, unsafe, "getChar", Object.class, long.class);
+                    mh[i++] = bind(unsafeClass, unsafe, "putChar", Object.class, long.class, char.class);
+                    mh[i++] = bind(unsafeClass, unsafe, "getShort", Object.class, long.class);
+                    mh[i++] = bind(unsafeClass, unsafe, "putShort", Object.class, long.class, short.class);
+                    mh[i++] = bind(unsafeClass, unsafe, "getInt", Object.class, long.class);
+                    mh[i++] = bind(unsafeClass, unsafe, "putInt", Object.class, long.class, int.class);
+                    mh[i++] = bind(unsafeClass, unsafe, "getLong", Object.class, long.class);
+                    mh[i++] = bind(unsafeClass, unsafe, "putLong", Object.class, long.class, long.class);
+                    mh[i++] = bind(unsafeClass, unsafe, "getFloat", Object.class, long.class);
+                    mh[i++] = bind(unsafeClass, unsafe, "putFloat", Object.class, long.class, float.class);
+                    mh[i++] = bind(unsafeClass, unsafe, "getDouble", Object.class, long.class);
+                    mh[i++] = bind(unsafeClass, unsafe, "putDouble", Object.class, long.class, double.class);
+                    mh[i++] = bind(unsafeClass, unsafe, "getAddress", long.class);
+                    mh[i++] = bind(unsafeClass, unsafe, "putAddress", long.class, long.class);
+                    // bulk copy between Java arrays and native memory requires Java 7
+                    mh[i++] = bind(unsafeClass, unsafe, "copyMemory", Object.class, long.class, Object.class, long.class, long.class);
+                    mh[i++] = bind(unsafeClass, unsafe, "setMemory", long.class, long.class, byte.class);
+                    mh[i++] = bind(unsafeClass, unsafe, "allocateMemory", long.class);
+                    mh[i++] = bind(unsafeClass, unsafe, "freeMemory", long.class);
+
+                    // one-time setup, boxing is fine
+                    final MethodHandle objectFieldOffset = bind(unsafeClass, unsafe, "objectFieldOffset", Field.class);
+                    final MethodHandle arrayBaseOffset = bind(unsafeClass, unsafe, "arrayBaseOffset", Class.class);
+                    offsets[0] = ((Long) objectFieldOffset.invoke(Buffer.class.getDeclaredField("address"))).longValue();
+                    final Class<?>[] arrayTypes = { byte[].class, char[].class, short[].class, int[].class, float[].class, double[].class, long[].class };
+                    for(int j=0; j<ARRAY_TYPE_COUNT; j++) {
+                        offsets[1+j] = ((Integer) arrayBaseOffset.invoke(arrayTypes[j])).intValue();
+                    }
+                    res[0] = unsafe;
+                } catch(final Throwable t) {
+                    if( DEBUG ) {
+                        System.err.println("Caught "+t.getMessage());
+                        t.printStackTrace();
+                    }
+                }
+                return null;
+            } } );
+        UNSAFE = res[0];
+        if( null == UNSAFE ) {
+            // don't expose a partially resolved set of handles
+            Arrays.fill(mh, null);
+            Arrays.fill(offsets, 0);
+        }
+        int i = 0;
+        GET_BYTE = mh[i++];
+        PUT_BYTE = mh[i++];
+        GET_CHAR = mh[i++];
+        PUT_CHAR = mh[i++];
+        GET_SHORT = mh[i++];
+        PUT_SHORT = mh[i++];
+        GET_INT = mh[i++];
+        PUT_INT = mh[i++];
+        GET_LONG = mh[i++];
+        PUT_LONG = mh[i++];
+        GET_FLOAT = mh[i++];
+        PUT_FLOAT = mh[i++];
+        GET_DOUBLE = mh[i++];
+        PUT_DOUBLE = mh[i++];
+        GET_ADDRESS = mh[i++];
+        PUT_ADDRESS = mh[i++];
+        COPY_MEMORY = mh[i++];
+        SET_MEMORY = mh[i++];
+        ALLOCATE_MEMORY = mh[i++];
+        FREE_MEMORY = mh[i++];
+        BUFFER_ADDRESS_OFFSET = offsets[0];
+        BYTE_ARRAY_BASE_OFFSET = offsets[1];
+        CHAR_ARRAY_BASE_OFFSET = offsets[2];
+        SHORT_ARRAY_BASE_OFFSET = offsets[3];
+        INT_ARRAY_BASE_OFFSET = offsets[4];
+        FLOAT_ARRAY_BASE_OFFSET = offsets[5];
+        DOUBLE_ARRAY_BASE_OFFSET = offsets[6];
+        LONG_ARRAY_BASE_OFFSET = offsets[7];
+        if( DEBUG ) {
+            System.err.println("Unsafe: available "+(null != UNSAFE));
+        }
+    }
+
+    /** Returns the public method of the given name and parameter types bound to the {@code sun.misc.Unsafe} instance. */
+    private static MethodHandle bind(final Class<?> unsafeClass, final Object unsafe, final String name, final Class<?>... parameterTypes)
+            throws NoSuchMethodException, IllegalAccessException
+    {
+        return MethodHandles.publicLookup().unreflect(unsafeClass.getMethod(name, parameterTypes)).bindTo(unsafe);
+    }
+
+    private static RuntimeException unchecked(final Throwable t) {
+        if( t instanceof RuntimeException ) {
+            return (RuntimeException) t;
+        }
+        if( t instanceof Error ) {
+            throw (Error) t;
+        }
+        return new RuntimeException(t);
+    }
+
+    /** Returns the native address of the given direct buffer's index zero. */
+    static long getDirectBufferAddress(final Buffer directBuffer) {
+        return getLong(directBuffer, BUFFER_ADDRESS_OFFSET);
+    }
+
+    static byte getByte(final Object base, final long offset) {
+        try {
+            return (byte) GET_BYTE.invokeExact(base, offset);
+        } catch (final Throwable t) {
+            throw unchecked(t);
+        }
+    }
+
+    static void putByte(final Object base, final long offset, final byte v) {
+        try {
+            PUT_BYTE.invokeExact(base, offset, v);
+        } catch (final Throwable t) {
+            throw unchecked(t);
+        }
+    }
+
+    static char getChar(final Object base, final long offset) {
+        try {
+            return (char) GET_CHAR.invokeExact(base, offset);
+        } catch (final Throwable t) {
+            throw unchecked(t);
+        }
+    }
+
+    static void putChar(final Object base, final long offset, final char v) {
+        try {
+            PUT_CHAR.invokeExact(base, offset, v);
+        } catch (final Throwable t) {
+            throw unchecked(t);
+        }
+    }
+
+    static short getShort(final Object base, final long offset) {
+        try {
+            return (short) GET_SHORT.invokeExact(base, offset);
+        } catch (final Throwable t) {
+            throw unchecked(t);
+        }
+    }
+
+    static void putShort(final Object base, final long offset, final short v) {
+        try {
+            PUT_SHORT.invokeExact(base, offset, v);
+        } catch (final Throwable t) {
+            throw unchecked(t);
+        }
+    }
+
+    static int getInt(final Object base, final long offset) {
+        try {
+            return (int) GET_INT.invokeExact(base, offset);
+        } catch (final Throwable t) {
+            throw unchecked(t);
+        }
+    }
+
+    static void putInt(final Object base, final long offset, final int v) {
+        try {
+            PUT_INT.invokeExact(base, offset, v);
+        } catch (final Throwable t) {
+            throw unchecked(t);
+        }
+    }
+
+    static long getLong(final Object base, final long offset) {
+        try {
+            return (long) GET_LONG.invokeExact(base, offset);
+        } catch (final Throwable t) {
+            throw unchecked(t);
+        }
+    }
+
+    static void putLong(final Object base, final long offset, final long v) {
+        try {
+            PUT_LONG.invokeExact(base, offset, v);
+        } catch (final Throwable t) {
+            throw unchecked(t);
+        }
+    }
+
+    static float getFloat(final Object base, final long offset) {
+        try {
+            return (float) GET_FLOAT.invokeExact(base, offset);
+        } catch (final Throwable t) {
+            throw unchecked(t);
+        }
+    }
+
+    static void putFloat(final Object base, final long offset, final float v) {
+        try {
+            PUT_FLOAT.invokeExact(base, offset, v);
+        } catch (final Throwable t) {
+            throw unchecked(t);
+        }
+    }
+
+    static double getDouble(final Object base, final long offset) {
+        try {
+            return (double) GET_DOUBLE.invokeExact(base, offset);
+        } catch (final Throwable t) {
+            throw unchecked(t);
+        }
+    }
+
+    static void putDouble(final Object base, final long offset, final double v) {
+        try {
+            PUT_DOUBLE.invokeExact(base, offset, v);
+        } catch (final Throwable t) {
+            throw unchecked(t);
+        }
+    }
+
+    static long getAddress(final long address) {
+        try {
+            return (long) GET_ADDRESS.invokeExact(address);
+        } catch (final Throwable t) {
+            throw unchecked(t);
+        }
+    }
+
+    static void putAddress(final long address, final long v) {
+        try {
+            PUT_ADDRESS.invokeExact(address, v);
+        } catch (final Throwable t) {
+            throw unchecked(t);
+        }
+    }
+
+    static void copyMemory(final Object srcBase, final long srcOffset, final Object dstBase, final long dstOffset, final long byteCount) {
+        try {
+            COPY_MEMORY.invokeExact(srcBase, srcOffset, dstBase, dstOffset, byteCount);
+        } catch (final Throwable t) {
+            throw unchecked(t);
+        }
+    }
+
+    static void setMemory(final long address, final long byteCount, final byte value) {
+        try {
+            SET_MEMORY.invokeExact(address, byteCount, value);
+        } catch (final Throwable t) {
+            throw unchecked(t);
+        }
+    }
+
+    static long allocateMemory(final long byteCount) {
+        try {
+            return (long) ALLOCATE_MEMORY.invokeExact(byteCount);
+        } catch (final Throwable t) {
+            throw unchecked(t);
+        }
+    }
+
+    static void freeMemory(final long address) {
+        try {
+            FREE_MEMORY.invokeExact(address);
+        } catch (final Throwable t) {
+            throw unchecked(t);
+        }
+    }
+
+    private UnsafeUtil() {}
+}
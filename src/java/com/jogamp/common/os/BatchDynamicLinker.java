@@ -0,0 +1,66 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.common.os;
+
+/**
+ * {@link DynamicLinker} able to resolve a set of symbols at once.
+ * <p>
+ * Callers shall test for this interface and fall back to the single symbol lookup per symbol.
+ * </p>
+ */
+public interface BatchDynamicLinker extends DynamicLinker {
+
+  /**
+   * Batched {@link #lookupSymbolGlobal(String)}, resolving all given symbols w/ a single native call where supported.
+   * <p>
+   * If a {@link SecurityManager} is installed, user needs link permissions
+   * for <b>all</b> libraries, i.e. for <code>new RuntimePermission("loadLibrary.*");</code>!
+   * </p>
+   *
+   * @param symbolNames global symbol names to lookup up system wide.
+   * @return the symbol addresses in the order of the given names, 0 if not found.
+   * @throws SecurityException if user is not granted access for all libraries.
+   */
+  public long[] lookupSymbolsGlobal(String[] symbolNames) throws SecurityException;
+
+  /**
+   * Batched {@link #lookupSymbol(long, String)}, resolving all given symbols w/ a single native call where supported.
+   * <p>
+   * Security checks are implicit by previous call of
+   * {@link #openLibraryLocal(String, boolean)} or {@link #openLibraryGlobal(String, boolean)}
+   * retrieving the <code>librarHandle</code>.
+   * </p>
+   *
+   * @param libraryHandle a library handle previously retrieved via {@link #openLibraryLocal(String, boolean)} or {@link #openLibraryGlobal(String, boolean)}.
+   * @param symbolNames symbol names to lookup up within the library.
+   * @return the symbol addresses in the order of the given names, 0 if not found.
+   * @throws IllegalArgumentException in case case <code>libraryHandle</code> is unknown.
+   * @throws SecurityException if user is not granted access for the given library handle
+   */
+  public long[] lookupSymbols(long libraryHandle, String[] symbolNames) throws SecurityException, IllegalArgumentException;
+}
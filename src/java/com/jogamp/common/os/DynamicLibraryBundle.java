@@ -32,8 +32,11 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import com.jogamp.common.jvm.JNILibLoaderBase;
+import com.jogamp.common.util.PropertyAccess;
 import com.jogamp.common.util.RunnableExecutor;
 
 /**
@@ -57,9 +60,38 @@ import com.jogamp.common.util.RunnableExecutor;
  *  <li> loads the {@link com.jogamp.common.jvm.JNILibLoaderBase#loadLibrary(java.lang.String, java.lang.String[], boolean, ClassLoader)  Glue native library}</li>
  *  <li> resolves the Tool's {@link com.jogamp.common.os.DynamicLibraryBundleInfo#getToolGetProcAddressFuncNameList() GetProcAddress}. (optional)</li>
  * </ul>
+ * <p>
+ * If enabled, see {@link #DynamicLibraryBundle(DynamicLibraryBundleInfo, boolean)},
+ * results of {@link #dynamicLookupFunction(String)} are cached per instance,
+ * hence probing the same symbols again, e.g. for each new {@link com.jogamp.gluegen.runtime.ProcAddressTable},
+ * doesn't traverse the Tool's GetProcAddress and all libraries again.
+ * Failed lookups are only cached if the Tool has no GetProcAddress, since its results may depend on the current context.
+ * The cache is cleared by {@link #destroy()} and {@link #clearLookupCache()},
+ * the latter being required if the Tool's GetProcAddress results change, e.g. depend on the current context.
+ * The cache is disabled by default, it can be enabled for all instances
+ * via the system property <code>jogamp.gluegen.DynamicLibraryBundle.LookupCache=true</code>.
+ * </p>
  */
-public class DynamicLibraryBundle implements DynamicLookupHelper {
+public class DynamicLibraryBundle implements BatchDynamicLookupHelper {
+    private static final boolean USE_LOOKUP_CACHE = PropertyAccess.getBooleanProperty("jogamp.gluegen.DynamicLibraryBundle.LookupCache", true, false);
+
+    /** Cached lookup result, address zero denotes a failed lookup w/o the Tool's GetProcAddress. */
+    private static final class LookupEntry {
+        final long address;
+        /** The library the symbol was found in, null if found via the Tool's GetProcAddress, a global lookup or not at all. */
+        final NativeLibrary library;
+
+        LookupEntry(final long address, final NativeLibrary library) {
+            this.address = address;
+            this.library = library;
+        }
+    }
+
     private final DynamicLibraryBundleInfo info;
+    private final boolean useLookupCache;
+    private final ConcurrentHashMap<String, LookupEntry> lookupCache = new ConcurrentHashMap<String, LookupEntry>();
+    private final AtomicLong lookupCacheHits = new AtomicLong();
+    private final AtomicLong lookupCacheMisses = new AtomicLong();
 
     protected final List<NativeLibrary> nativeLibraries;
     private final DynamicLinker dynLinkGlobal;
@@ -88,12 +120,31 @@ public class DynamicLibraryBundle implements DynamicLookupHelper {
      * The ClassLoader of the {@link DynamicLibraryBundleInfo} implementation class
      * is being used to help locating the native libraries.
      * </p>
+     * <p>
+     * The lookup cache is enabled via the system property <code>jogamp.gluegen.DynamicLibraryBundle.LookupCache</code>,
+     * see {@link #DynamicLibraryBundle(DynamicLibraryBundleInfo, boolean)}.
+     * </p>
      */
     public DynamicLibraryBundle(final DynamicLibraryBundleInfo info) {
+        this(info, USE_LOOKUP_CACHE);
+    }
+
+    /**
+     * Instantiates and loads all {@link NativeLibrary}s incl. JNI libraries.
+     * <p>
+     * The ClassLoader of the {@link DynamicLibraryBundleInfo} implementation class
+     * is being used to help locating the native libraries.
+     * </p>
+     * @param info the {@link DynamicLibraryBundleInfo}
+     * @param useLookupCache if true, results of {@link #dynamicLookupFunction(String)} are cached,
+     *                       see {@link #clearLookupCache()}
+     */
+    public DynamicLibraryBundle(final DynamicLibraryBundleInfo info, final boolean useLookupCache) {
         if(null==info) {
             throw new RuntimeException("Null DynamicLibraryBundleInfo");
         }
         this.info = info;
+        this.useLookupCache = useLookupCache;
         if(DEBUG) {
             System.err.println(Thread.currentThread().getName()+" - DynamicLibraryBundle.init start with: "+info.getClass().getName());
         }
@@ -159,6 +210,7 @@ public class DynamicLibraryBundle implements DynamicLookupHelper {
         toolGetProcAddressFuncNameSet = null;
         toolGetProcAddressHandle = 0;
         toolGetProcAddressComplete = false;
+        clearLookupCache();
         for(int i = 0; i<nativeLibraries.size(); i++) {
             nativeLibraries.get(i).close();
         }
@@ -234,6 +286,26 @@ public class DynamicLibraryBundle implements DynamicLookupHelper {
 
     public final DynamicLibraryBundleInfo getBundleInfo() { return info; }
 
+    /** Returns true if results of {@link #dynamicLookupFunction(String)} are cached. */
+    public final boolean isLookupCacheEnabled() {
+        return useLookupCache;
+    }
+
+    /** Removes all cached {@link #dynamicLookupFunction(String)} results. */
+    public final void clearLookupCache() {
+        lookupCache.clear();
+    }
+
+    /** Returns the number of {@link #dynamicLookupFunction(String)} calls served by the lookup cache. */
+    public final long getLookupCacheHits() {
+        return lookupCacheHits.get();
+    }
+
+    /** Returns the number of {@link #dynamicLookupFunction(String)} calls performing the actual lookup. */
+    public final long getLookupCacheMisses() {
+        return lookupCacheMisses.get();
+    }
+
     protected final long getToolGetProcAddressHandle() throws SecurityException {
         if(!isToolLibLoaded()) {
             return 0;
@@ -260,6 +332,7 @@ public class DynamicLibraryBundle implements DynamicLookupHelper {
     }
 
     final DynamicLinker loadLibraries() throws SecurityException {
+        clearLookupCache();
         int i;
         toolLibLoadedNumber = 0;
         final ClassLoader cl = info.getClass().getClassLoader();
@@ -326,6 +399,16 @@ public class DynamicLibraryBundle implements DynamicLookupHelper {
      * @throws SecurityException if user is not granted access for the library set.
      */
     private final long dynamicLookupFunctionOnLibs(final String funcName) throws SecurityException {
+        return dynamicLookupFunctionOnLibs(funcName, null);
+    }
+
+    /**
+     * @param funcName
+     * @param foundIn if not null, its first element is set to the library the symbol was found in, if any
+     * @return
+     * @throws SecurityException if user is not granted access for the library set.
+     */
+    private final long dynamicLookupFunctionOnLibs(final String funcName, final NativeLibrary[] foundIn) throws SecurityException {
         if(!isToolLibLoaded() || null==funcName) {
             if(DEBUG_LOOKUP && !isToolLibLoaded()) {
                 System.err.println("Lookup-Native: <" + funcName + "> ** FAILED ** Tool native library not loaded");
@@ -344,6 +427,9 @@ public class DynamicLibraryBundle implements DynamicLookupHelper {
         for (int i=0; 0==addr && i < nativeLibraries.size(); i++) {
             lib = nativeLibraries.get(i);
             addr = lib.dynamicLookupFunction(funcName);
+            if( 0 != addr && null != foundIn ) {
+                foundIn[0] = lib;
+            }
         }
         if(DEBUG_LOOKUP) {
             final String libName = ( null == lib ) ? "GLOBAL" : lib.toString();
@@ -356,6 +442,56 @@ public class DynamicLibraryBundle implements DynamicLookupHelper {
         return addr;
     }
 
+    /**
+     * Batched {@link #dynamicLookupFunctionOnLibs(String, NativeLibrary[])} of all <code>funcNames</code> at the given <code>indices</code>,
+     * storing the addresses in <code>addrs</code> and the library each symbol was found in within <code>foundIn</code>.
+     * @throws SecurityException if user is not granted access for the library set.
+     */
+    private final void dynamicLookupFunctionsOnLibs(final String[] funcNames, final int[] indices, int count,
+                                                    final long[] addrs, final NativeLibrary[] foundIn) throws SecurityException {
+        if( 0 < count && info.shallLookupGlobal() ) {
+            // Try a global symbol lookup first ..
+            final long[] res = NativeLibrary.lookupSymbolsGlobal(dynLinkGlobal, selectNames(funcNames, indices, count));
+            count = storeFound(funcNames, res, null, indices, count, addrs, foundIn);
+        }
+        // Look up the pending function names in all known libraries
+        for (int i=0; 0 < count && i < nativeLibraries.size(); i++) {
+            final NativeLibrary lib = nativeLibraries.get(i);
+            final long[] res = lib.dynamicLookupFunctions(selectNames(funcNames, indices, count));
+            count = storeFound(funcNames, res, lib, indices, count, addrs, foundIn);
+        }
+        if(DEBUG_LOOKUP) {
+            for(int i=0; i<count; i++) {
+                System.err.println("Lookup-Native: <" + funcNames[indices[i]] + "> ** FAILED ** in libs " + nativeLibraries);
+            }
+        }
+    }
+    private static final String[] selectNames(final String[] funcNames, final int[] indices, final int count) {
+        final String[] names = new String[count];
+        for(int i=0; i<count; i++) {
+            names[i] = funcNames[indices[i]];
+        }
+        return names;
+    }
+    /** Stores all found addresses and compacts the pending <code>indices</code>, returns the remaining pending count. */
+    private final int storeFound(final String[] funcNames, final long[] res, final NativeLibrary lib, final int[] indices, final int count,
+                                 final long[] addrs, final NativeLibrary[] foundIn) {
+        int pending = 0;
+        for(int i=0; i<count; i++) {
+            final int idx = indices[i];
+            if( 0 != res[i] ) {
+                addrs[idx] = res[i];
+                foundIn[idx] = lib;
+                if(DEBUG_LOOKUP) {
+                    System.err.println("Lookup-Native: <" + funcNames[idx] + "> 0x" + Long.toHexString(res[i]) + " in lib " + ( null == lib ? "GLOBAL" : lib.toString() ));
+                }
+            } else {
+                indices[pending++] = idx;
+            }
+        }
+        return pending;
+    }
+
     private final long toolDynamicLookupFunction(final String funcName) {
         if(0 != toolGetProcAddressHandle) {
             final long addr = info.toolGetProcAddress(toolGetProcAddressHandle, funcName);
@@ -369,6 +505,69 @@ public class DynamicLibraryBundle implements DynamicLookupHelper {
         return 0;
     }
 
+    @Override
+    public final long[] dynamicLookupFunctions(final String[] funcNames) throws SecurityException {
+        final long[] addrs = new long[funcNames.length];
+        if(!isToolLibLoaded()) {
+            if(DEBUG_LOOKUP) {
+                System.err.println("Lookup: <" + funcNames.length + " functions> ** FAILED ** Tool native library not loaded");
+            }
+            return addrs;
+        }
+        // Pending functions, i.e. neither a GetProcAddress function nor cached
+        final int[] pending = new int[funcNames.length];
+        int pendingCount = 0;
+        for(int i=0; i<funcNames.length; i++) {
+            final String funcName = funcNames[i];
+            if( null == funcName ) {
+                continue;
+            }
+            if(toolGetProcAddressFuncNameSet.contains(funcName)) {
+                addrs[i] = toolGetProcAddressHandle;
+                continue;
+            }
+            if( useLookupCache ) {
+                final LookupEntry cached = lookupCache.get(funcName);
+                if( null != cached ) {
+                    lookupCacheHits.incrementAndGet();
+                    addrs[i] = cached.address;
+                    continue;
+                }
+                lookupCacheMisses.incrementAndGet();
+            }
+            pending[pendingCount++] = i;
+        }
+        if( 0 == pendingCount ) {
+            return addrs;
+        }
+
+        final NativeLibrary[] foundIn = new NativeLibrary[funcNames.length];
+        final boolean[] useToolGetProcAdressFirst = new boolean[funcNames.length];
+        final int[] libPending = new int[pendingCount];
+        int libPendingCount = 0;
+        for(int i=0; i<pendingCount; i++) {
+            final int idx = pending[i];
+            useToolGetProcAdressFirst[idx] = info.useToolGetProcAdressFirst(funcNames[idx]);
+            if( useToolGetProcAdressFirst[idx] ) {
+                addrs[idx] = toolDynamicLookupFunction(funcNames[idx]);
+            }
+            if( 0 == addrs[idx] ) {
+                libPending[libPendingCount++] = idx;
+            }
+        }
+        dynamicLookupFunctionsOnLibs(funcNames, libPending, libPendingCount, addrs, foundIn);
+        for(int i=0; i<pendingCount; i++) {
+            final int idx = pending[i];
+            if( 0 == addrs[idx] && !useToolGetProcAdressFirst[idx] ) {
+                addrs[idx] = toolDynamicLookupFunction(funcNames[idx]);
+            }
+            if( useLookupCache && ( 0 != addrs[idx] || 0 == toolGetProcAddressHandle ) ) {
+                lookupCache.put(funcNames[idx], new LookupEntry(addrs[idx], foundIn[idx]));
+            }
+        }
+        return addrs;
+    }
+
     @Override
     public final void claimAllLinkPermission() throws SecurityException {
         for (int i=0; i < nativeLibraries.size(); i++) {
@@ -395,18 +594,35 @@ public class DynamicLibraryBundle implements DynamicLookupHelper {
             return toolGetProcAddressHandle;
         }
 
+        if( useLookupCache ) {
+            final LookupEntry cached = lookupCache.get(funcName);
+            if( null != cached ) {
+                lookupCacheHits.incrementAndGet();
+                if(DEBUG_LOOKUP) {
+                    System.err.println("Lookup-Cache: <" + funcName + "> 0x" + Long.toHexString(cached.address) + " in lib " + cached.library);
+                }
+                return cached.address;
+            }
+            lookupCacheMisses.incrementAndGet();
+        }
+
         long addr = 0;
+        final NativeLibrary[] foundIn = { null };
         final boolean useToolGetProcAdressFirst = info.useToolGetProcAdressFirst(funcName);
 
         if(useToolGetProcAdressFirst) {
             addr = toolDynamicLookupFunction(funcName);
         }
         if(0==addr) {
-            addr = dynamicLookupFunctionOnLibs(funcName);
+            addr = dynamicLookupFunctionOnLibs(funcName, foundIn);
         }
         if(0==addr && !useToolGetProcAdressFirst) {
             addr = toolDynamicLookupFunction(funcName);
         }
+        // a failed GetProcAddress may succeed later, e.g. w/ another current context
+        if( useLookupCache && ( 0 != addr || 0 == toolGetProcAddressHandle ) ) {
+            lookupCache.put(funcName, new LookupEntry(addr, foundIn[0]));
+        }
         return addr;
     }
 
@@ -56,9 +56,11 @@ import jogamp.common.os.MacOSXDynamicLinkerImpl;
 import jogamp.common.os.PlatformPropsImpl;
 import jogamp.common.os.PosixDynamicLinkerImpl;
 import jogamp.common.os.WindowsDynamicLinkerImpl;
+import jogamp.common.os.elf.ElfSymbolTable;
 
 import com.jogamp.common.ExceptionUtils;
 import com.jogamp.common.util.IOUtil;
+import com.jogamp.common.util.PropertyAccess;
 import com.jogamp.common.util.cache.TempJarCache;
 
 /** Provides low-level, relatively platform-independent access to
@@ -74,7 +76,17 @@ import com.jogamp.common.util.cache.TempJarCache;
     ProcAddressTable glue code generation style without additional
     supporting code needed in the generated library. */
 
-public final class NativeLibrary implements DynamicLookupHelper {
+public final class NativeLibrary implements BatchDynamicLookupHelper {
+  /**
+   * If enabled via the system property <code>jogamp.gluegen.NativeLibrary.ElfSymbolFilter=true</code>,
+   * {@link #dynamicLookupFunctions(String[])} only looks up function names exported by the
+   * ELF dynamic symbol table of the library file, skipping the native lookup of all others.
+   * <p>
+   * Disabled by default, since the native lookup also resolves symbols of the library's dependencies.
+   * </p>
+   */
+  private static final boolean USE_ELF_SYMBOL_FILTER = PropertyAccess.getBooleanProperty("jogamp.gluegen.NativeLibrary.ElfSymbolFilter", true, false);
+
   private static final String[] prefixes;
   private static final String[] suffixes;
   private static final boolean isOSX;
@@ -121,6 +133,10 @@ public final class NativeLibrary implements DynamicLookupHelper {
 
   private final boolean global;
 
+  // ELF dynamic symbol table of the library file, read on demand if USE_ELF_SYMBOL_FILTER
+  private ElfSymbolTable elfSymbols;
+  private boolean elfSymbolsRead;
+
   // Private constructor to prevent arbitrary instances from floating around
   private NativeLibrary(final DynamicLinker dynLink, final long libraryHandle, final String libraryPath, final boolean global) {
     this.dynLink = dynLink;
@@ -284,6 +300,70 @@ public final class NativeLibrary implements DynamicLookupHelper {
     return dynLink.lookupSymbol(libraryHandle, funcName);
   }
 
+  @Override
+  public final long[] dynamicLookupFunctions(final String[] funcNames) throws SecurityException {
+    if ( 0 == libraryHandle ) {
+      throw new RuntimeException("Library is not open");
+    }
+    final ElfSymbolTable symbols = USE_ELF_SYMBOL_FILTER ? getElfSymbolTable() : null;
+    if( null == symbols ) {
+      return lookupSymbols(dynLink, libraryHandle, funcNames);
+    }
+    // Only lookup exported function names
+    final int[] exported = new int[funcNames.length];
+    int count = 0;
+    for(int i=0; i<funcNames.length; i++) {
+      if( symbols.isExported(funcNames[i]) ) {
+        exported[count++] = i;
+      }
+    }
+    final String[] names = new String[count];
+    for(int i=0; i<count; i++) {
+      names[i] = funcNames[exported[i]];
+    }
+    final long[] res = lookupSymbols(dynLink, libraryHandle, names);
+    final long[] addrs = new long[funcNames.length];
+    for(int i=0; i<count; i++) {
+      addrs[exported[i]] = res[i];
+    }
+    if( DEBUG_LOOKUP ) {
+      System.err.println("NativeLibrary.dynamicLookupFunctions: "+count+" of "+funcNames.length+" exported by "+this);
+    }
+    return addrs;
+  }
+
+  /**
+   * Returns the ELF dynamic symbol table of the library file, read on first call,
+   * or <code>null</code> if not available, e.g. not an ELF platform or library path not absolute.
+   */
+  private final synchronized ElfSymbolTable getElfSymbolTable() {
+    if( !elfSymbolsRead ) {
+      elfSymbolsRead = true;
+      if( !isOSX && Platform.OSType.WINDOWS != PlatformPropsImpl.OS_TYPE ) {
+        elfSymbols = AccessController.doPrivileged(new PrivilegedAction<ElfSymbolTable>() {
+          @Override
+          public ElfSymbolTable run() {
+            try {
+              final File file = new File(libraryPath);
+              if( file.isAbsolute() && file.isFile() && file.canRead() ) {
+                return ElfSymbolTable.read(file);
+              }
+            } catch (final Throwable t) {
+              if( DEBUG ) {
+                System.err.println("NativeLibrary: Unable to read ELF symbols of "+libraryPath+": "+t.getMessage());
+              }
+            }
+            return null;
+          }
+        });
+      }
+      if( DEBUG ) {
+        System.err.println("NativeLibrary: ELF symbols of "+libraryPath+": "+elfSymbols);
+      }
+    }
+    return elfSymbols;
+  }
+
   @Override
   public final boolean isFunctionAvailable(final String funcName) throws SecurityException {
     if ( 0 == libraryHandle ) {
@@ -299,6 +379,37 @@ public final class NativeLibrary implements DynamicLookupHelper {
     return dynLink.lookupSymbolGlobal(funcName);
   }
 
+  /** Looks up the given function names in all loaded libraries.
+   * @throws SecurityException if user is not granted access for the named library.
+   */
+  public final long[] dynamicLookupFunctionsGlobal(final String[] funcNames) throws SecurityException {
+    return lookupSymbolsGlobal(dynLink, funcNames);
+  }
+
+  /** Batched {@link DynamicLinker#lookupSymbol(long, String)}, using {@link BatchDynamicLinker} if implemented. */
+  private static long[] lookupSymbols(final DynamicLinker dynLink, final long libraryHandle, final String[] symbolNames) throws SecurityException {
+    if( dynLink instanceof BatchDynamicLinker ) {
+      return ((BatchDynamicLinker)dynLink).lookupSymbols(libraryHandle, symbolNames);
+    }
+    final long[] addrs = new long[symbolNames.length];
+    for(int i=0; i<symbolNames.length; i++) {
+      addrs[i] = dynLink.lookupSymbol(libraryHandle, symbolNames[i]);
+    }
+    return addrs;
+  }
+
+  /** Batched {@link DynamicLinker#lookupSymbolGlobal(String)}, using {@link BatchDynamicLinker} if implemented. */
+  /* pp */ static long[] lookupSymbolsGlobal(final DynamicLinker dynLink, final String[] symbolNames) throws SecurityException {
+    if( dynLink instanceof BatchDynamicLinker ) {
+      return ((BatchDynamicLinker)dynLink).lookupSymbolsGlobal(symbolNames);
+    }
+    final long[] addrs = new long[symbolNames.length];
+    for(int i=0; i<symbolNames.length; i++) {
+      addrs[i] = dynLink.lookupSymbolGlobal(symbolNames[i]);
+    }
+    return addrs;
+  }
+
   /* pp */ final DynamicLinker getDynamicLinker() { return dynLink; }
 
   /** Retrieves the low-level library handle from this NativeLibrary
@@ -42,6 +42,7 @@ import com.jogamp.common.util.cache.TempJarCache;
 
 import jogamp.common.jvm.JVMUtil;
 import jogamp.common.os.MachineDataInfoRuntime;
+import jogamp.common.os.PlatformProbeCache;
 import jogamp.common.os.PlatformPropsImpl;
 
 /**
@@ -338,6 +339,12 @@ public class Platform extends PlatformPropsImpl {
         //
         MachineDataInfoRuntime.initialize();
         machineDescription = MachineDataInfoRuntime.getRuntime();
+
+        // persist the probes of this static initialization, if changed
+        final PlatformProbeCache probeCache = PlatformProbeCache.getInstance();
+        if( null != probeCache ) {
+            probeCache.store();
+        }
     }
 
     private Platform() {}
@@ -51,6 +51,7 @@ import java.util.regex.Pattern;
 
 import jogamp.common.Debug;
 import jogamp.common.os.AndroidUtils;
+import jogamp.common.os.PlatformProbeCache;
 import jogamp.common.os.PlatformPropsImpl;
 
 import com.jogamp.common.ExceptionUtils;
@@ -936,6 +937,18 @@ public class IOUtil {
             return true;
         }
 
+        final PlatformProbeCache probeCache = PlatformProbeCache.getInstance();
+        final String probeKey = PlatformProbeCache.DIR_EXEC_PREFIX + dir.getAbsolutePath();
+        if( null != probeCache ) {
+            final String cached = probeCache.get(probeKey);
+            if( null != cached ) {
+                if( debug ) {
+                    System.err.println("IOUtil.testDirExec: <"+dir.getAbsolutePath()+">: Cached "+cached);
+                }
+                return Boolean.parseBoolean(cached);
+            }
+        }
+
         final long t0 = debug ? System.currentTimeMillis() : 0;
         final File exeTestFile;
         final boolean existingExe;
@@ -1012,6 +1025,9 @@ public class IOUtil {
             System.err.println("IOUtil.testDirExec(): abs-path <"+dir.getAbsolutePath()+">: res "+res+" -> "+ok);
             System.err.println("IOUtil.testDirExec(): total "+(t3-t0)+"ms, create "+(t1-t0)+"ms, fill "+(t2-t1)+"ms, execute "+(t3-t2)+"ms");
         }
+        if( null != probeCache ) {
+            probeCache.put(probeKey, String.valueOf(ok));
+        }
         return ok;
     }
 
@@ -1246,6 +1262,12 @@ public class IOUtil {
                         final String tempRootNoexecAbsPath = null != tempRootNoexec ? tempRootNoexec.getAbsolutePath() : null;
                         System.err.println("IOUtil.getTempRoot(): temp dirs: exec: "+tempRootExecAbsPath+", noexec: "+tempRootNoexecAbsPath);
                     }
+
+                    // persist the testDirExec(..) results, if changed
+                    final PlatformProbeCache probeCache = PlatformProbeCache.getInstance();
+                    if( null != probeCache ) {
+                        probeCache.store();
+                    }
                 }
             }
         }
@@ -27,10 +27,13 @@
  */
 package com.jogamp.gluegen;
 
+import java.io.Serializable;
+
 /**
  * An AST location tag.
  */
-public class ASTLocusTag {
+public class ASTLocusTag implements Serializable {
+    private static final long serialVersionUID = 1L;
     /** Source object, might be {@link String}. */
     public final Object source;
     /** Line number, {@code -1} if undefined */
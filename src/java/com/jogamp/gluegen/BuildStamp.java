@@ -0,0 +1,359 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.gluegen;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Records the inputs and outputs of a {@link GlueGen} run
+ * for {@link GlueGen#incremental() incremental} generation.
+ * <p>
+ * Inputs are the header files as resolved by the preprocessor,
+ * all read configuration files including <code>Include</code>'d ones
+ * and the code sources of GlueGen and the emitter, i.e. their jar files or class directories,
+ * each stored with the SHA-256 hash of its content.
+ * Class directories are hashed by the names, sizes and modification times of their files.
+ * </p>
+ * <p>
+ * A run is up-to-date and may be skipped if its stamp file exists,
+ * the job parameter (emitter, configuration files, include paths, ..) are equal,
+ * all inputs have the same content hash and all outputs still exist.
+ * </p>
+ * <p>
+ * The stamp file is stored in <code>.gluegen</code> within the output root directory
+ * and named after the hashed job parameter, hence multiple jobs may share one output root directory.
+ * </p>
+ */
+public class BuildStamp {
+    private static final String HEADER = "# GlueGen build stamp, do not edit";
+    private static final String PARAM = "param";
+    private static final String INPUT = "input";
+    private static final String OUTPUT = "output";
+    /** Input name prefix for class files, resolved via the emitter's {@link ClassLoader}. */
+    private static final String CLASS_PREFIX = "class:";
+    /** Input name prefix for code sources, i.e. jar files or class directories. */
+    private static final String CODE_SOURCE_PREFIX = "codesource:";
+
+    private final File stampFile;
+    private final List<String> params;
+    private final ClassLoader classLoader;
+    private final Map<String, String> inputs = new LinkedHashMap<String, String>();
+    private final Set<String> outputs = new LinkedHashSet<String>();
+
+    /**
+     * @param outputRootDir the output root directory, may be {@code null} for the current working directory
+     * @param params the job parameter, determining the stamp file's name
+     * @param classLoader the {@link ClassLoader} to resolve {@link #addInputClass(Class) class inputs}
+     */
+    public BuildStamp(final String outputRootDir, final List<String> params, final ClassLoader classLoader) {
+        final File dir = new File( null != outputRootDir && outputRootDir.trim().length() > 0 ? outputRootDir : ".", ".gluegen");
+        final StringBuilder sb = new StringBuilder();
+        for(final String p : params) {
+            sb.append(p).append('\n');
+        }
+        this.stampFile = new File(dir, toHexString(sha256(sb.toString().getBytes()), 8)+".stamp");
+        this.params = new ArrayList<String>(params);
+        this.classLoader = null != classLoader ? classLoader : ClassLoader.getSystemClassLoader();
+    }
+
+    /** Returns the stamp file. */
+    public File getStampFile() { return stampFile; }
+
+    /** Adds the given file as an input, if it exists. */
+    public void addInput(final File file) throws IOException {
+        if( file.isFile() ) {
+            final String path = file.getCanonicalPath();
+            if( !inputs.containsKey(path) ) {
+                inputs.put(path, hashOf(path));
+            }
+        }
+    }
+
+    /**
+     * Adds the code sources of {@link GlueGen}, the given class and its non JRE super classes as an input,
+     * i.e. the jar files or class directories containing them.
+     * <p>
+     * Hence any change of the GlueGen build invalidates the stamp,
+     * not only a change of the emitter's class hierarchy.
+     * If a code source is not a local file, the class file itself is used.
+     * </p>
+     */
+    public void addInputCodeSource(final Class<?> clazz) throws IOException {
+        addInputCodeSourceImpl(GlueGen.class);
+        for(Class<?> c = clazz; null != c && !c.getName().startsWith("java."); c = c.getSuperclass()) {
+            addInputCodeSourceImpl(c);
+        }
+    }
+    private void addInputCodeSourceImpl(final Class<?> clazz) throws IOException {
+        final File codeSource = getCodeSourceFile(clazz);
+        final String name;
+        if( null != codeSource ) {
+            name = CODE_SOURCE_PREFIX+codeSource.getCanonicalPath();
+        } else {
+            name = CLASS_PREFIX+clazz.getName().replace('.', '/')+".class";
+        }
+        if( !inputs.containsKey(name) ) {
+            final String hash = hashOf(name);
+            if( null != hash ) {
+                inputs.put(name, hash);
+            }
+        }
+    }
+
+    /**
+     * Returns the hash of the code source of the given class, i.e. its jar file or class directory,
+     * or of the class file itself if the code source is not a local file.
+     * Returns {@code null} if neither is accessible.
+     */
+    static String hashOfCodeSource(final Class<?> clazz) throws IOException {
+        final File codeSource = getCodeSourceFile(clazz);
+        if( null != codeSource ) {
+            return codeSource.isDirectory() ? hashOfDirectory(codeSource) : hashOf(new FileInputStream(codeSource));
+        }
+        final ClassLoader cl = null != clazz.getClassLoader() ? clazz.getClassLoader() : ClassLoader.getSystemClassLoader();
+        final InputStream in = cl.getResourceAsStream(clazz.getName().replace('.', '/')+".class");
+        return null != in ? hashOf(in) : null;
+    }
+
+    /** Returns the local jar file or class directory containing the given class, or {@code null}. */
+    private static File getCodeSourceFile(final Class<?> clazz) {
+        try {
+            final CodeSource cs = clazz.getProtectionDomain().getCodeSource();
+            final URL url = null != cs ? cs.getLocation() : null;
+            if( null != url && "file".equals(url.getProtocol()) ) {
+                final File file = new File(url.toURI());
+                if( file.exists() ) {
+                    return file;
+                }
+            }
+        } catch (final SecurityException e) {
+        } catch (final URISyntaxException e) {
+        } catch (final IllegalArgumentException e) {
+        }
+        return null;
+    }
+
+    /** Adds the given file as an output. */
+    public void addOutput(final File file) throws IOException {
+        outputs.add(file.getCanonicalPath());
+    }
+
+    /**
+     * Returns {@code true} if the stamp file exists, its job parameter are equal,
+     * all its recorded inputs are unchanged and all its recorded outputs exist.
+     */
+    public boolean isUpToDate() {
+        final BufferedReader reader;
+        try {
+            reader = new BufferedReader(new InputStreamReader(new FileInputStream(stampFile), "UTF-8"));
+        } catch (final IOException e) {
+            return false;
+        }
+        try {
+            if( !HEADER.equals(reader.readLine()) ) {
+                return false;
+            }
+            int paramIdx = 0;
+            int inputCount = 0;
+            String line;
+            while( null != ( line = reader.readLine() ) ) {
+                final String[] s = line.split(" ", 2);
+                if( 2 != s.length ) {
+                    return false;
+                }
+                if( PARAM.equals(s[0]) ) {
+                    if( paramIdx >= params.size() || !params.get(paramIdx++).equals(s[1]) ) {
+                        return false;
+                    }
+                } else if( INPUT.equals(s[0]) ) {
+                    final String[] hp = s[1].split(" ", 2);
+                    if( 2 != hp.length || !hp[0].equals(hashOf(hp[1])) ) {
+                        return false;
+                    }
+                    inputCount++;
+                } else if( OUTPUT.equals(s[0]) ) {
+                    if( !new File(s[1]).isFile() ) {
+                        return false;
+                    }
+                } else {
+                    return false;
+                }
+            }
+            return paramIdx == params.size() && inputCount > 0;
+        } catch (final IOException e) {
+            return false;
+        } finally {
+            try {
+                reader.close();
+            } catch (final IOException e) { }
+        }
+    }
+
+    /** Writes the stamp file, recording all job parameter, inputs and outputs. */
+    public void write() throws IOException {
+        stampFile.getParentFile().mkdirs();
+        final PrintWriter w = new PrintWriter(new OutputStreamWriter(new FileOutputStream(stampFile), "UTF-8"));
+        try {
+            w.println(HEADER);
+            for(final String p : params) {
+                w.print(PARAM+" ");
+                w.println(p.replace('\n', ' '));
+            }
+            for(final Map.Entry<String, String> e : inputs.entrySet()) {
+                w.print(INPUT+" ");
+                w.print(e.getValue());
+                w.print(' ');
+                w.println(e.getKey());
+            }
+            for(final String o : outputs) {
+                w.print(OUTPUT+" ");
+                w.println(o);
+            }
+        } finally {
+            w.close();
+        }
+    }
+
+    /** Deletes the stamp file, e.g. if a run has failed. */
+    public void delete() {
+        stampFile.delete();
+    }
+
+    /**
+     * Returns the SHA-256 hash of the named input's content as a hex string,
+     * or {@code null} if not existing.
+     */
+    private String hashOf(final String name) throws IOException {
+        final InputStream in;
+        if( name.startsWith(CLASS_PREFIX) ) {
+            final URL url = classLoader.getResource(name.substring(CLASS_PREFIX.length()));
+            if( null == url ) {
+                return null;
+            }
+            in = url.openStream();
+        } else if( name.startsWith(CODE_SOURCE_PREFIX) ) {
+            final File file = new File(name.substring(CODE_SOURCE_PREFIX.length()));
+            if( file.isDirectory() ) {
+                return hashOfDirectory(file);
+            } else if( !file.isFile() ) {
+                return null;
+            }
+            in = new FileInputStream(file);
+        } else {
+            try {
+                in = new FileInputStream(name);
+            } catch (final FileNotFoundException e) {
+                return null;
+            }
+        }
+        return hashOf(in);
+    }
+
+    /** Returns the SHA-256 hash of the given stream's content as a hex string, closing the stream. */
+    static String hashOf(final InputStream in) throws IOException {
+        try {
+            final MessageDigest md = newSHA256();
+            final byte[] buffer = new byte[16*1024];
+            int n;
+            while( ( n = in.read(buffer) ) > 0 ) {
+                md.update(buffer, 0, n);
+            }
+            return toHexString(md.digest(), Integer.MAX_VALUE);
+        } finally {
+            in.close();
+        }
+    }
+
+    /**
+     * Returns the SHA-256 hash of the relative names, sizes and modification times
+     * of all files within the given directory as a hex string.
+     */
+    private static String hashOfDirectory(final File dir) {
+        final MessageDigest md = newSHA256();
+        hashOfDirectory(md, dir, "");
+        return toHexString(md.digest(), Integer.MAX_VALUE);
+    }
+    private static void hashOfDirectory(final MessageDigest md, final File dir, final String prefix) {
+        final String[] names = dir.list();
+        if( null == names ) {
+            return;
+        }
+        Arrays.sort(names);
+        for(final String n : names) {
+            final File f = new File(dir, n);
+            if( f.isDirectory() ) {
+                hashOfDirectory(md, f, prefix+n+"/");
+            } else {
+                md.update((prefix+n+" "+f.length()+" "+f.lastModified()+"\n").getBytes());
+            }
+        }
+    }
+
+    private static MessageDigest newSHA256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException e) {
+            throw new InternalError("SHA-256 not available: "+e.getMessage());
+        }
+    }
+
+    static byte[] sha256(final byte[] data) {
+        return newSHA256().digest(data);
+    }
+
+    static String toHexString(final byte[] data, final int maxBytes) {
+        final int len = Math.min(data.length, maxBytes);
+        final StringBuilder sb = new StringBuilder(2*len);
+        for(int i=0; i<len; i++) {
+            final int b = data[i] & 0xff;
+            sb.append(Character.forDigit(b >>> 4, 16)).append(Character.forDigit(b & 0x0f, 16));
+        }
+        return sb.toString();
+    }
+}
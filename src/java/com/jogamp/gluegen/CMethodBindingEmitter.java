@@ -937,7 +937,7 @@ public class CMethodBindingEmitter extends FunctionEmitter {
         writer.print(cArgType.getCName(true));
         writer.print(") ");
 
-        if (cArgType.isPointer() && javaArgType.isPrimitive()) {
+        if (cArgType.isPointer() && ( javaArgType.isPrimitive() || javaArgType.isNativeMemory() ) ) {
           writer.print("(intptr_t) ");
         }
         if (javaArgType.isArray() || javaArgType.isNIOBuffer() ||
@@ -1191,7 +1191,10 @@ public class CMethodBindingEmitter extends FunctionEmitter {
         }
       } else {
         Class<?> c = type.getJavaClass();
-        if (c != null) {
+        if (type.isNativeMemory()) {
+          // NativeMemory segments are sent down as their address
+          jniMangle(Long.TYPE, buf, false);
+        } else if (c != null) {
           jniMangle(c, buf, false);
           // If Buffer offset arguments were added, we need to mangle the JNI for the
           // extra arguments
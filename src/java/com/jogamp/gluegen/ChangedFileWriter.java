@@ -0,0 +1,181 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.gluegen;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.charset.Charset;
+
+/**
+ * A {@link Writer} buffering all output in memory,
+ * which only replaces its target file on {@link #close()} if the content differs.
+ * <p>
+ * Unchanged files keep their timestamp, hence downstream javac and native compilation
+ * do not consider them modified.
+ * </p>
+ * <p>
+ * The leading {@link CodeGenUtils#emitAutogeneratedWarning(java.io.PrintWriter, Object) autogenerated warning}
+ * line carries the generation date and hence is ignored for comparison.
+ * </p>
+ * <p>
+ * Content is encoded using the platform's default charset, as by {@link java.io.FileWriter}.
+ * </p>
+ */
+public class ChangedFileWriter extends Writer {
+    private final File file;
+    private final StringBuilder buffer = new StringBuilder(64*1024);
+    private boolean closed = false;
+    private boolean written = false;
+    private long writtenBytes = 0;
+
+    public ChangedFileWriter(final File file) {
+        this.file = file;
+    }
+
+    /** Returns the target file. */
+    public File getFile() { return file; }
+
+    /** Returns {@code true} if the target file has been written on {@link #close()}, i.e. its content has changed. */
+    public boolean wasWritten() { return written; }
+
+    /** Returns the number of bytes written to the target file on {@link #close()}, i.e. {@code 0} if unchanged. */
+    public long getWrittenBytes() { return writtenBytes; }
+
+    @Override
+    public void write(final char[] cbuf, final int off, final int len) throws IOException {
+        if( closed ) {
+            throw new IOException("Closed: "+file);
+        }
+        buffer.append(cbuf, off, len);
+    }
+
+    @Override
+    public void write(final String str, final int off, final int len) throws IOException {
+        if( closed ) {
+            throw new IOException("Closed: "+file);
+        }
+        buffer.append(str, off, off+len);
+    }
+
+    @Override
+    public void flush() { }
+
+    /**
+     * Compares the buffered content with the target file's content
+     * and writes the file only if they differ.
+     * <p>
+     * Since {@link java.io.PrintWriter} silently swallows {@link IOException}s,
+     * a write failure is thrown as a {@link GlueGenException}.
+     * </p>
+     */
+    @Override
+    public void close() {
+        if( closed ) {
+            return;
+        }
+        closed = true;
+        final byte[] content = buffer.toString().getBytes(Charset.defaultCharset());
+        buffer.setLength(0);
+        try {
+            if( !isEqualContent(file, content) ) {
+                final OutputStream out = new FileOutputStream(file);
+                try {
+                    out.write(content);
+                } finally {
+                    out.close();
+                }
+                written = true;
+                writtenBytes = content.length;
+            }
+        } catch (final IOException e) {
+            throw new GlueGenException("Could not write "+file, e);
+        }
+    }
+
+    private static final byte[] autogenWarning = CodeGenUtils.AUTOGENERATED_WARNING_PREFIX.getBytes(Charset.defaultCharset());
+
+    /** Returns the index after the leading autogenerated warning line, or {@code 0} if not existing. */
+    private static int skipAutogeneratedWarning(final byte[] b, final int len) {
+        if( len < autogenWarning.length ) {
+            return 0;
+        }
+        for(int i=0; i<autogenWarning.length; i++) {
+            if( b[i] != autogenWarning[i] ) {
+                return 0;
+            }
+        }
+        for(int i=autogenWarning.length; i<len; i++) {
+            if( '\n' == b[i] ) {
+                return i+1;
+            }
+        }
+        return 0;
+    }
+
+    private static boolean isEqualContent(final File file, final byte[] content) throws IOException {
+        if( !file.isFile() ) {
+            return false;
+        }
+        final long fileLen = file.length();
+        if( Math.abs( fileLen - content.length ) > 64 ) {
+            return false; // beyond a differing autogenerated warning line
+        }
+        final byte[] old = new byte[(int)fileLen];
+        final InputStream in = new FileInputStream(file);
+        int oldLen = 0;
+        try {
+            int n;
+            while( oldLen < old.length && ( n = in.read(old, oldLen, old.length - oldLen) ) > 0 ) {
+                oldLen += n;
+            }
+        } finally {
+            in.close();
+        }
+        int o = skipAutogeneratedWarning(old, oldLen);
+        int c = skipAutogeneratedWarning(content, content.length);
+        if( ( 0 == o ) != ( 0 == c ) ) {
+            // only one has the warning line, compare all
+            o = 0;
+            c = 0;
+        }
+        if( oldLen - o != content.length - c ) {
+            return false;
+        }
+        while( c < content.length ) {
+            if( old[o++] != content[c++] ) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -53,12 +53,15 @@ public class CodeGenUtils {
         return path;
     }
 
+    /** Leading text of the {@link #emitAutogeneratedWarning(PrintWriter, Object) autogenerated warning} line. */
+    public static final String AUTOGENERATED_WARNING_PREFIX = "/* !---- DO NOT EDIT: This file autogenerated ";
+
     /**
      * @param generator the object that is emitting the autogenerated code. If
      * null, the generator will not be mentioned in the warning message.
      */
     public static void emitAutogeneratedWarning(final PrintWriter w, final Object generator) {
-        w.print("/* !---- DO NOT EDIT: This file autogenerated ");
+        w.print(AUTOGENERATED_WARNING_PREFIX);
         if (generator != null) {
             w.print("by ");
             w.print(packageAsPath(generator.getClass().getName()));
@@ -27,6 +27,7 @@
  */
 package com.jogamp.gluegen;
 
+import java.io.Serializable;
 import java.math.BigInteger;
 import java.util.Map;
 import java.util.regex.Matcher;
@@ -52,6 +53,7 @@ import com.jogamp.gluegen.cgram.types.TypeComparator.SemanticEqualityOp;
  * </p>
  */
 public class ConstantDefinition extends AliasedSymbolImpl implements AliasedSemanticSymbol, ASTLocusTagProvider {
+    private static final long serialVersionUID = 1L;
     public static final long UNSIGNED_INT_MAX_VALUE = 0xffffffffL;
     public static final BigInteger UNSIGNED_LONG_MAX_VALUE = new BigInteger("ffffffffffffffff", 16);
 
@@ -59,7 +61,8 @@ public class ConstantDefinition extends AliasedSymbolImpl implements AliasedSema
      * A Number, either integer, optionally  [long, unsigned],
      * or floating point, optionally [double].
      */
-    public static class CNumber {
+    public static class CNumber implements Serializable {
+        private static final long serialVersionUID = 1L;
         /**
          * {@code true} if number is integer and value stored in {@link #i},
          * otherwise {@code false} for floating point and value stored in {@link #f}.
@@ -165,9 +168,18 @@ public class ConstantDefinition extends AliasedSymbolImpl implements AliasedSema
           public final CNumber resultType;
           public final Number resultJavaType;
           public final String resultJavaTypeName;
+          /**
+           * If {@code true}, {@link #javaExpression} is the literal of {@link #resultType},
+           * i.e. the latter also holds the value of the evaluated expression.
+           */
+          public final boolean isLiteral;
           public JavaExpr(final String javaExpression, final CNumber resultType) {
+              this(javaExpression, resultType, false);
+          }
+          private JavaExpr(final String javaExpression, final CNumber resultType, final boolean isLiteral) {
               this.javaExpression = javaExpression;
               this.resultType = resultType;
+              this.isLiteral = isLiteral;
               if( resultType.isDouble ) {
                   resultJavaTypeName = "double";
                   resultJavaType = Double.valueOf(resultType.f);
@@ -186,6 +198,12 @@ public class ConstantDefinition extends AliasedSymbolImpl implements AliasedSema
            * Computes a valid {@link JavaExpr java expression} based on the given {@link ConstantDefinition},
            * which may either be a single {@link CNumber}, see {@link ConstantDefinition#getNumber()},
            * or represents a native expression, see {@link ConstantDefinition#getExpr()}.
+           * <p>
+           * A native expression is evaluated by {@link ConstantExpressionEvaluator} and emitted as a folded literal,
+           * where referenced constants are resolved via the given {@code constMap}.
+           * Expressions which cannot be evaluated, e.g. referencing an unknown or non-literal constant,
+           * are emitted as the equivalent java expression.
+           * </p>
            */
           public static JavaExpr compute(final ConstantDefinition constDef,
                                                final Map<String, ConstantDefinition.JavaExpr> constMap) {
@@ -198,7 +216,14 @@ public class ConstantDefinition extends AliasedSymbolImpl implements AliasedSema
                   if( debug ) {
                       System.err.printf("V %s (isCNumber)%n", constDef);
                   }
-                  return new JavaExpr(constDef.getNumber().toJavaString(), constDef.getNumber());
+                  return new JavaExpr(constDef.getNumber().toJavaString(), constDef.getNumber(), true);
+              }
+              final CNumber value = ConstantExpressionEvaluator.evaluate(constDef.getNativeExpr(), constMap);
+              if( null != value ) {
+                  if( debug ) {
+                      System.err.printf("V %s (folded)%n", value);
+                  }
+                  return new JavaExpr(ConstantExpressionEvaluator.toJavaLiteral(value), value, true);
               }
               final StringBuilder javaExpr = new StringBuilder();
               final String nativeExpr = constDef.getNativeExpr();
@@ -0,0 +1,690 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.gluegen;
+
+import java.math.BigInteger;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import com.jogamp.gluegen.ConstantDefinition.CNumber;
+import com.jogamp.gluegen.ConstantDefinition.JavaExpr;
+
+/**
+ * Evaluates a native [C] constant expression to a single {@link CNumber},
+ * allowing {@link JavaExpr#compute(ConstantDefinition, Map)} to emit a folded literal.
+ * <p>
+ * A small tokenizer and precedence climbing parser evaluate the expression in one pass, supporting
+ * <ul>
+ *   <li>integer, floating point and character literals,</li>
+ *   <li>references to constants already {@link JavaExpr#isLiteral evaluated} in the given constant map,</li>
+ *   <li>casts to the primitive types {@code [un]signed char, short, int, long, float, double} and {@code [u]int{8,16,32,64}_t},</li>
+ *   <li>the C operators {@code ?: || && | ^ & == != < <= > >= << >> + - * / %} and the unary {@code + - ~ !}.</li>
+ * </ul>
+ * Operands are converted by the usual arithmetic conversions, where {@code int} is 32 bit and {@code long} 64 bit wide,
+ * i.e. the {@link CNumber} model.
+ * Integer and floating point literals are typed like {@link ConstantDefinition#decodeIntegerNumber(String)}
+ * and {@link ConstantDefinition#decodeDecimalNumber(String)}.
+ * </p>
+ * <p>
+ * Expressions using other tokens, e.g. {@code sizeof}, function-like macros or unknown identifiers,
+ * are not evaluated, see {@link #evaluate(String, Map)}.
+ * </p>
+ */
+final class ConstantExpressionEvaluator {
+
+    /** Signals a non evaluable expression, w/o the cost of a stack trace. */
+    private static final class NotEvaluable extends Exception {
+        private static final long serialVersionUID = 1L;
+        @Override
+        public synchronized Throwable fillInStackTrace() { return this; }
+    }
+    private static final NotEvaluable notEvaluable = new NotEvaluable();
+
+    private static final int EOF = 0;
+    private static final int NUMBER = 1;
+    private static final int IDENT = 2;
+    private static final int OP = 3;
+
+    private static final Set<String> typeWords = new HashSet<String>();
+    static {
+        final String[] words = { "signed", "unsigned", "char", "short", "int", "long", "float", "double",
+                                 "int8_t", "uint8_t", "int16_t", "uint16_t", "int32_t", "uint32_t", "int64_t", "uint64_t" };
+        for (final String w : words) {
+            typeWords.add(w);
+        }
+    }
+
+    private static final CNumber INT_ZERO = new CNumber(false, false, 0);
+    private static final CNumber INT_ONE = new CNumber(false, false, 1);
+
+    private final String expr;
+    private final Map<String, JavaExpr> constMap;
+    /** Current position within {@link #expr}, i.e. after the current token. */
+    private int pos;
+    private int tokType;
+    private String tokText;
+    private CNumber tokNumber;
+    /** Greater than zero while evaluating an operand, whose value is not used, e.g. the 2nd operand of {@code 0 && x}. */
+    private int inactive;
+
+    private ConstantExpressionEvaluator(final String expr, final Map<String, JavaExpr> constMap) {
+        this.expr = expr;
+        this.constMap = constMap;
+    }
+
+    /**
+     * Returns the value of the given native expression,
+     * or {@code null} if it cannot be evaluated, e.g. due to unsupported tokens or unknown identifiers.
+     * @param nativeExpr the native expression
+     * @param constMap the computed constants by name, where only {@link JavaExpr#isLiteral literals} are referenced
+     */
+    static CNumber evaluate(final String nativeExpr, final Map<String, JavaExpr> constMap) {
+        if( null == nativeExpr ) {
+            return null;
+        }
+        final ConstantExpressionEvaluator e = new ConstantExpressionEvaluator(nativeExpr, constMap);
+        try {
+            e.next();
+            final CNumber v = e.conditional();
+            if( EOF != e.tokType ) {
+                return null;
+            }
+            return v;
+        } catch (final NotEvaluable ne) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the Java literal of the given value, matching {@link CNumber#toJavaString()} for integer values.
+     * A {@code float} is written w/ its single precision value.
+     */
+    static String toJavaLiteral(final CNumber v) {
+        if( v.isInteger ) {
+            return v.toJavaString();
+        } else if( v.isDouble ) {
+            if( Double.isNaN(v.f) ) {
+                return "Double.NaN";
+            } else if( Double.isInfinite(v.f) ) {
+                return v.f > 0 ? "Double.POSITIVE_INFINITY" : "Double.NEGATIVE_INFINITY";
+            }
+            return String.valueOf(v.f);
+        } else {
+            final float f = (float) v.f;
+            if( Float.isNaN(f) ) {
+                return "Float.NaN";
+            } else if( Float.isInfinite(f) ) {
+                return f > 0 ? "Float.POSITIVE_INFINITY" : "Float.NEGATIVE_INFINITY";
+            }
+            return Float.toString(f)+"f";
+        }
+    }
+
+    //
+    // Tokenizer
+    //
+
+    private boolean isOp(final String op) {
+        return OP == tokType && tokText.equals(op);
+    }
+
+    private void expect(final String op) throws NotEvaluable {
+        if( !isOp(op) ) {
+            throw notEvaluable;
+        }
+        next();
+    }
+
+    private void next() throws NotEvaluable {
+        final int len = expr.length();
+        while( pos < len && expr.charAt(pos) <= ' ' ) {
+            pos++;
+        }
+        if( pos >= len ) {
+            tokType = EOF;
+            tokText = null;
+            return;
+        }
+        final int start = pos;
+        final char c = expr.charAt(pos);
+        if( Character.isDigit(c) || ( c == '.' && pos+1 < len && Character.isDigit(expr.charAt(pos+1)) ) ) {
+            // pp-number
+            pos++;
+            while( pos < len ) {
+                final char d = expr.charAt(pos);
+                if( ( d == '+' || d == '-' ) && "eEpP".indexOf(expr.charAt(pos-1)) >= 0 &&
+                    ( "pP".indexOf(expr.charAt(pos-1)) >= 0 || !isHexPrefixed(start) ) ) {
+                    pos++;
+                } else if( Character.isLetterOrDigit(d) || d == '.' || d == '_' ) {
+                    pos++;
+                } else {
+                    break;
+                }
+            }
+            tokType = NUMBER;
+            tokText = expr.substring(start, pos);
+            tokNumber = parseNumber(tokText);
+        } else if( Character.isJavaIdentifierStart(c) ) {
+            pos++;
+            while( pos < len && Character.isJavaIdentifierPart(expr.charAt(pos)) ) {
+                pos++;
+            }
+            tokType = IDENT;
+            tokText = expr.substring(start, pos);
+        } else if( c == '\'' ) {
+            tokType = NUMBER;
+            tokNumber = parseChar();
+            tokText = expr.substring(start, pos);
+        } else {
+            tokType = OP;
+            if( pos+1 < len ) {
+                final String op2 = expr.substring(pos, pos+2);
+                if( op2.equals("<<") || op2.equals(">>") || op2.equals("<=") || op2.equals(">=") ||
+                    op2.equals("==") || op2.equals("!=") || op2.equals("&&") || op2.equals("||") ) {
+                    pos += 2;
+                    tokText = op2;
+                    return;
+                }
+            }
+            if( "()+-*/%<>&^|!~?:".indexOf(c) < 0 ) {
+                throw notEvaluable;
+            }
+            pos++;
+            tokText = String.valueOf(c);
+        }
+    }
+
+    private boolean isHexPrefixed(final int start) {
+        return start+1 < expr.length() && expr.charAt(start) == '0' && ( expr.charAt(start+1) == 'x' || expr.charAt(start+1) == 'X' );
+    }
+
+    private static CNumber parseNumber(final String s) throws NotEvaluable {
+        final boolean hex = s.length() > 1 && s.charAt(0) == '0' && ( s.charAt(1) == 'x' || s.charAt(1) == 'X' );
+        final boolean fp = hex ? ( s.indexOf('p') >= 0 || s.indexOf('P') >= 0 || s.indexOf('.') >= 0 )
+                               : ( s.indexOf('.') >= 0 || s.indexOf('e') >= 0 || s.indexOf('E') >= 0 );
+        return fp ? parseFloatingPoint(s) : parseInteger(s, hex);
+    }
+
+    private static CNumber parseInteger(final String s, final boolean hex) throws NotEvaluable {
+        int end = s.length();
+        boolean isUnsigned = false;
+        boolean isLong = false;
+        while( end > 0 ) {
+            final char c = s.charAt(end-1);
+            if( c == 'u' || c == 'U' ) {
+                isUnsigned = true;
+            } else if( c == 'l' || c == 'L' ) {
+                isLong = true;
+            } else {
+                break;
+            }
+            end--;
+        }
+        final int radix;
+        final int start;
+        if( hex ) {
+            radix = 16;
+            start = 2;
+        } else if( end > 1 && s.charAt(0) == '0' ) {
+            radix = 8;
+            start = 1;
+        } else {
+            radix = 10;
+            start = 0;
+        }
+        if( start >= end ) {
+            throw notEvaluable;
+        }
+        long res = 0;
+        boolean overflow = false;
+        final long limit = Long.MAX_VALUE / radix;
+        for(int i = start; i < end; i++) {
+            final int d = Character.digit(s.charAt(i), radix);
+            if( 0 > d ) {
+                throw notEvaluable;
+            }
+            if( res > limit || res * radix > Long.MAX_VALUE - d ) {
+                overflow = true;
+                break;
+            }
+            res = res * radix + d;
+        }
+        if( overflow ) {
+            // exceeds signed long, may still fit into an unsigned long
+            final BigInteger b;
+            try {
+                b = new BigInteger(s.substring(start, end), radix);
+            } catch (final NumberFormatException nfe) {
+                throw notEvaluable;
+            }
+            if( b.compareTo(ConstantDefinition.UNSIGNED_LONG_MAX_VALUE) > 0 ) {
+                throw notEvaluable;
+            }
+            return new CNumber(true, true, b.longValue());
+        }
+        final boolean isLong2 = isLong ||
+                                ( !isUnsigned && res > Integer.MAX_VALUE ) ||
+                                ( isUnsigned && res > ConstantDefinition.UNSIGNED_INT_MAX_VALUE );
+        return new CNumber(isLong2, isUnsigned, res);
+    }
+
+    private static CNumber parseFloatingPoint(final String s) throws NotEvaluable {
+        String s0 = s;
+        final char last = s0.charAt(s0.length()-1);
+        if( last == 'l' || last == 'L' ) {
+            s0 = s0.substring(0, s0.length()-1); // long double
+        }
+        final double res;
+        try {
+            res = Double.valueOf(s0).doubleValue();
+        } catch (final NumberFormatException nfe) {
+            throw notEvaluable;
+        }
+        final double ares = Math.abs(res);
+        final boolean isDouble = last == 'd' || last == 'D';
+        return new CNumber(isDouble || Float.MIN_VALUE > ares || ares > Float.MAX_VALUE, res);
+    }
+
+    private CNumber parseChar() throws NotEvaluable {
+        final int len = expr.length();
+        pos++; // '
+        if( pos >= len ) {
+            throw notEvaluable;
+        }
+        int v = expr.charAt(pos++);
+        if( v == '\\' ) {
+            if( pos >= len ) {
+                throw notEvaluable;
+            }
+            final char e = expr.charAt(pos++);
+            switch( e ) {
+                case 'n': v = '\n'; break;
+                case 't': v = '\t'; break;
+                case 'r': v = '\r'; break;
+                case 'a': v = 7; break;
+                case 'b': v = '\b'; break;
+                case 'f': v = '\f'; break;
+                case 'v': v = 11; break;
+                case '\\': case '\'': case '"': case '?': v = e; break;
+                case 'x': {
+                    v = 0;
+                    final int start = pos;
+                    while( pos < len && Character.digit(expr.charAt(pos), 16) >= 0 ) {
+                        v = v * 16 + Character.digit(expr.charAt(pos++), 16);
+                    }
+                    if( start == pos ) {
+                        throw notEvaluable;
+                    }
+                    break;
+                }
+                default: {
+                    if( e < '0' || e > '7' ) {
+                        throw notEvaluable;
+                    }
+                    v = e - '0';
+                    for(int i=0; i<2 && pos < len && expr.charAt(pos) >= '0' && expr.charAt(pos) <= '7'; i++) {
+                        v = v * 8 + ( expr.charAt(pos++) - '0' );
+                    }
+                }
+            }
+        }
+        if( pos >= len || expr.charAt(pos) != '\'' ) {
+            throw notEvaluable;
+        }
+        pos++;
+        return new CNumber(false, false, (byte) v); // char is signed
+    }
+
+    //
+    // Parser, evaluating while parsing
+    //
+
+    private static int precedence(final String op) {
+        switch( op.charAt(0) ) {
+            case '|': return op.length() == 2 ? 1 : 3;
+            case '&': return op.length() == 2 ? 2 : 5;
+            case '^': return 4;
+            case '=': return 6;
+            case '!': return op.length() == 2 ? 6 : -1;
+            case '<': case '>': return op.length() == 2 && op.charAt(1) != '=' ? 8 : 7;
+            case '+': case '-': return 9;
+            case '*': case '/': case '%': return 10;
+            default: return -1;
+        }
+    }
+
+    private CNumber conditional() throws NotEvaluable {
+        final CNumber c = binary(1);
+        if( !isOp("?") ) {
+            return c;
+        }
+        next();
+        final boolean cond = isTrue(c);
+        if( !cond ) { inactive++; }
+        final CNumber a = conditional();
+        if( !cond ) { inactive--; }
+        expect(":");
+        if( cond ) { inactive++; }
+        final CNumber b = conditional();
+        if( cond ) { inactive--; }
+        return convert(cond ? a : b, commonType(a, b));
+    }
+
+    private CNumber binary(final int minPrec) throws NotEvaluable {
+        CNumber left = unary();
+        while( OP == tokType ) {
+            final String op = tokText;
+            final int prec = precedence(op);
+            if( prec < minPrec ) {
+                break;
+            }
+            next();
+            if( op.equals("&&") || op.equals("||") ) {
+                final boolean l = isTrue(left);
+                final boolean skip = op.equals("&&") ? !l : l;
+                if( skip ) { inactive++; }
+                final CNumber right = binary(prec+1);
+                if( skip ) { inactive--; }
+                left = ( skip ? l : isTrue(right) ) ? INT_ONE : INT_ZERO;
+            } else {
+                left = apply(op, left, binary(prec+1));
+            }
+        }
+        return left;
+    }
+
+    private CNumber unary() throws NotEvaluable {
+        if( OP == tokType ) {
+            final String op = tokText;
+            if( op.equals("+") || op.equals("-") || op.equals("~") || op.equals("!") ) {
+                next();
+                return applyUnary(op, unary());
+            } else if( op.equals("(") ) {
+                final CNumber castType = tryCast();
+                if( null != castType ) {
+                    return convert(unary(), castType);
+                }
+                next();
+                final CNumber v = conditional();
+                expect(")");
+                return v;
+            }
+            throw notEvaluable;
+        } else if( NUMBER == tokType ) {
+            final CNumber v = tokNumber;
+            next();
+            return v;
+        } else if( IDENT == tokType ) {
+            final JavaExpr je = constMap.get(tokText);
+            if( null == je || !je.isLiteral ) {
+                throw notEvaluable;
+            }
+            next();
+            return je.resultType;
+        }
+        throw notEvaluable;
+    }
+
+    /**
+     * At {@code (}, parses a cast to a primitive type, returning a zero value of the type,
+     * or returns {@code null} w/o consuming any token if not a cast.
+     */
+    private CNumber tryCast() throws NotEvaluable {
+        final int savedPos = pos;
+        final String savedText = tokText;
+        next();
+        boolean isUnsigned = false;
+        int longs = 0;
+        String base = null;
+        int words = 0;
+        while( IDENT == tokType && typeWords.contains(tokText) ) {
+            final String w = tokText;
+            if( w.equals("unsigned") ) {
+                isUnsigned = true;
+            } else if( w.equals("long") ) {
+                longs++;
+            } else if( !w.equals("signed") ) {
+                if( null != base ) {
+                    throw notEvaluable;
+                }
+                base = w;
+            }
+            words++;
+            next();
+        }
+        if( 0 == words || !isOp(")") ) {
+            pos = savedPos;
+            tokType = OP;
+            tokText = savedText;
+            return null;
+        }
+        next();
+        if( null == base || base.equals("int") ) {
+            if( longs > 0 ) {
+                return new CNumber(true, isUnsigned, 0);
+            }
+            return new CNumber(false, isUnsigned, 0);
+        } else if( base.equals("float") ) {
+            return new CNumber(false, 0.0);
+        } else if( base.equals("double") ) {
+            return new CNumber(true, 0.0);
+        } else if( base.equals("char") ) {
+            return new NarrowType(8, isUnsigned);
+        } else if( base.equals("short") ) {
+            return new NarrowType(16, isUnsigned);
+        } else if( base.startsWith("uint") || base.startsWith("int") ) {
+            final int bits = Integer.parseInt(base.substring(base.startsWith("u") ? 4 : 3, base.length()-2));
+            final boolean u = base.startsWith("u");
+            switch( bits ) {
+                case 8: case 16: return new NarrowType(bits, u);
+                case 32: return new CNumber(false, u, 0);
+                default: return new CNumber(true, u, 0);
+            }
+        }
+        throw notEvaluable;
+    }
+
+    /** Cast target type narrower than {@code int}, the value is promoted to {@code int} after truncation. */
+    private static final class NarrowType extends CNumber {
+        private static final long serialVersionUID = 1L;
+        final int bits;
+        NarrowType(final int bits, final boolean isUnsigned) {
+            super(false, isUnsigned, 0);
+            this.bits = bits;
+        }
+    }
+
+    //
+    // Arithmetic
+    //
+
+    private static boolean isTrue(final CNumber v) {
+        return v.isInteger ? 0 != normalize(v.i, v.isLong, v.isUnsigned) : 0.0 != v.f;
+    }
+
+    private static long normalize(final long v, final boolean isLong, final boolean isUnsigned) {
+        if( isLong ) {
+            return v;
+        }
+        return isUnsigned ? v & ConstantDefinition.UNSIGNED_INT_MAX_VALUE : (long)(int) v;
+    }
+
+    private static CNumber integer(final boolean isLong, final boolean isUnsigned, final long v) {
+        return new CNumber(isLong, isUnsigned, normalize(v, isLong, isUnsigned));
+    }
+
+    private static double toDouble(final CNumber v) {
+        if( !v.isInteger ) {
+            return v.f;
+        }
+        final long i = normalize(v.i, v.isLong, v.isUnsigned);
+        if( v.isLong && v.isUnsigned && i < 0 ) {
+            return (double)(i >>> 1) * 2.0 + ( i & 1 );
+        }
+        return i;
+    }
+
+    /** Returns the type of the usual arithmetic conversions of both operands as a zero value. */
+    private static CNumber commonType(final CNumber a, final CNumber b) {
+        if( !a.isInteger || !b.isInteger ) {
+            final boolean isDouble = ( !a.isInteger && a.isDouble ) || ( !b.isInteger && b.isDouble );
+            return new CNumber(isDouble, 0.0);
+        }
+        final boolean isLong = a.isLong || b.isLong;
+        final boolean isUnsigned;
+        if( a.isLong == b.isLong ) {
+            isUnsigned = a.isUnsigned || b.isUnsigned;
+        } else {
+            isUnsigned = a.isLong ? a.isUnsigned : b.isUnsigned; // long can represent all unsigned int values
+        }
+        return new CNumber(isLong, isUnsigned, 0);
+    }
+
+    /** Converts the given value to the given type. */
+    private static CNumber convert(final CNumber v, final CNumber type) {
+        if( type instanceof NarrowType ) {
+            final NarrowType n = (NarrowType) type;
+            final long i = v.isInteger ? v.i : (long) v.f;
+            final long t;
+            if( 8 == n.bits ) {
+                t = n.isUnsigned ? i & 0xffL : (byte) i;
+            } else {
+                t = n.isUnsigned ? i & 0xffffL : (short) i;
+            }
+            return new CNumber(false, false, t); // promoted to int
+        }
+        if( !type.isInteger ) {
+            final double d = toDouble(v);
+            return new CNumber(type.isDouble, type.isDouble ? d : (float) d);
+        }
+        final long i = v.isInteger ? normalize(v.i, v.isLong, v.isUnsigned) : (long) v.f;
+        if( v.isInteger && v.isLong == type.isLong && v.isUnsigned == type.isUnsigned ) {
+            return v;
+        }
+        return integer(type.isLong, type.isUnsigned, i);
+    }
+
+    private CNumber applyUnary(final String op, final CNumber v) throws NotEvaluable {
+        if( op.equals("!") ) {
+            return isTrue(v) ? INT_ZERO : INT_ONE;
+        } else if( op.equals("+") ) {
+            return v;
+        } else if( !v.isInteger ) {
+            if( op.equals("-") ) {
+                return new CNumber(v.isDouble, -v.f);
+            }
+            throw notEvaluable; // ~ float
+        }
+        final long i = normalize(v.i, v.isLong, v.isUnsigned);
+        return integer(v.isLong, v.isUnsigned, op.equals("-") ? -i : ~i);
+    }
+
+    private CNumber apply(final String op, final CNumber a, final CNumber b) throws NotEvaluable {
+        if( op.equals("<<") || op.equals(">>") ) {
+            if( !a.isInteger || !b.isInteger ) {
+                throw notEvaluable;
+            }
+            final long x = normalize(a.i, a.isLong, a.isUnsigned);
+            final int n = (int) normalize(b.i, b.isLong, b.isUnsigned) & ( a.isLong ? 63 : 31 );
+            final long r;
+            if( op.equals("<<") ) {
+                r = x << n;
+            } else {
+                r = a.isUnsigned ? x >>> n : x >> n; // unsigned int is normalized to a positive long
+            }
+            return integer(a.isLong, a.isUnsigned, r);
+        }
+        final CNumber type = commonType(a, b);
+        if( !type.isInteger ) {
+            final double x = toDouble(a), y = toDouble(b);
+            final double r;
+            switch( op.charAt(0) ) {
+                case '+': r = x + y; break;
+                case '-': r = x - y; break;
+                case '*': r = x * y; break;
+                case '/': r = x / y; break;
+                case '<': return bool( op.length() == 1 ? x < y : x <= y );
+                case '>': return bool( op.length() == 1 ? x > y : x >= y );
+                case '=': return bool( x == y );
+                case '!': return bool( x != y );
+                default: throw notEvaluable; // %, bitwise
+            }
+            return new CNumber(type.isDouble, type.isDouble ? r : (float) r);
+        }
+        final long x = convert(a, type).i;
+        final long y = convert(b, type).i;
+        final boolean ulong = type.isLong && type.isUnsigned;
+        final long r;
+        switch( op.charAt(0) ) {
+            case '+': r = x + y; break;
+            case '-': r = x - y; break;
+            case '*': r = x * y; break;
+            case '/':
+            case '%':
+                if( 0 == y ) {
+                    if( 0 < inactive ) {
+                        return type;
+                    }
+                    throw notEvaluable;
+                }
+                if( ulong && ( x < 0 || y < 0 ) ) {
+                    final BigInteger[] qr = unsigned(x).divideAndRemainder(unsigned(y));
+                    r = ( op.equals("/") ? qr[0] : qr[1] ).longValue();
+                } else {
+                    r = op.equals("/") ? x / y : x % y;
+                }
+                break;
+            case '&': r = x & y; break;
+            case '|': r = x | y; break;
+            case '^': r = x ^ y; break;
+            case '<': return bool( op.length() == 1 ? compare(x, y, ulong) < 0 : compare(x, y, ulong) <= 0 );
+            case '>': return bool( op.length() == 1 ? compare(x, y, ulong) > 0 : compare(x, y, ulong) >= 0 );
+            case '=': return bool( x == y );
+            case '!': return bool( x != y );
+            default: throw notEvaluable;
+        }
+        return integer(type.isLong, type.isUnsigned, r);
+    }
+
+    private static CNumber bool(final boolean v) {
+        return v ? INT_ONE : INT_ZERO;
+    }
+
+    private static int compare(final long x, final long y, final boolean unsigned) {
+        if( unsigned ) {
+            return x + Long.MIN_VALUE < y + Long.MIN_VALUE ? -1 : ( x == y ? 0 : 1 );
+        }
+        return x < y ? -1 : ( x == y ? 0 : 1 );
+    }
+
+    private static BigInteger unsigned(final long v) {
+        final BigInteger b = BigInteger.valueOf(v);
+        return v < 0 ? b.add(BigInteger.ONE.shiftLeft(64)) : b;
+    }
+}
@@ -0,0 +1,426 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.gluegen;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.FilterOutputStream;
+import java.io.FilterWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Timings and counters of a {@link GlueGen} run, see {@link GlueGen#getReport()}.
+ * <p>
+ * Each {@link Phase} records its wall time and CPU time in nanoseconds.
+ * CPU time is the thread CPU time of the thread running the phase,
+ * plus the CPU time of all worker threads working for this report meanwhile, see {@link #beginWorker()}.
+ * Hence it excludes concurrent batch jobs.
+ * The CPU time of {@link Phase#WRITE_FILES} is accumulated per closing thread.
+ * If thread CPU time is not supported, all CPU times are {@code -1}, see {@link #isCpuTimeSupported()}.
+ * </p>
+ * <p>
+ * If {@link #setPeakHeapTracking(boolean) enabled}, each phase also records the peak heap usage while running.
+ * </p>
+ * <p>
+ * The report may be written as a JSON object via {@link #toJSON()},
+ * see {@link GlueGen#setReportFile(File)}.
+ * </p>
+ * <p>
+ * Instances are thread-safe.
+ * </p>
+ */
+public class GenerationReport {
+    /** Phases of a {@link GlueGen} run. */
+    public static enum Phase {
+        /** Reading the configuration files. */
+        READ_CONFIG("readConfig"),
+        /** Preprocessing, lexing and parsing, pipelined, or loading from the {@link ParseCache}. */
+        PARSE("parse"),
+        /** The {@link com.jogamp.gluegen.cgram.HeaderParser} tree walk, producing types and symbols. */
+        HEADER_PARSER("headerParser"),
+        /** {@link GlueEmitter#beginEmission(GlueEmitterControls)} incl. symbol filtering. */
+        SYMBOL_FILTER("symbolFilter"),
+        /** Emission of all constants. */
+        EMIT_DEFINES("emitDefines"),
+        /** Layout of all referenced structs. */
+        STRUCT_LAYOUT("structLayout"),
+        /** Emission of all referenced structs. */
+        EMIT_STRUCTS("emitStructs"),
+        /** Emission of all functions. */
+        EMIT_FUNCTIONS("emitFunctions"),
+        /** {@link GlueEmitter#endEmission()}, completing and closing all remaining files. */
+        END_EMISSION("endEmission"),
+        /**
+         * Flushing and closing output files, accumulated and overlapping the emission phases,
+         * i.e. all writing in {@link GlueGen#incremental() incremental} mode.
+         * Otherwise writes of buffered content before closing are only accounted to the emitting phase.
+         */
+        WRITE_FILES("writeFiles"),
+        /** The whole run. */
+        TOTAL("total");
+
+        /** The JSON name. */
+        public final String name;
+
+        Phase(final String name) { this.name = name; }
+    }
+
+    /** Counters of a {@link GlueGen} run. */
+    public static enum Counter {
+        /** Parsed typedefs. */
+        TYPEDEFS("typedefs"),
+        /** Parsed structs and unions. */
+        STRUCT_TYPES("structTypes"),
+        /** Canonical types. */
+        CANONICAL_TYPES("canonicalTypes"),
+        /** Parsed constants, i.e. enumerates and defines. */
+        PARSED_CONSTANTS("parsedConstants"),
+        /** Parsed functions. */
+        PARSED_FUNCTIONS("parsedFunctions"),
+        /** Constants after symbol filtering. */
+        CONSTANTS("constants"),
+        /** Functions after symbol filtering. */
+        FUNCTIONS("functions"),
+        /** Emitted struct classes. */
+        STRUCTS("structs"),
+        /** Method bindings emitted by the {@link JavaEmitter}, i.e. interface, Java and native methods. */
+        METHOD_BINDINGS("methodBindings"),
+        /** Opened output files. */
+        FILES("files"),
+        /** Output files left unchanged in {@link GlueGen#incremental() incremental} mode. */
+        FILES_UNCHANGED("filesUnchanged"),
+        /**
+         * Bytes written to output files after encoding,
+         * excluding unchanged files left untouched in {@link GlueGen#incremental() incremental} mode.
+         */
+        BYTES_WRITTEN("bytesWritten");
+
+        /** The JSON name. */
+        public final String name;
+
+        Counter(final String name) { this.name = name; }
+    }
+
+    private static final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+    private static final List<MemoryPoolMXBean> heapPools = new ArrayList<MemoryPoolMXBean>();
+    static {
+        for (final MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if( MemoryType.HEAP == pool.getType() ) {
+                heapPools.add(pool);
+            }
+        }
+    }
+    private static volatile boolean peakHeapTracking = false;
+
+    private final String source;
+    private final String emitter;
+    private final List<String> configs;
+    private volatile boolean parseCached = false;
+    private final AtomicLongArray wallTimes = new AtomicLongArray(Phase.values().length);
+    private final AtomicLongArray cpuTimes = new AtomicLongArray(Phase.values().length);
+    private final AtomicLong workerCpuTime = new AtomicLong();
+    private final long[] wallStarts = new long[Phase.values().length];
+    private final long[] cpuStarts = new long[Phase.values().length];
+    private final AtomicLongArray counters = new AtomicLongArray(Counter.values().length);
+    private final boolean trackPeakHeap = peakHeapTracking;
+    private final long[] peakHeaps = new long[Phase.values().length];
+    private final boolean[] running = new boolean[Phase.values().length];
+
+    public GenerationReport(final String source, final String emitter, final List<String> configs) {
+        this.source = source;
+        this.emitter = emitter;
+        this.configs = configs;
+    }
+
+    /**
+     * Enables tracking the peak heap usage of each phase for all subsequently created reports, default is disabled.
+     * <p>
+     * The peak usage of the JVM's heap memory pools is reset whenever a phase begins,
+     * hence only one {@link GlueGen} run at a time shall be tracked, e.g. not in batch mode.
+     * </p>
+     */
+    public static void setPeakHeapTracking(final boolean v) { peakHeapTracking = v; }
+
+    /** Returns {@code true} if peak heap usage is tracked, see {@link #setPeakHeapTracking(boolean)}. */
+    public static boolean isPeakHeapTracking() { return peakHeapTracking; }
+
+    /** Returns {@code true} if the thread CPU time is supported and enabled, otherwise all CPU times are {@code -1}. */
+    public static boolean isCpuTimeSupported() {
+        return threadMXBean.isCurrentThreadCpuTimeSupported() && threadMXBean.isThreadCpuTimeEnabled();
+    }
+
+    /** Returns the current thread's CPU time plus the CPU time of all workers of this report in nanoseconds. */
+    private long getCpuTime() {
+        return getThreadCpuTime() + workerCpuTime.get();
+    }
+
+    /**
+     * Starts accounting the current thread's CPU time to this report, see {@link #endWorker(long)}.
+     * <p>
+     * Shall be used by threads working for this report other than the one running its phases,
+     * e.g. the preprocessor thread or a worker of parallel emission.
+     * Their CPU time is added to all phases running on the job's thread meanwhile.
+     * </p>
+     * @return the current thread's CPU time, to be passed to {@link #endWorker(long)}
+     */
+    public long beginWorker() {
+        return getThreadCpuTime();
+    }
+
+    /** Ends accounting the current thread's CPU time to this report, see {@link #beginWorker()}. */
+    public void endWorker(final long cpuStart) {
+        workerCpuTime.addAndGet(getThreadCpuTime() - cpuStart);
+    }
+
+    /** Starts timing the given phase on the current thread, see {@link #end(Phase)}. */
+    public void begin(final Phase phase) {
+        synchronized( wallStarts ) {
+            if( trackPeakHeap ) {
+                samplePeakHeap();
+                for (final MemoryPoolMXBean pool : heapPools) {
+                    pool.resetPeakUsage();
+                }
+                running[phase.ordinal()] = true;
+            }
+            wallStarts[phase.ordinal()] = System.nanoTime();
+            cpuStarts[phase.ordinal()] = getCpuTime();
+        }
+    }
+
+    /** Ends timing the given phase on the current thread, adding its duration, see {@link #begin(Phase)}. */
+    public void end(final Phase phase) {
+        final long wall, cpu;
+        synchronized( wallStarts ) {
+            wall = System.nanoTime() - wallStarts[phase.ordinal()];
+            cpu = getCpuTime() - cpuStarts[phase.ordinal()];
+            if( trackPeakHeap ) {
+                samplePeakHeap();
+                running[phase.ordinal()] = false;
+            }
+        }
+        addTime(phase, wall, cpu);
+    }
+
+    /** Adds the given wall and CPU time in nanoseconds to the given phase. */
+    public void addTime(final Phase phase, final long wallTime, final long cpuTime) {
+        wallTimes.addAndGet(phase.ordinal(), wallTime);
+        cpuTimes.addAndGet(phase.ordinal(), cpuTime);
+    }
+
+    /** Returns the wall time of the given phase in nanoseconds. */
+    public long getWallTime(final Phase phase) { return wallTimes.get(phase.ordinal()); }
+
+    /** Returns the CPU time of the given phase in nanoseconds, or {@code -1} if not {@link #isCpuTimeSupported() supported}. */
+    public long getCpuTime(final Phase phase) { return isCpuTimeSupported() ? cpuTimes.get(phase.ordinal()) : -1; }
+
+    /** Accounts the heap pools' peak usage since the last reset to all running phases. */
+    private void samplePeakHeap() {
+        long peak = 0;
+        for (final MemoryPoolMXBean pool : heapPools) {
+            peak += pool.getPeakUsage().getUsed();
+        }
+        for(int i=0; i<running.length; i++) {
+            if( running[i] ) {
+                peakHeaps[i] = Math.max(peakHeaps[i], peak);
+            }
+        }
+    }
+
+    /**
+     * Returns the peak heap usage of the given phase in bytes, i.e. the sum of the heap memory pools' peak usage,
+     * or {@code -1} if not {@link #setPeakHeapTracking(boolean) tracked}.
+     */
+    public long getPeakHeap(final Phase phase) {
+        if( !trackPeakHeap ) {
+            return -1;
+        }
+        synchronized( wallStarts ) {
+            return peakHeaps[phase.ordinal()];
+        }
+    }
+
+    /** Adds the given value to the given counter. */
+    public void add(final Counter counter, final long value) {
+        counters.addAndGet(counter.ordinal(), value);
+    }
+
+    /** Returns the value of the given counter. */
+    public long getCount(final Counter counter) { return counters.get(counter.ordinal()); }
+
+    /** Marks the parse result as loaded from the {@link ParseCache}. */
+    public void setParseCached(final boolean v) { parseCached = v; }
+
+    /** Returns {@code true} if the parse result has been loaded from the {@link ParseCache}. */
+    public boolean isParseCached() { return parseCached; }
+
+    /**
+     * Returns the given output {@link Writer} wrapped, counting the {@link Counter#FILES file}
+     * and accumulating the time spent flushing and closing it as {@link Phase#WRITE_FILES}.
+     * <p>
+     * The written bytes of a {@link ChangedFileWriter} are counted on closing,
+     * otherwise the underlying stream shall be {@link #wrap(OutputStream) wrapped}.
+     * </p>
+     */
+    public Writer wrap(final Writer out) {
+        add(Counter.FILES, 1);
+        return new FilterWriter(out) {
+            @Override
+            public void close() throws IOException {
+                final long t0 = System.nanoTime(), c0 = getThreadCpuTime();
+                super.close();
+                addTime(Phase.WRITE_FILES, System.nanoTime() - t0, getThreadCpuTime() - c0);
+                if( out instanceof ChangedFileWriter ) {
+                    final ChangedFileWriter cfw = (ChangedFileWriter)out;
+                    if( cfw.wasWritten() ) {
+                        add(Counter.BYTES_WRITTEN, cfw.getWrittenBytes());
+                    } else {
+                        add(Counter.FILES_UNCHANGED, 1);
+                    }
+                }
+            }
+        };
+    }
+
+    /** Returns the given output file stream wrapped, counting all {@link Counter#BYTES_WRITTEN written bytes}. */
+    public OutputStream wrap(final OutputStream out) {
+        return new FilterOutputStream(out) {
+            @Override
+            public void write(final int b) throws IOException {
+                out.write(b);
+                add(Counter.BYTES_WRITTEN, 1);
+            }
+            @Override
+            public void write(final byte[] b, final int off, final int len) throws IOException {
+                out.write(b, off, len);
+                add(Counter.BYTES_WRITTEN, len);
+            }
+        };
+    }
+
+    private static long getThreadCpuTime() {
+        return isCpuTimeSupported() ? Math.max(0, threadMXBean.getCurrentThreadCpuTime()) : 0;
+    }
+
+    /** Returns this report as a JSON object. */
+    public String toJSON() {
+        final StringBuilder sb = new StringBuilder();
+        sb.append("{\n");
+        sb.append("  \"source\": ").append(quote(source)).append(",\n");
+        sb.append("  \"emitter\": ").append(quote(emitter)).append(",\n");
+        sb.append("  \"configs\": [");
+        for(int i=0; i<configs.size(); i++) {
+            sb.append(0 < i ? ", " : "").append(quote(configs.get(i)));
+        }
+        sb.append("],\n");
+        sb.append("  \"parseCached\": ").append(parseCached).append(",\n");
+        sb.append("  \"cpuTimeSupported\": ").append(isCpuTimeSupported()).append(",\n");
+        sb.append("  \"phases\": {\n");
+        final Phase[] phases = Phase.values();
+        for(int i=0; i<phases.length; i++) {
+            sb.append("    ").append(quote(phases[i].name)).append(": { \"wallNanos\": ").append(getWallTime(phases[i]))
+              .append(", \"cpuNanos\": ").append(getCpuTime(phases[i]));
+            if( trackPeakHeap ) {
+                sb.append(", \"peakHeapBytes\": ").append(getPeakHeap(phases[i]));
+            }
+            sb.append(" }").append(i < phases.length-1 ? ",\n" : "\n");
+        }
+        sb.append("  },\n");
+        sb.append("  \"counters\": {\n");
+        final Counter[] cs = Counter.values();
+        for(int i=0; i<cs.length; i++) {
+            sb.append("    ").append(quote(cs[i].name)).append(": ").append(getCount(cs[i])).append(i < cs.length-1 ? ",\n" : "\n");
+        }
+        sb.append("  }\n");
+        sb.append("}");
+        return sb.toString();
+    }
+
+    @Override
+    public String toString() { return toJSON(); }
+
+    /** Writes the given reports to the given file, a single report as a JSON object, otherwise as a JSON array. */
+    public static void write(final File file, final List<GenerationReport> reports) throws IOException {
+        final File parent = file.getAbsoluteFile().getParentFile();
+        if( null != parent ) {
+            parent.mkdirs();
+        }
+        final PrintWriter w = new PrintWriter(new OutputStreamWriter(new FileOutputStream(file), "UTF-8"));
+        try {
+            if( 1 == reports.size() ) {
+                w.println(reports.get(0).toJSON());
+            } else {
+                w.println("[");
+                for(int i=0; i<reports.size(); i++) {
+                    w.print(reports.get(i).toJSON());
+                    w.println(i < reports.size()-1 ? "," : "");
+                }
+                w.println("]");
+            }
+        } finally {
+            w.close();
+        }
+    }
+
+    private static String quote(final String s) {
+        if( null == s ) {
+            return "null";
+        }
+        final StringBuilder sb = new StringBuilder(s.length()+2);
+        sb.append('"');
+        for(int i=0; i<s.length(); i++) {
+            final char c = s.charAt(i);
+            switch(c) {
+                case '"':  sb.append("\\\""); break;
+                case '\\': sb.append("\\\\"); break;
+                case '\n': sb.append("\\n"); break;
+                case '\r': sb.append("\\r"); break;
+                case '\t': sb.append("\\t"); break;
+                default:
+                    if( c < 0x20 ) {
+                        sb.append(String.format("\\u%04x", (int)c));
+                    } else {
+                        sb.append(c);
+                    }
+            }
+        }
+        sb.append('"');
+        return sb.toString();
+    }
+}
@@ -58,4 +58,8 @@ public interface GlueEmitterControls {
       call it from that method call. Calling it during glue code
       emission may cause problems. */
   public void runSymbolFilter(SymbolFilter filter);
+
+  /** Returns the {@link GenerationReport} of the current run, collecting
+      the timing of its phases and its counters, or null if none. */
+  public GenerationReport getReport();
 }
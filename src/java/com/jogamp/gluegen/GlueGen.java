@@ -40,9 +40,18 @@
 package com.jogamp.gluegen;
 
 import com.jogamp.common.GlueGenVersion;
+import com.jogamp.common.util.InterruptSource;
+import com.jogamp.common.util.InterruptedRuntimeException;
 
 import java.io.*;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 
 import antlr.*;
@@ -69,14 +78,77 @@ public class GlueGen implements GlueEmitterControls {
     private List<ConstantDefinition> allConstants;
     private List<FunctionSymbol> allFunctions;
 
+    private GenerationReport report;
+
     private static boolean debug = false;
 
+    private static boolean incremental = false;
+
+    private static boolean parallel = false;
+
+    private static ForkJoinPool workerPool = null;
+
+    private static File parseCacheDir = null;
+
+    private static File reportFile = null;
+
     private static Level logLevel = null;
 
     public static void setDebug(final boolean v) { debug=v; }
     public static void setLogLevel(final Level l) { logLevel=l; }
     public static boolean debug() { return debug; }
 
+    /**
+     * Enables incremental generation.
+     * <p>
+     * A run is skipped if its inputs are unchanged since the last run, see {@link BuildStamp},
+     * otherwise only those output files are replaced whose content has changed, see {@link ChangedFileWriter}.
+     * </p>
+     */
+    public static void setIncremental(final boolean v) { incremental=v; }
+    /** Returns {@code true} if incremental generation is enabled, see {@link #setIncremental(boolean)}. */
+    public static boolean incremental() { return incremental; }
+
+    /**
+     * Enables parallel code emission on the {@link #getWorkerPool() worker pool}, default is {@code false}.
+     * <p>
+     * The generated code is identical to the default sequential mode.
+     * </p>
+     */
+    public static void setParallel(final boolean v) { parallel=v; }
+    /** Returns {@code true} if parallel code emission is enabled, see {@link #setParallel(boolean)}. */
+    public static boolean parallel() { return parallel; }
+
+    /**
+     * Sets the directory of the persistent {@link ParseCache}, default is {@code null} for no caching.
+     * <p>
+     * Runs on unchanged headers load the parse result from the cache,
+     * skipping preprocessing and parsing.
+     * </p>
+     */
+    public static void setParseCacheDir(final File dir) { parseCacheDir=dir; }
+    /** Returns the directory of the persistent {@link ParseCache} or {@code null}, see {@link #setParseCacheDir(File)}. */
+    public static File getParseCacheDir() { return parseCacheDir; }
+
+    /**
+     * Sets the file to write the {@link GenerationReport} of the run to by {@link #main(String...)},
+     * default is {@code null} for none.
+     * <p>
+     * The file contains one JSON object, or a JSON array of all jobs in batch mode.
+     * </p>
+     */
+    public static void setReportFile(final File file) { reportFile=file; }
+    /** Returns the {@link GenerationReport} file or {@code null}, see {@link #setReportFile(File)}. */
+    public static File getReportFile() { return reportFile; }
+
+    /** Returns the lazily created {@link ForkJoinPool} shared by all parallel emission tasks. */
+    public static synchronized ForkJoinPool getWorkerPool() {
+        if( null == workerPool ) {
+            workerPool = new ForkJoinPool();
+        }
+        return workerPool;
+    }
+
     @Override
     public void forceStructEmission(final String typedefName) {
         forcedStructNames.add(typedefName);
@@ -87,6 +159,12 @@ public class GlueGen implements GlueEmitterControls {
         return preprocessor.findFile(headerFileName);
     }
 
+    /** Returns the {@link GenerationReport} of the current or last run, or {@code null} if not yet run. */
+    @Override
+    public GenerationReport getReport() {
+        return report;
+    }
+
     @Override
     public void runSymbolFilter(final SymbolFilter filter) {
         filter.filterSymbols(allConstants, allFunctions);
@@ -100,11 +178,123 @@ public class GlueGen implements GlueEmitterControls {
         }
     }
 
+    /** Size of the bounded pipe between the preprocessor and the {@link GnuCLexer}, {@value} bytes. */
+    private static final int CPP_PIPE_SIZE = 64 * 1024;
+
+    /**
+     * Runs the {@link GenericCPP} on its own thread, feeding its output
+     * through a bounded pipe to the concurrently running {@link GnuCLexer}.
+     * <p>
+     * Lexing commences while preprocessing, w/o an intermediate file.
+     * The temporary <i>CPPTemp</i> file is only used in {@link #debug()} mode,
+     * where the CPP output shall persist.
+     * </p>
+     */
+    private static class CPPPipe implements Runnable {
+        private final GenericCPP cpp;
+        private final Reader reader;
+        private final String filename;
+        private final PipedInputStream sink;
+        private final OutputStream source;
+        private final GenerationReport report;
+        private final Thread thread;
+        private volatile boolean aborted = false;
+        private volatile Throwable error = null;
+        private volatile boolean errorByAbort = false;
+
+        CPPPipe(final GenericCPP cpp, final Reader reader, final String filename, final GenerationReport report) throws IOException {
+            this.cpp = cpp;
+            this.reader = reader;
+            this.filename = filename;
+            this.sink = new PipedInputStream(CPP_PIPE_SIZE);
+            this.source = new BufferedOutputStream(new PipedOutputStream(sink), CPP_PIPE_SIZE/4);
+            this.report = report;
+            this.thread = new InterruptSource.Thread(null, this, "GlueGen-CPP-"+Thread.currentThread().getName());
+            this.thread.setDaemon(true);
+            cpp.setOut(source);
+        }
+
+        /** Starts the preprocessor thread and returns the lexer's end of the pipe. */
+        InputStream start() {
+            thread.start();
+            return sink;
+        }
+
+        @Override
+        public void run() {
+            final long cpuStart = report.beginWorker();
+            try {
+                cpp.run(reader, filename);
+                source.flush();
+            } catch (final Throwable t) {
+                errorByAbort = aborted;
+                error = t;
+            } finally {
+                try {
+                    source.close(); // EOF for the lexer
+                } catch (final IOException e) { }
+                report.endWorker(cpuStart); // before finish() joins this thread
+            }
+        }
+
+        /**
+         * Waits for the preprocessor thread and rethrows its failure, if any.
+         * <p>
+         * If the lexer has failed, its end of the pipe is closed first to unblock a still writing preprocessor.
+         * In that case, a preprocessor failure is only rethrown if it occurred before, i.e. is not caused by the closed pipe.
+         * </p>
+         */
+        void finish(final boolean lexerFailed) throws IOException, InterruptedException {
+            if( lexerFailed ) {
+                aborted = true;
+                sink.close();
+            }
+            thread.join();
+            sink.close();
+            final Throwable t = error;
+            if( null != t && !errorByAbort ) {
+                if( t instanceof RuntimeException ) {
+                    throw (RuntimeException)t;
+                } else if( t instanceof Error ) {
+                    throw (Error)t;
+                }
+                throw new GlueGenException("CPP failed on "+filename, t);
+            }
+        }
+    }
+
+    private static void finishCPP(final CPPPipe cppPipe, final boolean lexerFailed) throws IOException, InterruptedException {
+        if( null != cppPipe ) {
+            cppPipe.finish(lexerFailed);
+        }
+    }
+
     /** GlueGen's build in macro name {@value}, when compiling w/ GlueGen. */
     public static final String __GLUEGEN__ = "__GLUEGEN__";
 
     public void run(final Reader reader, final String filename, final GlueEmitter emit, final List<String> includePaths, final List<String> cfgFiles, final String outputRootDir, final boolean copyCPPOutput2Stderr) {
+        run(reader, filename, emit, includePaths, cfgFiles, null, outputRootDir, copyCPPOutput2Stderr);
+    }
+
+    private void newReport(final String filename, final GlueEmitter emit, final List<String> cfgFiles) {
+        report = new GenerationReport(filename, emit.getClass().getName(), cfgFiles);
+    }
+
+    /**
+     * @param cfgInputFiles if not {@code null}, the given {@link GlueEmitter} has already read the configuration files
+     *                      and {@code cfgInputFiles} lists all files read, see {@link JavaConfiguration#getInputFiles()}.
+     *                      In this case, the {@link #getReport() report} has already been created
+     *                      and holds the {@link GenerationReport.Phase#READ_CONFIG} time, see {@link #newReport(String, GlueEmitter, List)}.
+     */
+    private void run(final Reader reader, final String filename, final GlueEmitter emit, final List<String> includePaths,
+                     final List<String> cfgFiles, List<String> cfgInputFiles,
+                     final String outputRootDir, final boolean copyCPPOutput2Stderr) {
 
+        final boolean cfgRead = null != cfgInputFiles;
+        if( !cfgRead ) {
+            newReport(filename, emit, cfgFiles);
+        }
+        report.begin(GenerationReport.Phase.TOTAL);
         try {
             if(debug) {
                 Logging.getLogger().setLevel(Level.ALL);
@@ -112,68 +302,43 @@ public class GlueGen implements GlueEmitterControls {
                 Logging.getLogger().setLevel(logLevel);
             }
 
-            for (final String config : cfgFiles) {
-                emit.readConfigurationFile(config);
+            final BuildStamp stamp = incremental ? createBuildStamp(null, filename, emit.getClass().getName(), includePaths, cfgFiles,
+                                                                    outputRootDir, emit.getClass().getClassLoader()) : null;
+            if( null != stamp ) {
+                if( stamp.isUpToDate() ) {
+                    Logging.getLogger().info("Up-to-date, skipping generation of "+filename+" w/ "+cfgFiles);
+                    return;
+                }
+                stamp.delete(); // invalid until successfully completed
             }
-            final JavaConfiguration cfg = emit.getConfiguration();
 
-            final File out = File.createTempFile("CPPTemp", ".cpp");
-            final FileOutputStream outStream = new FileOutputStream(out);
+            if( null == cfgInputFiles ) {
+                report.begin(GenerationReport.Phase.READ_CONFIG);
+                cfgInputFiles = readConfigurationFiles(emit, cfgFiles);
+                report.end(GenerationReport.Phase.READ_CONFIG);
+            }
+            final JavaConfiguration cfg = emit.getConfiguration();
 
             // preprocessor = new PCPP(includePaths, debug, copyCPPOutput2Stderr);
             preprocessor = new JCPP(includePaths, debug, copyCPPOutput2Stderr);
-            final String cppName = preprocessor.getClass().getSimpleName();
-            if(debug) {
-                System.err.println("CPP <"+cppName+"> output at (persistent): " + out.getAbsolutePath());
-            } else {
-                out.deleteOnExit();
-            }
-
             preprocessor.addDefine(__GLUEGEN__, "2");
-            preprocessor.setOut(outStream);
 
-            preprocessor.run(reader, filename);
-            outStream.flush();
-            outStream.close();
-            if(debug) {
-                System.err.println("CPP <"+cppName+"> done");
+            final ParseCache parseCache = null != parseCacheDir || ParseCache.isShared() ? createParseCache(filename, includePaths, preprocessor) : null;
+            final ParseCache.Content parsed;
+            if( null != parseCache ) {
+                // concurrent jobs on the same header parse it only once
+                synchronized( parseCache.getLock() ) {
+                    parsed = parseCached(parseCache, reader, filename, cfg);
+                }
+            } else {
+                parsed = parse(reader, filename, cfg, null != stamp);
             }
-
-            final FileInputStream inStream = new FileInputStream(out);
-            final DataInputStream dis = new DataInputStream(inStream);
-
-            final GnuCLexer lexer = new GnuCLexer(dis);
-            lexer.setTokenObjectClass(CToken.class.getName());
-            lexer.initialize();
-            // Parse the input expression.
-            final GnuCParser parser = new GnuCParser(lexer);
-
-            // set AST node type to TNode or get nasty cast class errors
-            parser.setASTNodeClass(TNode.class.getName());
-            TNode.setTokenVocabulary(GNUCTokenTypes.class.getName());
-
-            // invoke parser
-            try {
-                parser.translationUnit();
-            } catch (final RecognitionException e) {
-                throw new RuntimeException("Fatal IO error", e);
-            } catch (final TokenStreamException e) {
-                throw new RuntimeException("Fatal IO error", e);
-            }
-
-            final HeaderParser headerParser = new HeaderParser();
-            headerParser.setDebug(debug);
-            headerParser.setJavaConfiguration(cfg);
-            final TypeDictionary td = new TypeDictionary();
-            headerParser.setTypedefDictionary(td);
-            final TypeDictionary sd = new TypeDictionary();
-            headerParser.setStructDictionary(sd);
-            // set AST node type to TNode or get nasty cast class errors
-            headerParser.setASTNodeClass(TNode.class.getName());
-            // walk that tree
-            headerParser.translationUnit(parser.getAST());
-            dis.close();
-            inStream.close();
+            final TypeDictionary td = parsed.typedefDictionary;
+            final TypeDictionary sd = parsed.structDictionary;
+            final Set<String> headerFiles = parsed.sources;
+            report.add(GenerationReport.Counter.TYPEDEFS, td.keySet().size());
+            report.add(GenerationReport.Counter.STRUCT_TYPES, sd.keySet().size());
+            report.add(GenerationReport.Counter.CANONICAL_TYPES, parsed.canonMap.size());
 
             /**
              // For debugging: Dump type dictionary and struct dictionary to System.err
@@ -199,7 +364,7 @@ public class GlueGen implements GlueEmitterControls {
             // Repackage the enum and #define statements from the parser into a common format
             // so that SymbolFilters can operate upon both identically
             allConstants = new ArrayList<ConstantDefinition>();
-            for (final EnumType enumeration : headerParser.getEnums()) {
+            for (final EnumType enumeration : parsed.enums) {
                 String enumName = enumeration.getName();
                 if (enumName.equals("<anonymous>")) {
                     enumName = null;
@@ -214,19 +379,24 @@ public class GlueGen implements GlueEmitterControls {
                     allConstants.add(def);
                 }
             }
-            for (final Object elem : lexer.getDefines()) {
-                final Define def = (Define) elem;
+            for (final Define def : parsed.defines) {
                 allConstants.add(new ConstantDefinition(def.getName(), def.getValue(), null, def.getASTLocusTag()));
             }
-            allConstants.addAll(preprocessor.getConstantDefinitions());
+            allConstants.addAll(parsed.constants);
 
-            allFunctions = headerParser.getParsedFunctions();
+            allFunctions = parsed.functions;
+            report.add(GenerationReport.Counter.PARSED_CONSTANTS, allConstants.size());
+            report.add(GenerationReport.Counter.PARSED_FUNCTIONS, allFunctions.size());
 
             // begin emission of glue code,
             // incl. firing up 'runSymbolFilter(SymbolFilter)' calls, which:
             //    - filters all ConstantDefinition
             //    - filters all FunctionSymbol
+            report.begin(GenerationReport.Phase.SYMBOL_FILTER);
             emit.beginEmission(this);
+            report.end(GenerationReport.Phase.SYMBOL_FILTER);
+            report.add(GenerationReport.Counter.CONSTANTS, allConstants.size());
+            report.add(GenerationReport.Counter.FUNCTIONS, allFunctions.size());
 
             if( debug() ) {
                 int i=0;
@@ -246,6 +416,7 @@ public class GlueGen implements GlueEmitterControls {
             }
 
             if ( !cfg.structsOnly() ) {
+                report.begin(GenerationReport.Phase.EMIT_DEFINES);
                 emit.beginDefines();
                 final Set<String> emittedDefines = new HashSet<String>(100);
                 // emit java equivalent of enum { ... } statements
@@ -284,6 +455,7 @@ public class GlueGen implements GlueEmitterControls {
                     }
                 }
                 emit.endDefines();
+                report.end(GenerationReport.Phase.EMIT_DEFINES);
             }
 
             // Iterate through the functions finding structs that are referenced in
@@ -311,6 +483,7 @@ public class GlueGen implements GlueEmitterControls {
             }
 
             // Lay out structs
+            report.begin(GenerationReport.Phase.STRUCT_LAYOUT);
             emit.beginStructLayout();
             for (final Iterator<CompoundType> iter = referencedStructs.layouts(); iter.hasNext();) {
                 final CompoundType c = iter.next();
@@ -319,36 +492,249 @@ public class GlueGen implements GlueEmitterControls {
                 }
             }
             emit.endStructLayout();
+            report.end(GenerationReport.Phase.STRUCT_LAYOUT);
 
             // Emit structs
-            emit.beginStructs(td, sd, headerParser.getCanonMap());
+            report.begin(GenerationReport.Phase.EMIT_STRUCTS);
+            emit.beginStructs(td, sd, parsed.canonMap);
             for (final Iterator<Type> iter = referencedStructs.results(); iter.hasNext();) {
                 final Type t = iter.next();
                 if (t.isCompound()) {
                     assert t.isTypedef() && t.getName() == null : "ReferencedStructs incorrectly recorded compound type " + t;
                     emit.emitStruct(t.asCompound(), null);
+                    report.add(GenerationReport.Counter.STRUCTS, 1);
                 } else if (t.isPointer()) {
                     final PointerType p = t.asPointer();
                     final CompoundType c = p.getTargetType().asCompound();
                     assert p.isTypedef() && c.getName() == null : "ReferencedStructs incorrectly recorded pointer type " + p;
                     emit.emitStruct(c, p);
+                    report.add(GenerationReport.Counter.STRUCTS, 1);
                 }
             }
             emit.endStructs();
+            report.end(GenerationReport.Phase.EMIT_STRUCTS);
 
             if ( !cfg.structsOnly() ) {
                 // emit java and C code to interface with the native functions
-                emit.beginFunctions(td, sd, headerParser.getCanonMap());
+                report.begin(GenerationReport.Phase.EMIT_FUNCTIONS);
+                emit.beginFunctions(td, sd, parsed.canonMap);
                 emit.emitFunctions(allFunctions);
                 emit.endFunctions();
+                report.end(GenerationReport.Phase.EMIT_FUNCTIONS);
             }
 
             // end emission of glue code
+            report.begin(GenerationReport.Phase.END_EMISSION);
             emit.endEmission();
+            report.end(GenerationReport.Phase.END_EMISSION);
+
+            if( null != stamp ) {
+                stamp.addInput(new File(filename));
+                for (final String header : headerFiles) {
+                    stamp.addInput(new File(header));
+                }
+                for (final String cfgInput : cfgInputFiles) {
+                    stamp.addInput(new File(cfgInput));
+                }
+                stamp.addInputCodeSource(emit.getClass());
+                if (emit instanceof JavaEmitter) {
+                    for (final File output : ((JavaEmitter) emit).getOutputFiles()) {
+                        stamp.addOutput(output);
+                    }
+                }
+                stamp.write();
+            }
 
         } catch (final Exception e) {
             throw new RuntimeException("Exception occurred while generating glue code.", e);
+        } finally {
+            report.end(GenerationReport.Phase.TOTAL);
+            if( cfgRead ) {
+                report.addTime(GenerationReport.Phase.TOTAL, report.getWallTime(GenerationReport.Phase.READ_CONFIG),
+                               report.getCpuTime(GenerationReport.Phase.READ_CONFIG));
+            }
+        }
+    }
+
+    /** Reads the given configuration files and returns all files read, see {@link JavaConfiguration#getInputFiles()}. */
+    private static List<String> readConfigurationFiles(final GlueEmitter emit, final List<String> cfgFiles) throws Exception {
+        final List<String> cfgInputFiles = new ArrayList<String>();
+        for (final String config : cfgFiles) {
+            emit.readConfigurationFile(config);
+            cfgInputFiles.addAll(emit.getConfiguration().getInputFiles());
         }
+        return cfgInputFiles;
+    }
+
+    /** Loads the parse result from the given {@link ParseCache}, or parses the given source and stores the result. */
+    private ParseCache.Content parseCached(final ParseCache parseCache, final Reader reader, final String filename, final JavaConfiguration cfg)
+            throws IOException, InterruptedException, RecognitionException
+    {
+        report.begin(GenerationReport.Phase.PARSE);
+        ParseCache.Content parsed = parseCache.load();
+        report.end(GenerationReport.Phase.PARSE);
+        if( null != parsed ) {
+            report.setParseCached(true);
+            Logging.getLogger().info("Using cached parse result of "+filename);
+            // Replay the typeInfo aliases added while parsing
+            for (final Map.Entry<String, Type> alias : parsed.typeInfoAliases) {
+                cfg.addTypeInfo(alias.getKey(), alias.getValue());
+            }
+        } else {
+            parsed = parse(reader, filename, cfg, true);
+            // store before emission modifies the types
+            parseCache.store(parsed);
+        }
+        return parsed;
+    }
+
+    /**
+     * Preprocesses, lexes and parses the given source.
+     * @param needSources if {@code true}, {@link ParseCache.Content#sources} is set, otherwise {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    private ParseCache.Content parse(final Reader reader, final String filename, final JavaConfiguration cfg, final boolean needSources)
+            throws IOException, InterruptedException, RecognitionException
+    {
+        report.begin(GenerationReport.Phase.PARSE);
+        final String cppName = preprocessor.getClass().getSimpleName();
+
+        final InputStream cppOutput;
+        final CPPPipe cppPipe;
+        if(debug) {
+            // Keep the CPP output around for inspection
+            final File out = File.createTempFile("CPPTemp", ".cpp");
+            final FileOutputStream outStream = new FileOutputStream(out);
+            System.err.println("CPP <"+cppName+"> output at (persistent): " + out.getAbsolutePath());
+
+            preprocessor.setOut(outStream);
+            preprocessor.run(reader, filename);
+            outStream.flush();
+            outStream.close();
+            System.err.println("CPP <"+cppName+"> done");
+
+            cppOutput = new FileInputStream(out);
+            cppPipe = null;
+        } else {
+            // Lex the CPP output while it is being produced
+            cppPipe = new CPPPipe(preprocessor, reader, filename, report);
+            cppOutput = cppPipe.start();
+        }
+
+        final InputStream lexerInput = new BufferedInputStream(cppOutput, CPP_PIPE_SIZE);
+        final GnuCLexer lexer = new GnuCLexer(lexerInput);
+        lexer.setTokenObjectClass(CToken.class.getName());
+        lexer.initialize();
+        // Parse the input expression.
+        final GnuCParser parser = new GnuCParser(lexer);
+
+        // set AST node type to TNode or get nasty cast class errors
+        parser.setASTNodeClass(TNode.class.getName());
+        TNode.setTokenVocabulary(GNUCTokenTypes.class.getName());
+
+        // invoke parser
+        boolean parsed = false;
+        try {
+            parser.translationUnit();
+            parsed = true;
+        } catch (final RecognitionException e) {
+            throw new RuntimeException("Fatal IO error", e);
+        } catch (final TokenStreamException e) {
+            throw new RuntimeException("Fatal IO error", e);
+        } finally {
+            // Always unblock and join the CPP thread, a CPP failure is the root cause of a failed parse, if any
+            finishCPP(cppPipe, !parsed);
+        }
+        report.end(GenerationReport.Phase.PARSE);
+
+        report.begin(GenerationReport.Phase.HEADER_PARSER);
+        final HeaderParser headerParser = new HeaderParser();
+        headerParser.setDebug(debug);
+        headerParser.setJavaConfiguration(cfg);
+        final TypeDictionary td = new TypeDictionary();
+        headerParser.setTypedefDictionary(td);
+        final TypeDictionary sd = new TypeDictionary();
+        headerParser.setStructDictionary(sd);
+        // set AST node type to TNode or get nasty cast class errors
+        headerParser.setASTNodeClass(TNode.class.getName());
+        // walk that tree
+        headerParser.translationUnit(parser.getAST());
+        lexerInput.close();
+        report.end(GenerationReport.Phase.HEADER_PARSER);
+
+        final List<Define> defines = new ArrayList<Define>();
+        for (final Object elem : lexer.getDefines()) {
+            defines.add((Define) elem);
+        }
+        return new ParseCache.Content(td, sd, headerParser.getCanonMap(),
+                                      headerParser.getEnums(), headerParser.getParsedFunctions(),
+                                      defines, preprocessor.getConstantDefinitions(),
+                                      headerParser.getTypeInfoAliases(),
+                                      needSources ? lexer.getPreprocessorInfoChannel().getSources() : null);
+    }
+
+    /**
+     * Returns the {@link BuildStamp} for the given job,
+     * or {@code null} if the source is not a file, e.g. standard input.
+     * <p>
+     * Allows checking whether a job is {@link BuildStamp#isUpToDate() up-to-date} w/o running it,
+     * e.g. by GlueGenTask.
+     * </p>
+     * @param baseDir the directory to resolve relative paths against, {@code null} for the current working directory
+     * @param classLoader the {@link ClassLoader} of the emitter class
+     */
+    public static BuildStamp createBuildStamp(final File baseDir, final String filename, final String emitterFQN,
+                                              final List<String> includePaths, final List<String> cfgFiles,
+                                              final String outputRootDir, final ClassLoader classLoader) throws IOException {
+        final File source = null != filename ? resolveFile(baseDir, filename) : null;
+        if( null == source || !source.isFile() ) {
+            return null;
+        }
+        final List<String> params = new ArrayList<String>();
+        params.add("emitter "+emitterFQN);
+        params.add("source "+source.getCanonicalPath());
+        for (final String config : cfgFiles) {
+            params.add("config "+resolveFile(baseDir, config).getCanonicalPath());
+        }
+        for (final String includePath : includePaths) {
+            params.add("include "+resolveFile(baseDir, includePath).getCanonicalPath());
+        }
+        final File outputDir = null != outputRootDir ? resolveFile(baseDir, outputRootDir) : baseDir;
+        params.add("output "+( null != outputRootDir ? outputDir.getCanonicalPath() : "" ));
+        return new BuildStamp(null != outputDir ? outputDir.getPath() : null, params, classLoader);
+    }
+
+    private static File resolveFile(final File baseDir, final String path) {
+        final File file = new File(path);
+        return null == baseDir || file.isAbsolute() ? file : new File(baseDir, path);
+    }
+
+    /**
+     * Returns the {@link ParseCache} for the given source,
+     * or {@code null} if the source is not a file, e.g. standard input.
+     */
+    private static ParseCache createParseCache(final String filename, final List<String> includePaths,
+                                               final GenericCPP cpp) throws IOException {
+        final File source = null != filename ? new File(filename) : null;
+        if( null == source || !source.isFile() ) {
+            return null;
+        }
+        final List<String> params = new ArrayList<String>();
+        params.add("source "+source.getCanonicalPath()+" "+BuildStamp.hashOf(new FileInputStream(source)));
+        for (final String includePath : includePaths) {
+            params.add("include "+new File(includePath).getCanonicalPath());
+        }
+        params.add("define "+__GLUEGEN__+"=2");
+        params.add("relaxedEqualSemanticsTest "+TypeConfig.relaxedEqualSemanticsTest());
+        params.add("cpp "+cpp.getClass().getName());
+        // The parse result holds serialized GlueGen classes, e.g. the cgram types,
+        // hence any change of the GlueGen build invalidates it, as for the BuildStamp.
+        final Class<?>[] codeSourceClasses = { GlueGen.class, cpp.getClass() };
+        for (final Class<?> clazz : codeSourceClasses) {
+            final String hash = BuildStamp.hashOfCodeSource(clazz);
+            params.add("codesource "+clazz.getName()+" "+( null != hash ? hash : "" ));
+        }
+        return new ParseCache(parseCacheDir, params);
     }
 
     @SuppressWarnings("unchecked")
@@ -366,17 +752,283 @@ public class GlueGen implements GlueEmitterControls {
         run(reader,filename,emit,includePaths,cfgFiles,outputRootDir,copyCPPOutput2Stderr);
     }
 
+    /** A job of the {@link GlueGen#runBatch(String, boolean) batch mode}. */
+    private static class Job {
+        final List<String> includePaths = new ArrayList<String>();
+        final List<String> cfgFiles = new ArrayList<String>();
+        String emitterFQN = null;
+        String outputRootDir = null;
+        String filename = null;
+        final GlueGen glueGen = new GlueGen();
+        GlueEmitter emit;
+        List<String> cfgInputFiles;
+        boolean relaxedEqualSemanticsTest;
+        volatile Throwable error = null;
+
+        @Override
+        public String toString() { return filename+" w/ "+cfgFiles; }
+    }
+
+    /** Manifest line separating dependent jobs, see {@link #readManifest(String)}. */
+    private static final String BATCH_BARRIER = "--barrier";
+
+    /**
+     * Reads the jobs of the given manifest, returning the list of stages.
+     * <p>
+     * Each line describes one job, using the job specific command line arguments separated by whitespace,
+     * i.e. {@code -I}, {@code -O}, {@code -E}, {@code -C} and the source file.
+     * A {@value #BATCH_BARRIER} line starts a new stage, whose jobs depend on the completion of all jobs before,
+     * e.g. if reading their configuration requires generated files.
+     * Empty lines and lines starting with {@code #} are ignored.
+     * </p>
+     */
+    private static List<List<Job>> readManifest(final String manifest) throws IOException {
+        final List<List<Job>> stages = new ArrayList<List<Job>>();
+        List<Job> jobs = new ArrayList<Job>();
+        final BufferedReader reader = new BufferedReader(new FileReader(manifest));
+        try {
+            String line;
+            int lineNo = 0;
+            while( null != ( line = reader.readLine() ) ) {
+                lineNo++;
+                line = line.trim();
+                if( line.length() == 0 || line.startsWith("#") ) {
+                    continue;
+                }
+                if( line.equals(BATCH_BARRIER) ) {
+                    if( jobs.size() > 0 ) {
+                        stages.add(jobs);
+                        jobs = new ArrayList<Job>();
+                    }
+                    continue;
+                }
+                final Job job = new Job();
+                for (final String arg : line.split("\\s+")) {
+                    if (arg.startsWith("-I")) {
+                        final String[] paths = arg.substring(2).split(getProperty("path.separator"));
+                        job.includePaths.addAll(Arrays.asList(paths));
+                    } else if (arg.startsWith("-O")) {
+                        job.outputRootDir = arg.substring(2);
+                    } else if (arg.startsWith("-E")) {
+                        job.emitterFQN = arg.substring(2);
+                    } else if (arg.startsWith("-C")) {
+                        job.cfgFiles.add(arg.substring(2));
+                    } else if (arg.startsWith("-") || null != job.filename) {
+                        throw new GlueGenException("Invalid argument '"+arg+"' at line "+lineNo+" of manifest "+manifest);
+                    } else {
+                        job.filename = arg;
+                    }
+                }
+                if( null == job.filename ) {
+                    throw new GlueGenException("Missing source file at line "+lineNo+" of manifest "+manifest);
+                }
+                jobs.add(job);
+            }
+        } finally {
+            reader.close();
+        }
+        if( jobs.size() > 0 ) {
+            stages.add(jobs);
+        }
+        return stages;
+    }
+
+    /**
+     * Runs all jobs of the given manifest in this JVM, see {@link #readManifest(String)}.
+     * <p>
+     * Headers parsed by several jobs are only parsed once, see {@link ParseCache#setShared(boolean)}.
+     * If {@link #parallel()}, the jobs of each stage run concurrently.
+     * </p>
+     * <p>
+     * Since {@link TypeConfig#relaxedEqualSemanticsTest()} is bound system wide,
+     * the configuration files of a stage are read upfront and its jobs using it run after all others.
+     * </p>
+     * <p>
+     * A failed job fails its stage, which still completes all of its jobs.
+     * </p>
+     * <p>
+     * If a {@link #setReportFile(File) report file} is set, the reports of all started jobs are written to it.
+     * </p>
+     */
+    private static void runBatch(final String manifest, final boolean copyCPPOutput2Stderr) {
+        final List<List<Job>> stages;
+        try {
+            stages = readManifest(manifest);
+        } catch (final IOException e) {
+            throw new RuntimeException("Exception occurred while reading batch manifest "+manifest, e);
+        }
+        final Logging.LoggerIf LOG = Logging.getLogger();
+        final long t0 = System.currentTimeMillis();
+        int jobCount = 0;
+        int maxStageSize = 0;
+        for (final List<Job> jobs : stages) {
+            jobCount += jobs.size();
+            maxStageSize = Math.max(maxStageSize, jobs.size());
+        }
+        final ExecutorService executor = parallel && maxStageSize > 1 ? createJobExecutor(maxStageSize) : null;
+        ParseCache.setShared(true);
+        try {
+            for (final List<Job> jobs : stages) {
+                runStage(jobs, executor, copyCPPOutput2Stderr);
+            }
+        } finally {
+            ParseCache.setShared(false);
+            TypeConfig.setRelaxedEqualSemanticsTest(false);
+            if( null != executor ) {
+                executor.shutdown();
+            }
+            if( null != reportFile ) {
+                final List<GenerationReport> reports = new ArrayList<GenerationReport>();
+                for (final List<Job> jobs : stages) {
+                    for (final Job job : jobs) {
+                        if( null != job.glueGen.getReport() ) {
+                            reports.add(job.glueGen.getReport());
+                        }
+                    }
+                }
+                writeReport(reports);
+            }
+        }
+        LOG.log(Level.INFO, "Batch {0}: {1} jobs completed in {2} ms", manifest, jobCount, System.currentTimeMillis()-t0);
+    }
+
+    private static void runStage(final List<Job> jobs, final ExecutorService executor, final boolean copyCPPOutput2Stderr) {
+        for (final Job job : jobs) {
+            try {
+                job.emit = null == job.emitterFQN ? new JavaEmitter() : (GlueEmitter) Class.forName(job.emitterFQN).newInstance();
+                job.glueGen.newReport(job.filename, job.emit, job.cfgFiles);
+                final GenerationReport report = job.glueGen.getReport();
+                report.begin(GenerationReport.Phase.READ_CONFIG);
+                job.cfgInputFiles = readConfigurationFiles(job.emit, job.cfgFiles);
+                report.end(GenerationReport.Phase.READ_CONFIG);
+                job.relaxedEqualSemanticsTest = job.emit.getConfiguration().relaxedEqualSemanticsTest();
+                TypeConfig.setRelaxedEqualSemanticsTest(false);
+            } catch (final Exception e) {
+                throw new RuntimeException("Exception occurred while reading configuration of job "+job, e);
+            }
+        }
+        for (final boolean relaxed : new boolean[] { false, true }) {
+            TypeConfig.setRelaxedEqualSemanticsTest(relaxed);
+            final List<Future<?>> results = new ArrayList<Future<?>>();
+            for (final Job job : jobs) {
+                if( relaxed != job.relaxedEqualSemanticsTest ) {
+                    continue;
+                }
+                final Runnable task = new Runnable() {
+                    @Override
+                    public void run() {
+                        runJob(job, copyCPPOutput2Stderr);
+                    } };
+                if( null != executor ) {
+                    results.add(executor.submit(task));
+                } else {
+                    task.run();
+                }
+            }
+            for (final Future<?> result : results) {
+                try {
+                    result.get();
+                } catch (final InterruptedException e) {
+                    throw new InterruptedRuntimeException(e);
+                } catch (final ExecutionException e) {
+                    throw new RuntimeException(e.getCause()); // runJob captures all failures
+                }
+            }
+        }
+        Throwable error = null;
+        int failed = 0;
+        for (final Job job : jobs) {
+            if( null != job.error ) {
+                Logging.getLogger().log(Level.SEVERE, "Job failed: {0}: {1}", job, job.error.toString());
+                if( null == error ) {
+                    error = job.error;
+                }
+                failed++;
+            }
+        }
+        if( null != error ) {
+            throw new RuntimeException(failed+" of "+jobs.size()+" jobs failed", error);
+        }
+    }
+
+    private static void runJob(final Job job, final boolean copyCPPOutput2Stderr) {
+        try {
+            final Reader reader = new BufferedReader(new FileReader(job.filename));
+            try {
+                job.glueGen.run(reader, job.filename, job.emit, job.includePaths, job.cfgFiles, job.cfgInputFiles,
+                                job.outputRootDir, copyCPPOutput2Stderr);
+            } finally {
+                reader.close();
+            }
+        } catch (final Throwable t) {
+            job.error = t;
+        }
+    }
+
+    private static void writeReport(final List<GenerationReport> reports) {
+        try {
+            GenerationReport.write(reportFile, reports);
+        } catch (final IOException e) {
+            throw new RuntimeException("Exception occurred while writing report "+reportFile, e);
+        }
+    }
+
+    private static ExecutorService createJobExecutor(final int jobCount) {
+        final int threads = Math.min(jobCount, Runtime.getRuntime().availableProcessors());
+        return Executors.newFixedThreadPool(threads, new ThreadFactory() {
+            private final AtomicInteger count = new AtomicInteger();
+            @Override
+            public Thread newThread(final Runnable r) {
+                final Thread t = new InterruptSource.Thread(null, r, "GlueGen-Job-"+count.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            } });
+    }
+
     public static void main(final String... args) {
 
         if (args.length == 0) {
             System.err.println(GlueGenVersion.getInstance());
             usage();
         }
+        try {
+            execute(args);
+        } catch (final UsageException ue) {
+            System.err.println(ue.getMessage());
+            usage();
+        }
+    }
+
+    /** Thrown by {@link GlueGen#execute(String...)} on invalid arguments, {@link GlueGen#main(String...)} prints the usage. */
+    private static class UsageException extends IllegalArgumentException {
+        private static final long serialVersionUID = 1L;
+        UsageException(final String message) { super(message); }
+    }
+
+    /**
+     * Executes GlueGen w/ the given command line arguments as {@link #main(String...)} does,
+     * however without printing the usage and exiting the JVM on invalid arguments,
+     * e.g. for repeated runs within one JVM like the in-process {@link com.jogamp.gluegen.ant.GlueGenTask}.
+     * @throws IllegalArgumentException if the arguments are invalid
+     */
+    public static void execute(final String... args) throws IllegalArgumentException {
+        if (args.length == 0) {
+            throw new UsageException("No arguments given");
+        }
+
+        // reset the global options, since execute may be called repeatedly within one JVM, e.g. by GlueGenTask
+        debug = false;
+        logLevel = null;
+        incremental = false;
+        parallel = false;
+        parseCacheDir = null;
+        reportFile = null;
 
         Reader reader = null;
         String filename = null;
         String emitterFQN = null;
         String outputRootDir = null;
+        String batchManifest = null;
         final List<String> cfgFiles = new ArrayList<String>();
         boolean copyCPPOutput2Stderr = false;
 
@@ -400,8 +1052,21 @@ public class GlueGen implements GlueEmitterControls {
                     debug=true;
                 } else if (arg.equals("--dumpCPP")) {
                     copyCPPOutput2Stderr=true;
+                } else if (arg.equals("--incremental")) {
+                    incremental=true;
+                } else if (arg.equals("--parallel")) {
+                    parallel=true;
+                } else if (arg.equals("--parseCache")) {
+                    i++;
+                    parseCacheDir = new File(args[i]);
+                } else if (arg.equals("--report")) {
+                    i++;
+                    reportFile = new File(args[i]);
+                } else if (arg.equals("--batch")) {
+                    i++;
+                    batchManifest = args[i];
                 } else {
-                    usage();
+                    throw new UsageException("Unknown option "+arg);
                 }
             } else {
                 final String arg = args[i];
@@ -410,7 +1075,7 @@ public class GlueGen implements GlueEmitterControls {
                     filename = "standard input";
                 } else {
                     if (arg.startsWith("-")) {
-                        usage();
+                        throw new UsageException("Missing input file or value of option "+arg);
                     }
                     filename = arg;
                     try {
@@ -422,9 +1087,21 @@ public class GlueGen implements GlueEmitterControls {
             }
         }
 
+        if( null != batchManifest ) {
+            runBatch(batchManifest, copyCPPOutput2Stderr);
+            return;
+        }
+
         try {
             final Class<?> emitterClass = emitterFQN == null ? null : Class.forName(emitterFQN);
-            new GlueGen().run(reader, filename, emitterClass, includePaths, cfgFiles, outputRootDir, copyCPPOutput2Stderr);
+            final GlueGen glueGen = new GlueGen();
+            try {
+                glueGen.run(reader, filename, emitterClass, includePaths, cfgFiles, outputRootDir, copyCPPOutput2Stderr);
+            } finally {
+                if( null != reportFile && null != glueGen.getReport() ) {
+                    writeReport(Collections.singletonList(glueGen.getReport()));
+                }
+            }
         } catch (final ClassNotFoundException ex) {
             throw new RuntimeException("specified emitter class was not in the classpath", ex);
         }
@@ -436,6 +1113,7 @@ public class GlueGen implements GlueEmitterControls {
     //
     private static void usage() {
         out.println("Usage: java GlueGen [-I...] [-Eemitter_class_name] [-Ccfg_file_name...] <filename | ->");
+        out.println("       java GlueGen [--options...] --batch <manifest>");
         out.println();
         out.println("Runs C header parser on input file or standard input, first");
         out.println("passing input through minimal pseudo-C-preprocessor. Use -I");
@@ -449,6 +1127,14 @@ public class GlueGen implements GlueEmitterControls {
         out.println("-Cjava-emitter.cfg.");
         out.println("  --debug enables debug mode");
         out.println("  --dumpCPP directs CPP to dump all output to stderr as well");
+        out.println("  --incremental skips generation if all inputs are unchanged since the last run");
+        out.println("                and only replaces changed output files");
+        out.println("  --parallel enables parallel code emission and running batch jobs concurrently");
+        out.println("  --parseCache <dir> caches the parse result of unchanged headers in the given directory");
+        out.println("  --report <file> writes the per phase timing and counters of the run as JSON to the given file");
+        out.println("  --batch <manifest> runs all jobs of the manifest, one per line w/ the -I, -O, -E, -C options");
+        out.println("                     and the filename, sharing parsed headers.");
+        out.println("                     A "+BATCH_BARRIER+" line waits for all previous jobs to complete.");
         exit(1);
     }
 }
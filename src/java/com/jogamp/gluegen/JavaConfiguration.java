@@ -40,6 +40,7 @@
 
 package com.jogamp.gluegen;
 
+import com.jogamp.common.os.MachineDataInfo;
 import com.jogamp.gluegen.ASTLocusTag.ASTLocusTagProvider;
 import com.jogamp.gluegen.JavaEmitter.EmissionStyle;
 import com.jogamp.gluegen.JavaEmitter.MethodAccess;
@@ -62,6 +63,8 @@ import static com.jogamp.gluegen.JavaEmitter.EmissionStyle.*;
 
 public class JavaConfiguration {
     private int nestedReads;
+    /** All read input files, i.e. configuration files incl. included ones and parsed Java files. */
+    private final List<String> inputFiles = new ArrayList<String>();
     private String packageName;
     private String implPackageName;
     private String className;
@@ -108,6 +111,30 @@ public class JavaConfiguration {
      */
     private boolean relaxedEqualSemanticsTest;
 
+    /**
+     * If true, struct field offsets and sizes are emitted as {@code static final int}
+     * instead of per-ABI arrays indexed by {@code mdIdx}, see {@link #staticStructOffsets()}.
+     */
+    private boolean staticStructOffsets;
+
+    /**
+     * If not null, the single ABI static struct field offsets and sizes are emitted for,
+     * see {@link #staticStructOffsetsTarget()}.
+     */
+    private MachineDataInfo.StaticConfig staticStructOffsetsTarget;
+
+    /**
+     * If true, pointer-to-struct fields are dereferenced in Java,
+     * see {@link #structPointerJavaDeref()}. Defaults to false.
+     */
+    private boolean structPointerJavaDeref;
+
+    /**
+     * If true, struct classes use the {@link com.jogamp.common.nio.UnsafeStructAccessor},
+     * see {@link #unsafeStructAccessor()}. Defaults to false.
+     */
+    private boolean unsafeStructAccessor;
+
     /**
      * Style of code emission. Can emit everything into one class
      * (AllStatic), separate interface and implementing classes
@@ -155,10 +182,18 @@ public class JavaConfiguration {
     private final Set<Pattern> ignoreNots = new HashSet<Pattern>();
     private final Set<Pattern> unignores = new HashSet<Pattern>();
     private final Set<Pattern> unimplemented = new HashSet<Pattern>();
+    // Compiled ignores, ignoreNots, unignores and unimplemented, reset on change
+    private volatile SymbolPatternMatcher ignoreMatcher = null;
+    private volatile SymbolPatternMatcher ignoreNotMatcher = null;
+    private volatile SymbolPatternMatcher unignoreMatcher = null;
+    private volatile SymbolPatternMatcher unimplementedMatcher = null;
     private boolean forceUseNIOOnly4All = false;
     private final Set<String> useNIOOnly = new HashSet<String>();
     private boolean forceUseNIODirectOnly4All = false;
     private final Set<String> useNIODirectOnly = new HashSet<String>();
+    private boolean forceUseNativeMemory4All = false;
+    private final Set<String> useNativeMemory = new HashSet<String>();
+    private final List<String> checkExportedSymbols = new ArrayList<String>();
     private final Set<String> manuallyImplement = new HashSet<String>();
     private final Map<String, String> delegatedImplementation = new HashMap<String, String>();
     private final Set<String> manualStaticInitCall = new HashSet<String>();
@@ -209,6 +244,7 @@ public class JavaConfiguration {
     catch (final FileNotFoundException fnfe) {
       throw new RuntimeException("Could not read file \"" + file + "\"", fnfe);
     }
+    inputFiles.add(filename);
     int lineNo = 0;
     String line = null;
     final boolean hasPrefix = linePrefix != null && linePrefix.length() > 0;
@@ -300,6 +336,14 @@ public class JavaConfiguration {
         return implClassName;
     }
 
+    /**
+     * Returns the names of all read input files, i.e. configuration files
+     * including <code>Include</code>'d ones and Java files parsed for extended interface symbols.
+     */
+    public List<String> getInputFiles() {
+        return Collections.unmodifiableList(inputFiles);
+    }
+
     public boolean structsOnly() {
         return className == null && implClassName == null;
     }
@@ -319,6 +363,46 @@ public class JavaConfiguration {
         return nativeOutputUsesJavaHierarchy;
     }
 
+    /**
+     * Returns whether struct field offsets and sizes shall be emitted as {@code static final int},
+     * selected once at class initialization, instead of per-ABI arrays indexed by {@code mdIdx} on each access.
+     * <p>
+     * Structs w/ a custom {@link #returnStructMachineDataInfoIndex(String) mdIdx} always use the per-ABI arrays.
+     * </p>
+     */
+    public boolean staticStructOffsets() {
+        return staticStructOffsets;
+    }
+
+    /**
+     * Returns the single ABI the {@link #staticStructOffsets() static struct field offsets and sizes}
+     * are emitted as compile-time constants for, or {@code null} if all ABIs are supported.
+     */
+    public MachineDataInfo.StaticConfig staticStructOffsetsTarget() {
+        return staticStructOffsetsTarget;
+    }
+
+    /**
+     * Returns whether getter of pointer-to-struct fields shall read the pointer value in Java
+     * and bind the struct to the referenced native memory via {@link com.jogamp.common.nio.NativeAddressBuffers},
+     * instead of calling a JNI helper for each element.
+     */
+    public boolean structPointerJavaDeref() {
+        return structPointerJavaDeref;
+    }
+
+    /**
+     * Returns whether struct classes shall access their fields via the address based {@link com.jogamp.common.nio.UnsafeStructAccessor},
+     * instead of the {@link java.nio.ByteBuffer} based {@link com.jogamp.common.nio.StructAccessor}.
+     * <p>
+     * The {@link com.jogamp.common.nio.StructAccessor} is still used if the
+     * {@link com.jogamp.common.nio.UnsafeStructAccessor#isApplicable(java.nio.ByteBuffer) unsafe variant is not applicable}.
+     * </p>
+     */
+    public boolean unsafeStructAccessor() {
+        return unsafeStructAccessor;
+    }
+
     /** Returns whether the comment of a native method binding should include a @native tag. */
     public boolean tagNativeBinding() {
         return tagNativeBinding;
@@ -571,6 +655,22 @@ public class JavaConfiguration {
     return forceUseNIODirectOnly4All || useNIODirectOnly.contains(functionName);
   }
 
+  public void addUseNativeMemory(final String fname ) {
+      useNativeMemory.add(fname);
+  }
+  /** Returns true if the given function should additionally create a variant
+      taking {@link com.jogamp.common.nio.NativeMemory} segments for <code>void*</code> and other
+      C primitive pointers, passed to native code by their address. */
+  public boolean useNativeMemory(final String functionName) {
+    return forceUseNativeMemory4All || useNativeMemory.contains(functionName);
+  }
+
+  /** Returns the native library files whose exported symbols shall be checked against all bound functions,
+      see {@link JavaEmitter#emitFunctions(List)}. */
+  public List<String> checkExportedSymbolsLibraries() {
+    return checkExportedSymbols;
+  }
+
   /**
    * Returns true if the static initialization java code calling <code>initializeImpl()</code>
    * for the given class will be manually implemented by the end user
@@ -601,7 +701,7 @@ public class JavaConfiguration {
       the given Java type name (not fully-qualified, only the class
       name); returns either null or an empty list if there is no
       custom code for the class. */
-  public List<String> customJavaCodeForClass(final String className) {
+  public synchronized List<String> customJavaCodeForClass(final String className) {
     List<String> res = customJavaCode.get(className);
     if (res == null) {
       res = new ArrayList<String>();
@@ -610,7 +710,7 @@ public class JavaConfiguration {
     return res;
   }
 
-  public List<String> javadocForMethod(final String methodName) {
+  public synchronized List<String> javadocForMethod(final String methodName) {
     List<String> res = methodJavadoc.get(methodName);
     if (res == null) {
       res = new ArrayList<String>();
@@ -623,7 +723,7 @@ public class JavaConfiguration {
       the given Java type name (not fully-qualified, only the class
       name); returns either null or an empty list if there is no
       Javadoc documentation for the class. */
-  public List<String> javadocForClass(final String className) {
+  public synchronized List<String> javadocForClass(final String className) {
     List<String> res = classJavadoc.get(className);
     if (res == null) {
       res = new ArrayList<String>();
@@ -710,7 +810,7 @@ public class JavaConfiguration {
   /** Returns a List of Strings indicating the interfaces the passed
       interface should declare it extends. May return null or a list
       of zero length if there are none. */
-  public List<String> extendedInterfaces(final String interfaceName) {
+  public synchronized List<String> extendedInterfaces(final String interfaceName) {
     List<String> res = extendedInterfaces.get(interfaceName);
     if (res == null) {
       res = new ArrayList<String>();
@@ -722,7 +822,7 @@ public class JavaConfiguration {
   /** Returns a List of Strings indicating the interfaces the passed
       class should declare it implements. May return null or a list
       of zero length if there are none. */
-  public List<String> implementedInterfaces(final String className) {
+  public synchronized List<String> implementedInterfaces(final String className) {
     List<String> res = implementedInterfaces.get(className);
     if (res == null) {
       res = new ArrayList<String>();
@@ -807,17 +907,6 @@ public class JavaConfiguration {
       }
       return false;
   }
-  private static boolean onePatternMatch(final Pattern ignoreRegexp, final Set<String> set) {
-      if( null != ignoreRegexp && null != set && set.size() > 0 ) {
-          for(final String sym : set) {
-              final Matcher matcher = ignoreRegexp.matcher(sym);
-              if (matcher.matches()) {
-                  return true;
-              }
-          }
-      }
-      return false;
-  }
   protected static ASTLocusTag getASTLocusTag(final AliasedSymbol s) {
       if( s instanceof ASTLocusTagProvider ) {
           return ((ASTLocusTagProvider)s).getASTLocusTag();
@@ -1046,42 +1135,26 @@ public class JavaConfiguration {
           return true;
       }
 
-      // Ok, the slow case. We need to check the entire table, in case the table
-      // contains an regular expression that matches the symbol.
-      for (final Pattern ignoreRegexp : ignores) {
-          final Matcher matcher = ignoreRegexp.matcher(name);
-          if ( matcher.matches() || onePatternMatch(ignoreRegexp, aliases) ) {
-              LOG.log(INFO, getASTLocusTag(symbol), "Ignore Impl RegEx: {0}", symbol);
-              return true;
-          }
+      // Ok, the slow case. We need to check all regular expressions,
+      // compiled into a memoizing SymbolPatternMatcher.
+      if ( getIgnoreMatcher().matches(name, aliases) ) {
+          LOG.log(INFO, getASTLocusTag(symbol), "Ignore Impl RegEx: {0}", symbol);
+          return true;
       }
 
       // Check negated ignore table if not empty
       if (ignoreNots.size() > 0) {
-          // Ok, the slow case. We need to check the entire table, in case the table
-          // contains an regular expression that matches the symbol.
-          for (final Pattern ignoreNotRegexp : ignoreNots) {
-              final Matcher matcher = ignoreNotRegexp.matcher(name);
-              if ( !matcher.matches() && !onePatternMatch(ignoreNotRegexp, aliases) ) {
-                  // Special case as this is most often likely to be the case.
-                  // Unignores are not used very often.
-                  if(unignores.isEmpty()) {
-                      LOG.log(INFO, getASTLocusTag(symbol), "Ignore Impl unignores==0: {0} -> {1}", symbol, name);
-                      return true;
-                  }
-                  boolean unignoreFound = false;
-                  for (final Pattern unignoreRegexp : unignores) {
-                      final Matcher unignoreMatcher = unignoreRegexp.matcher(name);
-                      if ( unignoreMatcher.matches() || onePatternMatch(unignoreRegexp, aliases) ) {
-                          unignoreFound = true;
-                          break;
-                      }
-                  }
-
-                  if (!unignoreFound) {
-                      LOG.log(INFO, getASTLocusTag(symbol), "Ignore Impl !unignore: {0} -> {1}", symbol, name);
-                      return true;
-                  }
+          // Is there one regular expression matching neither the symbol nor its aliases?
+          if ( getIgnoreNotMatcher().oneMismatches(name, aliases) ) {
+              // Special case as this is most often likely to be the case.
+              // Unignores are not used very often.
+              if(unignores.isEmpty()) {
+                  LOG.log(INFO, getASTLocusTag(symbol), "Ignore Impl unignores==0: {0} -> {1}", symbol, name);
+                  return true;
+              }
+              if ( !getUnignoreMatcher().matches(name, aliases) ) {
+                  LOG.log(INFO, getASTLocusTag(symbol), "Ignore Impl !unignore: {0} -> {1}", symbol, name);
+                  return true;
               }
           }
       }
@@ -1092,15 +1165,40 @@ public class JavaConfiguration {
       throws a run-time exception with an "unimplemented" message
       during glue code generation. */
   public boolean isUnimplemented(final AliasedSymbol symbol) {
-      // Ok, the slow case. We need to check the entire table, in case the table
-      // contains an regular expression that matches the symbol.
-      for (final Pattern unimplRegexp : unimplemented) {
-          final Matcher matcher = unimplRegexp.matcher(symbol.getName());
-          if ( matcher.matches() || onePatternMatch(unimplRegexp, symbol.getAliasedNames()) ) {
-              return true;
-          }
+      return getUnimplementedMatcher().matches(symbol.getName(), symbol.getAliasedNames());
+  }
+
+  private SymbolPatternMatcher getIgnoreMatcher() {
+      SymbolPatternMatcher m = ignoreMatcher;
+      if( null == m ) {
+          m = new SymbolPatternMatcher(ignores);
+          ignoreMatcher = m;
       }
-      return false;
+      return m;
+  }
+  private SymbolPatternMatcher getIgnoreNotMatcher() {
+      SymbolPatternMatcher m = ignoreNotMatcher;
+      if( null == m ) {
+          m = new SymbolPatternMatcher(ignoreNots);
+          ignoreNotMatcher = m;
+      }
+      return m;
+  }
+  private SymbolPatternMatcher getUnignoreMatcher() {
+      SymbolPatternMatcher m = unignoreMatcher;
+      if( null == m ) {
+          m = new SymbolPatternMatcher(unignores);
+          unignoreMatcher = m;
+      }
+      return m;
+  }
+  private SymbolPatternMatcher getUnimplementedMatcher() {
+      SymbolPatternMatcher m = unimplementedMatcher;
+      if( null == m ) {
+          m = new SymbolPatternMatcher(unimplemented);
+          unimplementedMatcher = m;
+      }
+      return m;
   }
 
 
@@ -1316,6 +1414,15 @@ public class JavaConfiguration {
       } else {
           addUseNIOOnly( funcName );
       }
+    } else if (cmd.equalsIgnoreCase("NativeMemory")) {
+      final String funcName = readString("NativeMemory", tok, filename, lineNo);
+      if(funcName.equals("__ALL__")) {
+          forceUseNativeMemory4All=true;
+      } else {
+          addUseNativeMemory( funcName );
+      }
+    } else if (cmd.equalsIgnoreCase("CheckExportedSymbols")) {
+      checkExportedSymbols.add(readString("CheckExportedSymbols", tok, filename, lineNo));
     } else if (cmd.equalsIgnoreCase("NIODirectOnly")) {
       final String funcName = readString("NIODirectOnly", tok, filename, lineNo);
       if(funcName.equals("__ALL__")) {
@@ -1335,6 +1442,12 @@ public class JavaConfiguration {
       readTemporaryCVariableAssignment(tok, filename, lineNo);
       // Warning: make sure delimiters are reset at the top of this loop
       // because TemporaryCVariableAssignment changes them.
+    } else if (cmd.equalsIgnoreCase("StructAccessor")) {
+      readStructAccessor(tok, filename, lineNo);
+    } else if (cmd.equalsIgnoreCase("StructPointerJavaDeref")) {
+      structPointerJavaDeref = readBoolean("StructPointerJavaDeref", tok, filename, lineNo).booleanValue();
+    } else if (cmd.equalsIgnoreCase("StructOffsets")) {
+      readStructOffsets(tok, filename, lineNo);
     } else if (cmd.equalsIgnoreCase("StructMachineDataInfoIndex")) {
       readStructMachineDataInfoIndex(tok, filename, lineNo);
       // Warning: make sure delimiters are reset at the top of this loop
@@ -1497,6 +1610,7 @@ public class JavaConfiguration {
     } catch (final FileNotFoundException e) {
       throw new RuntimeException(e);
     }
+    inputFiles.add(javaFile.getPath());
 
     final JavaLexer lexer = new JavaLexer(javaReader);
     lexer.setFilename(javaFile.getName());
@@ -1539,6 +1653,7 @@ public class JavaConfiguration {
       final Pattern pattern = Pattern.compile(regex);
       ignores.add(pattern);
       ignoreMap.put(regex, pattern);
+      ignoreMatcher = null;
       //System.err.println("IGNORING " + regex + " / " + ignores.get(regex));
     } catch (final NoSuchElementException e) {
       throw new RuntimeException("Error parsing \"Ignore\" command at line " + lineNo +
@@ -1558,6 +1673,8 @@ public class JavaConfiguration {
       if(pattern == null)
         pattern = Pattern.compile(regex);
       unignores.add(pattern);
+      ignoreMatcher = null;
+      unignoreMatcher = null;
 
       //System.err.println("UN-IGNORING " + regex + " / " + ignores.get(regex));
     } catch (final NoSuchElementException e) {
@@ -1570,6 +1687,7 @@ public class JavaConfiguration {
     try {
       final String regex = tok.nextToken();
       ignoreNots.add(Pattern.compile(regex));
+      ignoreNotMatcher = null;
       //System.err.println("IGNORING NEGATION OF " + regex + " / " + ignores.get(regex));
     } catch (final NoSuchElementException e) {
       throw new RuntimeException("Error parsing \"IgnoreNot\" command at line " + lineNo +
@@ -1581,6 +1699,7 @@ public class JavaConfiguration {
     try {
       final String regex = tok.nextToken();
       unimplemented.add(Pattern.compile(regex));
+      unimplementedMatcher = null;
     } catch (final NoSuchElementException e) {
       throw new RuntimeException("Error parsing \"Unimplemented\" command at line " + lineNo +
         " in file \"" + filename + "\"", e);
@@ -1592,6 +1711,7 @@ public class JavaConfiguration {
       final String containingStruct = tok.nextToken();
       final String name = tok.nextToken();
       ignores.add(Pattern.compile(containingStruct + "\\." + name));
+      ignoreMatcher = null;
     } catch (final NoSuchElementException e) {
       throw new RuntimeException("Error parsing \"IgnoreField\" command at line " + lineNo +
         " in file \"" + filename + "\"", e);
@@ -1760,6 +1880,38 @@ public class JavaConfiguration {
     }
   }
 
+  protected void readStructOffsets(final StringTokenizer tok, final String filename, final int lineNo) {
+    final String mode = readString("StructOffsets", tok, filename, lineNo);
+    if( mode.equalsIgnoreCase("Array") ) {
+      staticStructOffsets = false;
+      staticStructOffsetsTarget = null;
+    } else if( mode.equalsIgnoreCase("Static") ) {
+      staticStructOffsets = true;
+      staticStructOffsetsTarget = null;
+    } else {
+      try {
+        staticStructOffsetsTarget = MachineDataInfo.StaticConfig.valueOf(mode);
+        staticStructOffsets = true;
+      } catch (final IllegalArgumentException e) {
+        throw new RuntimeException("Error parsing \"StructOffsets\" command at line " + lineNo +
+          " in file \"" + filename + "\": expected Array, Static or one of "+
+          Arrays.toString(MachineDataInfo.StaticConfig.values())+", got \""+mode+"\"", e);
+      }
+    }
+  }
+
+  protected void readStructAccessor(final StringTokenizer tok, final String filename, final int lineNo) {
+    final String mode = readString("StructAccessor", tok, filename, lineNo);
+    if( mode.equalsIgnoreCase("ByteBuffer") ) {
+      unsafeStructAccessor = false;
+    } else if( mode.equalsIgnoreCase("Unsafe") ) {
+      unsafeStructAccessor = true;
+    } else {
+      throw new RuntimeException("Error parsing \"StructAccessor\" command at line " + lineNo +
+        " in file \"" + filename + "\": expected ByteBuffer or Unsafe, got \""+mode+"\"");
+    }
+  }
+
   protected void readReturnValueCapacity(final StringTokenizer tok, final String filename, final int lineNo) {
     try {
       final String functionName = tok.nextToken();
@@ -51,9 +51,13 @@ import static java.util.logging.Level.WARNING;
 
 import java.io.BufferedWriter;
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.Writer;
 import java.nio.Buffer;
 import java.text.MessageFormat;
 import java.util.ArrayList;
@@ -67,8 +71,12 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
 
 import jogamp.common.os.MachineDataInfoRuntime;
+import jogamp.common.os.elf.ElfSymbolTable;
 
 import com.jogamp.common.nio.Buffers;
 import com.jogamp.common.os.DynamicLookupHelper;
@@ -106,6 +114,7 @@ public class JavaEmitter implements GlueEmitter {
   private StructLayout layout;
   private Map<Type, Type> canonMap;
   protected JavaConfiguration cfg;
+  private GenerationReport report;
   private boolean requiresStaticInitialization = false;
 
   /**
@@ -135,6 +144,8 @@ public class JavaEmitter implements GlueEmitter {
   private PrintWriter javaImplWriter; // Only used in non-AllStatic modes for impl class
   private String cFileName;           // of cWriter
   private PrintWriter cWriter;
+  private final List<File> outputFiles = new ArrayList<File>();
+  private final List<StructEmission> pendingStructs = new ArrayList<StructEmission>();
   private final MachineDataInfo machDescJava = MachineDataInfo.StaticConfig.LP64_UNIX.md;
   private final MachineDataInfo.StaticConfig[] machDescTargetConfigs = MachineDataInfo.StaticConfig.values();
 
@@ -252,6 +263,8 @@ public class JavaEmitter implements GlueEmitter {
 
     @Override
     public void beginEmission(final GlueEmitterControls controls) throws IOException {
+        report = controls.getReport();
+
         // Handle renaming of constants and functions
         controls.runSymbolFilter(new ConstFuncRenamer());
 
@@ -358,19 +371,29 @@ public class JavaEmitter implements GlueEmitter {
         // Bind all the C funcs to Java methods
         final ArrayList<FunctionEmitter> methodBindingEmitters = new ArrayList<FunctionEmitter>(2*funcsToBind.size());
         {
+            final List<ElfSymbolTable> exportedSymbols = readExportedSymbols();
             int i=0;
             for (final FunctionSymbol cFunc : funcsToBind) {
               // Check to see whether this function should be ignored
               if ( !cfg.shouldIgnoreInImpl(cFunc) ) {
                   methodBindingEmitters.addAll(generateMethodBindingEmitters(cFunc));
                   LOG.log(INFO, cFunc.getASTLocusTag(), "Non-Ignored Impl[{0}]: {1}", i++, cFunc);
+                  if( null != exportedSymbols && !isExported(cFunc.getName(), exportedSymbols) ) {
+                      LOG.log(WARNING, cFunc.getASTLocusTag(), "Function {0} not exported by {1}",
+                              cFunc.getName(), cfg.checkExportedSymbolsLibraries());
+                  }
               }
 
             }
         }
+        if( null != report ) {
+            report.add(GenerationReport.Counter.METHOD_BINDINGS, methodBindingEmitters.size());
+        }
 
         // Emit all the methods
-        {
+        if( GlueGen.parallel() ) {
+            emitFunctionsParallel(methodBindingEmitters);
+        } else {
             int i=0;
             for (final FunctionEmitter emitter : methodBindingEmitters) {
               try {
@@ -381,9 +404,7 @@ public class JavaEmitter implements GlueEmitter {
                     LOG.log(INFO, cFunc.getASTLocusTag(), "Non-Ignored Intf[{0}]: {1}", i++, cFunc);
                 }
               } catch (final Exception e) {
-                throw new GlueGenException(
-                    "Error while emitting binding for \"" + emitter.getCSymbol().getAliasedString() + "\"",
-                    emitter.getCSymbol().getASTLocusTag(), e);
+                throw newEmissionException(emitter, e);
               }
             }
         }
@@ -392,6 +413,143 @@ public class JavaEmitter implements GlueEmitter {
     return funcsToBind.iterator();
   }
 
+  /**
+   * Returns the dynamic symbol tables of all {@link JavaConfiguration#checkExportedSymbolsLibraries() libraries to check},
+   * or <code>null</code> if none is given or readable.
+   */
+  private List<ElfSymbolTable> readExportedSymbols() {
+    final List<String> libs = cfg.checkExportedSymbolsLibraries();
+    if( libs.isEmpty() ) {
+        return null;
+    }
+    final List<ElfSymbolTable> res = new ArrayList<ElfSymbolTable>(libs.size());
+    for (final String lib : libs) {
+        try {
+            final ElfSymbolTable symbols = ElfSymbolTable.read(new File(lib));
+            if( null != symbols ) {
+                res.add(symbols);
+            } else {
+                LOG.log(WARNING, "CheckExportedSymbols: {0} has no dynamic symbol table", lib);
+            }
+        } catch (final Exception e) {
+            LOG.log(WARNING, "CheckExportedSymbols: Unable to read {0}: {1}", lib, e.getMessage());
+        }
+    }
+    return res.isEmpty() ? null : res;
+  }
+
+  private static boolean isExported(final String name, final List<ElfSymbolTable> exportedSymbols) {
+    for (final ElfSymbolTable symbols : exportedSymbols) {
+        if( symbols.isExported(name) ) {
+            return true;
+        }
+    }
+    return false;
+  }
+
+  /**
+   * Renders each emitter into its own buffer on the {@link GlueGen#getWorkerPool() worker pool},
+   * then appends the buffers to their default outputs in the given order.
+   * <p>
+   * The result is identical to emitting sequentially.
+   * If emission fails, the exception of the first failed emitter in the given order is thrown.
+   * </p>
+   */
+  private void emitFunctionsParallel(final List<FunctionEmitter> methodBindingEmitters) {
+    final ArrayList<FunctionEmitter> emitters = new ArrayList<FunctionEmitter>(methodBindingEmitters.size());
+    for (final FunctionEmitter emitter : methodBindingEmitters) {
+      try {
+        if ( !emitter.isInterface() || !cfg.shouldIgnoreInInterface(emitter.getCSymbol()) ) {
+            emitters.add(emitter);
+        }
+      } catch (final Exception e) {
+        throw newEmissionException(emitter, e);
+      }
+    }
+    final String[] bodies = new String[emitters.size()];
+    final Exception[] errors = new Exception[emitters.size()];
+    GlueGen.getWorkerPool().invoke(new EmitFunctionsTask(emitters, bodies, errors, 0, emitters.size(), report));
+
+    for (int i = 0; i < bodies.length; i++) {
+      final FunctionEmitter emitter = emitters.get(i);
+      if( null != errors[i] ) {
+          throw newEmissionException(emitter, errors[i]);
+      }
+      emitter.getDefaultOutput().print(bodies[i]);
+      LOG.log(INFO, emitter.getCSymbol().getASTLocusTag(), "Non-Ignored Intf[{0}]: {1}", i, emitter.getCSymbol());
+    }
+  }
+
+  /** Renders a range of {@link FunctionEmitter}s, each including its trailing newline, splitting the range if large. */
+  private static class EmitFunctionsTask extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+    private static final int THRESHOLD = 8;
+
+    private final List<FunctionEmitter> emitters;
+    private final String[] bodies;
+    private final Exception[] errors;
+    private final int from, to;
+    private final GenerationReport report;
+
+    EmitFunctionsTask(final List<FunctionEmitter> emitters, final String[] bodies, final Exception[] errors,
+                      final int from, final int to, final GenerationReport report) {
+      this.emitters = emitters;
+      this.bodies = bodies;
+      this.errors = errors;
+      this.from = from;
+      this.to = to;
+      this.report = report;
+    }
+
+    @Override
+    protected void compute() {
+      if( to - from > THRESHOLD ) {
+          final int mid = ( from + to ) >>> 1;
+          invokeAll(new EmitFunctionsTask(emitters, bodies, errors, from, mid, report),
+                    new EmitFunctionsTask(emitters, bodies, errors, mid, to, report));
+          return;
+      }
+      final long cpuStart = beginWorker(report);
+      for (int i = from; i < to; i++) {
+        try {
+          final StringWriter sw = new StringWriter(1024);
+          final PrintWriter w = new PrintWriter(sw);
+          emitters.get(i).emit(w);
+          w.println(); // put newline after method body
+          w.flush();
+          bodies[i] = sw.toString();
+        } catch (final Exception e) {
+          errors[i] = e;
+        }
+      }
+      endWorker(report, cpuStart);
+    }
+  }
+
+  /**
+   * Starts accounting a worker's CPU time to the given report, see {@link GenerationReport#beginWorker()}.
+   * <p>
+   * Only pool threads are accounted, the job's thread may run a task itself while joining it,
+   * whose CPU time is already accounted to the running phase.
+   * </p>
+   */
+  private static long beginWorker(final GenerationReport report) {
+    return null != report && ForkJoinTask.inForkJoinPool() ? report.beginWorker() : 0;
+  }
+
+  /** Ends accounting a worker's CPU time to the given report, see {@link #beginWorker(GenerationReport)}. */
+  private static void endWorker(final GenerationReport report, final long cpuStart) {
+    if( null != report && ForkJoinTask.inForkJoinPool() ) {
+        report.endWorker(cpuStart);
+    }
+  }
+
+  private static GlueGenException newEmissionException(final FunctionEmitter emitter, final Exception e) {
+    return new GlueGenException(
+        "Error while emitting binding for \"" + emitter.getCSymbol().getAliasedString() + "\"",
+        emitter.getCSymbol().getASTLocusTag(), e);
+  }
+
   /**
    * Create the object that will read and store configuration information for
    * this JavaEmitter.
@@ -856,7 +1014,22 @@ public class JavaEmitter implements GlueEmitter {
                 "emission of \"{0}\" with zero fields {1}", containingJTypeName, structCType);
     }
 
-    this.requiresStaticInitialization = false; // reset
+    if( GlueGen.parallel() ) {
+        // emitted on the worker pool by endStructs()
+        pendingStructs.add(new StructEmission(structCType, structCTypeName, containingCType, containingJType));
+    } else {
+        emitStructClass(structCType, structCTypeName, containingCType, containingJType);
+    }
+  }
+
+  /**
+   * Emits the Java class and, if required, the JNI C code of the given struct,
+   * named and resolved by {@link #emitStruct(CompoundType, Type)}.
+   */
+  private void emitStructClass(final CompoundType structCType, final String structCTypeName,
+                               final Type containingCType, final JavaType containingJType) throws Exception {
+    final String containingJTypeName = containingJType.getName();
+    boolean requiresStaticInit = false;
 
     // machDescJava global MachineDataInfo is the one used to determine
     // the sizes of the primitive types seen in the public API in Java.
@@ -968,8 +1141,10 @@ public class JavaEmitter implements GlueEmitter {
     javaWriter.println("  "+machDescrIdxCode);
     javaWriter.println("  private final MachineDataInfo md;");
     javaWriter.println();
+    final boolean staticOffsets = useStaticStructOffsets(containingJTypeName);
+    final String mdIdxSel = getMachineDataInfoIndexSelector(containingJTypeName);
     // generate all offset and size arrays
-    generateOffsetAndSizeArrays(javaWriter, "  ", containingJTypeName, structCType, null, null); /* w/o offset */
+    generateOffsetAndSizeArrays(javaWriter, staticOffsets, "  ", containingJTypeName, structCType, null, null); /* w/o offset */
     if( GlueGen.debug() ) {
         System.err.printf("SE.__: structCType %s%n", structCType.getDebugString());
         System.err.printf("SE.__: contCTypeName %s%n", containingCType.getDebugString());
@@ -999,14 +1174,14 @@ public class JavaEmitter implements GlueEmitter {
           if( GlueGen.debug() ) {
             System.err.printf("SE.os.%02d: %s / %s, %s (%s)%n", (i+1), field, cfgFieldName1, fieldType.getDebugString(), "compound");
           }
-          generateOffsetAndSizeArrays(javaWriter, "  ", fieldName, fieldType, field, null);
+          generateOffsetAndSizeArrays(javaWriter, staticOffsets, "  ", fieldName, fieldType, field, null);
         } else if (fieldType.isArray()) {
             final Type baseElementType = field.getType().asArray().getBaseElementType();
             if( GlueGen.debug() ) {
                 System.err.printf("SE.os.%02d: %s / %s, %s (%s)%n", (i+1), field, cfgFieldName1, fieldType.getDebugString(), "array");
                 System.err.printf("SE.os.%02d: baseType %s%n", (i+1), baseElementType.getDebugString());
             }
-            generateOffsetAndSizeArrays(javaWriter, "  ", fieldName, fieldType, field, null);
+            generateOffsetAndSizeArrays(javaWriter, staticOffsets, "  ", fieldName, fieldType, field, null);
         } else {
           final JavaType externalJavaType;
           try {
@@ -1021,29 +1196,39 @@ public class JavaEmitter implements GlueEmitter {
           }
           if (externalJavaType.isPrimitive()) {
             // Primitive type
-            generateOffsetAndSizeArrays(javaWriter, "  ", fieldName, null, field, null); /* w/o size */
-            generateOffsetAndSizeArrays(javaWriter, "//", fieldName, fieldType, null, null);
+            generateOffsetAndSizeArrays(javaWriter, staticOffsets, "  ", fieldName, null, field, null); /* w/o size */
+            generateOffsetAndSizeArrays(javaWriter, staticOffsets, "//", fieldName, fieldType, null, null);
           } else if (externalJavaType.isCPrimitivePointerType()) {
             if( requiresGetCStringLength(fieldType, cfgFieldName1) ) {
-                generateOffsetAndSizeArrays(javaWriter, "  ", fieldName, null, field, null); /* w/o size */
-                generateOffsetAndSizeArrays(javaWriter, "//", fieldName, fieldType, null, "// "+externalJavaType.getDebugString());
+                generateOffsetAndSizeArrays(javaWriter, staticOffsets, "  ", fieldName, null, field, null); /* w/o size */
+                generateOffsetAndSizeArrays(javaWriter, staticOffsets, "//", fieldName, fieldType, null, "// "+externalJavaType.getDebugString());
             } else {
-                generateOffsetAndSizeArrays(javaWriter, "//", fieldName, fieldType, field, "// "+externalJavaType.getDebugString());
+                generateOffsetAndSizeArrays(javaWriter, staticOffsets, "//", fieldName, fieldType, field, "// "+externalJavaType.getDebugString());
             }
           } else {
-            generateOffsetAndSizeArrays(javaWriter, "  ", fieldName, null, field, null); /* w/o size */
-            generateOffsetAndSizeArrays(javaWriter, "//", fieldName, fieldType, null, "// "+externalJavaType.getDebugString());
+            generateOffsetAndSizeArrays(javaWriter, staticOffsets, "  ", fieldName, null, field, null); /* w/o size */
+            generateOffsetAndSizeArrays(javaWriter, staticOffsets, "//", fieldName, fieldType, null, "// "+externalJavaType.getDebugString());
           }
         }
       } else if( GlueGen.debug() ) {
         System.err.printf("SE.os.%02d: %s, %s (IGNORED)%n", (i+1), field, fieldType.getDebugString());
       }
     }
+    final MachineDataInfo.StaticConfig offsetsTarget = cfg.staticStructOffsetsTarget();
+    if( staticOffsets && null != offsetsTarget ) {
+        javaWriter.println();
+        javaWriter.println("  static {");
+        javaWriter.println("    if( MachineDataInfo.StaticConfig."+offsetsTarget.name()+".ordinal() != mdIdx ) {");
+        javaWriter.println("      throw new "+cfg.runtimeExceptionType()+"(\""+containingJTypeName+" layout generated for "+offsetsTarget.name()+
+                           " only, running on \"+MachineDataInfo.StaticConfig.values()[mdIdx]);");
+        javaWriter.println("    }");
+        javaWriter.println("  }");
+    }
     javaWriter.println();
     // getDelegatedImplementation
     if( !cfg.manuallyImplement(JavaConfiguration.canonicalStructFieldSymbol(containingJTypeName, "size")) ) {
         javaWriter.println("  public static int size() {");
-        javaWriter.println("    return "+containingJTypeName+"_size[mdIdx];");
+        javaWriter.println("    return "+containingJTypeName+"_size"+mdIdxSel+";");
         javaWriter.println("  }");
         javaWriter.println();
     }
@@ -1060,13 +1245,21 @@ public class JavaEmitter implements GlueEmitter {
     if( !cfg.manuallyImplement(JavaConfiguration.canonicalStructFieldSymbol(containingJTypeName, containingJTypeName)) ) {
         javaWriter.println("  " + containingJTypeName + "(java.nio.ByteBuffer buf) {");
         javaWriter.println("    md = MachineDataInfo.StaticConfig.values()[mdIdx].md;");
-        javaWriter.println("    accessor = new StructAccessor(buf);");
+        if( cfg.unsafeStructAccessor() ) {
+            javaWriter.println("    accessor = UnsafeStructAccessor.isApplicable(buf) ? new UnsafeStructAccessor(buf, "+containingJTypeName+"_size"+mdIdxSel+") : new StructAccessor(buf, "+containingJTypeName+"_size"+mdIdxSel+");");
+        } else {
+            javaWriter.println("    accessor = new StructAccessor(buf, "+containingJTypeName+"_size"+mdIdxSel+");");
+        }
         javaWriter.println("  }");
         javaWriter.println();
     }
     javaWriter.println("  public java.nio.ByteBuffer getBuffer() {");
     javaWriter.println("    return accessor.getBuffer();");
     javaWriter.println("  }");
+    if( hasStructCursor(containingJTypeName) ) {
+        javaWriter.println();
+        generateStructCursor(javaWriter, containingJTypeName);
+    }
 
     final Set<MethodBinding> methodBindingSet = new HashSet<MethodBinding>();
 
@@ -1106,13 +1299,15 @@ public class JavaEmitter implements GlueEmitter {
           generateGetterSignature(javaWriter, fieldType, false, false, fieldType.getName(), fieldName, capitalizeString(fieldName), null, null);
           javaWriter.println(" {");
           javaWriter.println("    return " + fieldType.getName() + ".create( accessor.slice( " +
-                           fieldName+"_offset[mdIdx], "+fieldName+"_size[mdIdx] ) );");
+                           fieldName+"_offset"+mdIdxSel+", "+fieldName+"_size"+mdIdxSel+" ) );");
           javaWriter.println(" }");
 
         } else if ( ( fieldType.isArray() || fieldType.isPointer() ) && !isOpaqueField ) {
-            generateArrayGetterSetterCode(methodBindingSet, javaWriter, jniWriter, structCType, structCTypeName,
-                                          structClassPkgName, containingCType,
-                                          containingJType, i, field, fieldName, cfgFieldName1);
+            if( generateArrayGetterSetterCode(methodBindingSet, javaWriter, jniWriter, structCType, structCTypeName,
+                                              structClassPkgName, containingCType,
+                                              containingJType, i, field, fieldName, cfgFieldName1) ) {
+                requiresStaticInit = true;
+            }
         } else {
           final JavaType javaType;
           try {
@@ -1147,9 +1342,9 @@ public class JavaEmitter implements GlueEmitter {
                 generateSetterSignature(javaWriter, fieldType, false, containingJTypeName, fieldName, capFieldName, null, javaTypeName, null, null);
                 javaWriter.println(" {");
                 if( fieldTypeNativeSizeFixed ) {
-                    javaWriter.println("    accessor.set" + capJavaTypeName + "At(" + fieldName+"_offset[mdIdx], val);");
+                    javaWriter.println("    accessor.set" + capJavaTypeName + "At(" + fieldName+"_offset"+mdIdxSel+", val);");
                 } else {
-                    javaWriter.println("    accessor.set" + capJavaTypeName + "At(" + fieldName+"_offset[mdIdx], val, md."+sizeDenominator+"SizeInBytes());");
+                    javaWriter.println("    accessor.set" + capJavaTypeName + "At(" + fieldName+"_offset"+mdIdxSel+", val, md."+sizeDenominator+"SizeInBytes());");
                 }
                 javaWriter.println("    return this;");
                 javaWriter.println("  }");
@@ -1161,9 +1356,9 @@ public class JavaEmitter implements GlueEmitter {
             javaWriter.println(" {");
             javaWriter.print  ("    return ");
             if( fieldTypeNativeSizeFixed ) {
-                javaWriter.println("accessor.get" + capJavaTypeName + "At(" + fieldName+"_offset[mdIdx]);");
+                javaWriter.println("accessor.get" + capJavaTypeName + "At(" + fieldName+"_offset"+mdIdxSel+");");
             } else {
-                javaWriter.println("accessor.get" + capJavaTypeName + "At(" + fieldName+"_offset[mdIdx], md."+sizeDenominator+"SizeInBytes());");
+                javaWriter.println("accessor.get" + capJavaTypeName + "At(" + fieldName+"_offset"+mdIdxSel+", md."+sizeDenominator+"SizeInBytes());");
             }
             javaWriter.println("  }");
           } else {
@@ -1174,16 +1369,17 @@ public class JavaEmitter implements GlueEmitter {
       }
     }
     emitCustomJavaCode(javaWriter, containingJTypeName);
+    requiresStaticInit = requiresStaticInit || cfg.forceStaticInitCode(containingJTypeName);
     if (needsNativeCode) {
         javaWriter.println();
-        emitJavaInitCode(javaWriter, containingJTypeName);
+        emitJavaInitCode(javaWriter, containingJTypeName, requiresStaticInit);
         javaWriter.println();
     }
     javaWriter.println("}");
     javaWriter.flush();
     javaWriter.close();
     if (needsNativeCode) {
-      emitCInitCode(jniWriter, structClassPkgName, containingJTypeName);
+      emitCInitCode(jniWriter, structClassPkgName, containingJTypeName, requiresStaticInit);
       jniWriter.flush();
       jniWriter.close();
     }
@@ -1193,8 +1389,165 @@ public class JavaEmitter implements GlueEmitter {
         System.err.printf("SE.XX: contJTypeName %s%n", containingJType.getDebugString());
     }
   }
+
+  /**
+   * Returns whether the {@link #generateStructCursor(PrintWriter, String) cursor} of the given struct class is emitted,
+   * which requires the default {@code size()} and constructor.
+   */
+  private boolean hasStructCursor(final String structJTypeName) {
+    return !cfg.manuallyImplement(JavaConfiguration.canonicalStructFieldSymbol(structJTypeName, "cursor")) &&
+           !cfg.manuallyImplement(JavaConfiguration.canonicalStructFieldSymbol(structJTypeName, "size")) &&
+           !cfg.manuallyImplement(JavaConfiguration.canonicalStructFieldSymbol(structJTypeName, structJTypeName));
+  }
+
+  /**
+   * Emits the nested {@code Cursor} class of a struct, an allocation-free flyweight
+   * traversing consecutive struct elements by re-pointing a single instance,
+   * see {@link com.jogamp.common.nio.StructAccessor#setBaseOffset(int)}.
+   */
+  private void generateStructCursor(final PrintWriter javaWriter, final String containingJTypeName) {
+    javaWriter.println("  /**");
+    javaWriter.println("   * Returns a new {@link Cursor} over the consecutive elements of the given buffer,");
+    javaWriter.println("   * starting at byte offset zero up to its limit.");
+    javaWriter.println("   */");
+    javaWriter.println("  public static Cursor cursor(java.nio.ByteBuffer buf) {");
+    javaWriter.println("    return new Cursor(buf, 0, buf.limit() / size());");
+    javaWriter.println("  }");
+    javaWriter.println();
+    javaWriter.println("  /**");
+    javaWriter.println("   * Flyweight cursor over consecutive {@link "+containingJTypeName+"} elements,");
+    javaWriter.println("   * re-pointing a single element instance via {@link #at(int)} and {@link #next()} w/o allocation.");
+    javaWriter.println("   */");
+    javaWriter.println("  public static class Cursor {");
+    javaWriter.println("    private final "+containingJTypeName+" elem;");
+    javaWriter.println("    private final int byteOffset;");
+    javaWriter.println("    private final int elemSize;");
+    javaWriter.println("    private final int count;");
+    javaWriter.println("    private int index;");
+    javaWriter.println();
+    javaWriter.println("    /** Creates a cursor over <code>count</code> elements of the given buffer, starting at <code>byteOffset</code>. */");
+    javaWriter.println("    public Cursor(java.nio.ByteBuffer buf, int byteOffset, int count) {");
+    javaWriter.println("      elemSize = size();");
+    javaWriter.println("      if( 0 > byteOffset || 0 > count || byteOffset + (long)count * elemSize > buf.limit() ) {");
+    javaWriter.println("        throw new IndexOutOfBoundsException(\"byteOffset \"+byteOffset+\" + count \"+count+\" * elemSize \"+elemSize+\" > limit \"+buf.limit());");
+    javaWriter.println("      }");
+    javaWriter.println("      elem = new "+containingJTypeName+"(buf);");
+    javaWriter.println("      elem.accessor.setBaseOffset(byteOffset);");
+    javaWriter.println("      this.byteOffset = byteOffset;");
+    javaWriter.println("      this.count = count;");
+    javaWriter.println("      this.index = -1;");
+    javaWriter.println("    }");
+    javaWriter.println();
+    javaWriter.println("    /** Returns the number of elements. */");
+    javaWriter.println("    public int count() { return count; }");
+    javaWriter.println();
+    javaWriter.println("    /** Returns the index of the current element, -1 before the first {@link #next()}. */");
+    javaWriter.println("    public int index() { return index; }");
+    javaWriter.println();
+    javaWriter.println("    /** Re-points the element instance to the element at the given index and returns it. */");
+    javaWriter.println("    public "+containingJTypeName+" at(int index) {");
+    javaWriter.println("      if( 0 > index || index >= count ) {");
+    javaWriter.println("        throw new IndexOutOfBoundsException(\"index \"+index+\" not within [0..\"+count+\")\");");
+    javaWriter.println("      }");
+    javaWriter.println("      elem.accessor.setBaseOffset(byteOffset + index * elemSize);");
+    javaWriter.println("      this.index = index;");
+    javaWriter.println("      return elem;");
+    javaWriter.println("    }");
+    javaWriter.println();
+    javaWriter.println("    /** Returns whether {@link #next()} has another element. */");
+    javaWriter.println("    public boolean hasNext() { return index + 1 < count; }");
+    javaWriter.println();
+    javaWriter.println("    /** Re-points the element instance to the next element and returns it. */");
+    javaWriter.println("    public "+containingJTypeName+" next() { return at(index + 1); }");
+    javaWriter.println();
+    javaWriter.println("    /** Rewinds this cursor before the first element. */");
+    javaWriter.println("    public Cursor rewind() { index = -1; return this; }");
+    javaWriter.println("  }");
+  }
+
+  /** A struct resolved by {@link #emitStruct(CompoundType, Type)}, pending emission on the worker pool. */
+  private static class StructEmission {
+    final CompoundType structCType;
+    final String structCTypeName;
+    final Type containingCType;
+    final JavaType containingJType;
+
+    StructEmission(final CompoundType structCType, final String structCTypeName,
+                   final Type containingCType, final JavaType containingJType) {
+      this.structCType = structCType;
+      this.structCTypeName = structCTypeName;
+      this.containingCType = containingCType;
+      this.containingJType = containingJType;
+    }
+  }
+
+  /**
+   * Emits all structs of one Java class in their given order,
+   * hence a class emitted more than once results in the same file as in sequential mode.
+   */
+  private class EmitStructsTask extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    final List<StructEmission> structs = new ArrayList<StructEmission>();
+    Exception error;
+
+    @Override
+    protected void compute() {
+      final long cpuStart = beginWorker(report);
+      try {
+        for (final StructEmission s : structs) {
+          try {
+            emitStructClass(s.structCType, s.structCTypeName, s.containingCType, s.containingJType);
+          } catch (final Exception e) {
+            error = e;
+            return;
+          }
+        }
+      } finally {
+        endWorker(report, cpuStart);
+      }
+    }
+  }
+
+  /**
+   * In {@link GlueGen#parallel() parallel mode}, emits all pending structs on the
+   * {@link GlueGen#getWorkerPool() worker pool}, one task per Java class.
+   * <p>
+   * If emission fails, the exception of the first failed struct class in emission order is thrown.
+   * </p>
+   */
   @Override
-  public void endStructs() throws Exception {}
+  public void endStructs() throws Exception {
+    if( pendingStructs.isEmpty() ) {
+        return;
+    }
+    final Map<String, EmitStructsTask> tasksByName = new HashMap<String, EmitStructsTask>();
+    final List<EmitStructsTask> tasks = new ArrayList<EmitStructsTask>();
+    for (final StructEmission s : pendingStructs) {
+      final String containingJTypeName = s.containingJType.getName();
+      EmitStructsTask task = tasksByName.get(containingJTypeName);
+      if( null == task ) {
+          task = new EmitStructsTask();
+          tasksByName.put(containingJTypeName, task);
+          tasks.add(task);
+      }
+      task.structs.add(s);
+    }
+    pendingStructs.clear();
+
+    final ForkJoinPool pool = GlueGen.getWorkerPool();
+    for (final EmitStructsTask task : tasks) {
+      pool.execute(task);
+    }
+    for (final EmitStructsTask task : tasks) {
+      task.join();
+    }
+    for (final EmitStructsTask task : tasks) {
+      if( null != task.error ) {
+          throw task.error;
+      }
+    }
+  }
 
   public static int addStrings2Buffer(StringBuilder buf, final String sep, final String first, final Collection<String> col) {
     int num = 0;
@@ -1260,30 +1613,39 @@ public class JavaEmitter implements GlueEmitter {
       writer.print(")");
   }
 
-  private void generateOffsetAndSizeArrays(final PrintWriter writer, final String prefix,
+  /**
+   * Returns whether the struct's field offsets and sizes are emitted as {@code static final int},
+   * see {@link JavaConfiguration#staticStructOffsets()}.
+   */
+  private boolean useStaticStructOffsets(final String containingJTypeName) {
+      return cfg.staticStructOffsets() && null == cfg.returnStructMachineDataInfoIndex(containingJTypeName);
+  }
+
+  /**
+   * Returns the suffix selecting the running ABI's value of the struct's {@code _offset} and {@code _size} fields,
+   * i.e. {@code [mdIdx]} for per-ABI arrays or empty for {@link #useStaticStructOffsets(String) static offsets}.
+   */
+  private String getMachineDataInfoIndexSelector(final String containingJTypeName) {
+      return useStaticStructOffsets(containingJTypeName) ? "" : "[mdIdx]";
+  }
+
+  private void generateOffsetAndSizeArrays(final PrintWriter writer, final boolean staticOffsets, final String prefix,
                                            final String fieldName, final Type fieldType,
                                            final Field field, final String postfix) {
       if(null != field) {
-          writer.print(prefix+"private static final int[] "+fieldName+"_offset = new int[] { ");
+          final int[] offsets = new int[machDescTargetConfigs.length];
           for( int i=0; i < machDescTargetConfigs.length; i++ ) {
-              if(0<i) {
-                  writer.print(", ");
-              }
-              writer.print(field.getOffset(machDescTargetConfigs[i].md) +
-                           " /* " + machDescTargetConfigs[i].name() + " */");
+              offsets[i] = (int) field.getOffset(machDescTargetConfigs[i].md);
           }
-          writer.println(" };");
+          generateOffsetOrSize(writer, staticOffsets, prefix, fieldName+"_offset", offsets, " ");
+          writer.println();
       }
       if(null!=fieldType) {
-          writer.print(prefix+"private static final int[] "+fieldName+"_size = new int[] { ");
+          final int[] sizes = new int[machDescTargetConfigs.length];
           for( int i=0; i < machDescTargetConfigs.length; i++ ) {
-              if(0<i) {
-                  writer.print(", ");
-              }
-              writer.print(fieldType.getSize(machDescTargetConfigs[i].md) +
-                           " /* " + machDescTargetConfigs[i].name() + " */");
+              sizes[i] = (int) fieldType.getSize(machDescTargetConfigs[i].md);
           }
-          writer.print("  };");
+          generateOffsetOrSize(writer, staticOffsets, prefix, fieldName+"_size", sizes, "  ");
           if( null != postfix ) {
               writer.println(postfix);
           } else {
@@ -1292,6 +1654,33 @@ public class JavaEmitter implements GlueEmitter {
       }
   }
 
+  /**
+   * Emits the per-ABI values of a struct field offset or size as an array indexed by {@code mdIdx},
+   * or in {@link #useStaticStructOffsets(String) static mode} as a {@code static final int}
+   * holding the running ABI's value, which is a trusted constant for the JIT.
+   * The latter is a compile-time constant if {@link JavaConfiguration#staticStructOffsetsTarget() a single ABI} is targeted.
+   */
+  private void generateOffsetOrSize(final PrintWriter writer, final boolean staticOffsets, final String prefix,
+                                    final String name, final int[] values, final String tail) {
+      final MachineDataInfo.StaticConfig target = cfg.staticStructOffsetsTarget();
+      if( staticOffsets && null != target ) {
+          writer.print(prefix+"private static final int "+name+" = "+values[target.ordinal()]+" /* " + target.name() + " */;");
+          return;
+      }
+      if( staticOffsets ) {
+          writer.print(prefix+"private static final int "+name+" = ( new int[] { ");
+      } else {
+          writer.print(prefix+"private static final int[] "+name+" = new int[] { ");
+      }
+      for( int i=0; i < machDescTargetConfigs.length; i++ ) {
+          if(0<i) {
+              writer.print(", ");
+          }
+          writer.print(values[i] + " /* " + machDescTargetConfigs[i].name() + " */");
+      }
+      writer.print(tail+"}"+( staticOffsets ? " )[mdIdx];" : ";" ));
+  }
+
   private void generateFunctionPointerCode(final Set<MethodBinding> methodBindingSet,
           final PrintWriter javaWriter, final PrintWriter jniWriter,
           final String structCTypeName, final String structClassPkgName,
@@ -1522,13 +1911,18 @@ public class JavaEmitter implements GlueEmitter {
       return false;
   }
 
-  private void generateArrayGetterSetterCode(final Set<MethodBinding> methodBindingSet,
+  /**
+   * @return {@code true} if the generated accessors require the static initialization of the struct class,
+   *         see {@link #emitJavaInitCode(PrintWriter, String, boolean)}.
+   */
+  private boolean generateArrayGetterSetterCode(final Set<MethodBinding> methodBindingSet,
                                              final PrintWriter javaWriter, final PrintWriter jniWriter,
                                              final CompoundType structCType,
                                              final String structCTypeName, final String structClassPkgName,
                                              final Type containingCType, final JavaType containingJType,
                                              final int i, final Field field, final String fieldName,
                                              final String returnSizeLookupName) throws Exception {
+      final String mdIdxSel = getMachineDataInfoIndexSelector(containingJType.getName());
       final Type fieldType = field.getType();
       final JavaType javaType;
       try {
@@ -1603,7 +1997,7 @@ public class JavaEmitter implements GlueEmitter {
                       final String msg = "SKIP ptr-ptr (depth "+pointerType.pointerDepth()+"): "+returnSizeLookupName +": "+fieldType;
                       javaWriter.println("  // "+msg);
                       LOG.log(WARNING, structCType.getASTLocusTag(), msg);
-                      return;
+                      return false;
                   }
               }
               if( GlueGen.debug() ) {
@@ -1627,7 +2021,7 @@ public class JavaEmitter implements GlueEmitter {
                   final String msg = "SKIP primitive w/ platform dependent sized type in struct: "+returnSizeLookupName+": "+fieldType.getDebugString();
                   javaWriter.println("  // "+msg);
                   LOG.log(WARNING, structCType.getASTLocusTag(), msg);
-                  return;
+                  return false;
               }
           }
           if( GlueGen.debug() ) {
@@ -1641,7 +2035,6 @@ public class JavaEmitter implements GlueEmitter {
               useGetCStringLength = true;
               _arrayLengthExpr = "getCStringLengthImpl(pString)+1";
               _arrayLengthExprIsConst = false;
-              this.requiresStaticInitialization = true;
               LOG.log(INFO, structCType.getASTLocusTag(), "StaticInit Trigger.3 \"{0}\"", returnSizeLookupName);
           } else {
               useGetCStringLength = false;
@@ -1653,7 +2046,7 @@ public class JavaEmitter implements GlueEmitter {
               final String msg = "SKIP unsized array in struct: "+returnSizeLookupName+": "+fieldType.getDebugString();
               javaWriter.println("  // "+msg);
               LOG.log(WARNING, structCType.getASTLocusTag(), msg);
-              return;
+              return false;
           }
           boolean _hasSingleElement=false;
           try {
@@ -1695,9 +2088,9 @@ public class JavaEmitter implements GlueEmitter {
                       generateSetterSignature(javaWriter, fieldType, false, containingJTypeName, fieldName, capitalFieldName, null, baseJElemTypeName, null, arrayLengthExpr);
                       javaWriter.println(" {");
                       if( baseCElemNativeSizeFixed ) {
-                          javaWriter.println("    accessor.set" + baseJElemTypeNameC + "At(" + fieldName+"_offset[mdIdx], val);");
+                          javaWriter.println("    accessor.set" + baseJElemTypeNameC + "At(" + fieldName+"_offset"+mdIdxSel+", val);");
                       } else {
-                          javaWriter.println("    accessor.set" + baseJElemTypeNameC + "At(" + fieldName+"_offset[mdIdx], val, md."+baseCElemSizeDenominator+"SizeInBytes());");
+                          javaWriter.println("    accessor.set" + baseJElemTypeNameC + "At(" + fieldName+"_offset"+mdIdxSel+", val, md."+baseCElemSizeDenominator+"SizeInBytes());");
                       }
                       javaWriter.println("    return this;");
                       javaWriter.println("  }");
@@ -1709,8 +2102,8 @@ public class JavaEmitter implements GlueEmitter {
                       javaWriter.println("    final int elemSize = Buffers.SIZEOF_"+baseJElemTypeNameU+";");
                       javaWriter.println("    final ByteBuffer destB = getBuffer();");
                       javaWriter.println("    final int bTotal = arrayLength * elemSize;");
-                      javaWriter.println("    if( bTotal > "+fieldName+"_size[mdIdx] ) { throw new IndexOutOfBoundsException(\"bTotal \"+bTotal+\" > size \"+"+fieldName+"_size[mdIdx]+\", elemSize \"+elemSize+\" * \"+arrayLength); };");
-                      javaWriter.println("    int bOffset = "+fieldName+"_offset[mdIdx];");
+                      javaWriter.println("    if( bTotal > "+fieldName+"_size"+mdIdxSel+" ) { throw new IndexOutOfBoundsException(\"bTotal \"+bTotal+\" > size \"+"+fieldName+"_size"+mdIdxSel+"+\", elemSize \"+elemSize+\" * \"+arrayLength); };");
+                      javaWriter.println("    int bOffset = "+fieldName+"_offset"+mdIdxSel+";");
                       javaWriter.println("    final int bLimes = bOffset + bTotal;");
                       javaWriter.println("    if( bLimes > destB.limit() ) { throw new IndexOutOfBoundsException(\"bLimes \"+bLimes+\" > buffer.limit \"+destB.limit()+\", elemOff \"+bOffset+\", elemSize \"+elemSize+\" * \"+arrayLength); };");
                       javaWriter.println("    bOffset += elemSize * offset;");
@@ -1733,8 +2126,8 @@ public class JavaEmitter implements GlueEmitter {
                       javaWriter.println(" {");
                       javaWriter.println("    final int elemSize = "+baseJElemTypeName+".size();");
                       javaWriter.println("    final ByteBuffer destB = getBuffer();");
-                      javaWriter.println("    if( elemSize > "+fieldName+"_size[mdIdx] ) { throw new IndexOutOfBoundsException(\"elemSize \"+elemSize+\" > size \"+"+fieldName+"_size[mdIdx]); };");
-                      javaWriter.println("    int bOffset = "+fieldName+"_offset[mdIdx];");
+                      javaWriter.println("    if( elemSize > "+fieldName+"_size"+mdIdxSel+" ) { throw new IndexOutOfBoundsException(\"elemSize \"+elemSize+\" > size \"+"+fieldName+"_size"+mdIdxSel+"); };");
+                      javaWriter.println("    int bOffset = "+fieldName+"_offset"+mdIdxSel+";");
                       javaWriter.println("    final int bLimes = bOffset + elemSize;");
                       javaWriter.println("    if( bLimes > destB.limit() ) { throw new IndexOutOfBoundsException(\"bLimes \"+bLimes+\" > buffer.limit \"+destB.limit()+\", elemOff \"+bOffset+\", elemSize \"+elemSize); };");
                       javaWriter.println("    final ByteBuffer sourceB = val.getBuffer();");
@@ -1752,8 +2145,8 @@ public class JavaEmitter implements GlueEmitter {
                       javaWriter.println("    final int elemSize = "+baseJElemTypeName+".size();");
                       javaWriter.println("    final ByteBuffer destB = getBuffer();");
                       javaWriter.println("    final int bTotal = arrayLength * elemSize;");
-                      javaWriter.println("    if( bTotal > "+fieldName+"_size[mdIdx] ) { throw new IndexOutOfBoundsException(\"bTotal \"+bTotal+\" > size \"+"+fieldName+"_size[mdIdx]+\", elemSize \"+elemSize+\" * \"+arrayLength); };");
-                      javaWriter.println("    int bOffset = "+fieldName+"_offset[mdIdx];");
+                      javaWriter.println("    if( bTotal > "+fieldName+"_size"+mdIdxSel+" ) { throw new IndexOutOfBoundsException(\"bTotal \"+bTotal+\" > size \"+"+fieldName+"_size"+mdIdxSel+"+\", elemSize \"+elemSize+\" * \"+arrayLength); };");
+                      javaWriter.println("    int bOffset = "+fieldName+"_offset"+mdIdxSel+";");
                       javaWriter.println("    final int bLimes = bOffset + bTotal;");
                       javaWriter.println("    if( bLimes > destB.limit() ) { throw new IndexOutOfBoundsException(\"bLimes \"+bLimes+\" > buffer.limit \"+destB.limit()+\", elemOff \"+bOffset+\", elemSize \"+elemSize+\" * \"+arrayLength); };");
                       javaWriter.println("    bOffset += elemSize * offset;");
@@ -1773,8 +2166,8 @@ public class JavaEmitter implements GlueEmitter {
                       javaWriter.println("    final int elemSize = "+baseJElemTypeName+".size();");
                       javaWriter.println("    final ByteBuffer destB = getBuffer();");
                       javaWriter.println("    final int bTotal = arrayLength * elemSize;");
-                      javaWriter.println("    if( bTotal > "+fieldName+"_size[mdIdx] ) { throw new IndexOutOfBoundsException(\"bTotal \"+bTotal+\" > size \"+"+fieldName+"_size[mdIdx]+\", elemSize \"+elemSize+\" * \"+arrayLength); };");
-                      javaWriter.println("    int bOffset = "+fieldName+"_offset[mdIdx];");
+                      javaWriter.println("    if( bTotal > "+fieldName+"_size"+mdIdxSel+" ) { throw new IndexOutOfBoundsException(\"bTotal \"+bTotal+\" > size \"+"+fieldName+"_size"+mdIdxSel+"+\", elemSize \"+elemSize+\" * \"+arrayLength); };");
+                      javaWriter.println("    int bOffset = "+fieldName+"_offset"+mdIdxSel+";");
                       javaWriter.println("    final int bLimes = bOffset + bTotal;");
                       javaWriter.println("    if( bLimes > destB.limit() ) { throw new IndexOutOfBoundsException(\"bLimes \"+bLimes+\" > buffer.limit \"+destB.limit()+\", elemOff \"+bOffset+\", elemSize \"+elemSize+\" * \"+arrayLength); };");
                       javaWriter.println("    bOffset += elemSize * index;");
@@ -1848,7 +2241,7 @@ public class JavaEmitter implements GlueEmitter {
                   javaWriter.println();
                   generateGetterSignature(javaWriter, fieldType, false, false, "final int", fieldName, capitalFieldName+"ArrayLength", null, arrayLengthExpr);
                   javaWriter.println(" {");
-                  javaWriter.println("    final long pString = PointerBuffer.wrap( accessor.slice(" + fieldName+"_offset[mdIdx],  PointerBuffer.ELEMENT_SIZE) ).get(0);");
+                  javaWriter.println("    final long pString = PointerBuffer.wrap( accessor.slice(" + fieldName+"_offset"+mdIdxSel+",  PointerBuffer.ELEMENT_SIZE) ).get(0);");
                   javaWriter.println("    return "+arrayLengthExpr+";");
                   javaWriter.println("  }");
               }
@@ -1858,16 +2251,16 @@ public class JavaEmitter implements GlueEmitter {
                   generateGetterSignature(javaWriter, fieldType, false, false, baseJElemTypeName, fieldName, capitalFieldName, null, arrayLengthExpr);
                   javaWriter.println(" {");
                   if( baseCElemNativeSizeFixed ) {
-                      javaWriter.println("    return accessor.get" + baseJElemTypeNameC + "At(" + fieldName+"_offset[mdIdx]);");
+                      javaWriter.println("    return accessor.get" + baseJElemTypeNameC + "At(" + fieldName+"_offset"+mdIdxSel+");");
                   } else {
-                      javaWriter.println("    return accessor.get" + baseJElemTypeNameC + "At(" + fieldName+"_offset[mdIdx], md."+baseCElemSizeDenominator+"SizeInBytes());");
+                      javaWriter.println("    return accessor.get" + baseJElemTypeNameC + "At(" + fieldName+"_offset"+mdIdxSel+", md."+baseCElemSizeDenominator+"SizeInBytes());");
                   }
                   javaWriter.println("  }");
                   javaWriter.println();
               } else {
                   generateGetterSignature(javaWriter, fieldType, false, false, baseJElemTypeNameC+"Buffer", fieldName, capitalFieldName, null, arrayLengthExpr);
                   javaWriter.println(" {");
-                  javaWriter.print("    return accessor.slice(" + fieldName+"_offset[mdIdx],  Buffers.SIZEOF_"+baseJElemTypeNameU+" * "+arrayLengthExpr+")");
+                  javaWriter.print("    return accessor.slice(" + fieldName+"_offset"+mdIdxSel+",  Buffers.SIZEOF_"+baseJElemTypeNameU+" * "+arrayLengthExpr+")");
                   if( !isByteBuffer ) {
                       javaWriter.print(".as"+baseJElemTypeNameC+"Buffer()");
                   }
@@ -1877,7 +2270,7 @@ public class JavaEmitter implements GlueEmitter {
                   if( isString && isByteBuffer ) {
                       generateGetterSignature(javaWriter, fieldType, false, false, "String", fieldName, capitalFieldName+"AsString", null, arrayLengthExpr);
                       javaWriter.println(" {");
-                      javaWriter.println("    final int offset = " + fieldName+"_offset[mdIdx];");
+                      javaWriter.println("    final int offset = " + fieldName+"_offset"+mdIdxSel+";");
                       javaWriter.println("    final int arrayLength = "+arrayLengthExpr+";");
                       javaWriter.println("    final ByteBuffer bb = getBuffer();");
                       javaWriter.println("    final byte[] ba = new byte[arrayLength];");
@@ -1893,7 +2286,7 @@ public class JavaEmitter implements GlueEmitter {
                       javaWriter.println(" {");
                       javaWriter.println("    final int arrayLength = "+arrayLengthExpr+";");
                       javaWriter.println("    if( offset + result.length > arrayLength ) { throw new IndexOutOfBoundsException(\"offset \"+offset+\" + result.length \"+result.length+\" > array-length \"+arrayLength); };");
-                      javaWriter.println("    return accessor.get" + baseJElemTypeNameC + "sAt(" + fieldName+"_offset[mdIdx] + (Buffers.SIZEOF_"+baseJElemTypeNameU+" * offset), result);");
+                      javaWriter.println("    return accessor.get" + baseJElemTypeNameC + "sAt(" + fieldName+"_offset"+mdIdxSel+" + (Buffers.SIZEOF_"+baseJElemTypeNameU+" * offset), result);");
                       javaWriter.println("  }");
                       javaWriter.println();
                   }
@@ -1903,6 +2296,7 @@ public class JavaEmitter implements GlueEmitter {
           // Getter Struct
           if( isPointer ) {
               // Getter Struct Pointer
+              final boolean javaDeref = cfg.structPointerJavaDeref();
               final FunctionType ft = new FunctionType(dummyFuncTypeName, SizeThunk.POINTER, fieldType, 0);
               ft.addArgument(containingCType.newCVVariant(containingCType.getCVAttributes() | CVAttributes.CONST),
                              CMethodBindingEmitter.cThisArgumentName());
@@ -1920,31 +2314,60 @@ public class JavaEmitter implements GlueEmitter {
               if( hasSingleElement ) {
                   generateGetterSignature(javaWriter, fieldType, false, false, baseJElemTypeName, fieldName, capitalFieldName, null, arrayLengthExpr);
                   javaWriter.println(" {");
-                  javaWriter.println("    final ByteBuffer source = getBuffer();");
-                  javaWriter.println("    final ByteBuffer _res = get"+capitalFieldName+"0(source, 0);");
-                  javaWriter.println("    if (_res == null) return null;");
-                  javaWriter.println("    return "+baseJElemTypeName+".create(_res);");
+                  if( javaDeref ) {
+                      javaWriter.println("    final long _addr = accessor.getLongAt("+fieldName+"_offset"+mdIdxSel+", PointerBuffer.ELEMENT_SIZE);");
+                      javaWriter.println("    if (0 == _addr) return null;");
+                      javaWriter.println("    return "+baseJElemTypeName+".create(NativeAddressBuffers.wrap(_addr, "+baseJElemTypeName+".size()));");
+                  } else {
+                      javaWriter.println("    final ByteBuffer source = getBuffer();");
+                      javaWriter.println("    final ByteBuffer _res = get"+capitalFieldName+"0(source, 0);");
+                      javaWriter.println("    if (_res == null) return null;");
+                      javaWriter.println("    return "+baseJElemTypeName+".create(_res);");
+                  }
                   javaWriter.println("  }");
               } else {
                   generateGetterSignature(javaWriter, fieldType, false, false, baseJElemTypeName+"[]", fieldName, capitalFieldName, "final int offset, "+baseJElemTypeName+" result[]", arrayLengthExpr);
                   javaWriter.println(" {");
                   javaWriter.println("    final int arrayLength = "+arrayLengthExpr+";");
                   javaWriter.println("    if( offset + result.length > arrayLength ) { throw new IndexOutOfBoundsException(\"offset \"+offset+\" + result.length \"+result.length+\" > array-length \"+arrayLength); };");
-                  javaWriter.println("    final ByteBuffer source = getBuffer();");
-                  javaWriter.println("    for(int index=0; index<result.length; index++) {");
-                  javaWriter.println("      final ByteBuffer _res = get"+capitalFieldName+"0(source, offset+index);");
-                  javaWriter.println("      if (_res == null) return null;");
-                  javaWriter.println("      result[index] = "+baseJElemTypeName+".create(_res);");
-                  javaWriter.println("    }");
+                  if( javaDeref ) {
+                      javaWriter.println("    final long _addr = accessor.getLongAt("+fieldName+"_offset"+mdIdxSel+", PointerBuffer.ELEMENT_SIZE);");
+                      javaWriter.println("    if (0 == _addr) return null;");
+                      javaWriter.println("    final int elemSize = "+baseJElemTypeName+".size();");
+                      javaWriter.println("    final StructAccessor _elems = new StructAccessor(NativeAddressBuffers.wrap(_addr + (long)elemSize * offset, (long)elemSize * result.length));");
+                      javaWriter.println("    for(int index=0; index<result.length; index++) {");
+                      javaWriter.println("      result[index] = "+baseJElemTypeName+".create(_elems.slice(elemSize * index, elemSize));");
+                      javaWriter.println("    }");
+                  } else {
+                      javaWriter.println("    final ByteBuffer source = getBuffer();");
+                      javaWriter.println("    for(int index=0; index<result.length; index++) {");
+                      javaWriter.println("      final ByteBuffer _res = get"+capitalFieldName+"0(source, offset+index);");
+                      javaWriter.println("      if (_res == null) return null;");
+                      javaWriter.println("      result[index] = "+baseJElemTypeName+".create(_res);");
+                      javaWriter.println("    }");
+                  }
                   javaWriter.println("    return result;");
                   javaWriter.println("  }");
+                  if( hasStructCursor(baseJElemTypeName) ) {
+                      javaWriter.println();
+                      javaWriter.println("  /**");
+                      javaWriter.println("   * Returns a new allocation-free {@link "+baseJElemTypeName+".Cursor} over the elements referenced by native field <code>"+fieldName+"</code>,");
+                      javaWriter.println("   * with array length of <code>"+arrayLengthExpr+"</code>, or null if the pointer is NULL.");
+                      javaWriter.println("   */");
+                      javaWriter.println("  public "+baseJElemTypeName+".Cursor get"+capitalFieldName+"Cursor() {");
+                      javaWriter.println("    final long _addr = accessor.getLongAt("+fieldName+"_offset"+mdIdxSel+", PointerBuffer.ELEMENT_SIZE);");
+                      javaWriter.println("    if (0 == _addr) return null;");
+                      javaWriter.println("    final int arrayLength = "+arrayLengthExpr+";");
+                      javaWriter.println("    return new "+baseJElemTypeName+".Cursor(NativeAddressBuffers.wrap(_addr, (long)"+baseJElemTypeName+".size() * arrayLength), 0, arrayLength);");
+                      javaWriter.println("  }");
+                  }
               }
           } else {
               // Getter Struct Array
               if( hasSingleElement ) {
                   generateGetterSignature(javaWriter, fieldType, false, false, baseJElemTypeName, fieldName, capitalFieldName, null, arrayLengthExpr);
                   javaWriter.println(" {");
-                  javaWriter.println("    return "+baseJElemTypeName+".create(accessor.slice("+fieldName+"_offset[mdIdx], "+baseJElemTypeName+".size()));");
+                  javaWriter.println("    return "+baseJElemTypeName+".create(accessor.slice("+fieldName+"_offset"+mdIdxSel+", "+baseJElemTypeName+".size()));");
                   javaWriter.println("  }");
               } else {
                   generateGetterSignature(javaWriter, fieldType, false, false, baseJElemTypeName+"[]", fieldName, capitalFieldName, "final int offset, "+baseJElemTypeName+" result[]", arrayLengthExpr);
@@ -1952,7 +2375,7 @@ public class JavaEmitter implements GlueEmitter {
                   javaWriter.println("    final int arrayLength = "+arrayLengthExpr+";");
                   javaWriter.println("    if( offset + result.length > arrayLength ) { throw new IndexOutOfBoundsException(\"offset \"+offset+\" + result.length \"+result.length+\" > array-length \"+arrayLength); };");
                   javaWriter.println("    final int elemSize = "+baseJElemTypeName+".size();");
-                  javaWriter.println("    int bOffset = "+fieldName+"_offset[mdIdx] + ( elemSize * offset );");
+                  javaWriter.println("    int bOffset = "+fieldName+"_offset"+mdIdxSel+" + ( elemSize * offset );");
                   javaWriter.println("    for(int index=0; index<result.length; index++) {");
                   javaWriter.println("      result[index] = "+baseJElemTypeName+".create(accessor.slice(bOffset, elemSize));");
                   javaWriter.println("      bOffset += elemSize;");
@@ -1960,8 +2383,16 @@ public class JavaEmitter implements GlueEmitter {
                   javaWriter.println("    return result;");
                   javaWriter.println("  }");
               }
+              if( !hasSingleElement && hasStructCursor(baseJElemTypeName) ) {
+                  javaWriter.println();
+                  javaWriter.println("  /** Returns a new allocation-free {@link "+baseJElemTypeName+".Cursor} over the elements of native field <code>"+fieldName+"</code>, with array length of <code>"+arrayLengthExpr+"</code> */");
+                  javaWriter.println("  public "+baseJElemTypeName+".Cursor get"+capitalFieldName+"Cursor() {");
+                  javaWriter.println("    return new "+baseJElemTypeName+".Cursor(accessor.getBuffer(), "+fieldName+"_offset"+mdIdxSel+", "+arrayLengthExpr+");");
+                  javaWriter.println("  }");
+              }
           }
       }
+      return useGetCStringLength;
   }
 
   private JavaType typeToJavaType(final Type cType, final MachineDataInfo curMachDesc) {
@@ -2212,6 +2643,7 @@ public class JavaEmitter implements GlueEmitter {
    * @param simpleClassName the simple class name, i.e. w/o package name
    * @return a {@link PrintWriter} instance to write the class source file or <code>null</code> to suppress output!
    * @throws IOException
+   * @see GlueGen#incremental()
    */
   protected PrintWriter openFile(final String filename, final String simpleClassName) throws IOException {
     //System.out.println("Trying to open: " + filename);
@@ -2220,7 +2652,33 @@ public class JavaEmitter implements GlueEmitter {
     if (parentDir != null) {
         new File(parentDir).mkdirs();
     }
-    return new PrintWriter(new BufferedWriter(new FileWriter(file)));
+    synchronized( outputFiles ) {
+        outputFiles.add(file);
+    }
+    // only replace the file if its content has changed
+    final Writer out;
+    if( GlueGen.incremental() ) {
+        out = new ChangedFileWriter(file);
+    } else if( null != report ) {
+        // as FileWriter, counting the encoded bytes
+        out = new OutputStreamWriter(report.wrap(new FileOutputStream(file)));
+    } else {
+        out = new FileWriter(file);
+    }
+    if( null != report ) {
+        return new PrintWriter(new BufferedWriter(report.wrap(out)));
+    }
+    if( GlueGen.incremental() ) {
+        return new PrintWriter(out);
+    }
+    return new PrintWriter(new BufferedWriter(out));
+  }
+
+  /** Returns all files opened for output via {@link #openFile(String, String)}. */
+  public List<File> getOutputFiles() {
+    synchronized( outputFiles ) {
+        return new ArrayList<File>(outputFiles);
+    }
   }
 
   private boolean isOpaque(final Type type) {
@@ -2593,7 +3051,12 @@ public class JavaEmitter implements GlueEmitter {
          "\n";
 
   protected void emitCInitCode(final PrintWriter cWriter, final String packageName, final String className) {
-    if ( requiresStaticInitialization(className) ) {
+    emitCInitCode(cWriter, packageName, className, requiresStaticInitialization(className));
+  }
+
+  protected void emitCInitCode(final PrintWriter cWriter, final String packageName, final String className,
+                               final boolean requiresStaticInit) {
+    if ( requiresStaticInit ) {
       cWriter.println(staticClassInitCodeCCode);
       cWriter.println("JNIEXPORT jboolean JNICALL "+JavaEmitter.getJNIMethodNamePrefix(packageName, className)+"_initializeImpl(JNIEnv *env, jclass _unused) {");
       cWriter.println("    return _initClazzAccess(env);");
@@ -2607,7 +3070,11 @@ public class JavaEmitter implements GlueEmitter {
   }
 
   protected void emitJavaInitCode(final PrintWriter jWriter, final String className) {
-    if( null != jWriter && requiresStaticInitialization(className) ) {
+    emitJavaInitCode(jWriter, className, requiresStaticInitialization(className));
+  }
+
+  protected void emitJavaInitCode(final PrintWriter jWriter, final String className, final boolean requiresStaticInit) {
+    if( null != jWriter && requiresStaticInit ) {
         jWriter.println();
         jWriter.println("  private static native boolean initializeImpl();");
         jWriter.println();
@@ -2832,9 +3299,37 @@ public class JavaEmitter implements GlueEmitter {
       // NOP
   }
 
+  private static boolean isNativeMemoryArgument(final MethodBinding binding, final int i) {
+    // Fixed size C arrays stay NIO buffers, they are length checked and never exceed 2 GB
+    return binding.getJavaArgumentType(i).isCPrimitivePointerType() && !binding.getCArgumentType(i).isArray();
+  }
+
+  private static boolean signatureHasNativeMemoryArguments(final MethodBinding binding) {
+    for (int i = 0; i < binding.getNumArguments(); i++) {
+      if (isNativeMemoryArgument(binding, i)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Lowers all C primitive pointer arguments, except fixed size C arrays, to {@link com.jogamp.common.nio.NativeMemory} segments,
+   * passed to native code by their address, and the return type as {@link #lowerMethodBindingPointerTypes(MethodBinding, boolean, boolean[])}.
+   */
+  private MethodBinding lowerMethodBindingPointerTypesToNativeMemory(final MethodBinding inputBinding) {
+    MethodBinding result = inputBinding;
+    for (int i = 0; i < inputBinding.getNumArguments(); i++) {
+      if (isNativeMemoryArgument(inputBinding, i)) {
+        result = result.replaceJavaArgumentType(i, JavaType.forNativeMemoryClass());
+      }
+    }
+    return lowerMethodBindingPointerTypes(result, false, null);
+  }
+
   // Expands a MethodBinding containing C primitive pointer types into
   // multiple variants taking Java primitive arrays and NIO buffers, subject
-  // to the per-function "NIO only" rule in the configuration file
+  // to the per-function "NIO only" and "NativeMemory" rules in the configuration file
   protected List<MethodBinding> expandMethodBinding(final MethodBinding binding) {
 
     final List<MethodBinding> result = new ArrayList<MethodBinding>();
@@ -2853,6 +3348,9 @@ public class JavaEmitter implements GlueEmitter {
           !cfg.useNIOOnly(binding.getName()) ) {
         result.add(lowerMethodBindingPointerTypes(binding, true, null));
       }
+      if ( cfg.useNativeMemory(binding.getName()) && signatureHasNativeMemoryArguments(binding) ) {
+        result.add(lowerMethodBindingPointerTypesToNativeMemory(binding));
+      }
     } else {
       result.add(binding);
     }
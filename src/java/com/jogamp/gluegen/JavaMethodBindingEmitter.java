@@ -289,6 +289,9 @@ public class JavaMethodBindingEmitter extends FunctionEmitter {
         // Arrays of direct Buffers sent down as Object[]
         // (Note we don't yet support returning void**)
         return "Object[]";
+      } else if (type.isNativeMemory()) {
+        // NativeMemory segments are sent down as their address
+        return "long";
       } else if (type.isCompoundTypeWrapper()) {
         // Compound type wrappers are unwrapped to ByteBuffer
         return "ByteBuffer";
@@ -659,6 +662,8 @@ public class JavaMethodBindingEmitter extends FunctionEmitter {
           }
       } else if (type.isArrayOfCompoundTypeWrappers()) {
           writer.print(getArgumentName(i) + COMPOUND_ARRAY_SUFFIX);
+      } else if (type.isNativeMemory()) {
+          writer.print("( null != " + getArgumentName(i) + " ? " + getArgumentName(i) + ".getAddress() : 0 )");
       } else {
           writer.print(getArgumentName(i));
       }
@@ -74,6 +74,7 @@ public class JavaType {
   private static JavaType nioFloatBufferType;
   private static JavaType nioDoubleBufferType;
   private static JavaType nioByteBufferArrayType;
+  private static JavaType nativeMemoryType;
 
   @Override
   public boolean equals(final Object arg) {
@@ -233,6 +234,13 @@ public class JavaType {
     return nioByteBufferArrayType;
   }
 
+  public static JavaType forNativeMemoryClass() {
+    if (nativeMemoryType == null) {
+      nativeMemoryType = createForClass(com.jogamp.common.nio.NativeMemory.class);
+    }
+    return nativeMemoryType;
+  }
+
   /**
    * Returns the Java Class corresponding to this type. Returns null if this
    * object corresponds to a C primitive array type.
@@ -306,6 +314,11 @@ public class JavaType {
       return "j" + clazz.getName();
     }
 
+    if (isNativeMemory()) {
+      // These are sent down as their native address
+      return "jlong";
+    }
+
     if (isPrimitiveArray() || isNIOBuffer()) {
       // We now pass primitive arrays and buffers uniformly down to native code as java.lang.Object.
       return "jobject";
@@ -372,6 +385,10 @@ public class JavaType {
     return (clazz == com.jogamp.common.nio.PointerBuffer.class);
   }
 
+  public boolean isNativeMemory() {
+    return (clazz == com.jogamp.common.nio.NativeMemory.class);
+  }
+
   public boolean isString() {
     return (clazz == java.lang.String.class);
   }
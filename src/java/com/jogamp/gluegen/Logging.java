@@ -275,11 +275,12 @@ public class Logging {
     }
     static class PlainLogFormatter extends Formatter {
         final String simpleClassName;
-        ASTLocusTag astLocus;
+        /** Per thread, since emitters may log concurrently, see {@link GlueGen#parallel()}. */
+        final ThreadLocal<ASTLocusTag> astLocus = new ThreadLocal<ASTLocusTag>();
         PlainLogFormatter(final String simpleClassName) {
             this.simpleClassName = simpleClassName;
         }
-        public void setASTLocusTag(final ASTLocusTag loc) { astLocus = loc; }
+        public void setASTLocusTag(final ASTLocusTag loc) { astLocus.set(loc); }
         @Override
         public String format(final LogRecord record) {
             // Replace [Type, JavaType] -> its debug string!
@@ -297,8 +298,9 @@ public class Logging {
                 }
             }
             final StringBuilder sb = new StringBuilder(256);
-            if( null != astLocus ) {
-                astLocus.toString(sb, getCanonicalName(record.getLevel()), GlueGen.debug()).append(": ");
+            final ASTLocusTag loc = astLocus.get();
+            if( null != loc ) {
+                loc.toString(sb, getCanonicalName(record.getLevel()), GlueGen.debug()).append(": ");
             }
             if( GlueGen.debug() ) {
                 sb.append(simpleClassName).append(": ");
@@ -68,6 +68,7 @@ public class MethodBinding {
   private boolean        signatureUsesCPrimitivePointers;
   private boolean        signatureUsesCArrays;
   private boolean        signatureUsesJavaPrimitiveArrays;
+  private boolean        signatureUsesNativeMemory;
   private boolean        signatureRequiresStaticInitialization;
   private int            thisPointerIndex = -1;
 
@@ -95,6 +96,7 @@ public class MethodBinding {
     this.signatureUsesCPrimitivePointers  = bindingToCopy.signatureUsesCPrimitivePointers;
     this.signatureUsesCArrays             = bindingToCopy.signatureUsesCArrays;
     this.signatureUsesJavaPrimitiveArrays = bindingToCopy.signatureUsesJavaPrimitiveArrays;
+    this.signatureUsesNativeMemory        = bindingToCopy.signatureUsesNativeMemory;
     this.signatureRequiresStaticInitialization = bindingToCopy.signatureRequiresStaticInitialization;
     this.thisPointerIndex                 = bindingToCopy.thisPointerIndex;
   }
@@ -299,11 +301,22 @@ public class MethodBinding {
   /**
    * Returns true if the function needs NIO-related
    * wrapping/unwrapping or conversion of various arguments. Currently
-   * this returns the logical OR of signatureUsesNIO(),
-   * signatureUsesCompoundTypeWrappers() and signatureUsesArraysOfCompoundTypeWrappers().
+   * this returns the logical OR of signatureUsesNIO(), signatureUsesCompoundTypeWrappers(),
+   * signatureUsesArraysOfCompoundTypeWrappers() and signatureUsesNativeMemory().
    */
   public boolean needsNIOWrappingOrUnwrapping() {
-    return (signatureUsesNIO() || signatureUsesCompoundTypeWrappers() || signatureUsesArraysOfCompoundTypeWrappers() );
+    return (signatureUsesNIO() || signatureUsesCompoundTypeWrappers() || signatureUsesArraysOfCompoundTypeWrappers() ||
+            signatureUsesNativeMemory() );
+  }
+
+  /**
+   * Returns true if any of the outgoing arguments in the method's
+   * signature is a {@link com.jogamp.common.nio.NativeMemory} segment,
+   * passed to native code by its address.
+   */
+  public boolean signatureUsesNativeMemory() {
+    computeSignatureProperties();
+    return signatureUsesNativeMemory;
   }
 
   /**
@@ -346,7 +359,7 @@ public class MethodBinding {
    * Computes summary information about the method's C and Java
    * signatures.
    */
-  protected void computeSignatureProperties() {
+  protected synchronized void computeSignatureProperties() {
     if (computedSignatureProperties)
       return;
 
@@ -359,6 +372,7 @@ public class MethodBinding {
     signatureUsesCPrimitivePointers = false;
     signatureUsesCArrays = false;
     signatureUsesJavaPrimitiveArrays = false;
+    signatureUsesNativeMemory = false;
     signatureRequiresStaticInitialization = false;
 
     if ( javaReturnType.isCompoundTypeWrapper() ) {
@@ -447,6 +461,11 @@ public class MethodBinding {
         // depending on native code calling convention
         signatureUsesJavaPrimitiveArrays = true;
       }
+
+      if (javaArgType.isNativeMemory()) {
+        // Needs unwrapping of the native address
+        signatureUsesNativeMemory = true;
+      }
     }
 
     computedSignatureProperties = true;
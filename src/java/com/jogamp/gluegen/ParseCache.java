@@ -0,0 +1,343 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.gluegen;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+import com.jogamp.gluegen.Logging.LoggerIf;
+import com.jogamp.gluegen.cgram.Define;
+import com.jogamp.gluegen.cgram.types.EnumType;
+import com.jogamp.gluegen.cgram.types.FunctionSymbol;
+import com.jogamp.gluegen.cgram.types.Type;
+import com.jogamp.gluegen.cgram.types.TypeDictionary;
+
+/**
+ * Persistent cache of a header's parse result, see {@link GlueGen#setParseCacheDir(File)}.
+ * <p>
+ * Subsequent {@link GlueGen} runs on the same headers, e.g. with different configuration files,
+ * load the parse result and skip preprocessing, lexing, parsing and the {@link com.jogamp.gluegen.cgram.HeaderParser} tree walk.
+ * </p>
+ * <p>
+ * The cache file is named after the hashed key, i.e. the source file and its content hash, the include paths,
+ * the predefined macros and the parser's classes. It records all header files read by the preprocessor
+ * with the SHA-256 hash of their content and is only used if none of them has changed.
+ * </p>
+ * <p>
+ * The {@link Content} is stored as a deflated object stream, sharing all {@link Type} instances.
+ * The hash based canonicalization map and dictionaries are stored as lists and rebuilt in their original order.
+ * </p>
+ * <p>
+ * If {@link #setShared(boolean) shared}, e.g. in {@link GlueGen}'s batch mode,
+ * the serialized {@link Content} is also kept in memory and shared by all jobs of this JVM,
+ * each {@link #load() loading} its own copy.
+ * </p>
+ */
+public class ParseCache {
+    private static final int MAGIC = 0x47475043; // "GGPC"
+    private static final int VERSION = 1;
+
+    /** The parse result of a header, valid until emission modifies its types. */
+    public static class Content {
+        public final TypeDictionary typedefDictionary;
+        public final TypeDictionary structDictionary;
+        public final Map<Type, Type> canonMap;
+        public final List<EnumType> enums;
+        public final List<FunctionSymbol> functions;
+        /** {@link Define}s as recognized by the lexer. */
+        public final List<Define> defines;
+        /** {@link ConstantDefinition}s as collected by the preprocessor. */
+        public final List<ConstantDefinition> constants;
+        /** Typedef names and their aliased types, see {@link JavaConfiguration#addTypeInfo(String, Type)}. */
+        public final List<Map.Entry<String, Type>> typeInfoAliases;
+        /** All header files read by the preprocessor. */
+        public final Set<String> sources;
+
+        public Content(final TypeDictionary typedefDictionary, final TypeDictionary structDictionary,
+                       final Map<Type, Type> canonMap, final List<EnumType> enums, final List<FunctionSymbol> functions,
+                       final List<Define> defines, final List<ConstantDefinition> constants,
+                       final List<Map.Entry<String, Type>> typeInfoAliases, final Set<String> sources) {
+            this.typedefDictionary = typedefDictionary;
+            this.structDictionary = structDictionary;
+            this.canonMap = canonMap;
+            this.enums = enums;
+            this.functions = functions;
+            this.defines = defines;
+            this.constants = constants;
+            this.typeInfoAliases = typeInfoAliases;
+            this.sources = sources;
+        }
+    }
+
+    private static volatile boolean shared = false;
+    private static final Map<String, byte[]> sharedContent = new ConcurrentHashMap<String, byte[]>();
+    private static final ConcurrentHashMap<String, Object> locks = new ConcurrentHashMap<String, Object>();
+
+    /**
+     * Enables keeping the serialized {@link Content} in memory, shared by all {@link ParseCache} instances.
+     * <p>
+     * Disabling releases all shared content.
+     * </p>
+     */
+    public static void setShared(final boolean v) {
+        shared = v;
+        if( !v ) {
+            sharedContent.clear();
+            locks.clear();
+        }
+    }
+
+    /** Returns {@code true} if the serialized {@link Content} is shared in memory, see {@link #setShared(boolean)}. */
+    public static boolean isShared() { return shared; }
+
+    private final File cacheFile;
+    private final String key;
+    private final LoggerIf LOG;
+
+    /**
+     * @param cacheDir the cache directory, shared by all jobs, or {@code null} if only {@link #setShared(boolean) shared} in memory
+     * @param params the cache key parameter, determining the cache file's name
+     */
+    public ParseCache(final File cacheDir, final List<String> params) {
+        final StringBuilder sb = new StringBuilder();
+        for(final String p : params) {
+            sb.append(p).append('\n');
+        }
+        this.key = BuildStamp.toHexString(BuildStamp.sha256(sb.toString().getBytes()), Integer.MAX_VALUE);
+        this.cacheFile = null != cacheDir ? new File(cacheDir, key.substring(0, 16)+".gpc") : null;
+        this.LOG = Logging.getLogger(ParseCache.class.getPackage().getName(), ParseCache.class.getSimpleName());
+    }
+
+    /** Returns the cache file or {@code null}. */
+    public File getCacheFile() { return cacheFile; }
+
+    /**
+     * Returns the lock object of this cache's key, allowing concurrent jobs on the same header
+     * to parse it only once and {@link #load()} the result otherwise.
+     */
+    public Object getLock() {
+        final Object lock = new Object();
+        final Object prev = locks.putIfAbsent(key, lock);
+        return null != prev ? prev : lock;
+    }
+
+    private String getName() {
+        return null != cacheFile ? cacheFile.getPath() : key.substring(0, 16);
+    }
+
+    /**
+     * Returns the cached {@link Content}, or {@code null} if not cached,
+     * if one of its header files has changed or if it is unreadable.
+     * <p>
+     * Each call returns a new copy.
+     * </p>
+     */
+    @SuppressWarnings("unchecked")
+    public Content load() {
+        try {
+            byte[] data = shared ? sharedContent.get(key) : null;
+            if( null == data ) {
+                if( null == cacheFile || !cacheFile.isFile() ) {
+                    return null;
+                }
+                data = readFile(cacheFile);
+            }
+            final DataInputStream in = new DataInputStream(new ByteArrayInputStream(data));
+            if( MAGIC != in.readInt() || VERSION != in.readInt() || !key.equals(in.readUTF()) ) {
+                LOG.log(Level.INFO, "Parse cache {0} invalid", getName());
+                return null;
+            }
+            final int sourceCount = in.readInt();
+            final Set<String> sources = new LinkedHashSet<String>();
+            for(int i=0; i<sourceCount; i++) {
+                final String source = in.readUTF();
+                final String hash = in.readUTF();
+                final File sourceFile = new File(source);
+                if( !sourceFile.isFile() || !hash.equals(BuildStamp.hashOf(new FileInputStream(sourceFile))) ) {
+                    LOG.log(Level.INFO, "Parse cache {0} outdated by {1}", getName(), source);
+                    return null;
+                }
+                sources.add(source);
+            }
+            final ObjectInputStream oin = new ObjectInputStream(new BufferedInputStream(new InflaterInputStream(in, new Inflater(), 64*1024), 64*1024));
+            final TypeDictionary typedefDictionary = readDictionary(oin);
+            final TypeDictionary structDictionary = readDictionary(oin);
+            final List<Type> canonTypes = (List<Type>) oin.readObject();
+            final Map<Type, Type> canonMap = new HashMap<Type, Type>();
+            for(final Type t : canonTypes) {
+                canonMap.put(t, t);
+            }
+            final List<EnumType> enums = (List<EnumType>) oin.readObject();
+            final List<FunctionSymbol> functions = (List<FunctionSymbol>) oin.readObject();
+            final List<Define> defines = (List<Define>) oin.readObject();
+            final List<ConstantDefinition> constants = (List<ConstantDefinition>) oin.readObject();
+            final List<Map.Entry<String, Type>> typeInfoAliases = (List<Map.Entry<String, Type>>) oin.readObject();
+            if( shared ) {
+                sharedContent.put(key, data);
+            }
+            LOG.log(Level.INFO, "Parse cache {0} loaded", getName());
+            return new Content(typedefDictionary, structDictionary, canonMap, enums, functions,
+                               defines, constants, typeInfoAliases, sources);
+        } catch (final Exception e) {
+            // incompatible classes included
+            LOG.log(Level.WARNING, "Parse cache {0} unreadable: {1}", getName(), e.toString());
+            return null;
+        } catch (final StackOverflowError e) {
+            LOG.log(Level.WARNING, "Parse cache {0} unreadable: {1}", getName(), e.toString());
+            return null;
+        }
+    }
+
+    /**
+     * Stores the given {@link Content}, which must not yet be modified by emission.
+     * <p>
+     * The cache file is replaced atomically, a failure is only logged.
+     * </p>
+     */
+    public void store(final Content content) {
+        File tmpFile = null;
+        try {
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream(64*1024);
+            final DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeUTF(key);
+            final List<File> sourceFiles = new ArrayList<File>();
+            for(final String source : content.sources) {
+                final File sourceFile = new File(source);
+                if( sourceFile.isFile() ) {
+                    sourceFiles.add(sourceFile);
+                }
+            }
+            out.writeInt(sourceFiles.size());
+            for(final File sourceFile : sourceFiles) {
+                out.writeUTF(sourceFile.getPath());
+                out.writeUTF(BuildStamp.hashOf(new FileInputStream(sourceFile)));
+            }
+            final DeflaterOutputStream dout = new DeflaterOutputStream(out, new Deflater(Deflater.BEST_SPEED), 64*1024);
+            final ObjectOutputStream oout = new ObjectOutputStream(new BufferedOutputStream(dout, 64*1024));
+            writeDictionary(oout, content.typedefDictionary);
+            writeDictionary(oout, content.structDictionary);
+            oout.writeObject(new ArrayList<Type>(content.canonMap.keySet()));
+            oout.writeObject(new ArrayList<EnumType>(content.enums));
+            oout.writeObject(new ArrayList<FunctionSymbol>(content.functions));
+            oout.writeObject(new ArrayList<Define>(content.defines));
+            oout.writeObject(new ArrayList<ConstantDefinition>(content.constants));
+            oout.writeObject(new ArrayList<Map.Entry<String, Type>>(content.typeInfoAliases));
+            oout.flush();
+            dout.finish();
+            out.flush();
+            final byte[] data = bytes.toByteArray();
+            if( shared ) {
+                sharedContent.put(key, data);
+            }
+            if( null != cacheFile ) {
+                cacheFile.getParentFile().mkdirs();
+                tmpFile = File.createTempFile(cacheFile.getName(), ".tmp", cacheFile.getParentFile());
+                final OutputStream fout = new FileOutputStream(tmpFile);
+                try {
+                    fout.write(data);
+                } finally {
+                    fout.close();
+                }
+                cacheFile.delete();
+                if( !tmpFile.renameTo(cacheFile) ) {
+                    throw new IOException("Could not rename "+tmpFile+" to "+cacheFile);
+                }
+                tmpFile = null;
+            }
+            LOG.log(Level.INFO, "Parse cache {0} stored", getName());
+        } catch (final Exception e) {
+            // e.g. a non serializable source object
+            LOG.log(Level.WARNING, "Parse cache {0} not stored: {1}", getName(), e.toString());
+        } catch (final StackOverflowError e) {
+            LOG.log(Level.WARNING, "Parse cache {0} not stored: {1}", getName(), e.toString());
+        } finally {
+            if( null != tmpFile ) {
+                tmpFile.delete();
+            }
+        }
+    }
+
+    private static byte[] readFile(final File file) throws IOException {
+        final DataInputStream in = new DataInputStream(new FileInputStream(file));
+        try {
+            final byte[] data = new byte[(int) file.length()];
+            in.readFully(data);
+            return data;
+        } finally {
+            in.close();
+        }
+    }
+
+    /** Writes the dictionary's entries in iteration order, allowing to rebuild it in the same order. */
+    private static void writeDictionary(final ObjectOutputStream out, final TypeDictionary dict) throws IOException {
+        final List<String> names = new ArrayList<String>();
+        final List<Type> types = new ArrayList<Type>();
+        for(final Map.Entry<String, Type> e : dict.entrySet()) {
+            names.add(e.getKey());
+            types.add(e.getValue());
+        }
+        out.writeObject(names);
+        out.writeObject(types);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static TypeDictionary readDictionary(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+        final List<String> names = (List<String>) in.readObject();
+        final List<Type> types = (List<Type>) in.readObject();
+        final TypeDictionary dict = new TypeDictionary();
+        for(int i=0; i<names.size(); i++) {
+            dict.put(names.get(i), types.get(i));
+        }
+        return dict;
+    }
+}
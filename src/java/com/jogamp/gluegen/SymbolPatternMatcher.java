@@ -0,0 +1,285 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.gluegen;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Compiled set of {@link Pattern}s matching symbol names, e.g. of {@link JavaConfiguration}'s <code>Ignore</code> directives.
+ * <p>
+ * Instead of testing each pattern, literal patterns are looked up in a hash table,
+ * as well as literal prefixes <code>abc.*</code> and literal suffixes <code>.*abc</code>.
+ * All remaining patterns are combined into one alternation, if possible.
+ * </p>
+ * <p>
+ * Results are memoized per symbol name. Instances are immutable and thread-safe.
+ * </p>
+ */
+public class SymbolPatternMatcher {
+    private final Pattern[] patterns;
+    private final Map<String, BitSet> literals = new HashMap<String, BitSet>();
+    private final Map<String, BitSet> prefixes = new HashMap<String, BitSet>();
+    private final Map<String, BitSet> suffixes = new HashMap<String, BitSet>();
+    private final int[] prefixLengths;
+    private final int[] suffixLengths;
+    /** Indices of all patterns not covered by the hash tables. */
+    private final int[] others;
+    /** Alternation of all {@link #others}, or {@code null}. */
+    private final Pattern othersCombined;
+    private final Map<String, Boolean> matchesCache = new ConcurrentHashMap<String, Boolean>();
+    private final Map<String, BitSet> matchingCache = new ConcurrentHashMap<String, BitSet>();
+
+    public SymbolPatternMatcher(final Collection<Pattern> patterns) {
+        this.patterns = patterns.toArray(new Pattern[patterns.size()]);
+        final Set<Integer> prefixLengthSet = new TreeSet<Integer>();
+        final Set<Integer> suffixLengthSet = new TreeSet<Integer>();
+        final List<Integer> otherList = new ArrayList<Integer>();
+        boolean combinable = true;
+        for(int i=0; i<this.patterns.length; i++) {
+            final Pattern p = this.patterns[i];
+            final String regex = p.pattern();
+            String literal;
+            if( 0 == p.flags() && null != ( literal = toLiteral(regex) ) ) {
+                add(literals, literal, i);
+            } else if( 0 == p.flags() && regex.endsWith(".*") && null != ( literal = toLiteral(regex.substring(0, regex.length()-2)) ) ) {
+                add(prefixes, literal, i);
+                prefixLengthSet.add(literal.length());
+            } else if( 0 == p.flags() && regex.startsWith(".*") && null != ( literal = toLiteral(regex.substring(2)) ) ) {
+                add(suffixes, literal, i);
+                suffixLengthSet.add(literal.length());
+            } else {
+                otherList.add(i);
+                combinable = combinable && 0 == p.flags() && isCombinable(regex);
+            }
+        }
+        prefixLengths = toArray(prefixLengthSet);
+        suffixLengths = toArray(suffixLengthSet);
+        others = toArray(otherList);
+        Pattern combined = null;
+        if( combinable && others.length > 1 ) {
+            final StringBuilder sb = new StringBuilder();
+            for(final int i : others) {
+                if( sb.length() > 0 ) {
+                    sb.append('|');
+                }
+                sb.append("(?:").append(this.patterns[i].pattern()).append(')');
+            }
+            try {
+                combined = Pattern.compile(sb.toString());
+            } catch (final PatternSyntaxException e) {
+                combined = null; // test each pattern
+            }
+        }
+        othersCombined = combined;
+    }
+
+    /** Returns the number of patterns. */
+    public int size() { return patterns.length; }
+
+    /** Returns {@code true} if one pattern matches the given name. */
+    public boolean matches(final String name) {
+        if( 0 == patterns.length ) {
+            return false;
+        }
+        Boolean res = matchesCache.get(name);
+        if( null == res ) {
+            res = Boolean.valueOf( matchesImpl(name) );
+            matchesCache.put(name, res);
+        }
+        return res.booleanValue();
+    }
+
+    /** Returns {@code true} if one pattern matches the given name or one of the given aliases, which may be {@code null}. */
+    public boolean matches(final String name, final Set<String> aliases) {
+        if( matches(name) ) {
+            return true;
+        }
+        if( null != aliases ) {
+            for(final String alias : aliases) {
+                if( matches(alias) ) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns {@code true} if one pattern neither matches the given name nor one of the given aliases,
+     * which may be {@code null}.
+     */
+    public boolean oneMismatches(final String name, final Set<String> aliases) {
+        final BitSet matched = matching(name);
+        if( null != aliases && aliases.size() > 0 ) {
+            final BitSet all = (BitSet) matched.clone();
+            for(final String alias : aliases) {
+                all.or(matching(alias));
+            }
+            return all.cardinality() < patterns.length;
+        }
+        return matched.cardinality() < patterns.length;
+    }
+
+    /** Returns the indices of all patterns matching the given name, the returned {@link BitSet} must not be modified. */
+    private BitSet matching(final String name) {
+        BitSet res = matchingCache.get(name);
+        if( null == res ) {
+            res = matchingImpl(name);
+            matchingCache.put(name, res);
+        }
+        return res;
+    }
+
+    private boolean matchesImpl(final String name) {
+        if( literals.containsKey(name) ) {
+            return true;
+        }
+        final int len = name.length();
+        for(final int l : prefixLengths) {
+            if( l > len ) {
+                break;
+            }
+            if( prefixes.containsKey(name.substring(0, l)) ) {
+                return true;
+            }
+        }
+        for(final int l : suffixLengths) {
+            if( l > len ) {
+                break;
+            }
+            if( suffixes.containsKey(name.substring(len-l)) ) {
+                return true;
+            }
+        }
+        if( null != othersCombined ) {
+            return othersCombined.matcher(name).matches();
+        }
+        for(final int i : others) {
+            if( patterns[i].matcher(name).matches() ) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private BitSet matchingImpl(final String name) {
+        final BitSet res = new BitSet(patterns.length);
+        or(res, literals.get(name));
+        final int len = name.length();
+        for(final int l : prefixLengths) {
+            if( l > len ) {
+                break;
+            }
+            or(res, prefixes.get(name.substring(0, l)));
+        }
+        for(final int l : suffixLengths) {
+            if( l > len ) {
+                break;
+            }
+            or(res, suffixes.get(name.substring(len-l)));
+        }
+        for(final int i : others) {
+            if( patterns[i].matcher(name).matches() ) {
+                res.set(i);
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Returns the literal string matched by the given regular expression,
+     * or {@code null} if it contains any construct other than plain or escaped non-alphanumeric characters.
+     */
+    static String toLiteral(final String regex) {
+        final StringBuilder sb = new StringBuilder(regex.length());
+        for(int i=0; i<regex.length(); i++) {
+            final char c = regex.charAt(i);
+            if( '\\' == c ) {
+                if( ++i >= regex.length() || Character.isLetterOrDigit(regex.charAt(i)) ) {
+                    return null;
+                }
+                sb.append(regex.charAt(i));
+            } else if( 0 <= "^$.|?*+()[]{}".indexOf(c) ) {
+                return null;
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Returns {@code false} if the given regular expression cannot be part of an alternation,
+     * i.e. contains back references, whose group numbers would be shifted, or an unterminated quote.
+     */
+    private static boolean isCombinable(final String regex) {
+        for(int i=0; i<regex.length()-1; i++) {
+            if( '\\' == regex.charAt(i) ) {
+                final char c = regex.charAt(++i);
+                if( Character.isDigit(c) || 'k' == c || 'Q' == c ) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static void add(final Map<String, BitSet> map, final String key, final int index) {
+        BitSet bits = map.get(key);
+        if( null == bits ) {
+            bits = new BitSet();
+            map.put(key, bits);
+        }
+        bits.set(index);
+    }
+
+    private static void or(final BitSet dest, final BitSet src) {
+        if( null != src ) {
+            dest.or(src);
+        }
+    }
+
+    private static int[] toArray(final Collection<Integer> c) {
+        final int[] res = new int[c.size()];
+        int i=0;
+        for(final Integer v : c) {
+            res[i++] = v.intValue();
+        }
+        return res;
+    }
+}
@@ -38,14 +38,23 @@ package com.jogamp.gluegen.ant;
  * facility.
  */
 
+import java.io.File;
 import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
+import org.apache.tools.ant.BuildEvent;
 import org.apache.tools.ant.BuildException;
 import org.apache.tools.ant.DirectoryScanner;
 import org.apache.tools.ant.Project;
+import org.apache.tools.ant.SubBuildListener;
 import org.apache.tools.ant.Task;
 import org.apache.tools.ant.taskdefs.Execute;
 import org.apache.tools.ant.taskdefs.LogStreamHandler;
@@ -58,6 +67,9 @@ import org.apache.tools.ant.types.PatternSet;
 import org.apache.tools.ant.types.Reference;
 import org.apache.tools.ant.util.JavaEnvUtils;
 
+import com.jogamp.gluegen.BuildStamp;
+import com.jogamp.gluegen.GlueGen;
+
 /**
  * <p>An <a href="http://ant.apache.org">ANT</a> {@link org.apache.tools.ant.Task}
  * for using {@link com.jogamp.gluegen.GlueGen}.</p>
@@ -74,9 +86,24 @@ import org.apache.tools.ant.util.JavaEnvUtils;
                 config="[configuration file]"
                 dumpCPP="[optional boolean]"
                 debug="[optional boolean]"
-                logLevel="[optional string]" /&gt;
+                logLevel="[optional string]"
+                incremental="[optional boolean]"
+                parallel="[optional boolean]"
+                parseCacheDir="[optional string]"
+                reportFile="[optional string]"
+                fork="[optional boolean]" /&gt;
  * </pre>
  *
+ * <p>If <code>fork</code> is <code>false</code>, {@link com.jogamp.gluegen.GlueGen} is executed
+ * within the ANT JVM, using an isolated {@link ClassLoader} for the given classpath,
+ * which is reused by all tasks of the same classpath and project and closed when the build has finished.
+ * Since relative paths within configuration files are resolved against the working directory,
+ * the task still forks if the working directory is not the project's base directory.</p>
+ *
+ * <p>If <code>incremental</code> is <code>true</code>, the task is skipped
+ * if its {@link com.jogamp.gluegen.BuildStamp} of the last run is up-to-date,
+ * i.e. all recorded inputs are unchanged and all recorded outputs exist.</p>
+ *
  * @author Rob Grzywinski <a href="mailto:rgrzywinski@realityinteractive.com">rgrzywinski@yahoo.com</a>
  */
 // FIXME:  blow out javadoc
@@ -88,6 +115,12 @@ public class GlueGenTask extends Task
      */
     private static final String GLUE_GEN = "com.jogamp.gluegen.GlueGen";
 
+    /**
+     * <p>The project reference of the isolated {@link ClassLoader}s for in-process execution,
+     * mapped by their classpath and closed when the build has finished.</p>
+     */
+    private static final String CLASS_LOADERS_REF = "com.jogamp.gluegen.ant.GlueGenTask.classLoaders";
+
     // =========================================================================
     /**
      * <p>The {@link org.apache.tools.ant.types.CommandlineJava} that is used
@@ -111,6 +144,31 @@ public class GlueGenTask extends Task
      */
     private boolean dumpCPP=false;
 
+    /**
+     * <p>The optional incremental flag.</p>
+     */
+    private boolean incremental=false;
+
+    /**
+     * <p>The optional parallel flag.</p>
+     */
+    private boolean parallel=false;
+
+    /**
+     * <p>The optional parse cache dir.</p>
+     */
+    private String parseCacheDir;
+
+    /**
+     * <p>The optional report file.</p>
+     */
+    private String reportFile;
+
+    /**
+     * <p>The optional fork flag, default is <code>true</code>.</p>
+     */
+    private boolean fork=true;
+
     /**
      * <p>The optional output root dir.</p>
      */
@@ -144,6 +202,11 @@ public class GlueGenTask extends Task
      */
     private boolean usedIncludeSet = false; // by default it is not used
 
+    /**
+     * <p>The include directories, as passed to {@link com.jogamp.gluegen.GlueGen}.</p>
+     */
+    private final List<String> includedDirectories = new LinkedList<String>();
+
     /**
      * <p>The set of include sets.  This allows includes to be added in multiple
      * fashions.</p>
@@ -205,6 +268,55 @@ public class GlueGenTask extends Task
         this.dumpCPP=dumpCPP;
     }
 
+    /**
+     * <p>Set the incremental flag (optional).  This is called by ANT.</p>
+     */
+    public void setIncremental(final boolean incremental)
+    {
+        log( ("Setting incremental flag: " + incremental), Project.MSG_VERBOSE);
+        this.incremental=incremental;
+    }
+
+    /**
+     * <p>Set the parallel flag (optional).  This is called by ANT.</p>
+     */
+    public void setParallel(final boolean parallel)
+    {
+        log( ("Setting parallel flag: " + parallel), Project.MSG_VERBOSE);
+        this.parallel=parallel;
+    }
+
+    /**
+     * <p>Set the fork flag (optional).  This is called by ANT.</p>
+     */
+    public void setFork(final boolean fork)
+    {
+        log( ("Setting fork flag: " + fork), Project.MSG_VERBOSE);
+        this.fork=fork;
+    }
+
+    /**
+     * <p>Set the parse cache dir (optional).  This is called by ANT.</p>
+     *
+     * @param  parseCacheDir the optional parse cache dir
+     */
+    public void setParseCacheDir(final String parseCacheDir)
+    {
+        log( ("Setting parse cache dir: " + parseCacheDir), Project.MSG_VERBOSE);
+        this.parseCacheDir=parseCacheDir;
+    }
+
+    /**
+     * <p>Set the report file (optional).  This is called by ANT.</p>
+     *
+     * @param  reportFile the optional JSON report file
+     */
+    public void setReportFile(final String reportFile)
+    {
+        log( ("Setting report file: " + reportFile), Project.MSG_VERBOSE);
+        this.reportFile=reportFile;
+    }
+
     /**
      * <p>Set the output root dir (optional).  This is called by ANT.</p>
      *
@@ -393,20 +505,187 @@ public void setIncludeRefid(final Reference reference) {
         // validate that all of the required attributes have been set
         validateAttributes();
 
-        // TODO:  add logic to determine if the generated file needs to be
-        //        regenerated
-
         // add the attributes to the CommandlineJava
         addAttributes();
 
+        // skip if the generated files are up-to-date
+        if(incremental && isUpToDate()) {
+            log( ("Up-to-date: " + sourceFile + " w/ " + configuration), Project.MSG_VERBOSE);
+            return;
+        }
+
         log(gluegenCommandline.describeCommand(), Project.MSG_VERBOSE);
 
+        if(!fork && isBaseDirWorkingDir()) {
+            executeInProcess(gluegenCommandline.getJavaCommand().getArguments());
+            return;
+        }
+
         // execute the command and throw on error
         final int error = execute(gluegenCommandline.getCommandline());
         if(error == 1)
             throw new BuildException( ("GlueGen returned: " + error), location);
     }
 
+    /**
+     * <p>Returns <code>true</code> if the {@link com.jogamp.gluegen.BuildStamp}
+     * of the last run is up-to-date.</p>
+     */
+    private boolean isUpToDate()
+    {
+        final List<String> cfgFiles = new LinkedList<String>();
+        cfgFiles.add(configuration);
+        try {
+            final BuildStamp stamp = GlueGen.createBuildStamp(getProject().getBaseDir(), sourceFile, emitter,
+                                                              includedDirectories, cfgFiles, outputRootDir, getClassLoader());
+            return null != stamp && stamp.isUpToDate();
+        } catch(final IOException ioe) {
+            log( ("Up-to-date check failed: " + ioe.getMessage()), Project.MSG_VERBOSE);
+            return false;
+        }
+    }
+
+    /**
+     * <p>Returns <code>true</code> if the project's base directory is the working directory,
+     * as required for in-process execution.</p>
+     */
+    private boolean isBaseDirWorkingDir()
+    {
+        try {
+            final File workingDir = new File(System.getProperty("user.dir")).getCanonicalFile();
+            if( workingDir.equals(getProject().getBaseDir().getCanonicalFile()) ) {
+                return true;
+            }
+            log( ("Forking, since the base dir " + getProject().getBaseDir() + " is not the working dir " + workingDir), Project.MSG_VERBOSE);
+        } catch(final IOException ioe) {
+            log( ("Forking, since the working dir could not be resolved: " + ioe.getMessage()), Project.MSG_VERBOSE);
+        }
+        return false;
+    }
+
+    /**
+     * <p>Returns the isolated {@link ClassLoader} for the classpath, reused by all tasks of the same classpath and project.
+     * If no classpath is given, this task's {@link ClassLoader} is returned.</p>
+     */
+    private ClassLoader getClassLoader()
+        throws BuildException
+    {
+        final Path classpath = gluegenCommandline.getClasspath();
+        if( null == classpath || classpath.size() == 0 ) {
+            return GlueGenTask.class.getClassLoader();
+        }
+        final String key = classpath.toString();
+        final Project project = getProject();
+        synchronized( project ) {
+            Map<String, URLClassLoader> classLoaders = project.getReference(CLASS_LOADERS_REF);
+            if( null == classLoaders ) {
+                classLoaders = new HashMap<String, URLClassLoader>();
+                project.addReference(CLASS_LOADERS_REF, classLoaders);
+                project.addBuildListener(new ClassLoaderCloser(project));
+            }
+            URLClassLoader classLoader = classLoaders.get(key);
+            if( null == classLoader ) {
+                final String[] elements = classpath.list();
+                final URL[] urls = new URL[elements.length];
+                try {
+                    for(int i=0; i<elements.length; i++) {
+                        urls[i] = new File(elements[i]).toURI().toURL();
+                    }
+                } catch(final IOException ioe) {
+                    throw new BuildException(ioe, location);
+                }
+                // isolated from ANT's classes, parent is the extension class loader
+                classLoader = new URLClassLoader(urls, ClassLoader.getSystemClassLoader().getParent());
+                classLoaders.put(key, classLoader);
+            }
+            return classLoader;
+        }
+    }
+
+    /**
+     * <p>Closes and releases the isolated {@link ClassLoader}s of its project when its build has finished,
+     * i.e. the build of the top level project or the sub-build of a project called via <code>ant</code>.</p>
+     */
+    private static class ClassLoaderCloser implements SubBuildListener {
+        private final Project project;
+
+        ClassLoaderCloser(final Project project) {
+            this.project = project;
+        }
+
+        private void close(final BuildEvent event) {
+            if( event.getProject() != project ) {
+                return;
+            }
+            synchronized( project ) {
+                final Map<String, URLClassLoader> classLoaders = project.getReference(CLASS_LOADERS_REF);
+                for(final URLClassLoader classLoader : classLoaders.values()) {
+                    try {
+                        classLoader.close();
+                    } catch(final IOException ioe) {
+                        project.log( ("Closing GlueGen class loader failed: " + ioe.getMessage()), Project.MSG_VERBOSE);
+                    }
+                }
+                classLoaders.clear();
+            }
+        }
+
+        @Override
+        public void buildFinished(final BuildEvent event) { close(event); }
+
+        @Override
+        public void subBuildFinished(final BuildEvent event) { close(event); }
+
+        @Override
+        public void buildStarted(final BuildEvent event) { }
+
+        @Override
+        public void subBuildStarted(final BuildEvent event) { }
+
+        @Override
+        public void targetStarted(final BuildEvent event) { }
+
+        @Override
+        public void targetFinished(final BuildEvent event) { }
+
+        @Override
+        public void taskStarted(final BuildEvent event) { }
+
+        @Override
+        public void taskFinished(final BuildEvent event) { }
+
+        @Override
+        public void messageLogged(final BuildEvent event) { }
+    }
+
+    /**
+     * <p>Execute {@link com.jogamp.gluegen.GlueGen} within this JVM.</p>
+     *
+     * @throws BuildException
+     */
+    private void executeInProcess(final String[] args)
+        throws BuildException
+    {
+        final ClassLoader classLoader = getClassLoader();
+        final Thread thread = Thread.currentThread();
+        final ClassLoader contextClassLoader = thread.getContextClassLoader();
+        // GlueGen's global options are static, hence serialize all runs per class loader
+        synchronized( classLoader ) {
+            thread.setContextClassLoader(classLoader);
+            try {
+                // GlueGen.main exits the JVM on invalid arguments, execute throws instead
+                final Method execute = Class.forName(GLUE_GEN, true, classLoader).getMethod("execute", String[].class);
+                execute.invoke(null, (Object) args);
+            } catch(final InvocationTargetException ite) {
+                throw new BuildException( ("GlueGen failed: " + ite.getCause()), ite.getCause(), location);
+            } catch(final Exception e) {
+                throw new BuildException(e, location);
+            } finally {
+                thread.setContextClassLoader(contextClassLoader);
+            }
+        }
+    }
+
     /**
      * <p>Ensure that the user specified all required arguments.</p>
      *
@@ -482,6 +761,28 @@ public void setIncludeRefid(final Reference reference) {
             gluegenCommandline.createArgument().setValue("--dumpCPP");
         }
 
+        // add the incremental flag if enabled
+        if(incremental) {
+            gluegenCommandline.createArgument().setValue("--incremental");
+        }
+
+        // add the parallel flag if enabled
+        if(parallel) {
+            gluegenCommandline.createArgument().setValue("--parallel");
+        }
+
+        // add the parse cache dir
+        if(null!=parseCacheDir && parseCacheDir.trim().length()>0) {
+            gluegenCommandline.createArgument().setValue("--parseCache");
+            gluegenCommandline.createArgument().setValue(parseCacheDir);
+        }
+
+        // add the report file
+        if(null!=reportFile && reportFile.trim().length()>0) {
+            gluegenCommandline.createArgument().setValue("--report");
+            gluegenCommandline.createArgument().setValue(reportFile);
+        }
+
         // add the output root dir
         if(null!=outputRootDir && outputRootDir.trim().length()>0) {
             gluegenCommandline.createArgument().setValue("-O" + outputRootDir);
@@ -506,7 +807,7 @@ public void setIncludeRefid(final Reference reference) {
 
         // iterate over all include sets and add their directories to the
         // list of included directories.
-        final List<String> includedDirectories = new LinkedList<String>();
+        includedDirectories.clear();
         for (final Iterator<AbstractFileSet> includes = setOfIncludeSets.iterator(); includes.hasNext();)
         {
             // get the included set and based on its type add the directories
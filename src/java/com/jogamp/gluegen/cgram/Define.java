@@ -39,13 +39,16 @@
 
 package com.jogamp.gluegen.cgram;
 
+import java.io.Serializable;
+
 import com.jogamp.gluegen.ASTLocusTag;
 import com.jogamp.gluegen.ASTLocusTag.ASTLocusTagProvider;
 
 /** Represents a #define of a literal to a value (a number represented
     in string form.) */
 
-public class Define implements ASTLocusTagProvider {
+public class Define implements ASTLocusTagProvider, Serializable {
+  private static final long serialVersionUID = 1L;
   private final String name;
   private final String value;
   private final ASTLocusTag astLocus;
@@ -24,6 +24,26 @@ public class PreprocessorInfoChannel
         }
     }
 
+    /**
+     * Returns the source file names of all {@link LineObject} line directives
+     * seen so far, in order of their token number.
+     */
+    public Set<String> getSources()
+    {
+        final Set<String> sources = new LinkedHashSet<String>();
+        for (int i = firstValidTokenNumber; i <= maxTokenNumber; i++){
+            final Vector<Object> tokenLineVector = lineLists.get( Integer.valueOf(i) );
+            if ( tokenLineVector != null) {
+                for (final Object line : tokenLineVector) {
+                    if ( line instanceof LineObject && null != ((LineObject)line).getSource() ) {
+                        sources.add( ((LineObject)line).getSource() );
+                    }
+                }
+            }
+        }
+        return sources;
+    }
+
     public int getMaxTokenNumber()
     {
         return maxTokenNumber;
@@ -27,6 +27,7 @@
  */
 package com.jogamp.gluegen.cgram.types;
 
+import java.io.Serializable;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -94,7 +95,8 @@ public interface AliasedSymbol {
      */
     String getAliasedString();
 
-    public static class AliasedSymbolImpl implements AliasedSymbol {
+    public static class AliasedSymbolImpl implements AliasedSymbol, Serializable {
+        private static final long serialVersionUID = 1L;
         private final String origName;
         private final HashSet<String> aliasedNames;
         private String name;
@@ -48,6 +48,7 @@ import com.jogamp.gluegen.ASTLocusTag;
     should be passed in to the constructor. */
 
 public class ArrayType extends MemoryLayoutType implements Cloneable {
+  private static final long serialVersionUID = 1L;
   private final Type elementType;
   private final int length;
 
@@ -45,6 +45,7 @@ import com.jogamp.gluegen.ASTLocusTag;
 /** Represents a bitfield in a struct. */
 
 public class BitType extends IntType implements Cloneable {
+  private static final long serialVersionUID = 1L;
   private final IntType underlyingType;
   private final int sizeInBits;
   private final int offset;
@@ -49,6 +49,7 @@ import com.jogamp.gluegen.ASTLocusTag;
     really defined. */
 
 public abstract class CompoundType extends MemoryLayoutType implements Cloneable, AliasedSymbol {
+  private static final long serialVersionUID = 1L;
   // The name "foo" in the construct "struct foo { ... }";
   private final String structName;
   private ArrayList<Field> fields;
@@ -43,6 +43,7 @@ import com.jogamp.gluegen.ASTLocusTag;
 
 /** Represents a double-word floating-point type (C type "double".) */
 public class DoubleType extends PrimitiveType implements Cloneable {
+    private static final long serialVersionUID = 1L;
 
     public DoubleType(final String name, final SizeThunk size, final int cvAttributes, final ASTLocusTag astLocus) {
         super(name, size, cvAttributes, astLocus);
@@ -39,6 +39,7 @@
  */
 package com.jogamp.gluegen.cgram.types;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.NoSuchElementException;
 
@@ -52,8 +53,10 @@ import com.jogamp.gluegen.cgram.types.TypeComparator.SemanticEqualityOp;
 /** Describes enumerated types. Enumerations are like ints except that
 they have a set of named values. */
 public class EnumType extends IntType implements Cloneable {
+    private static final long serialVersionUID = 1L;
 
-    public static class Enumerator implements TypeComparator.SemanticEqualityOp {
+    public static class Enumerator implements TypeComparator.SemanticEqualityOp, Serializable {
+        private static final long serialVersionUID = 1L;
         private final String name;
         private final String expr;
         private final CNumber number;
@@ -39,12 +39,15 @@
 
 package com.jogamp.gluegen.cgram.types;
 
+import java.io.Serializable;
+
 import com.jogamp.common.os.MachineDataInfo;
 import com.jogamp.gluegen.cgram.types.TypeComparator.SemanticEqualityOp;
 
 /** Represents a field in a struct or union. */
 
-public class Field implements SemanticEqualityOp {
+public class Field implements SemanticEqualityOp, Serializable {
+  private static final long serialVersionUID = 1L;
   private final String    name;
   private final Type      type;
   private SizeThunk offset;
@@ -45,6 +45,7 @@ import com.jogamp.gluegen.ASTLocusTag;
 /** Represents a single-word floating-point type (C type "float".) */
 
 public class FloatType extends PrimitiveType implements Cloneable {
+  private static final long serialVersionUID = 1L;
   public FloatType(final String name, final SizeThunk size, final int cvAttributes, final ASTLocusTag astLocus) {
     super(name, size, cvAttributes, astLocus);
   }
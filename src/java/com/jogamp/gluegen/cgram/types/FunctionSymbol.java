@@ -60,6 +60,7 @@ import com.jogamp.gluegen.cgram.types.TypeComparator.SemanticEqualityOp;
  * </p>
  **/
 public class FunctionSymbol extends AliasedSymbolImpl implements AliasedSemanticSymbol, ASTLocusTagProvider {
+    private static final long serialVersionUID = 1L;
 
     private final FunctionType type;
     private final ASTLocusTag astLocus;
@@ -46,6 +46,7 @@ import com.jogamp.gluegen.ASTLocusTag;
 /** Describes a function type, used to model both function
 declarations and (via PointerType) function pointers. */
 public class FunctionType extends Type implements Cloneable {
+    private static final long serialVersionUID = 1L;
 
     private final Type returnType;
     private ArrayList<Type> argumentTypes;
@@ -42,6 +42,7 @@ package com.jogamp.gluegen.cgram.types;
 import com.jogamp.gluegen.ASTLocusTag;
 
 public class IntType extends PrimitiveType implements Cloneable {
+    private static final long serialVersionUID = 1L;
 
     private final boolean unsigned;
     private boolean typedefUnsigned;
@@ -30,6 +30,7 @@ package com.jogamp.gluegen.cgram.types;
 import com.jogamp.gluegen.ASTLocusTag;
 
 public abstract class MemoryLayoutType extends Type {
+  private static final long serialVersionUID = 1L;
   private boolean isLayouted;
 
   protected MemoryLayoutType(final String name, final SizeThunk size, final int cvAttributes, final ASTLocusTag astLocus) {
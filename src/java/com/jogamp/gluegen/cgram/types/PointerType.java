@@ -42,6 +42,7 @@ package com.jogamp.gluegen.cgram.types;
 import com.jogamp.gluegen.ASTLocusTag;
 
 public class PointerType extends Type implements Cloneable {
+    private static final long serialVersionUID = 1L;
 
     private final Type targetType;
 
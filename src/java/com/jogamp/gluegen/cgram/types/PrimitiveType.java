@@ -42,6 +42,7 @@ package com.jogamp.gluegen.cgram.types;
 import com.jogamp.gluegen.ASTLocusTag;
 
 public abstract class PrimitiveType extends Type implements Cloneable {
+    private static final long serialVersionUID = 1L;
 
     protected PrimitiveType(final String name, final SizeThunk size, final int cvAttributes, final ASTLocusTag astLocus) {
         super(name, size, cvAttributes, astLocus);
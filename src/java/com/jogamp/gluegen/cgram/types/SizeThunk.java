@@ -40,6 +40,10 @@
 
 package com.jogamp.gluegen.cgram.types;
 
+import java.io.InvalidObjectException;
+import java.io.ObjectStreamException;
+import java.io.Serializable;
+
 import com.jogamp.common.os.MachineDataInfo;
 import com.jogamp.gluegen.cgram.types.TypeComparator.SemanticEqualityOp;
 
@@ -48,7 +52,8 @@ import com.jogamp.gluegen.cgram.types.TypeComparator.SemanticEqualityOp;
     generating glue code for two different CPU architectures (e.g.,
     32-bit and 64-bit) from the same internal representation of the
     various types involved. */
-public abstract class SizeThunk implements Cloneable, SemanticEqualityOp {
+public abstract class SizeThunk implements Cloneable, SemanticEqualityOp, Serializable {
+  private static final long serialVersionUID = 1L;
   /* pp */ static boolean relaxedEqSem = false;
   private final boolean fixedNativeSize;
 
@@ -124,287 +129,257 @@ public abstract class SizeThunk implements Cloneable, SemanticEqualityOp {
   static final int magic_aptr64  = 0x00000040;
   static final int magic_ops     = 0x00010000;
 
-  public static final SizeThunk INT8 = new SizeThunk(true) {
-      @Override
-      public long computeSize(final MachineDataInfo machDesc) {
-        return machDesc.int8SizeInBytes();
-      }
-      @Override
-      public long computeAlignment(final MachineDataInfo machDesc) {
-        return machDesc.int8AlignmentInBytes();
-      }
-      @Override
-      protected int hashCodeImpl() { return 1; }
-      @Override
-      protected int hashCodeSemanticsImpl() { return relaxedEqSem ? magic_int32 : magic_int08; }
-    };
-
-  public static final SizeThunk INT16 = new SizeThunk(true) {
-      @Override
-      public long computeSize(final MachineDataInfo machDesc) {
-        return machDesc.int16SizeInBytes();
-      }
-      @Override
-      public long computeAlignment(final MachineDataInfo machDesc) {
-        return machDesc.int16AlignmentInBytes();
-      }
-      @Override
-      protected int hashCodeImpl() { return 2; }
-      @Override
-      protected int hashCodeSemanticsImpl() { return relaxedEqSem ? magic_int32 : magic_int16; }
-    };
-
-  public static final SizeThunk INT32 = new SizeThunk(true) {
-      @Override
-      public long computeSize(final MachineDataInfo machDesc) {
-        return machDesc.int32SizeInBytes();
-      }
-      @Override
-      public long computeAlignment(final MachineDataInfo machDesc) {
-        return machDesc.int32AlignmentInBytes();
-      }
-      @Override
-      protected int hashCodeImpl() { return 3; }
-      @Override
-      protected int hashCodeSemanticsImpl() { return magic_int32; }
-    };
-
-  public static final SizeThunk INTxx = new SizeThunk(false) {
-      @Override
-      public long computeSize(final MachineDataInfo machDesc) {
-        return machDesc.intSizeInBytes();
-      }
-      @Override
-      public long computeAlignment(final MachineDataInfo machDesc) {
-        return machDesc.intAlignmentInBytes();
-      }
-      @Override
-      protected int hashCodeImpl() { return 4; }
-      @Override
-      protected int hashCodeSemanticsImpl() { return relaxedEqSem ? magic_int32 : magic_intxx; }
-    };
-
-  public static final SizeThunk LONG = new SizeThunk(false) {
-      @Override
-      public long computeSize(final MachineDataInfo machDesc) {
-        return machDesc.longSizeInBytes();
-      }
-      @Override
-      public long computeAlignment(final MachineDataInfo machDesc) {
-        return machDesc.longAlignmentInBytes();
-      }
-      @Override
-      protected int hashCodeImpl() { return 5; }
-      @Override
-      protected int hashCodeSemanticsImpl() { return relaxedEqSem ? magic_long64 : magic_longxx; }
-    };
-
-  public static final SizeThunk INT64 = new SizeThunk(true) {
-      @Override
-      public long computeSize(final MachineDataInfo machDesc) {
-        return machDesc.int64SizeInBytes();
-      }
-      @Override
-      public long computeAlignment(final MachineDataInfo machDesc) {
-        return machDesc.int64AlignmentInBytes();
-      }
-      @Override
-      protected int hashCodeImpl() { return 6; }
-      @Override
-      protected int hashCodeSemanticsImpl() { return magic_long64; }
-    };
-
-  public static final SizeThunk FLOAT = new SizeThunk(true) {
-      @Override
-      public long computeSize(final MachineDataInfo machDesc) {
-        return machDesc.floatSizeInBytes();
-      }
-      @Override
-      public long computeAlignment(final MachineDataInfo machDesc) {
-        return machDesc.floatAlignmentInBytes();
-      }
-      @Override
-      protected int hashCodeImpl() { return 7; }
-      @Override
-      protected int hashCodeSemanticsImpl() { return magic_float32; }
-    };
-
-  public static final SizeThunk DOUBLE = new SizeThunk(true) {
-      @Override
-      public long computeSize(final MachineDataInfo machDesc) {
-        return machDesc.doubleSizeInBytes();
+  static final int id_int8    = 1;
+  static final int id_int16   = 2;
+  static final int id_int32   = 3;
+  static final int id_intxx   = 4;
+  static final int id_long    = 5;
+  static final int id_int64   = 6;
+  static final int id_float   = 7;
+  static final int id_double  = 8;
+  static final int id_pointer = 9;
+
+  public static final SizeThunk INT8 = new Primitive(id_int8, true);
+  public static final SizeThunk INT16 = new Primitive(id_int16, true);
+  public static final SizeThunk INT32 = new Primitive(id_int32, true);
+  public static final SizeThunk INTxx = new Primitive(id_intxx, false);
+  public static final SizeThunk LONG = new Primitive(id_long, false);
+  public static final SizeThunk INT64 = new Primitive(id_int64, true);
+  public static final SizeThunk FLOAT = new Primitive(id_float, true);
+  public static final SizeThunk DOUBLE = new Primitive(id_double, true);
+  public static final SizeThunk POINTER = new Primitive(id_pointer, false);
+
+  /** Primitives indexed by their id - 1. */
+  private static final SizeThunk[] primitives = { INT8, INT16, INT32, INTxx, LONG, INT64, FLOAT, DOUBLE, POINTER };
+
+  /**
+   * A primitive size, i.e. one of the singletons {@link #INT8} .. {@link #POINTER},
+   * identified by its id. A deserialized instance is resolved to its singleton by this id.
+   */
+  private static final class Primitive extends SizeThunk {
+    private static final long serialVersionUID = 1L;
+    private final int id;
+
+    private Primitive(final int id, final boolean fixedNativeSize) {
+        super(fixedNativeSize);
+        this.id = id;
+    }
+
+    @Override
+    public long computeSize(final MachineDataInfo machDesc) {
+      switch( id ) {
+          case id_int8:    return machDesc.int8SizeInBytes();
+          case id_int16:   return machDesc.int16SizeInBytes();
+          case id_int32:   return machDesc.int32SizeInBytes();
+          case id_intxx:   return machDesc.intSizeInBytes();
+          case id_long:    return machDesc.longSizeInBytes();
+          case id_int64:   return machDesc.int64SizeInBytes();
+          case id_float:   return machDesc.floatSizeInBytes();
+          case id_double:  return machDesc.doubleSizeInBytes();
+          case id_pointer: return machDesc.pointerSizeInBytes();
+          default: throw new InternalError("Unknown primitive id "+id);
       }
-      @Override
-      public long computeAlignment(final MachineDataInfo machDesc) {
-        return machDesc.doubleAlignmentInBytes();
+    }
+    @Override
+    public long computeAlignment(final MachineDataInfo machDesc) {
+      switch( id ) {
+          case id_int8:    return machDesc.int8AlignmentInBytes();
+          case id_int16:   return machDesc.int16AlignmentInBytes();
+          case id_int32:   return machDesc.int32AlignmentInBytes();
+          case id_intxx:   return machDesc.intAlignmentInBytes();
+          case id_long:    return machDesc.longAlignmentInBytes();
+          case id_int64:   return machDesc.int64AlignmentInBytes();
+          case id_float:   return machDesc.floatAlignmentInBytes();
+          case id_double:  return machDesc.doubleAlignmentInBytes();
+          case id_pointer: return machDesc.pointerAlignmentInBytes();
+          default: throw new InternalError("Unknown primitive id "+id);
       }
-      @Override
-      protected int hashCodeImpl() { return 8; }
-      @Override
-      protected int hashCodeSemanticsImpl() { return magic_float64; }
-    };
-
-  public static final SizeThunk POINTER = new SizeThunk(false) {
-      @Override
-      public long computeSize(final MachineDataInfo machDesc) {
-        return machDesc.pointerSizeInBytes();
+    }
+    @Override
+    protected int hashCodeImpl() { return id; }
+    @Override
+    protected int hashCodeSemanticsImpl() {
+      switch( id ) {
+          case id_int8:    return relaxedEqSem ? magic_int32 : magic_int08;
+          case id_int16:   return relaxedEqSem ? magic_int32 : magic_int16;
+          case id_int32:   return magic_int32;
+          case id_intxx:   return relaxedEqSem ? magic_int32 : magic_intxx;
+          case id_long:    return relaxedEqSem ? magic_long64 : magic_longxx;
+          case id_int64:   return magic_long64;
+          case id_float:   return magic_float32;
+          case id_double:  return magic_float64;
+          case id_pointer: return magic_aptr64;
+          default: throw new InternalError("Unknown primitive id "+id);
       }
-      @Override
-      public long computeAlignment(final MachineDataInfo machDesc) {
-        return machDesc.pointerAlignmentInBytes();
+    }
+
+    /** Resolves a deserialized primitive to its singleton, e.g. {@link #POINTER}. */
+    private Object readResolve() throws ObjectStreamException {
+      if( 1 > id || id > primitives.length ) {
+          throw new InvalidObjectException("Unknown primitive id "+id);
       }
-      @Override
-      protected int hashCodeImpl() { return 9; }
-      @Override
-      protected int hashCodeSemanticsImpl() { return magic_aptr64; }
-    };
+      return primitives[id-1];
+    }
+  }
+
+  /** Base of the binary operations, aligned to the maximum alignment of both operands. */
+  private static abstract class BinaryOp extends SizeThunk {
+    private static final long serialVersionUID = 1L;
+    final SizeThunk thunk1;
+    final SizeThunk thunk2;
+
+    BinaryOp(final SizeThunk thunk1, final SizeThunk thunk2) {
+        super(false);
+        this.thunk1 = thunk1;
+        this.thunk2 = thunk2;
+    }
+
+    @Override
+    public long computeAlignment(final MachineDataInfo machDesc) {
+      final long thunk1A = thunk1.computeAlignment(machDesc);
+      final long thunk2A = thunk2.computeAlignment(machDesc);
+      return ( thunk1A > thunk2A ) ? thunk1A : thunk2A ;
+    }
+    /* pp */ final int hashCodeImpl(final int op) {
+        // 31 * x == (x << 5) - x
+        int hash = 31 + op;
+        hash = ((hash << 5) - hash) + ( null != thunk1 ? thunk1.hashCode() : 0 );
+        return ((hash << 5) - hash) + ( null != thunk2 ? thunk2.hashCode() : 0 );
+    }
+  }
+
+  private static final class Add extends BinaryOp {
+    private static final long serialVersionUID = 1L;
+    Add(final SizeThunk thunk1, final SizeThunk thunk2) { super(thunk1, thunk2); }
+
+    @Override
+    public long computeSize(final MachineDataInfo machDesc) {
+      return thunk1.computeSize(machDesc) + thunk2.computeSize(machDesc);
+    }
+    @Override
+    protected int hashCodeImpl() { return hashCodeImpl(10); }
+    @Override
+    protected int hashCodeSemanticsImpl() { return magic_ops + 1; }
+  }
+
+  private static final class Mul extends BinaryOp {
+    private static final long serialVersionUID = 1L;
+    Mul(final SizeThunk thunk1, final SizeThunk thunk2) { super(thunk1, thunk2); }
+
+    @Override
+    public long computeSize(final MachineDataInfo machDesc) {
+      return thunk1.computeSize(machDesc) * thunk2.computeSize(machDesc);
+    }
+    @Override
+    protected int hashCodeImpl() { return hashCodeImpl(11); }
+    @Override
+    protected int hashCodeSemanticsImpl() { return magic_ops + 2; }
+  }
+
+  /** Aligns the size of {@link #thunk1}, the offset, to the alignment of {@link #thunk2}. */
+  private static final class Align extends BinaryOp {
+    private static final long serialVersionUID = 1L;
+    Align(final SizeThunk offsetThunk, final SizeThunk alignmentThunk) { super(offsetThunk, alignmentThunk); }
+
+    @Override
+    public long computeSize(final MachineDataInfo machDesc) {
+      /**
+       * padding = ( alignment - ( net_size % alignment ) ) % alignment ;
+       * aligned_size = net_size + padding ;
+       *
+       * With x % 2n == x & (2n - 1)
+       *
+       * Either:
+       *   remainder = net_size & ( alignment - 1 )
+       *   padding = ( remainder > 0 ) ? alignment - remainder ;
+       *   aligned_size = net_size + padding ;
+       *
+       * Or:
+       *   padding = ( alignment - ( net_size & ( alignment - 1 ) ) ) & ( alignment - 1 );
+       *   aligned_size = net_size + padding ;
+       *
+       */
+
+      final long net_size = thunk1.computeSize(machDesc);
+      final long alignment = thunk2.computeAlignment(machDesc);
+
+      /**
+      final long remainder = net_size & ( alignment - 1 ) ;
+      final long padding = (remainder > 0) ? alignment - remainder : 0;
+       */
+      final long padding = ( alignment - ( net_size & ( alignment - 1 ) ) ) & ( alignment - 1 );
+      return net_size + padding;
+    }
+    @Override
+    protected int hashCodeImpl() { return hashCodeImpl(12); }
+    @Override
+    protected int hashCodeSemanticsImpl() { return magic_ops + 3; }
+  }
+
+  private static final class Max extends BinaryOp {
+    private static final long serialVersionUID = 1L;
+    Max(final SizeThunk thunk1, final SizeThunk thunk2) { super(thunk1, thunk2); }
+
+    @Override
+    public long computeSize(final MachineDataInfo machDesc) {
+      return Math.max(thunk1.computeSize(machDesc), thunk2.computeSize(machDesc));
+    }
+    @Override
+    protected int hashCodeImpl() { return hashCodeImpl(13); }
+    @Override
+    protected int hashCodeSemanticsImpl() { return magic_ops + 4; }
+  }
+
+  private static final class Constant extends SizeThunk {
+    private static final long serialVersionUID = 1L;
+    private final int constant;
+
+    Constant(final int constant) {
+        super(false);
+        this.constant = constant;
+    }
+
+    @Override
+    public long computeSize(final MachineDataInfo machDesc) {
+      return constant;
+    }
+    @Override
+    public long computeAlignment(final MachineDataInfo machDesc) {
+      return 1; // no alignment for constants
+    }
+    @Override
+    protected int hashCodeImpl() {
+        // 31 * x == (x << 5) - x
+        final int hash = 31 + 14;
+        return ((hash << 5) - hash) + constant;
+    }
+    @Override
+    protected int hashCodeSemanticsImpl() { return magic_ops + 5; }
+  }
 
   // Factory methods for performing certain limited kinds of
   // arithmetic on these values
   public static SizeThunk add(final SizeThunk thunk1,
                               final SizeThunk thunk2) {
-    return new SizeThunk(false) {
-        @Override
-        public long computeSize(final MachineDataInfo machDesc) {
-          return thunk1.computeSize(machDesc) + thunk2.computeSize(machDesc);
-        }
-        @Override
-        public long computeAlignment(final MachineDataInfo machDesc) {
-          final long thunk1A = thunk1.computeAlignment(machDesc);
-          final long thunk2A = thunk2.computeAlignment(machDesc);
-          return ( thunk1A > thunk2A ) ? thunk1A : thunk2A ;
-        }
-        @Override
-        protected int hashCodeImpl() {
-            // 31 * x == (x << 5) - x
-            int hash = 31 + 10;
-            hash = ((hash << 5) - hash) + ( null != thunk1 ? thunk1.hashCode() : 0 );
-            return ((hash << 5) - hash) + ( null != thunk2 ? thunk2.hashCode() : 0 );
-        }
-        @Override
-        protected int hashCodeSemanticsImpl() { return magic_ops + 1; }
-      };
+    return new Add(thunk1, thunk2);
   }
 
   public static SizeThunk mul(final SizeThunk thunk1,
                               final SizeThunk thunk2) {
-    return new SizeThunk(false) {
-        @Override
-        public long computeSize(final MachineDataInfo machDesc) {
-          return thunk1.computeSize(machDesc) * thunk2.computeSize(machDesc);
-        }
-        @Override
-        public long computeAlignment(final MachineDataInfo machDesc) {
-          final long thunk1A = thunk1.computeAlignment(machDesc);
-          final long thunk2A = thunk2.computeAlignment(machDesc);
-          return ( thunk1A > thunk2A ) ? thunk1A : thunk2A ;
-        }
-        @Override
-        protected int hashCodeImpl() {
-            // 31 * x == (x << 5) - x
-            int hash = 31 + 11;
-            hash = ((hash << 5) - hash) + ( null != thunk1 ? thunk1.hashCode() : 0 );
-            return ((hash << 5) - hash) + ( null != thunk2 ? thunk2.hashCode() : 0 );
-        }
-        @Override
-        protected int hashCodeSemanticsImpl() { return magic_ops + 2; }
-      };
+    return new Mul(thunk1, thunk2);
   }
 
   public static SizeThunk align(final SizeThunk offsetThunk,
                                 final SizeThunk alignmentThunk) {
-    return new SizeThunk(false) {
-        @Override
-        public long computeSize(final MachineDataInfo machDesc) {
-          /**
-           * padding = ( alignment - ( net_size % alignment ) ) % alignment ;
-           * aligned_size = net_size + padding ;
-           *
-           * With x % 2n == x & (2n - 1)
-           *
-           * Either:
-           *   remainder = net_size & ( alignment - 1 )
-           *   padding = ( remainder > 0 ) ? alignment - remainder ;
-           *   aligned_size = net_size + padding ;
-           *
-           * Or:
-           *   padding = ( alignment - ( net_size & ( alignment - 1 ) ) ) & ( alignment - 1 );
-           *   aligned_size = net_size + padding ;
-           *
-           */
-
-          final long net_size = offsetThunk.computeSize(machDesc);
-          final long alignment = alignmentThunk.computeAlignment(machDesc);
-
-          /**
-          final long remainder = net_size & ( alignment - 1 ) ;
-          final long padding = (remainder > 0) ? alignment - remainder : 0;
-           */
-          final long padding = ( alignment - ( net_size & ( alignment - 1 ) ) ) & ( alignment - 1 );
-          return net_size + padding;
-        }
-
-        @Override
-        public long computeAlignment(final MachineDataInfo machDesc) {
-          final long thunk1A = offsetThunk.computeAlignment(machDesc);
-          final long thunk2A = alignmentThunk.computeAlignment(machDesc);
-          return ( thunk1A > thunk2A ) ? thunk1A : thunk2A ;
-        }
-        @Override
-        protected int hashCodeImpl() {
-            // 31 * x == (x << 5) - x
-            int hash = 31 + 12;
-            hash = ((hash << 5) - hash) + ( null != offsetThunk ? offsetThunk.hashCode() : 0 );
-            return ((hash << 5) - hash) + ( null != alignmentThunk ? alignmentThunk.hashCode() : 0 );
-        }
-        @Override
-        protected int hashCodeSemanticsImpl() { return magic_ops + 3; }
-      };
+    return new Align(offsetThunk, alignmentThunk);
   }
 
   public static SizeThunk max(final SizeThunk thunk1,
                               final SizeThunk thunk2) {
-    return new SizeThunk(false) {
-        @Override
-        public long computeSize(final MachineDataInfo machDesc) {
-          return Math.max(thunk1.computeSize(machDesc), thunk2.computeSize(machDesc));
-        }
-        @Override
-        public long computeAlignment(final MachineDataInfo machDesc) {
-          final long thunk1A = thunk1.computeAlignment(machDesc);
-          final long thunk2A = thunk2.computeAlignment(machDesc);
-          return ( thunk1A > thunk2A ) ? thunk1A : thunk2A ;
-        }
-        @Override
-        protected int hashCodeImpl() {
-            // 31 * x == (x << 5) - x
-            int hash = 31 + 13;
-            hash = ((hash << 5) - hash) + ( null != thunk1 ? thunk1.hashCode() : 0 );
-            return ((hash << 5) - hash) + ( null != thunk2 ? thunk2.hashCode() : 0 );
-        }
-        @Override
-        protected int hashCodeSemanticsImpl() { return magic_ops + 4; }
-      };
+    return new Max(thunk1, thunk2);
   }
 
   public static SizeThunk constant(final int constant) {
-    return new SizeThunk(false) {
-        @Override
-        public long computeSize(final MachineDataInfo machDesc) {
-          return constant;
-        }
-        @Override
-        public long computeAlignment(final MachineDataInfo machDesc) {
-          return 1; // no alignment for constants
-        }
-        @Override
-        protected int hashCodeImpl() {
-            // 31 * x == (x << 5) - x
-            final int hash = 31 + 14;
-            return ((hash << 5) - hash) + constant;
-        }
-        @Override
-        protected int hashCodeSemanticsImpl() { return magic_ops + 5; }
-      };
+    return new Constant(constant);
   }
 }
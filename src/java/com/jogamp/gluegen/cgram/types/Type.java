@@ -40,6 +40,10 @@
 
 package com.jogamp.gluegen.cgram.types;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+
 import com.jogamp.common.os.MachineDataInfo;
 import com.jogamp.gluegen.ASTLocusTag.ASTLocusTagProvider;
 import com.jogamp.gluegen.ASTLocusTag;
@@ -51,7 +55,8 @@ import com.jogamp.gluegen.cgram.types.TypeComparator.SemanticEqualityOp;
     double. All types have an associated name. Structs and unions are
     modeled as "compound" types -- composed of fields of primitive or
     other types. */
-public abstract class Type implements SemanticEqualityOp, ASTLocusTagProvider {
+public abstract class Type implements SemanticEqualityOp, ASTLocusTagProvider, Serializable {
+  private static final long serialVersionUID = 1L;
   public final boolean relaxedEqSem;
   private final int cvAttributes;
   final ASTLocusTag astLocus;
@@ -59,9 +64,9 @@ public abstract class Type implements SemanticEqualityOp, ASTLocusTagProvider {
   private SizeThunk size;
   private int typedefCVAttributes;
   private boolean isTypedef;
-  private boolean hasCachedHash;
+  private volatile boolean hasCachedHash; // published after cachedHash, types are shared by parallel emission
   private int cachedHash;
-  private boolean hasCachedSemanticHash;
+  private volatile boolean hasCachedSemanticHash;
   private int cachedSemanticHash;
 
   protected Type(final String name, final SizeThunk size, final int cvAttributes, final ASTLocusTag astLocus) {
@@ -84,6 +89,15 @@ public abstract class Type implements SemanticEqualityOp, ASTLocusTagProvider {
     clearCache();
   }
 
+  private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+    in.defaultReadObject();
+    if( null != name ) {
+        name = name.intern(); // see setName(..)
+    }
+    // The serialized hashes may depend on the writing JVM, recompute them lazily
+    clearCache();
+  }
+
   protected final void clearCache() {
     hasCachedHash = false;
     cachedHash = 0;
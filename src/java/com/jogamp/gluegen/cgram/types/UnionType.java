@@ -30,6 +30,7 @@ package com.jogamp.gluegen.cgram.types;
 import com.jogamp.gluegen.ASTLocusTag;
 
 public class UnionType extends CompoundType {
+  private static final long serialVersionUID = 1L;
 
   UnionType(final String name, final SizeThunk size, final int cvAttributes, final String structName, final ASTLocusTag astLocus) {
     super (name, size, cvAttributes, structName, astLocus);
@@ -42,6 +42,7 @@ package com.jogamp.gluegen.cgram.types;
 import com.jogamp.gluegen.ASTLocusTag;
 
 public class VoidType extends Type implements Cloneable {
+    private static final long serialVersionUID = 1L;
 
     public VoidType(final int cvAttributes, final ASTLocusTag astLocus) {
         this("void", cvAttributes, astLocus);
@@ -52,6 +52,8 @@ public class ProcAddressConfiguration extends JavaConfiguration {
 
     private boolean emitProcAddressTable = false;
     private boolean forceProcAddressGen4All = false;
+    private boolean lazyProcAddressTable = false;
+    private boolean arrayProcAddressTable = false;
 
     private String tableClassPackage;
     private String tableClassName = "ProcAddressTable";
@@ -72,6 +74,10 @@ public class ProcAddressConfiguration extends JavaConfiguration {
     protected void dispatch(final String cmd, final StringTokenizer tok, final File file, final String filename, final int lineNo) throws IOException {
         if (cmd.equalsIgnoreCase("EmitProcAddressTable")) {
             emitProcAddressTable = readBoolean("EmitProcAddressTable", tok, filename, lineNo).booleanValue();
+        } else if (cmd.equalsIgnoreCase("LazyProcAddressTable")) {
+            lazyProcAddressTable = readBoolean("LazyProcAddressTable", tok, filename, lineNo).booleanValue();
+        } else if (cmd.equalsIgnoreCase("ProcAddressTableLayout")) {
+            readProcAddressTableLayout(tok, filename, lineNo);
         } else if (cmd.equalsIgnoreCase("ProcAddressTablePackage")) {
             tableClassPackage = readString("ProcAddressTablePackage", tok, filename, lineNo);
         } else if (cmd.equalsIgnoreCase("ProcAddressTableClassName")) {
@@ -97,6 +103,18 @@ public class ProcAddressConfiguration extends JavaConfiguration {
         }
     }
 
+    protected void readProcAddressTableLayout(final StringTokenizer tok, final String filename, final int lineNo) {
+        final String layout = readString("ProcAddressTableLayout", tok, filename, lineNo);
+        if( layout.equalsIgnoreCase("Fields") ) {
+            arrayProcAddressTable = false;
+        } else if( layout.equalsIgnoreCase("Array") ) {
+            arrayProcAddressTable = true;
+        } else {
+            throw new RuntimeException("Error parsing \"ProcAddressTableLayout\" command at line " + lineNo +
+                " in file \"" + filename + "\": expected Fields or Array, got \""+layout+"\"");
+        }
+    }
+
     protected String readGetProcAddressTableExpr(final StringTokenizer tok, final String filename, final int lineNo) {
         try {
             final String restOfLine = tok.nextToken("\n\r\f");
@@ -202,8 +220,9 @@ public class ProcAddressConfiguration extends JavaConfiguration {
             msgFmt = new MessageFormat(fmt);
         }
 
+        // synchronized, since MessageFormat is not thread-safe
         @Override
-        String convert(final String funcName) {
+        synchronized String convert(final String funcName) {
             final StringBuffer buf = new StringBuffer();
             msgFmt.format(new Object[]{funcName}, buf, null);
             return buf.toString();
@@ -266,6 +285,22 @@ public class ProcAddressConfiguration extends JavaConfiguration {
         return emitProcAddressTable;
     }
 
+    /**
+     * Returns true if the emitted ProcAddressTable resolves its entries on first use
+     * instead of at reset, see {@link com.jogamp.gluegen.runtime.ProcAddressTable#isLazy()}.
+     */
+    public boolean lazyProcAddressTable() {
+        return lazyProcAddressTable;
+    }
+
+    /**
+     * Returns true if the emitted ProcAddressTable holds its entries in a single <code>long[]</code>
+     * indexed by slots, which the bindings use as literals, otherwise each entry is a <code>long</code> field.
+     */
+    public boolean arrayProcAddressTable() {
+        return arrayProcAddressTable;
+    }
+
     public String tableClassPackage() {
         return tableClassPackage;
     }
@@ -43,7 +43,10 @@ import java.io.File;
 import java.io.PrintWriter;
 import java.text.MessageFormat;
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -71,11 +74,21 @@ public class ProcAddressEmitter extends JavaEmitter {
     /** Must be synchronized w/ ProcAddressTable.PROCADDRESS_VAR_PREFIX !!! */
     public static final String PROCADDRESS_VAR_PREFIX = "_addressof_";
     protected static final String WRAP_PREFIX = "dispatch_";
+    /** Maximum number of entries of a table w/ field layout providing direct entry access, larger tables are accessed via reflection. */
+    protected static final int MAX_DIRECT_TABLE_ENTRIES = 4096;
+    /** Maximum number of entries of a table w/ array layout, i.e. slots encoded as characters. */
+    protected static final int MAX_ARRAY_TABLE_ENTRIES = 0xFFFF;
+    /** Number of cases per generated entry access switch method, keeping them small enough for the JIT. */
+    private static final int ENTRY_SWITCH_CHUNK = 256;
     private TypeDictionary typedefDictionary;
     protected PrintWriter tableWriter;
     protected Set<String> emittedTableEntries;
+    /** Slots of the emitted entries of a table w/ array layout, i.e. their order of emission. */
+    protected Map<String, Integer> tableEntrySlots;
     protected String tableClassPackage;
     protected String tableClassName;
+    /** Name of the table class as referenced by the bindings, i.e. simple or fully qualified. */
+    protected String tableClassRef;
 
     @Override
     public void beginFunctions(final TypeDictionary typedefDictionary, final TypeDictionary structDictionary, final Map<Type, Type>  canonMap) throws Exception {
@@ -303,12 +316,14 @@ public class ProcAddressEmitter extends JavaEmitter {
             implPackageName = getImplPackageName();
         }
         final String tableClassFQN = implPackageName + "." + tableClassName;
+        tableClassRef = implPackageName.equals(getImplPackageName()) ? tableClassName : tableClassFQN;
         final String[] accessModifiers = getClassAccessModifiers(tableClassFQN);
 
         final String jImplRoot = getJavaOutputDir() + File.separator + CodeGenUtils.packageAsPath(implPackageName);
 
         tableWriter = openFile(jImplRoot + File.separator + tableClassName + ".java", tableClassName);
-        emittedTableEntries = new HashSet<String>();
+        emittedTableEntries = new LinkedHashSet<String>();
+        tableEntrySlots = new HashMap<String, Integer>();
 
         CodeGenUtils.emitAutogeneratedWarning(tableWriter, this);
 
@@ -337,14 +352,21 @@ public class ProcAddressEmitter extends JavaEmitter {
         }
 
         tableWriter.println();
-        tableWriter.println("  public "+tableClassName+"(){ super(); }");
-        tableWriter.println();
-        tableWriter.println("  public "+tableClassName+"("+FunctionAddressResolver.class.getName()+" resolver){ super(resolver); }");
+        if( cfg.lazyProcAddressTable() ) {
+            tableWriter.println("  public "+tableClassName+"(){ super(null, true); }");
+            tableWriter.println();
+            tableWriter.println("  public "+tableClassName+"("+FunctionAddressResolver.class.getName()+" resolver){ super(resolver, true); }");
+        } else {
+            tableWriter.println("  public "+tableClassName+"(){ super(); }");
+            tableWriter.println();
+            tableWriter.println("  public "+tableClassName+"("+FunctionAddressResolver.class.getName()+" resolver){ super(resolver); }");
+        }
         tableWriter.println();
 
     }
 
     protected void endProcAddressTable() throws Exception {
+        emitProcAddressTableEntryAccess();
         tableWriter.println("} // end of class " + tableClassName);
         tableWriter.flush();
         tableWriter.close();
@@ -357,12 +379,282 @@ public class ProcAddressEmitter extends JavaEmitter {
             return;
         }
         emittedTableEntries.add(str);
-        tableWriter.print("  /* pp */ long ");
+        if( getProcAddressConfig().arrayProcAddressTable() ) {
+            // slots are fixed right away, since the bindings use them as literals
+            if( tableEntrySlots.size() == MAX_ARRAY_TABLE_ENTRIES ) {
+                throw new RuntimeException(tableClassName+": Array layout supports at most "+MAX_ARRAY_TABLE_ENTRIES+" entries");
+            }
+            tableEntrySlots.put(str, Integer.valueOf(tableEntrySlots.size()));
+            return;
+        }
+        if( getProcAddressConfig().lazyProcAddressTable() ) {
+            // bindings read lazily resolved entries w/o locking, see ProcAddressTable.resolveEntry(..)
+            tableWriter.print("  /* pp */ volatile long ");
+        } else {
+            tableWriter.print("  /* pp */ long ");
+        }
         tableWriter.print(PROCADDRESS_VAR_PREFIX);
         tableWriter.print(str);
         tableWriter.println(";");
     }
 
+    /**
+     * Emits the direct entry access of the table, i.e. the entry names in index order,
+     * their lookup by name and the entry address accessors, see {@link ProcAddressTable#getEntryNames()}.
+     * <p>
+     * The field layout looks up names via a perfect hash.
+     * Tables exceeding {@link #MAX_DIRECT_TABLE_ENTRIES} or whose names can't be perfectly hashed
+     * are accessed via reflection.
+     * </p>
+     * <p>
+     * The array layout looks up names via a binary search, since the entry indices are the slots used by the bindings.
+     * </p>
+     */
+    protected void emitProcAddressTableEntryAccess() {
+        if( getProcAddressConfig().arrayProcAddressTable() ) {
+            emitProcAddressTableArrayAccess();
+            return;
+        }
+        final String[] entryNames = new String[emittedTableEntries.size()];
+        final String displacements;
+        if( entryNames.length <= MAX_DIRECT_TABLE_ENTRIES ) {
+            displacements = computePerfectHash(new ArrayList<String>(emittedTableEntries), entryNames);
+        } else {
+            displacements = null;
+        }
+        if( null == displacements ) {
+            LOG.log(Level.WARNING, "{0}: No direct entry access for {1} entries, using reflection{2}", tableClassName, entryNames.length,
+                    getProcAddressConfig().lazyProcAddressTable() ? " and eager resolution" : "");
+            return;
+        }
+        emitEntryNames(entryNames);
+        tableWriter.println();
+        tableWriter.println("  /** Perfect hash displacements of the entry names, see ProcAddressTable.perfectHashIndex(..). */");
+        emitCharsLiteral("_entryDisplacements", displacements);
+        tableWriter.println();
+        tableWriter.println("  @Override");
+        tableWriter.println("  protected final String[] getEntryNames() { return _entryNames; }");
+        tableWriter.println();
+        tableWriter.println("  @Override");
+        tableWriter.println("  protected final int getEntryIndex(final String functionName) {");
+        tableWriter.println("    return perfectHashIndex(_entryNames, _entryDisplacements, functionName);");
+        tableWriter.println("  }");
+        emitEntrySwitch(entryNames, "long getEntryAddress(final int index)", "return %s;", false);
+        emitEntrySwitch(entryNames, "void setEntryAddress(final int index, final long address)", "%s = address; return;", true);
+    }
+
+    /**
+     * Emits the direct entry access of a table w/ array layout,
+     * i.e. the <code>long[] addr</code> holding all entries indexed by their slot.
+     * <p>
+     * The bindings read <code>addr</code> w/o locking, hence it is <code>volatile</code>
+     * and replaced as a whole on each update.
+     * </p>
+     */
+    protected void emitProcAddressTableArrayAccess() {
+        final String[] entryNames = emittedTableEntries.toArray(new String[emittedTableEntries.size()]);
+        final Integer[] order = new Integer[entryNames.length];
+        for (int i = 0; i < entryNames.length; ++i) {
+            order[i] = Integer.valueOf(i);
+        }
+        Arrays.sort(order, new Comparator<Integer>() {
+            @Override
+            public int compare(final Integer i1, final Integer i2) {
+                return entryNames[i1.intValue()].compareTo(entryNames[i2.intValue()]);
+            }
+        });
+        final char[] sortedSlots = new char[entryNames.length];
+        for (int i = 0; i < entryNames.length; ++i) {
+            sortedSlots[i] = (char)order[i].intValue();
+        }
+        tableWriter.println();
+        tableWriter.println("  /** Entry addresses indexed by their slot, replaced as a whole on each update. */");
+        tableWriter.println("  private volatile long[] addr = new long[" + entryNames.length + "];");
+        tableWriter.println();
+        tableWriter.println("  /**");
+        tableWriter.println("   * Returns the entry addresses indexed by their slot, which must not be modified.");
+        tableWriter.println("   * The returned array is a consistent snapshot of all entries.");
+        tableWriter.println("   */");
+        tableWriter.println("  public final long[] getEntryAddresses() { return addr; }");
+        emitEntryNames(entryNames);
+        tableWriter.println();
+        tableWriter.println("  /** Slots of the entry names in sorted order, see ProcAddressTable.sortedIndex(..). */");
+        emitCharsLiteral("_entryOrder", new String(sortedSlots));
+        tableWriter.println();
+        tableWriter.println("  @Override");
+        tableWriter.println("  protected final String[] getEntryNames() { return _entryNames; }");
+        tableWriter.println();
+        tableWriter.println("  @Override");
+        tableWriter.println("  protected final int getEntryIndex(final String functionName) {");
+        tableWriter.println("    return sortedIndex(_entryNames, _entryOrder, functionName);");
+        tableWriter.println("  }");
+        tableWriter.println();
+        tableWriter.println("  @Override");
+        tableWriter.println("  protected final long getEntryAddress(final int index) { return addr[index]; }");
+        tableWriter.println();
+        tableWriter.println("  @Override");
+        tableWriter.println("  protected final void setEntryAddress(final int index, final long address) {");
+        tableWriter.println("    final long[] _addr = addr.clone();");
+        tableWriter.println("    _addr[index] = address;");
+        tableWriter.println("    addr = _addr;");
+        tableWriter.println("  }");
+        tableWriter.println();
+        tableWriter.println("  @Override");
+        tableWriter.println("  protected final void setEntryAddresses(final long[] addresses) { addr = addresses; }");
+    }
+
+    private void emitEntryNames(final String[] entryNames) {
+        tableWriter.println();
+        tableWriter.println("  /** Entry names in index order. */");
+        tableWriter.println("  private static final String[] _entryNames = new String[] {");
+        for (int i = 0; i < entryNames.length; ++i) {
+            tableWriter.println("    \"" + entryNames[i] + "\"" + ( i < entryNames.length - 1 ? "," : "" ));
+        }
+        tableWriter.println("  };");
+    }
+
+    private void emitCharsLiteral(final String name, final String chars) {
+        tableWriter.print("  private static final String " + name + " = \"");
+        for (int i = 0; i < chars.length(); ++i) {
+            if( 0 < i && 0 == i % 16 ) {
+                tableWriter.println("\" +");
+                tableWriter.print("    \"");
+            }
+            // Octal escapes below 0x80, since unicode escapes of line terminators would break the literal
+            final int d = chars.charAt(i);
+            tableWriter.print(String.format(d < 0x80 ? "\\%03o" : "\\u%04x", Integer.valueOf(d)));
+        }
+        tableWriter.println("\";");
+    }
+
+    /**
+     * Returns the slot of the given entry within the table w/ array layout as literal,
+     * see {@link ProcAddressConfiguration#arrayProcAddressTable()}.
+     */
+    protected String getProcAddressSlotExpr(final String entryName) {
+        final Integer slot = tableEntrySlots.get(entryName);
+        if( null == slot ) {
+            throw new RuntimeException(tableClassName+": No entry for "+entryName);
+        }
+        return slot.toString() + " /* " + entryName + " */";
+    }
+
+    private void emitEntrySwitch(final String[] entryNames, final String signature, final String caseFmt, final boolean isVoid) {
+        final int chunks = ( entryNames.length + ENTRY_SWITCH_CHUNK - 1 ) / ENTRY_SWITCH_CHUNK;
+        final String methodName = signature.substring(signature.indexOf(' ') + 1, signature.indexOf('('));
+        final String args = signature.substring(signature.indexOf('(') + 1, signature.indexOf(')')).replaceAll("final \\w+ ", "");
+        tableWriter.println();
+        tableWriter.println("  @Override");
+        tableWriter.println("  protected final " + signature + " {");
+        if( 1 >= chunks ) {
+            emitEntrySwitchCases(entryNames, 0, entryNames.length, caseFmt);
+        } else {
+            tableWriter.println("    switch( index / " + ENTRY_SWITCH_CHUNK + " ) {");
+            for (int c = 0; c < chunks; ++c) {
+                tableWriter.println("      case " + c + ": " + ( isVoid ? "" : "return " ) + methodName + c + "(" + args + ");" + ( isVoid ? " return;" : "" ));
+            }
+            tableWriter.println("    }");
+            tableWriter.println("    throw new IndexOutOfBoundsException(\"Entry index \"+index);");
+        }
+        tableWriter.println("  }");
+        for (int c = 0; 1 < chunks && c < chunks; ++c) {
+            tableWriter.println();
+            tableWriter.println("  private final " + signature.replace(methodName + "(", methodName + c + "(") + " {");
+            emitEntrySwitchCases(entryNames, c * ENTRY_SWITCH_CHUNK, Math.min(entryNames.length, ( c + 1 ) * ENTRY_SWITCH_CHUNK), caseFmt);
+            tableWriter.println("  }");
+        }
+    }
+
+    private void emitEntrySwitchCases(final String[] entryNames, final int start, final int end, final String caseFmt) {
+        tableWriter.println("    switch( index ) {");
+        for (int i = start; i < end; ++i) {
+            tableWriter.println("      case " + i + ": " + String.format(caseFmt, PROCADDRESS_VAR_PREFIX + entryNames[i]));
+        }
+        tableWriter.println("    }");
+        tableWriter.println("    throw new IndexOutOfBoundsException(\"Entry index \"+index);");
+    }
+
+    /**
+     * Computes a minimal perfect hash of the given names via hash and displace,
+     * see {@link ProcAddressTable#perfectHashIndex(String[], String, String)}.
+     * <p>
+     * Stores the names in index order into <code>entryNames</code> and returns the displacements,
+     * or returns <code>null</code> if no perfect hash could be found.
+     * </p>
+     */
+    protected static String computePerfectHash(final List<String> names, final String[] entryNames) {
+        final int n = names.size();
+        if( 0 == n || n > 0x7FFF ) {
+            return 0 == n ? "" : null;
+        }
+        final int bucketCount = ( n + 1 ) / 2;
+        final List<List<String>> buckets = new ArrayList<List<String>>(bucketCount);
+        for (int b = 0; b < bucketCount; ++b) {
+            buckets.add(new ArrayList<String>(2));
+        }
+        for (final String name : names) {
+            buckets.get(ProcAddressTable.perfectHashSlot(name, 0, bucketCount)).add(name);
+        }
+        // Place the largest buckets first, while most indices are still free
+        final Integer[] order = new Integer[bucketCount];
+        for (int b = 0; b < bucketCount; ++b) {
+            order[b] = Integer.valueOf(b);
+        }
+        Arrays.sort(order, new Comparator<Integer>() {
+            @Override
+            public int compare(final Integer b1, final Integer b2) {
+                return buckets.get(b2.intValue()).size() - buckets.get(b1.intValue()).size();
+            }
+        });
+        final char[] displacements = new char[bucketCount];
+        final int[] indices = new int[buckets.get(order[0].intValue()).size()];
+        int nextFree = 0;
+        for (final Integer bi : order) {
+            final int b = bi.intValue();
+            final List<String> bucket = buckets.get(b);
+            if( 1 < bucket.size() ) {
+                int seed;
+                for (seed = 1; seed < 0x8000; ++seed) {
+                    if( placeBucket(bucket, seed, entryNames, indices) ) {
+                        break;
+                    }
+                }
+                if( seed == 0x8000 ) {
+                    return null;
+                }
+                for (int j = 0; j < bucket.size(); ++j) {
+                    entryNames[indices[j]] = bucket.get(j);
+                }
+                displacements[b] = (char)seed;
+            } else if( 1 == bucket.size() ) {
+                while( null != entryNames[nextFree] ) {
+                    ++nextFree;
+                }
+                entryNames[nextFree] = bucket.get(0);
+                displacements[b] = (char)( 0x8000 | nextFree );
+            } else {
+                break;
+            }
+        }
+        return new String(displacements);
+    }
+
+    private static boolean placeBucket(final List<String> bucket, final int seed, final String[] entryNames, final int[] indices) {
+        for (int j = 0; j < bucket.size(); ++j) {
+            final int index = ProcAddressTable.perfectHashSlot(bucket.get(j), seed, entryNames.length);
+            if( null != entryNames[index] ) {
+                return false;
+            }
+            for (int k = 0; k < j; ++k) {
+                if( indices[k] == index ) {
+                    return false;
+                }
+            }
+            indices[j] = index;
+        }
+        return true;
+    }
+
     protected ProcAddressConfiguration getProcAddressConfig() {
         return (ProcAddressConfiguration) getConfig();
     }
@@ -120,12 +120,34 @@ public class ProcAddressJavaMethodBindingEmitter extends JavaMethodBindingEmitte
         super.emitPreCallSetup(binding, writer);
 
         if (callThroughProcAddress) {
-            final String procAddressVariable = ProcAddressEmitter.PROCADDRESS_VAR_PREFIX + binding.getNativeName();
-            writer.println("    final long __addr_ = " + getProcAddressTableExpr + "." + procAddressVariable + ";");
-            writer.println("    if (__addr_ == 0) {");
-            writer.format("      throw new %s(String.format(\"Method \\\"%%s\\\" not available\", \"%s\"));%n",
-                          emitter.unsupportedExceptionType(), binding.getName());
-            writer.println("    }");
+            final boolean arrayLayout = emitter.getProcAddressConfig().arrayProcAddressTable();
+            final String procAddressVariable;
+            final String lazyEntryKey;
+            if( arrayLayout ) {
+                final String slot = emitter.getProcAddressSlotExpr(binding.getNativeName());
+                procAddressVariable = "getEntryAddresses()[" + slot + "]";
+                lazyEntryKey = slot;
+            } else {
+                procAddressVariable = ProcAddressEmitter.PROCADDRESS_VAR_PREFIX + binding.getNativeName();
+                lazyEntryKey = "\"" + binding.getNativeName() + "\"";
+            }
+            if( emitter.getProcAddressConfig().lazyProcAddressTable() ) {
+                // Resolve the entry on first use, see ProcAddressTable.resolveEntry(..)
+                writer.println("    long __addr_ = " + getProcAddressTableExpr + "." + procAddressVariable + ";");
+                writer.println("    if (__addr_ == 0) {");
+                writer.println("      __addr_ = " + getProcAddressTableExpr + ".resolveEntry(" + lazyEntryKey + ");");
+                writer.println("      if (__addr_ == 0) {");
+                writer.format("        throw new %s(String.format(\"Method \\\"%%s\\\" not available\", \"%s\"));%n",
+                              emitter.unsupportedExceptionType(), binding.getName());
+                writer.println("      }");
+                writer.println("    }");
+            } else {
+                writer.println("    final long __addr_ = " + getProcAddressTableExpr + "." + procAddressVariable + ";");
+                writer.println("    if (__addr_ == 0) {");
+                writer.format("      throw new %s(String.format(\"Method \\\"%%s\\\" not available\", \"%s\"));%n",
+                              emitter.unsupportedExceptionType(), binding.getName());
+                writer.println("    }");
+            }
         }
     }
 
@@ -0,0 +1,52 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.gluegen.runtime;
+
+import com.jogamp.common.os.BatchDynamicLookupHelper;
+import com.jogamp.common.os.DynamicLookupHelper;
+import com.jogamp.common.util.SecurityUtil;
+
+/**
+ * {@link FunctionAddressResolver} able to resolve a set of functions at once,
+ * allowing {@link ProcAddressTable#reset(DynamicLookupHelper)} to issue one
+ * {@link BatchDynamicLookupHelper#dynamicLookupFunctions(String[]) batched lookup}
+ * instead of one lookup per entry, if the lookup supports it.
+ */
+public interface BatchFunctionAddressResolver extends FunctionAddressResolver {
+
+    /**
+     * Resolves the names of the functions bound to the methods and returns their addresses
+     * in the order of the given names, 0 if not found.
+     * <p>
+     * Implementation shall ensure {@link SecurityUtil#checkLinkPermission(String)} is performed.
+     * </p>
+     * @throws SecurityException if user is not granted access for the library set.
+     */
+    public long[] resolve(String[] names, DynamicLookupHelper lookup) throws SecurityException;
+
+}
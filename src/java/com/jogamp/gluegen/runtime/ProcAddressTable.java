@@ -36,6 +36,7 @@
  */
 package com.jogamp.gluegen.runtime;
 
+import com.jogamp.common.os.BatchDynamicLookupHelper;
 import com.jogamp.common.os.DynamicLookupHelper;
 import com.jogamp.common.util.SecurityUtil;
 
@@ -48,6 +49,7 @@ import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Field;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.Map;
@@ -69,6 +71,18 @@ import java.util.TreeMap;
  * wgl/glXGetProcAddress(), or alGetProcAddress(). If the field containing the function
  * pointer is 0, the function is considered to be unavailable and can
  * not be called.
+ * <p>
+ * Tables generated by {@link com.jogamp.gluegen.procaddress.ProcAddressEmitter}
+ * provide direct access to their entries by index, see {@link #getEntryNames()},
+ * hence neither {@link #reset(DynamicLookupHelper)} nor the queries by function name use reflection.
+ * Other subclasses are accessed via reflection.
+ * </p>
+ * <p>
+ * A table providing direct entry access may be <i>lazy</i>, see {@link #isLazy()}.
+ * Its {@link #reset(DynamicLookupHelper)} only clears all entries, which are resolved
+ * on first use via {@link #resolveEntry(String)} by the generated bindings,
+ * as well as by {@link #isFunctionAvailable(String)} and {@link #getAddressFor(String)}.
+ * </p>
  *
  * @author Kenneth Russel
  * @author Michael Bien
@@ -87,6 +101,13 @@ public abstract class ProcAddressTable {
     protected static int debugNum;
 
     private final FunctionAddressResolver resolver;
+    private final boolean lazy;
+    /** Lookup of a lazy table's pending entries, guarded by this instance, null if none are pending. */
+    private DynamicLookupHelper lazyLookup;
+    /** Number of a lazy table's pending entries, guarded by this instance. */
+    private int lazyPending;
+    /** Resolved state of direct entries, null before reset, guarded by this instance. */
+    private boolean[] resolved;
 
     static {
         AccessController.doPrivileged(new PrivilegedAction<Object>() {
@@ -106,13 +127,36 @@ public abstract class ProcAddressTable {
     }
 
     public ProcAddressTable(final FunctionAddressResolver resolver) {
-        this.resolver = resolver;
+        this(resolver, false);
+    }
+
+    /**
+     * @param resolver the {@link FunctionAddressResolver}, or <code>null</code> to resolve function names as is
+     * @param lazy if true, entries are resolved on first use, see {@link #isLazy()}
+     */
+    public ProcAddressTable(final FunctionAddressResolver resolver, final boolean lazy) {
+        this.resolver = null != resolver ? resolver : new One2OneResolver();
+        this.lazy = lazy;
+    }
+
+    /**
+     * Returns true if entries are resolved on first use after {@link #reset(DynamicLookupHelper)},
+     * otherwise all entries are resolved by the latter.
+     * <p>
+     * Only tables providing direct entry access, see {@link #getEntryNames()}, can be lazy.
+     * </p>
+     */
+    public final boolean isLazy() {
+        return lazy && null != getEntryNames();
     }
 
 
     /**
      * Resets the complete table.
      * <p>
+     * A {@link #isLazy() lazy} table only clears all entries, resolving them on first use via the given lookup.
+     * </p>
+     * <p>
      * If a {@link SecurityManager} is installed, user needs link permissions
      * for <b>all</b> libraries, i.e. for <code>new RuntimePermission("loadLibrary.*");</code>!
      * </p>
@@ -123,6 +167,60 @@ public abstract class ProcAddressTable {
             throw new RuntimeException("Passed null DynamicLookupHelper");
         }
 
+        final String[] entryNames = getEntryNames();
+        if( null != entryNames ) {
+            final PrintStream dout;
+            if (DEBUG) {
+                dout = getDebugOutStream();
+                dout.println(getClass().getName()+".reset() (w/ "+entryNames.length+" entries, lazy "+lazy+")");
+            } else {
+                dout = null;
+            }
+            synchronized( this ) {
+                // drop the previous lookup and resolution state, even if resolving below fails
+                lazyLookup = null;
+                lazyPending = 0;
+                resolved = null;
+                final boolean[] _resolved = new boolean[entryNames.length];
+                if( lazy ) {
+                    setEntryAddresses(new long[entryNames.length]);
+                    lazyLookup = lookup;
+                    lazyPending = entryNames.length;
+                } else {
+                    final long[] addrs;
+                    lookup.claimAllLinkPermission();
+                    try {
+                        // issues SecurityUtil.checkLinkPermission(String)
+                        if( resolver instanceof BatchFunctionAddressResolver ) {
+                            addrs = ((BatchFunctionAddressResolver)resolver).resolve(entryNames, lookup);
+                        } else {
+                            addrs = new long[entryNames.length];
+                            for (int i = 0; i < entryNames.length; ++i) {
+                                addrs[i] = resolver.resolve(entryNames[i], lookup);
+                            }
+                        }
+                    } finally {
+                        lookup.releaseAllLinkPermission();
+                    }
+                    if (DEBUG) {
+                        for (int i = 0; i < entryNames.length; ++i) {
+                            dout.println("  " + PROCADDRESS_VAR_PREFIX + entryNames[i] + " -> 0x" + Long.toHexString(addrs[i]));
+                        }
+                    }
+                    setEntryAddresses(addrs);
+                    Arrays.fill(_resolved, true);
+                }
+                resolved = _resolved;
+            }
+            if (DEBUG) {
+                dout.flush();
+                if (DEBUG_PREFIX != null) {
+                    dout.close();
+                }
+            }
+            return;
+        }
+
         final Field[] fields = getClass().getDeclaredFields();
 
         final PrintStream dout;
@@ -167,6 +265,19 @@ public abstract class ProcAddressTable {
      * @throws SecurityException if user is not granted access for all libraries.
      */
     public void initEntry(final String name, final DynamicLookupHelper lookup) throws SecurityException, IllegalArgumentException {
+        if( null != getEntryNames() ) {
+            final int index = entryIndexForFunction(name);
+            synchronized( this ) {
+                setEntry(index, name, lookup);
+                if( null != resolved && !resolved[index] ) {
+                    resolved[index] = true;
+                    if( lazy && 0 == --lazyPending ) {
+                        lazyLookup = null;
+                    }
+                }
+            }
+            return;
+        }
         final Field addressField = fieldForFunction(name);
         addressField.setAccessible(true);
         setEntry(addressField, name, lookup);
@@ -186,6 +297,235 @@ public abstract class ProcAddressTable {
         }
     }
 
+    private final void setEntry(final int index, final String funcName, final DynamicLookupHelper lookup) throws SecurityException {
+        final long newProcAddress = resolver.resolve(funcName, lookup); // issues SecurityUtil.checkLinkPermission(String)
+        setEntryAddress(index, newProcAddress);
+        if (DEBUG) {
+            getDebugOutStream().println("  " + PROCADDRESS_VAR_PREFIX + funcName + " -> 0x" + Long.toHexString(newProcAddress));
+        }
+    }
+
+    /**
+     * Returns the address of the entry for the given function name,
+     * resolving it first if this table is {@link #isLazy() lazy} and the entry is still pending.
+     * <p>
+     * Called by generated bindings of a lazy table if the entry address is zero,
+     * hence unavailable functions are only looked up once per {@link #reset(DynamicLookupHelper) reset}.
+     * </p>
+     *
+     * @throws IllegalArgumentException if this function is not in this table.
+     * @throws SecurityException if user is not granted access for all libraries.
+     */
+    public final long resolveEntry(final String functionName) throws SecurityException, IllegalArgumentException {
+        if( null == getEntryNames() ) {
+            final Field addressField = fieldForFunctionInSec(functionName);
+            try {
+                return addressField.getLong(this);
+            } catch (final IllegalAccessException ex) {
+                throw new RuntimeException(ex);
+            }
+        }
+        return resolveEntry(entryIndexForFunction(functionName));
+    }
+
+    /**
+     * Returns the address of the entry at the given index,
+     * resolving it first if this table is {@link #isLazy() lazy} and the entry is still pending.
+     * <p>
+     * Called by generated bindings of a lazy table w/ array layout if the entry address is zero.
+     * </p>
+     *
+     * @throws SecurityException if user is not granted access for all libraries.
+     * @see #resolveEntry(String)
+     */
+    public final long resolveEntry(final int index) throws SecurityException {
+        if( !lazy ) {
+            return getEntryAddress(index);
+        }
+        synchronized( this ) {
+            if( null != resolved && !resolved[index] ) {
+                final DynamicLookupHelper lookup = lazyLookup;
+                lookup.claimAllLinkPermission();
+                try {
+                    setEntry(index, getEntryNames()[index], lookup);
+                } finally {
+                    lookup.releaseAllLinkPermission();
+                }
+                resolved[index] = true;
+                if( 0 == --lazyPending ) {
+                    lazyLookup = null; // all resolved, don't keep the libraries' lookup alive
+                }
+            }
+            return getEntryAddress(index);
+        }
+    }
+
+    /**
+     * Returns the names of all resolved functions, available or not.
+     * <p>
+     * These are all functions after {@link #reset(DynamicLookupHelper)}
+     * and only the functions used so far if this table is {@link #isLazy() lazy}.
+     * </p>
+     */
+    public final Set<String> getResolvedFunctions() {
+        final String[] entryNames = getEntryNames();
+        if( null == entryNames ) {
+            return toMap().keySet();
+        }
+        final Set<String> res = new LinkedHashSet<String>();
+        synchronized( this ) {
+            for (int i = 0; null != resolved && i < entryNames.length; ++i) {
+                if( resolved[i] ) {
+                    res.add(entryNames[i]);
+                }
+            }
+        }
+        return res;
+    }
+
+    private final int entryIndexForFunction(final String name) throws IllegalArgumentException {
+        final int index = getEntryIndex(name);
+        if( 0 > index ) {
+            throw new IllegalArgumentException(getClass().getName() +" has no entry for the function '"+name+"'.");
+        }
+        return index;
+    }
+
+    /**
+     * Returns the function names of all entries in index order,
+     * or <code>null</code> if this table does not provide direct access to its entries
+     * and is accessed via reflection.
+     * <p>
+     * Overridden by the tables generated by the {@code ProcAddressEmitter}, which also override
+     * {@link #getEntryIndex(String)}, {@link #getEntryAddress(int)} and {@link #setEntryAddress(int, long)},
+     * tables w/ array layout also override {@link #setEntryAddresses(long[])}.
+     * Generated tables w/ field layout exceeding the emitter's entry limit or whose names can't be perfectly hashed,
+     * tables generated by older GlueGen versions
+     * and hand written subclasses keep these defaults and are accessed via reflection.
+     * </p>
+     * <p>
+     * A subclass overriding this method must override all four methods,
+     * the defaults of {@link #getEntryAddress(int)} and {@link #setEntryAddress(int, long)}
+     * throw an {@link UnsupportedOperationException}.
+     * </p>
+     */
+    protected String[] getEntryNames() {
+        return null;
+    }
+
+    /**
+     * Returns the index of the entry for the given function name, or -1 if this function is not in this table.
+     * @see #getEntryNames()
+     */
+    protected int getEntryIndex(final String functionName) {
+        return -1;
+    }
+
+    /**
+     * Returns the address of the entry at the given index.
+     * @see #getEntryNames()
+     */
+    protected long getEntryAddress(final int index) {
+        throw new UnsupportedOperationException(getClass().getName()+" provides no direct entry access");
+    }
+
+    /**
+     * Sets the address of the entry at the given index.
+     * @see #getEntryNames()
+     */
+    protected void setEntryAddress(final int index, final long address) {
+        throw new UnsupportedOperationException(getClass().getName()+" provides no direct entry access");
+    }
+
+    /**
+     * Sets the addresses of all entries in index order, called w/ a new array owned by this table.
+     * <p>
+     * Allows a table to publish all entries at once, defaults to {@link #setEntryAddress(int, long)} for each entry.
+     * </p>
+     * @see #getEntryNames()
+     */
+    protected void setEntryAddresses(final long[] addresses) {
+        for (int i = 0; i < addresses.length; ++i) {
+            setEntryAddress(i, addresses[i]);
+        }
+    }
+
+    /**
+     * Returns the slot of the given name in a table of the given size, determined by the given seed.
+     * <p>
+     * Uses a seeded FNV-1a hash of the characters, since {@link String#hashCode()} collides too often
+     * to be separated by a seed.
+     * Shared by {@link #perfectHashIndex(String[], String, String)} and the generator
+     * of its displacements, hence the function must not be changed.
+     * </p>
+     */
+    public static int perfectHashSlot(final String name, final int seed, final int size) {
+        int h = 0x811C9DC5 ^ ( seed * 0x9E3779B9 );
+        final int len = name.length();
+        for (int i = 0; i < len; ++i) {
+            h = ( h ^ name.charAt(i) ) * 0x01000193;
+        }
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        h ^= h >>> 16;
+        return ( h & 0x7FFFFFFF ) % size;
+    }
+
+    /**
+     * Returns the index of the given name within the given names, or -1 if not contained,
+     * using a minimal perfect hash of the names.
+     * <p>
+     * The names are first hashed into one of the buckets, i.e. a character of the given displacements,
+     * via {@link #perfectHashSlot(String, int, int) perfectHashSlot(name, 0, displacements.length())}.
+     * A bucket character with bit 15 set holds the index of its single name in the lower 15 bits,
+     * otherwise it is the seed of {@link #perfectHashSlot(String, int, int) perfectHashSlot(name, seed, names.length)}
+     * mapping all names of this bucket to distinct indices. Empty buckets hold zero.
+     * </p>
+     */
+    protected static int perfectHashIndex(final String[] names, final String displacements, final String name) {
+        if( 0 == names.length ) {
+            return -1;
+        }
+        final char d = displacements.charAt(perfectHashSlot(name, 0, displacements.length()));
+        final int index;
+        if( 0 != ( d & 0x8000 ) ) {
+            index = d & 0x7FFF;
+        } else if( 0 != d ) {
+            index = perfectHashSlot(name, d, names.length);
+        } else {
+            return -1;
+        }
+        return name.equals(names[index]) ? index : -1;
+    }
+
+    /**
+     * Returns the index of the given name within the given names, or -1 if not contained,
+     * using a binary search over the given order.
+     * <p>
+     * The characters of the given order are the indices of the names sorted by {@link String#compareTo(String)}.
+     * Used by tables whose entry indices are fixed by the order of emission, i.e. w/ array layout.
+     * </p>
+     */
+    protected static int sortedIndex(final String[] names, final String order, final String name) {
+        int low = 0;
+        int high = order.length() - 1;
+        while( low <= high ) {
+            final int mid = ( low + high ) >>> 1;
+            final int index = order.charAt(mid);
+            final int cmp = names[index].compareTo(name);
+            if( cmp < 0 ) {
+                low = mid + 1;
+            } else if( cmp > 0 ) {
+                high = mid - 1;
+            } else {
+                return index;
+            }
+        }
+        return -1;
+    }
+
     private final String fieldToFunctionName(final String addressFieldName) {
         return addressFieldName.substring(PROCADDRESS_VAR_PREFIX_LEN);
     }
@@ -249,6 +589,14 @@ public abstract class ProcAddressTable {
     private final Map<String, Long> toMap() {
         final SortedMap<String, Long> map = new TreeMap<String, Long>();
 
+        final String[] entryNames = getEntryNames();
+        if( null != entryNames ) {
+            for (int i = 0; i < entryNames.length; ++i) {
+                map.put(entryNames[i], Long.valueOf(getEntryAddress(i)));
+            }
+            return map;
+        }
+
         final Field[] fields = getClass().getFields();
         try {
             for (int i = 0; i < fields.length; ++i) {
@@ -288,6 +636,9 @@ public abstract class ProcAddressTable {
      * @throws IllegalArgumentException if this function is not in this table.
      */
     protected boolean isFunctionAvailableImpl(final String functionName) throws IllegalArgumentException {
+        if( null != getEntryNames() ) {
+            return 0 != resolveEntry(entryIndexForFunction(functionName));
+        }
         final Field addressField = fieldForFunctionInSec(functionName);
         try {
             return 0 != addressField.getLong(this);
@@ -313,6 +664,9 @@ public abstract class ProcAddressTable {
      */
     public long getAddressFor(final String functionName) throws SecurityException, IllegalArgumentException {
         SecurityUtil.checkAllLinkPermission();
+        if( null != getEntryNames() ) {
+            return resolveEntry(entryIndexForFunction(functionName));
+        }
         final Field addressField = fieldForFunctionInSec(functionName);
         try {
             return addressField.getLong(this);
@@ -323,8 +677,21 @@ public abstract class ProcAddressTable {
 
     /**
      * Returns all functions pointing to null.
+     * <p>
+     * If this table is {@link #isLazy() lazy}, only {@link #getResolvedFunctions() resolved functions} are considered.
+     * </p>
      */
     public final Set<String> getNullPointerFunctions() {
+        if( isLazy() ) {
+            final Set<String> resolvedFunctions = getResolvedFunctions();
+            final Set<String> nullPointers = new LinkedHashSet<String>();
+            for (final String name : resolvedFunctions) {
+                if( 0 == getEntryAddress(getEntryIndex(name)) ) {
+                    nullPointers.add(name);
+                }
+            }
+            return nullPointers;
+        }
         final Map<String, Long> table = toMap();
         final Set<String> nullPointers = new LinkedHashSet<String>();
         for (final Iterator<Map.Entry<String, Long>> it = table.entrySet().iterator(); it.hasNext();) {
@@ -342,11 +709,22 @@ public abstract class ProcAddressTable {
         return getClass().getName()+""+toMap();
     }
 
-    private static class One2OneResolver implements FunctionAddressResolver {
+    private static class One2OneResolver implements BatchFunctionAddressResolver {
         @Override
         public long resolve(final String name, final DynamicLookupHelper lookup) throws SecurityException {
             return lookup.dynamicLookupFunction(name);
         }
+        @Override
+        public long[] resolve(final String[] names, final DynamicLookupHelper lookup) throws SecurityException {
+            if( lookup instanceof BatchDynamicLookupHelper ) {
+                return ((BatchDynamicLookupHelper)lookup).dynamicLookupFunctions(names);
+            }
+            final long[] addrs = new long[names.length];
+            for (int i = 0; i < names.length; ++i) {
+                addrs[i] = lookup.dynamicLookupFunction(names[i]);
+            }
+            return addrs;
+        }
     }
 
 
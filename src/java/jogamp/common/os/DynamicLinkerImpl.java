@@ -27,11 +27,11 @@
  */
 package jogamp.common.os;
 
-import com.jogamp.common.os.DynamicLinker;
+import com.jogamp.common.os.BatchDynamicLinker;
 import com.jogamp.common.util.LongObjectHashMap;
 import com.jogamp.common.util.SecurityUtil;
 
-/* pp */ abstract class DynamicLinkerImpl implements DynamicLinker {
+/* pp */ abstract class DynamicLinkerImpl implements BatchDynamicLinker {
 
   //
   // Package private scope of class w/ protected native code access
@@ -141,6 +141,46 @@ import com.jogamp.common.util.SecurityUtil;
   }
   protected abstract long lookupSymbolLocalImpl(final long libraryHandle, final String symbolName) throws SecurityException;
 
+  @Override
+  public final long[] lookupSymbolsGlobal(final String[] symbolNames) throws SecurityException {
+    checkAllLinkPermission();
+    final long[] addrs = lookupSymbolsGlobalImpl(symbolNames);
+    if(DEBUG_LOOKUP) {
+        for(int i=0; i<symbolNames.length; i++) {
+            System.err.println("DynamicLinkerImpl.lookupSymbolsGlobal("+symbolNames[i]+") -> 0x"+Long.toHexString(addrs[i]));
+        }
+    }
+    return addrs;
+  }
+  /** Batched {@link #lookupSymbolGlobalImpl(String)}, default implementation looks up one symbol at a time. */
+  protected long[] lookupSymbolsGlobalImpl(final String[] symbolNames) throws SecurityException {
+    final long[] addrs = new long[symbolNames.length];
+    for(int i=0; i<symbolNames.length; i++) {
+        addrs[i] = lookupSymbolGlobalImpl(symbolNames[i]);
+    }
+    return addrs;
+  }
+
+  @Override
+  public final long[] lookupSymbols(final long libraryHandle, final String[] symbolNames) throws SecurityException, IllegalArgumentException {
+    checkLinkPermission(libraryHandle);
+    final long[] addrs = lookupSymbolsLocalImpl(libraryHandle, symbolNames);
+    if(DEBUG_LOOKUP) {
+        for(int i=0; i<symbolNames.length; i++) {
+            System.err.println("DynamicLinkerImpl.lookupSymbols(0x"+Long.toHexString(libraryHandle)+", "+symbolNames[i]+") -> 0x"+Long.toHexString(addrs[i]));
+        }
+    }
+    return addrs;
+  }
+  /** Batched {@link #lookupSymbolLocalImpl(long, String)}, default implementation looks up one symbol at a time. */
+  protected long[] lookupSymbolsLocalImpl(final long libraryHandle, final String[] symbolNames) throws SecurityException {
+    final long[] addrs = new long[symbolNames.length];
+    for(int i=0; i<symbolNames.length; i++) {
+        addrs[i] = lookupSymbolLocalImpl(libraryHandle, symbolNames[i]);
+    }
+    return addrs;
+  }
+
   @Override
   public final void closeLibrary(final long libraryHandle, final boolean debug) throws SecurityException, IllegalArgumentException {
     final LibRef libRef = decrLibRefCount( libraryHandle );
@@ -56,4 +56,9 @@ public final class MacOSXDynamicLinkerImpl extends UnixDynamicLinkerImpl {
     return dlsym(RTLD_DEFAULT, symbolName);
   }
 
+  @Override
+  protected final long[] lookupSymbolsGlobalImpl(final String[] symbolNames) throws SecurityException {
+    return dlsyms(RTLD_DEFAULT, symbolNames);
+  }
+
 }
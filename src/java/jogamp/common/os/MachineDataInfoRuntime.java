@@ -126,6 +126,17 @@ public class MachineDataInfoRuntime {
             return null;
         }
 
+        final PlatformProbeCache cache = PlatformProbeCache.getInstance();
+        if( null != cache ) {
+            final int[] v = cache.getInts(PlatformProbeCache.MACHINE_DATA_INFO, MD_VALUE_COUNT);
+            if( null != v ) {
+                if( PlatformPropsImpl.DEBUG ) {
+                    System.err.println("MachineDataInfoRuntime: Using cached probe");
+                }
+                return toMachineDataInfo(v);
+            }
+        }
+
         final int pointerSizeInBytes = getPointerSizeInBytesImpl();
         switch(pointerSizeInBytes) {
             case 4:
@@ -142,9 +153,7 @@ public class MachineDataInfoRuntime {
 
         // size:      int, long, float, double, pointer, pageSize
         // alignment: int8, int16, int32, int64, int, long, float, double, pointer
-        return new MachineDataInfo(
-            true /* runtime validated */,
-
+        final int[] v = new int[] {
             getSizeOfIntImpl(), getSizeOfLongImpl(),
             getSizeOfFloatImpl(), getSizeOfDoubleImpl(), getSizeOfLongDoubleImpl(),
             pointerSizeInBytes, (int)pageSizeL,
@@ -152,7 +161,28 @@ public class MachineDataInfoRuntime {
             getAlignmentInt8Impl(), getAlignmentInt16Impl(), getAlignmentInt32Impl(), getAlignmentInt64Impl(),
             getAlignmentIntImpl(), getAlignmentLongImpl(),
             getAlignmentFloatImpl(), getAlignmentDoubleImpl(), getAlignmentLongDoubleImpl(),
-            getAlignmentPointerImpl());
+            getAlignmentPointerImpl() };
+        if( null != cache ) {
+            cache.putInts(PlatformProbeCache.MACHINE_DATA_INFO, v);
+        }
+        return toMachineDataInfo(v);
+    }
+
+    /** Number of values passed to {@link #toMachineDataInfo(int[])}, in {@link MachineDataInfo} constructor order. */
+    private static final int MD_VALUE_COUNT = 17;
+
+    private static MachineDataInfo toMachineDataInfo(final int[] v) {
+        return new MachineDataInfo(
+            true /* runtime validated */,
+
+            v[0], v[1],
+            v[2], v[3], v[4],
+            v[5], v[6],
+
+            v[7], v[8], v[9], v[10],
+            v[11], v[12],
+            v[13], v[14], v[15],
+            v[16]);
     }
 
     private static native int getPointerSizeInBytesImpl();
@@ -0,0 +1,350 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package jogamp.common.os;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.security.AccessController;
+import java.security.CodeSource;
+import java.security.PrivilegedAction;
+import java.util.Properties;
+
+import jogamp.common.Debug;
+
+import com.jogamp.common.util.PropertyAccess;
+
+/**
+ * Optional on-disk cache of the platform startup probes, i.e.
+ * <ul>
+ *   <li>the ELF header probe of the java binary, see {@link PlatformPropsImpl},</li>
+ *   <li>the native size and alignment queries of {@link MachineDataInfoRuntime},</li>
+ *   <li>the executable temp directory test of {@link com.jogamp.common.util.IOUtil#testDirExec(File)}.</li>
+ * </ul>
+ * <p>
+ * The cache is disabled by default and enabled via the system property
+ * <code>jogamp.gluegen.PlatformProbeCache=true</code>.
+ * The cache file defaults to <code>${user.home}/.jogamp/platform-probe.properties</code>
+ * and may be overridden via <code>jogamp.gluegen.PlatformProbeCache.file</code>.
+ * </p>
+ * <p>
+ * The stored values are only used if the cache key matches the current runtime,
+ * i.e. <code>java.home</code>, path, modification time and size of the probed binary,
+ * the gluegen-rt version incl. its code source modification time and size
+ * and <code>java.io.tmpdir</code>.
+ * Otherwise the stored values are dropped and the probes are run and cached again.
+ * </p>
+ * <p>
+ * Changed values are stored once at the end of the static initialization of {@link com.jogamp.common.os.Platform}
+ * and by {@link com.jogamp.common.util.IOUtil#getTempDir(boolean)} after testing the temp directories.
+ * </p>
+ */
+public class PlatformProbeCache {
+    private static final boolean DEBUG;
+    private static final boolean ENABLED;
+    private static final String FILE_PROPNAME = "jogamp.gluegen.PlatformProbeCache.file";
+
+    /** Increment if the layout of the stored values changes. */
+    private static final String FORMAT = "1";
+    private static final String KEY_PREFIX = "key.";
+
+    /** Stored ELF probe values, see {@link PlatformPropsImpl}. */
+    public static final String ELF_VALID = "elf.valid";
+    public static final String ELF_CPU_NAME = "elf.cpuName";
+    public static final String ELF_CPU_TYPE = "elf.cpuType";
+    public static final String ELF_ABI_TYPE = "elf.abiType";
+    public static final String ELF_LITTLE_ENDIAN = "elf.littleEndian";
+    /** Stored {@link com.jogamp.common.os.MachineDataInfo} values, see {@link MachineDataInfoRuntime}. */
+    public static final String MACHINE_DATA_INFO = "md";
+    /** Prefix of stored executable directory test results, followed by the absolute directory path. */
+    public static final String DIR_EXEC_PREFIX = "exec.";
+
+    private static volatile PlatformProbeCache instance = null;
+
+    static {
+        Debug.initSingleton();
+        DEBUG = Debug.debug("Platform");
+        ENABLED = PropertyAccess.getBooleanProperty("jogamp.gluegen.PlatformProbeCache", true, false);
+    }
+
+    private final File file;
+    private final Properties props;
+    private boolean dirty;
+
+    private PlatformProbeCache(final File file, final Properties props, final boolean dirty) {
+        this.file = file;
+        this.props = props;
+        this.dirty = dirty;
+    }
+
+    /**
+     * Loads and validates the cache against the current runtime using the given probed binary.
+     * <p>
+     * Shall be called once by {@link PlatformPropsImpl} within a privileged block.
+     * </p>
+     * @param binary the binary used for the ELF probe, may be {@code null}
+     * @return the cache instance or {@code null} if disabled
+     */
+    static PlatformProbeCache initSingleton(final File binary) {
+        if( !ENABLED || null != instance ) {
+            return instance;
+        }
+        synchronized(PlatformProbeCache.class) {
+            if( null == instance ) {
+                try {
+                    instance = load(getCacheFile(), createKey(binary));
+                } catch (final Throwable t) {
+                    if( DEBUG ) {
+                        System.err.println("PlatformProbeCache: Disabled, caught "+t.getClass().getSimpleName()+": "+t.getMessage());
+                    }
+                }
+            }
+            return instance;
+        }
+    }
+
+    /**
+     * Returns the cache instance, or {@code null} if disabled or not yet initialized by {@link PlatformPropsImpl}.
+     */
+    public static PlatformProbeCache getInstance() {
+        return instance;
+    }
+
+    /**
+     * Loads and validates the given cache file against the current runtime using the given probed binary,
+     * regardless whether the cache is enabled and w/o affecting {@link #getInstance()}.
+     * <p>
+     * Allows testing the cache w/o touching the user's cache file.
+     * </p>
+     * @param file the cache file
+     * @param binary the binary used for the ELF probe, may be {@code null}
+     */
+    public static PlatformProbeCache create(final File file, final File binary) {
+        return load(file, createKey(binary));
+    }
+
+    private static File getCacheFile() {
+        final String fname = PropertyAccess.getProperty(FILE_PROPNAME, true);
+        if( null != fname && fname.length() > 0 ) {
+            return new File(fname);
+        }
+        final String userHome = PropertyAccess.getProperty("user.home", false);
+        if( null == userHome ) {
+            throw new RuntimeException("user.home not set");
+        }
+        return new File(userHome + File.separator + ".jogamp" + File.separator + "platform-probe.properties");
+    }
+
+    private static Properties createKey(final File binary) {
+        final Properties key = new Properties();
+        key.setProperty("format", FORMAT);
+        key.setProperty("java.home", String.valueOf(PropertyAccess.getProperty("java.home", false)));
+        key.setProperty("java.io.tmpdir", String.valueOf(PropertyAccess.getProperty("java.io.tmpdir", false)));
+        putFileKey(key, "binary", binary);
+
+        final Package pkg = PlatformProbeCache.class.getPackage();
+        key.setProperty("gluegen.version", String.valueOf(null != pkg ? pkg.getImplementationVersion() : null));
+        File codeSource = null;
+        try {
+            final CodeSource cs = PlatformProbeCache.class.getProtectionDomain().getCodeSource();
+            final URL url = null != cs ? cs.getLocation() : null;
+            if( null != url && "file".equals(url.getProtocol()) ) {
+                codeSource = new File(url.toURI());
+            }
+        } catch (final Exception e) { }
+        putFileKey(key, "gluegen.jar", codeSource);
+        return key;
+    }
+    private static void putFileKey(final Properties key, final String name, final File f) {
+        if( null != f ) {
+            key.setProperty(name, f.getPath());
+            key.setProperty(name+".mtime", String.valueOf(f.lastModified()));
+            key.setProperty(name+".size", String.valueOf(f.length()));
+        } else {
+            key.setProperty(name, "");
+        }
+    }
+
+    private static PlatformProbeCache load(final File file, final Properties key) {
+        final Properties props = new Properties();
+        if( file.isFile() ) {
+            InputStream in = null;
+            try {
+                in = new FileInputStream(file);
+                props.load(in);
+            } catch (final IOException ioe) {
+                if( DEBUG ) {
+                    System.err.println("PlatformProbeCache: Failed to read "+file+": "+ioe.getMessage());
+                }
+                props.clear();
+            } catch (final IllegalArgumentException iae) {
+                // malformed unicode escape of a corrupt file
+                if( DEBUG ) {
+                    System.err.println("PlatformProbeCache: Corrupt "+file+": "+iae.getMessage());
+                }
+                props.clear();
+            } finally {
+                if( null != in ) {
+                    try { in.close(); } catch (final IOException e) { }
+                }
+            }
+        }
+        for(final String name : key.stringPropertyNames()) {
+            final String v = key.getProperty(name);
+            if( !v.equals(props.getProperty(KEY_PREFIX+name)) ) {
+                if( DEBUG ) {
+                    if( props.isEmpty() ) {
+                        System.err.println("PlatformProbeCache: New "+file);
+                    } else {
+                        System.err.println("PlatformProbeCache: Stale "+file+", key "+name+": cached <"+props.getProperty(KEY_PREFIX+name)+">, current <"+v+">");
+                    }
+                }
+                props.clear();
+                for(final String n : key.stringPropertyNames()) {
+                    props.setProperty(KEY_PREFIX+n, key.getProperty(n));
+                }
+                return new PlatformProbeCache(file, props, true);
+            }
+        }
+        if( DEBUG ) {
+            System.err.println("PlatformProbeCache: Valid "+file);
+        }
+        return new PlatformProbeCache(file, props, false);
+    }
+
+    /** Returns the cached value for the given key or {@code null} if not cached. */
+    public final synchronized String get(final String key) {
+        return props.getProperty(key);
+    }
+
+    /**
+     * Returns the cached comma separated integer values for the given key
+     * or {@code null} if not cached or not matching the given count.
+     */
+    public final synchronized int[] getInts(final String key, final int count) {
+        final String v = props.getProperty(key);
+        if( null == v ) {
+            return null;
+        }
+        final String[] s = v.split(",");
+        if( s.length != count ) {
+            return null;
+        }
+        final int[] res = new int[count];
+        try {
+            for(int i=0; i<count; i++) {
+                res[i] = Integer.parseInt(s[i]);
+            }
+        } catch (final NumberFormatException nfe) {
+            return null;
+        }
+        return res;
+    }
+
+    /** Caches the given value for the given key, use {@link #store()} to persist. */
+    public final synchronized void put(final String key, final String value) {
+        if( !value.equals(props.getProperty(key)) ) {
+            props.setProperty(key, value);
+            dirty = true;
+        }
+    }
+
+    /** Caches the given integer values for the given key, use {@link #store()} to persist. */
+    public final void putInts(final String key, final int[] values) {
+        final StringBuilder sb = new StringBuilder();
+        for(int i=0; i<values.length; i++) {
+            if( 0 < i ) {
+                sb.append(',');
+            }
+            sb.append(values[i]);
+        }
+        put(key, sb.toString());
+    }
+
+    /**
+     * Writes the cache file if values have been changed.
+     * <p>
+     * The file is written to a temporary file first and renamed afterwards,
+     * hence concurrent launches never read a partially written cache.
+     * Failures are ignored, the cache is best effort only.
+     * </p>
+     */
+    public final synchronized void store() {
+        if( !dirty ) {
+            return;
+        }
+        dirty = false;
+        AccessController.doPrivileged(new PrivilegedAction<Object>() {
+            @Override
+            public Object run() {
+                storeImpl();
+                return null;
+            } } );
+    }
+    private final void storeImpl() {
+        final File parent = file.getAbsoluteFile().getParentFile();
+        File tmp = null;
+        OutputStream out = null;
+        try {
+            if( null != parent && !parent.isDirectory() ) {
+                parent.mkdirs();
+            }
+            tmp = File.createTempFile("platform-probe", ".tmp", parent);
+            out = new FileOutputStream(tmp);
+            props.store(out, "jogamp platform probe cache");
+            out.close();
+            out = null;
+            if( !tmp.renameTo(file) ) {
+                // e.g. Windows won't rename onto an existing file
+                file.delete();
+                if( !tmp.renameTo(file) ) {
+                    throw new IOException("Could not rename "+tmp+" to "+file);
+                }
+            }
+            tmp = null;
+            if( DEBUG ) {
+                System.err.println("PlatformProbeCache: Stored "+file);
+            }
+        } catch (final Throwable t) {
+            if( DEBUG ) {
+                System.err.println("PlatformProbeCache: Failed to store "+file+": "+t.getMessage());
+            }
+        } finally {
+            if( null != out ) {
+                try { out.close(); } catch (final IOException e) { }
+            }
+            if( null != tmp ) {
+                tmp.delete();
+            }
+        }
+    }
+}
@@ -1,8 +1,6 @@
 package jogamp.common.os;
 
 import java.io.File;
-import java.io.IOException;
-import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
 import java.nio.IntBuffer;
 import java.nio.ShortBuffer;
@@ -160,19 +158,29 @@ public abstract class PlatformPropsImpl {
             AccessController.doPrivileged(new PrivilegedAction<Object>() {
                 @Override
                 public Object run() {
-                    RandomAccessFile in = null;
+                    File file = null;
+                    try {
+                        file = queryElfFile(OS_TYPE);
+                    } catch (final Throwable t) {
+                        if(DEBUG) {
+                            t.printStackTrace();
+                        }
+                    }
+                    // initialized before all probes, incl. the ones of MachineDataInfoRuntime and IOUtil
+                    final PlatformProbeCache cache = PlatformProbeCache.initSingleton(file);
                     try {
-                        final File file = queryElfFile(OS_TYPE);
                         if(DEBUG) {
                             System.err.println("ELF-1: Using "+file);
                         }
-                        in = new RandomAccessFile(file, "r");
-                        final ElfHeaderPart1 eh1 = readElfHeaderPart1(OS_TYPE, in);
+                        if( null != cache && getCachedElf(cache, _elfCpuName, _elfCpuType, _elfAbiType, _elfLittleEndian, _elfValid) ) {
+                            return null;
+                        }
+                        final ElfHeaderPart1 eh1 = readElfHeaderPart1(OS_TYPE, file);
                         if(DEBUG) {
                             System.err.println("ELF-1: Got "+eh1);
                         }
                         if( null != eh1 ) {
-                            final ElfHeaderPart2 eh2 = readElfHeaderPart2(eh1, in);
+                            final ElfHeaderPart2 eh2 = readElfHeaderPart2(eh1);
                             if(DEBUG) {
                                 System.err.println("ELF-2: Got "+eh2);
                             }
@@ -188,16 +196,13 @@ public abstract class PlatformPropsImpl {
                                 _elfValid[0] = true;
                             }
                         }
+                        if( null != cache ) {
+                            putCachedElf(cache, _elfCpuName[0], _elfCpuType[0], _elfAbiType[0], _elfLittleEndian[0], _elfValid[0]);
+                        }
                     } catch (final Throwable t) {
                         if(DEBUG) {
                             t.printStackTrace();
                         }
-                    } finally {
-                        if(null != in) {
-                            try {
-                                in.close();
-                            } catch (final IOException e) { }
-                        }
                     }
                     return null;
                 } });
@@ -414,10 +419,47 @@ public abstract class PlatformPropsImpl {
         }
         return file;
     }
-    private static final ElfHeaderPart1 readElfHeaderPart1(final OSType osType, final RandomAccessFile in) {
+    private static final boolean getCachedElf(final PlatformProbeCache cache, final String[] cpuName, final CPUType[] cpuType,
+                                              final ABIType[] abiType, final int[] littleEndian, final boolean[] valid) {
+        final String v = cache.get(PlatformProbeCache.ELF_VALID);
+        if( null == v ) {
+            return false;
+        }
+        try {
+            if( Boolean.parseBoolean(v) ) {
+                cpuName[0] = cache.get(PlatformProbeCache.ELF_CPU_NAME);
+                cpuType[0] = CPUType.valueOf(cache.get(PlatformProbeCache.ELF_CPU_TYPE));
+                abiType[0] = ABIType.valueOf(cache.get(PlatformProbeCache.ELF_ABI_TYPE));
+                littleEndian[0] = Integer.parseInt(cache.get(PlatformProbeCache.ELF_LITTLE_ENDIAN));
+                valid[0] = null != cpuName[0];
+                if( !valid[0] ) {
+                    return false;
+                }
+            }
+        } catch (final RuntimeException re) {
+            // NullPointerException, IllegalArgumentException or NumberFormatException on corrupt cache
+            cpuName[0] = null; cpuType[0] = null; abiType[0] = null; littleEndian[0] = 0; valid[0] = false;
+            return false;
+        }
+        if(DEBUG) {
+            System.err.println("ELF: Using cached probe");
+        }
+        return true;
+    }
+    private static final void putCachedElf(final PlatformProbeCache cache, final String cpuName, final CPUType cpuType,
+                                           final ABIType abiType, final int littleEndian, final boolean valid) {
+        if( valid ) {
+            cache.put(PlatformProbeCache.ELF_CPU_NAME, cpuName);
+            cache.put(PlatformProbeCache.ELF_CPU_TYPE, cpuType.name());
+            cache.put(PlatformProbeCache.ELF_ABI_TYPE, abiType.name());
+            cache.put(PlatformProbeCache.ELF_LITTLE_ENDIAN, String.valueOf(littleEndian));
+        }
+        cache.put(PlatformProbeCache.ELF_VALID, String.valueOf(valid));
+    }
+    private static final ElfHeaderPart1 readElfHeaderPart1(final OSType osType, final File file) {
         ElfHeaderPart1 res = null;
         try {
-            res = ElfHeaderPart1.read(osType, in);
+            res = ElfHeaderPart1.read(osType, file);
         } catch(final Throwable t) {
             if(DEBUG) {
                 System.err.println("Caught: "+t.getMessage());
@@ -426,10 +468,10 @@ public abstract class PlatformPropsImpl {
         }
         return res;
     }
-    private static final ElfHeaderPart2 readElfHeaderPart2(final ElfHeaderPart1 eh1, final RandomAccessFile in) {
+    private static final ElfHeaderPart2 readElfHeaderPart2(final ElfHeaderPart1 eh1) {
         ElfHeaderPart2 res = null;
         try {
-            res = ElfHeaderPart2.read(eh1, in);
+            res = ElfHeaderPart2.read(eh1);
         } catch(final Throwable t) {
             if(DEBUG) {
                 System.err.println("Caught: "+t.getMessage());
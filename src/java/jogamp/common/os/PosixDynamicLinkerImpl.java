@@ -51,4 +51,9 @@ public final class PosixDynamicLinkerImpl extends UnixDynamicLinkerImpl {
   protected final long lookupSymbolGlobalImpl(final String symbolName) throws SecurityException {
     return dlsym(RTLD_DEFAULT, symbolName);
   }
+
+  @Override
+  protected final long[] lookupSymbolsGlobalImpl(final String[] symbolNames) throws SecurityException {
+    return dlsyms(RTLD_DEFAULT, symbolNames);
+  }
 }
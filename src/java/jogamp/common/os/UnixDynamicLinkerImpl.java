@@ -27,6 +27,11 @@
  */
 package jogamp.common.os;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+
+import com.jogamp.common.nio.Buffers;
+
 /* pp */ abstract class UnixDynamicLinkerImpl extends DynamicLinkerImpl {
 
   //
@@ -47,11 +52,43 @@ package jogamp.common.os;
   /** Interface to C language function: <br> <code> void *  dlsym(void * , const char * ); </code>    */
   protected static native long dlsym(long arg0, java.lang.String arg1);
 
+  /**
+   * Batched <code>dlsym(handle, name)</code> of <code>count</code> NUL terminated names
+   * packed into the direct <code>names</code> buffer, storing the results in <code>addresses</code>.
+   */
+  private static native void dlsyms(long handle, ByteBuffer names, int count, long[] addresses);
+
+  private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+  /** Resolves all symbol names w/ one native call, see {@link #dlsyms(long, ByteBuffer, int, long[])}. */
+  protected static final long[] dlsyms(final long handle, final String[] symbolNames) {
+      final byte[][] names = new byte[symbolNames.length][];
+      int size = 0;
+      for(int i=0; i<symbolNames.length; i++) {
+          names[i] = symbolNames[i].getBytes(UTF_8);
+          size += names[i].length + 1;
+      }
+      final ByteBuffer packed = Buffers.newDirectByteBuffer(Math.max(1, size));
+      for(int i=0; i<names.length; i++) {
+          packed.put(names[i]).put((byte)0);
+      }
+      final long[] addrs = new long[symbolNames.length];
+      if( 0 < addrs.length ) {
+          dlsyms(handle, packed, addrs.length, addrs);
+      }
+      return addrs;
+  }
+
   @Override
   protected final long lookupSymbolLocalImpl(final long libraryHandle, final String symbolName) throws SecurityException {
       return dlsym(libraryHandle, symbolName);
   }
 
+  @Override
+  protected final long[] lookupSymbolsLocalImpl(final long libraryHandle, final String[] symbolNames) throws SecurityException {
+      return dlsyms(libraryHandle, symbolNames);
+  }
+
   @Override
   protected final void closeLibraryImpl(final long libraryHandle) throws SecurityException {
       dlclose(libraryHandle);
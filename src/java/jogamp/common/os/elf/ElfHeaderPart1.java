@@ -27,8 +27,8 @@
  */
 package jogamp.common.os.elf;
 
+import java.io.File;
 import java.io.IOException;
-import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
 
 import jogamp.common.Debug;
@@ -39,7 +39,7 @@ import com.jogamp.common.os.Platform.ABIType;
 import com.jogamp.common.os.Platform.CPUType;
 import com.jogamp.common.os.Platform.OSType;
 
-import static jogamp.common.os.elf.IOUtils.readBytes;
+import static jogamp.common.os.elf.IOUtils.slice;
 
 /**
  * ELF ABI Header Part-1
@@ -47,6 +47,11 @@ import static jogamp.common.os.elf.IOUtils.readBytes;
  * Part-1 can be read w/o knowledge of CPUType!
  * </p>
  * <p>
+ * All ELF classes read from a {@link ByteBuffer} holding the complete ELF object,
+ * either a read-only memory mapping of a file, see {@link #read(OSType, File)},
+ * or any other buffer, e.g. the in-memory content of a jar entry, see {@link #read(OSType, ByteBuffer)}.
+ * </p>
+ * <p>
  * References:
  * <ul>
  *   <li>http://www.sco.com/developers/gabi/latest/contents.html</li>
@@ -330,32 +335,39 @@ public class ElfHeaderPart1 {
 
     public final MachineDataInfo.StaticConfig machDesc;
 
+    /** The complete ELF object, position zero at its start */
+    private final ByteBuffer buffer;
+
+    /**
+     * Reads the ELF header part-1 of the given file via a read-only memory mapping.
+     * @param osType the OS type used to guess the {@link #machDesc}
+     * @param file ELF object file
+     * @throws IOException if mapping the given file fails
+     * @throws IllegalArgumentException if the given file does not represent an ELF Header
+     */
+    public static ElfHeaderPart1 read(final OSType osType, final File file) throws IOException, IllegalArgumentException {
+        return new ElfHeaderPart1(osType, IOUtils.map(file));
+    }
+
     /**
-     * Note: The input stream shall stay untouch to be able to read sections!
-     * @param osType TODO
-     * @param in input stream of a binary file at position zero
-     *
-     * @return
-     * @throws IOException if reading from the given input stream fails or less then ELF Header size bytes
-     * @throws IllegalArgumentException if the given input stream does not represent an ELF Header
+     * Note: The buffer content shall stay untouched to be able to read part-2 and sections!
+     * Its position and limit are not modified.
+     * @param osType the OS type used to guess the {@link #machDesc}
+     * @param in buffer holding the complete ELF object starting at its current position
+     * @throws IllegalArgumentException if the given buffer does not represent an ELF Header or holds less then ELF Header size bytes
      */
-    public static ElfHeaderPart1 read(final OSType osType, final RandomAccessFile in) throws IOException, IllegalArgumentException {
+    public static ElfHeaderPart1 read(final OSType osType, final ByteBuffer in) throws IllegalArgumentException {
         return new ElfHeaderPart1(osType, in);
     }
 
     /**
-     * @param osType TODO
-     * @param buf ELF Header bytes
+     * @param osType the OS type used to guess the {@link #machDesc}
+     * @param in buffer holding the complete ELF object starting at its current position
      * @throws IllegalArgumentException if the given buffer does not represent an ELF Header
-     * @throws IOException
      */
-    ElfHeaderPart1(final OSType osType, final RandomAccessFile in) throws IllegalArgumentException, IOException {
-        {
-            final byte[] buf = new byte[Ehdr_p1.size()];
-            readBytes (in, buf, 0, buf.length);
-            final ByteBuffer eh1Bytes = ByteBuffer.wrap(buf, 0, buf.length);
-            raw = Ehdr_p1.create(eh1Bytes);
-        }
+    ElfHeaderPart1(final OSType osType, final ByteBuffer in) throws IllegalArgumentException {
+        buffer = in.slice();
+        raw = Ehdr_p1.create(slice(buffer, 0, Ehdr_p1.size()));
         E_ident = raw.getE_ident(0, new byte[Ehdr_p1.getE_identArrayLength()]);
         if( !isIdentityValid(E_ident) ) {
             throw new IllegalArgumentException("Buffer is not an ELF Header");
@@ -426,6 +438,14 @@ public class ElfHeaderPart1 {
         }
     }
 
+    /**
+     * Returns a duplicate of the buffer holding the complete ELF object, position zero at its start.
+     * The returned buffer's position, limit and byte order may be modified by the caller.
+     */
+    public final ByteBuffer getBuffer() {
+        return buffer.duplicate();
+    }
+
     /**
      * Returns the architecture class in bits,
      * 32 for {@link #ELFCLASS32}, 64 for {@link #ELFCLASS64}
@@ -27,17 +27,15 @@
  */
 package jogamp.common.os.elf;
 
-import java.io.IOException;
-import java.io.RandomAccessFile;
-import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 
 import com.jogamp.common.os.Platform.ABIType;
 import com.jogamp.common.os.Platform.CPUFamily;
 import com.jogamp.common.os.Platform.CPUType;
 
-import static jogamp.common.os.elf.IOUtils.readBytes;
-import static jogamp.common.os.elf.IOUtils.seek;
 import static jogamp.common.os.elf.IOUtils.shortToInt;
+import static jogamp.common.os.elf.IOUtils.slice;
 import static jogamp.common.os.elf.IOUtils.toHexString;
 
 /**
@@ -59,7 +57,7 @@ import static jogamp.common.os.elf.IOUtils.toHexString;
  * </ul>
  * </p>
  */
-public class ElfHeaderPart2 {
+public class ElfHeaderPart2 implements Iterable<SectionHeader> {
     /**
      * This masks an 8-bit version number, the version of the ABI to which this
      * ELF file conforms. This ABI is version 5. A value of 0 denotes unknown conformance.
@@ -129,38 +127,31 @@ public class ElfHeaderPart2 {
     public final CPUType cpuType;
     public final ABIType abiType;
 
-    /** Public access to the {@link SectionHeader} */
-    public final SectionHeader[] sht;
+    /** Lazily materialized {@link SectionHeader} table, see {@link #getSectionHeaderAt(int)} */
+    private final SectionHeader[] sht;
+    /** Lazily read section name string table */
+    private Section shStrTab;
 
     /**
-     * Note: The input stream shall stay untouch to be able to read sections!
+     * Reads the ELF header part-2 from the buffer of the given {@link ElfHeaderPart1},
+     * w/o materializing the {@link SectionHeader} table.
      *
-     * @param in input stream of a binary file at position zero
-     * @return
-     * @throws IOException if reading from the given input stream fails or less then ELF Header size bytes
-     * @throws IllegalArgumentException if the given input stream does not represent an ELF Header
+     * @throws IllegalArgumentException if the buffer does not represent an ELF Header
      */
-    public static ElfHeaderPart2 read(final ElfHeaderPart1 eh1, final RandomAccessFile in) throws IOException, IllegalArgumentException {
-        return new ElfHeaderPart2(eh1, in);
+    public static ElfHeaderPart2 read(final ElfHeaderPart1 eh1) throws IllegalArgumentException {
+        return new ElfHeaderPart2(eh1);
     }
 
     /**
-     * @param buf ELF Header bytes
-     * @throws IllegalArgumentException if the given buffer does not represent an ELF Header
-     * @throws IOException
+     * @throws IllegalArgumentException if the buffer does not represent an ELF Header
      */
-    ElfHeaderPart2(final ElfHeaderPart1 eh1, final RandomAccessFile in) throws IllegalArgumentException, IOException {
+    ElfHeaderPart2(final ElfHeaderPart1 eh1) throws IllegalArgumentException {
         this.eh1 = eh1;
         //
         // Part-2
         //
-        {
-            final byte[] buf = new byte[Ehdr_p2.size(eh1.machDesc.ordinal())];
-            readBytes (in, buf, 0, buf.length);
-            final ByteBuffer eh2Bytes = ByteBuffer.wrap(buf, 0, buf.length);
-            raw = Ehdr_p2.create(eh1.machDesc.ordinal(), eh2Bytes);
-        }
-        sht = readSectionHeaderTable(in);
+        raw = Ehdr_p2.create(eh1.machDesc.ordinal(), slice(eh1.getBuffer(), Ehdr_p1.size(), Ehdr_p2.size(eh1.machDesc.ordinal())));
+        sht = createSectionHeaderTable();
 
         if( CPUFamily.ARM == eh1.cpuType.family && eh1.cpuType.is32Bit ) {
             // AArch64, has no SHT_ARM_ATTRIBUTES or SHT_AARCH64_ATTRIBUTES SectionHeader defined in our builds!
@@ -172,7 +163,7 @@ public class ElfHeaderPart2 {
                 System.err.println("ELF-2: Got ARM Attribs Section Header: "+sh);
             }
             if( null != sh ) {
-                final SectionArmAttributes sArmAttrs = (SectionArmAttributes) sh.readSection(in);
+                final SectionArmAttributes sArmAttrs = (SectionArmAttributes) sh.readSection();
                 if(ElfHeaderPart1.DEBUG) {
                     System.err.println("ELF-2: Got ARM Attribs Section Block : "+sArmAttrs);
                 }
@@ -288,7 +279,7 @@ public class ElfHeaderPart2 {
     /** Returns the 1st occurence of matching SectionHeader {@link SectionHeader#getType() type}, or null if not exists. */
     public final SectionHeader getSectionHeader(final int type) {
         for(int i=0; i<sht.length; i++) {
-            final SectionHeader sh = sht[i];
+            final SectionHeader sh = getSectionHeaderAt(i);
             if( sh.getType() == type ) {
                 return sh;
             }
@@ -299,8 +290,8 @@ public class ElfHeaderPart2 {
     /** Returns the 1st occurence of matching SectionHeader {@link SectionHeader#getName() name}, or null if not exists. */
     public final SectionHeader getSectionHeader(final String name) {
         for(int i=0; i<sht.length; i++) {
-            final SectionHeader sh = sht[i];
-            if( sh.getName().equals(name) ) {
+            final SectionHeader sh = getSectionHeaderAt(i);
+            if( name.equals(sh.getName()) ) {
                 return sh;
             }
         }
@@ -319,57 +310,103 @@ public class ElfHeaderPart2 {
         return "ELF-2["+cpuType+", "+abiType+", flags["+toHexString(getFlags())+armFlagsS+"], sh-num "+sht.length+"]";
     }
 
-    final SectionHeader[] readSectionHeaderTable(final RandomAccessFile in) throws IOException, IllegalArgumentException {
-        // positioning
-        {
-            final long off = raw.getE_shoff(); // absolute offset
-            if( 0 == off ) {
-                return new SectionHeader[0];
+    /** Returns the number of {@link SectionHeader}s */
+    public final int getSectionHeaderCount() {
+        return sht.length;
+    }
+
+    /**
+     * Returns the {@link SectionHeader} at the given index, materialized on first access.
+     * @throws IndexOutOfBoundsException if the index is not within [0..{@link #getSectionHeaderCount()}[
+     */
+    public final synchronized SectionHeader getSectionHeaderAt(final int idx) throws IndexOutOfBoundsException {
+        SectionHeader sh = sht[idx];
+        if( null == sh ) {
+            sh = readSectionHeader(idx);
+            sht[idx] = sh;
+        }
+        return sh;
+    }
+
+    /**
+     * Returns an iterator over all {@link SectionHeader}s in table order,
+     * only materializing the visited ones.
+     */
+    @Override
+    public final Iterator<SectionHeader> iterator() {
+        return new Iterator<SectionHeader>() {
+            private int next = 0;
+            @Override
+            public boolean hasNext() {
+                return next < sht.length;
+            }
+            @Override
+            public SectionHeader next() {
+                if( next >= sht.length ) {
+                    throw new NoSuchElementException();
+                }
+                return getSectionHeaderAt(next++);
+            }
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException();
             }
-            seek(in, off);
+        };
+    }
+
+    /** Returns the section name at the given offset of the section name string table, or <code>null</code> if n/a. */
+    final synchronized String getSectionName(final int nameOffset) {
+        if( null == shStrTab ) {
+            final int strndx = raw.getE_shstrndx();
+            if( SectionHeader.SHN_UNDEF == strndx ) {
+                return null;
+            }
+            shStrTab = getSectionHeaderAt(strndx).readSection();
+        }
+        return IOUtils.getString(shStrTab.data, shStrTab.offset + nameOffset, shStrTab.length - nameOffset, null);
+    }
+
+    private SectionHeader readSectionHeader(final int idx) throws IllegalArgumentException {
+        final int size = raw.getE_shentsize();
+        return new SectionHeader(this, slice(eh1.getBuffer(), raw.getE_shoff() + (long)idx * size, size), idx);
+    }
+
+    /**
+     * Creates the {@link SectionHeader} table w/o materializing its entries,
+     * except the 1st if holding the table size and the section name string table for validation.
+     */
+    private final SectionHeader[] createSectionHeaderTable() throws IllegalArgumentException {
+        if( 0 == raw.getE_shoff() ) {
+            return new SectionHeader[0];
         }
         final SectionHeader[] sht;
         final int strndx = raw.getE_shstrndx();
-        final int size = raw.getE_shentsize();
-        final int num;
-        int i;
         if( 0 == raw.getE_shnum() ) {
             // Read 1st table 1st and use it's sh_size
-            final byte[] buf0 = new byte[size];
-            readBytes(in, buf0, 0, size);
-            final SectionHeader sh0 = new SectionHeader(this, buf0, 0, size, 0);
-            num = (int) sh0.raw.getSh_size();
+            final SectionHeader sh0 = readSectionHeader(0);
+            final int num = (int) sh0.raw.getSh_size();
             if( 0 >= num ) {
                 throw new IllegalArgumentException("EHdr sh_num == 0 and 1st SHdr size == 0");
             }
             sht = new SectionHeader[num];
             sht[0] = sh0;
-            i=1;
         } else {
-            num = raw.getE_shnum();
-            sht = new SectionHeader[num];
-            i=0;
-        }
-        for(; i<num; i++) {
-            final byte[] buf = new byte[size];
-            readBytes(in, buf, 0, size);
-            sht[i] = new SectionHeader(this, buf, 0, size, i);
+            sht = new SectionHeader[shortToInt(raw.getE_shnum())];
         }
         if( SectionHeader.SHN_UNDEF != strndx ) {
             // has section name string table
             if( shortToInt(SectionHeader.SHN_LORESERVE) <= strndx ) {
                 throw new InternalError("TODO strndx: "+SectionHeader.SHN_LORESERVE+" < "+strndx);
             }
-            final SectionHeader strShdr = sht[strndx];
+            if( strndx >= sht.length ) {
+                throw new IllegalArgumentException("Ref. string Shdr["+strndx+"] exceeds sh-num "+sht.length);
+            }
+            final SectionHeader strShdr = readSectionHeader(strndx);
             if( SectionHeader.SHT_STRTAB != strShdr.getType() ) {
                 throw new IllegalArgumentException("Ref. string Shdr["+strndx+"] is of type "+strShdr.raw.getSh_type());
             }
-            final Section strS = strShdr.readSection(in);
-            for(i=0; i<num; i++) {
-                sht[i].initName(strS, sht[i].raw.getSh_name());
-            }
+            sht[strndx] = strShdr;
         }
-
         return sht;
     }
 }
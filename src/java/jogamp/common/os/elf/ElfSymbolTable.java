@@ -0,0 +1,386 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package jogamp.common.os.elf;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.Charset;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import jogamp.common.os.PlatformPropsImpl;
+
+import static jogamp.common.os.elf.IOUtils.long2Int;
+import static jogamp.common.os.elf.IOUtils.shortToInt;
+
+/**
+ * Dynamic symbol table of an ELF object, i.e. its <code>.dynsym</code> section
+ * w/ the referenced <code>.dynstr</code> string table,
+ * the optional <code>.gnu.hash</code> section and the optional GNU version sections
+ * <code>.gnu.version</code> and <code>.gnu.version_d</code>.
+ * <p>
+ * All sections are accessed in place via the {@link ElfHeaderPart1#getBuffer() ELF object buffer},
+ * e.g. a read-only memory mapping of the file, symbol names are only decoded on demand.
+ * </p>
+ * <p>
+ * The {@link #isExported(String) exported symbol query} uses the GNU hash table if available,
+ * otherwise the lazily created {@link #getExportedSymbols() set of all exported symbols}.
+ * </p>
+ */
+public class ElfSymbolTable {
+    /** Local symbol binding, {@value} */
+    public static final int STB_LOCAL      = 0;
+    /** Global symbol binding, {@value} */
+    public static final int STB_GLOBAL     = 1;
+    /** Weak symbol binding, {@value} */
+    public static final int STB_WEAK       = 2;
+    /** Unique global symbol binding (GNU), {@value} */
+    public static final int STB_GNU_UNIQUE = 10;
+
+    /** Symbol type is unspecified, {@value} */
+    public static final int STT_NOTYPE     = 0;
+    /** Symbol is a data object, {@value} */
+    public static final int STT_OBJECT     = 1;
+    /** Symbol is a code object, {@value} */
+    public static final int STT_FUNC       = 2;
+    /** Symbol is an indirect code object (GNU), {@value} */
+    public static final int STT_GNU_IFUNC  = 10;
+
+    /** Default symbol visibility, {@value} */
+    public static final int STV_DEFAULT    = 0;
+    /** Protected symbol visibility, {@value} */
+    public static final int STV_PROTECTED  = 3;
+
+    /** Hidden bit of a <code>.gnu.version</code> entry, i.e. not the default version, {@value} */
+    public static final int VERSYM_HIDDEN  = 0x8000;
+
+    private static final Charset ISO_8859_1 = Charset.forName("ISO-8859-1");
+
+    private final ByteBuffer file;
+    private final boolean is64Bit;
+    private final int symOff;
+    private final int symEntSize;
+    private final int symCount;
+    private final int strOff;
+    private final int strSize;
+    private final int gnuHashOff; // -1 if n/a
+    private final int versymOff;  // -1 if n/a
+    private final Map<Integer, String> versionNames;
+    private Set<String> exportedSymbols = null;
+
+    /**
+     * Reads the dynamic symbol table of the given ELF file via a read-only memory mapping.
+     * @return the dynamic symbol table or <code>null</code> if the ELF file has none.
+     * @throws IllegalArgumentException if the file is not a supported ELF file
+     */
+    public static ElfSymbolTable read(final File file) throws IOException, IllegalArgumentException {
+        return read(ElfHeaderPart2.read(ElfHeaderPart1.read(PlatformPropsImpl.OS_TYPE, file)));
+    }
+
+    /**
+     * Reads the dynamic symbol table of the ELF object held by the given buffer, e.g. the content of a jar entry.
+     * @param in buffer holding the complete ELF object starting at its current position, which shall stay untouched
+     * @return the dynamic symbol table or <code>null</code> if the ELF object has none.
+     * @throws IllegalArgumentException if the buffer does not hold a supported ELF object
+     */
+    public static ElfSymbolTable read(final ByteBuffer in) throws IllegalArgumentException {
+        return read(ElfHeaderPart2.read(ElfHeaderPart1.read(PlatformPropsImpl.OS_TYPE, in)));
+    }
+
+    /**
+     * Reads the dynamic symbol table of the given parsed ELF object.
+     * <p>
+     * The returned instance keeps a reference to the {@link ElfHeaderPart1#getBuffer() ELF object buffer}.
+     * </p>
+     * @return the dynamic symbol table or <code>null</code> if the ELF object has none.
+     * @throws IllegalArgumentException if the symbol sections are inconsistent
+     */
+    public static ElfSymbolTable read(final ElfHeaderPart2 eh2) throws IllegalArgumentException {
+        final SectionHeader dynsym = eh2.getSectionHeader(SectionHeader.SHT_DYNSYM);
+        if( null == dynsym ) {
+            return null;
+        }
+        final ByteBuffer file = eh2.eh1.getBuffer();
+        file.order(eh2.eh1.isBigEndian() ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN);
+        return new ElfSymbolTable(eh2, dynsym, file);
+    }
+
+    ElfSymbolTable(final ElfHeaderPart2 eh2, final SectionHeader dynsym, final ByteBuffer file) throws IllegalArgumentException {
+        this.file = file;
+        this.is64Bit = 64 == eh2.eh1.getArchClassBits();
+        symOff = checkedOffset(dynsym);
+        {
+            final int entSize = long2Int(dynsym.getEntrySize());
+            symEntSize = 0 < entSize ? entSize : ( is64Bit ? 24 : 16 );
+        }
+        symCount = long2Int(dynsym.getSize()) / symEntSize;
+
+        final SectionHeader dynstr = getLinkedSection(eh2, dynsym, SectionHeader.SHT_STRTAB);
+        strOff = checkedOffset(dynstr);
+        strSize = long2Int(dynstr.getSize());
+
+        final SectionHeader gnuHash = eh2.getSectionHeader(SectionHeader.SHT_GNU_HASH);
+        gnuHashOff = null != gnuHash && gnuHash.getLink() == dynsym.getIndex() ? checkedOffset(gnuHash) : -1;
+
+        final SectionHeader versym = eh2.getSectionHeader(SectionHeader.SHT_GNU_versym);
+        versymOff = null != versym && versym.getLink() == dynsym.getIndex() ? checkedOffset(versym) : -1;
+
+        final SectionHeader verdef = eh2.getSectionHeader(SectionHeader.SHT_GNU_verdef);
+        if( 0 <= versymOff && null != verdef ) {
+            versionNames = readVersionDefinitions(eh2, verdef);
+        } else {
+            versionNames = Collections.emptyMap();
+        }
+        if(ElfHeaderPart1.DEBUG) {
+            System.err.println("ELF-S: "+this);
+        }
+    }
+
+    private int checkedOffset(final SectionHeader sh) throws IllegalArgumentException {
+        final long off = sh.getOffset();
+        if( 0 > off || off + sh.getSize() > file.limit() ) {
+            throw new IllegalArgumentException("Shdr["+sh.getIndex()+"] exceeds file size "+file.limit()+": "+sh);
+        }
+        return (int)off;
+    }
+
+    private static SectionHeader getLinkedSection(final ElfHeaderPart2 eh2, final SectionHeader sh, final int type) throws IllegalArgumentException {
+        final int link = sh.getLink();
+        if( 0 >= link || link >= eh2.getSectionHeaderCount() || type != eh2.getSectionHeaderAt(link).getType() ) {
+            throw new IllegalArgumentException("Shdr["+sh.getIndex()+"] links to invalid section "+link);
+        }
+        return eh2.getSectionHeaderAt(link);
+    }
+
+    private Map<Integer, String> readVersionDefinitions(final ElfHeaderPart2 eh2, final SectionHeader verdef) throws IllegalArgumentException {
+        final SectionHeader verstr = getLinkedSection(eh2, verdef, SectionHeader.SHT_STRTAB);
+        final int vstrOff = checkedOffset(verstr);
+        final int vstrSize = long2Int(verstr.getSize());
+        final int end = checkedOffset(verdef) + long2Int(verdef.getSize());
+        final Map<Integer, String> names = new HashMap<Integer, String>();
+        int off = checkedOffset(verdef);
+        // Elf_Verdef: vd_version, vd_flags, vd_ndx, vd_cnt (uint16), vd_hash, vd_aux, vd_next (uint32)
+        for(int n = 0; n < 0xffff && off + 20 <= end; n++) {
+            final int ndx = shortToInt(file.getShort(off + 4));
+            final int aux = file.getInt(off + 12);
+            final int next = file.getInt(off + 16);
+            if( 0 < aux && off + aux + 8 <= end ) {
+                // Elf_Verdaux: vda_name, vda_next (uint32), 1st entry is the version name
+                final int nameIdx = file.getInt(off + aux);
+                names.put(Integer.valueOf(ndx), getString(vstrOff, vstrSize, nameIdx));
+            }
+            if( 0 >= next ) {
+                break;
+            }
+            off += next;
+        }
+        return names;
+    }
+
+    private String getString(final int tableOff, final int tableSize, final int idx) {
+        if( 0 > idx || idx >= tableSize ) {
+            return "";
+        }
+        int len = 0;
+        while( idx + len < tableSize && 0 != file.get(tableOff + idx + len) ) {
+            len++;
+        }
+        final byte[] b = new byte[len];
+        for(int i=0; i<len; i++) {
+            b[i] = file.get(tableOff + idx + i);
+        }
+        return new String(b, ISO_8859_1);
+    }
+
+    private boolean nameEquals(final int symIdx, final byte[] name) {
+        final int idx = file.getInt(symOff + symIdx * symEntSize);
+        if( 0 > idx || idx + name.length >= strSize ) {
+            return false;
+        }
+        final int off = strOff + idx;
+        for(int i=0; i<name.length; i++) {
+            if( file.get(off + i) != name[i] ) {
+                return false;
+            }
+        }
+        return 0 == file.get(off + name.length);
+    }
+
+    /** Returns the number of symbols, including the undefined symbol at index 0 and all imported symbols. */
+    public final int getSymbolCount() { return symCount; }
+
+    /** Returns true if a <code>.gnu.hash</code> section is used for {@link #isExported(String)}. */
+    public final boolean hasGnuHash() { return 0 <= gnuHashOff; }
+
+    /** Returns the name of the symbol at the given index. */
+    public final String getSymbolName(final int symIdx) {
+        return getString(strOff, strSize, file.getInt(symOff + checkIndex(symIdx) * symEntSize));
+    }
+
+    /** Returns the binding of the symbol at the given index, e.g. {@link #STB_GLOBAL}. */
+    public final int getSymbolBinding(final int symIdx) {
+        return ( getInfo(checkIndex(symIdx)) >> 4 ) & 0xf;
+    }
+
+    /** Returns the type of the symbol at the given index, e.g. {@link #STT_FUNC}. */
+    public final int getSymbolType(final int symIdx) {
+        return getInfo(checkIndex(symIdx)) & 0xf;
+    }
+
+    /**
+     * Returns true if the symbol at the given index is exported,
+     * i.e. defined, of global, weak or unique binding and of default or protected visibility.
+     * <p>
+     * The symbol version is not considered, i.e. hidden versions are included.
+     * </p>
+     */
+    public final boolean isExported(final int symIdx) {
+        checkIndex(symIdx);
+        final int base = symOff + symIdx * symEntSize;
+        final int other = file.get(base + ( is64Bit ? 5 : 13 )) & 0x3;
+        final int shndx = file.getShort(base + ( is64Bit ? 6 : 14 ));
+        final int bind = ( getInfo(symIdx) >> 4 ) & 0xf;
+        return SectionHeader.SHN_UNDEF != shndx &&
+               ( STB_GLOBAL == bind || STB_WEAK == bind || STB_GNU_UNIQUE == bind ) &&
+               ( STV_DEFAULT == other || STV_PROTECTED == other );
+    }
+
+    /**
+     * Returns the version name of the symbol at the given index, e.g. <code>GLIBC_2.2.5</code>,
+     * or <code>null</code> if the symbol is unversioned or its version is not defined by this ELF object.
+     */
+    public final String getVersionName(final int symIdx) {
+        checkIndex(symIdx);
+        if( 0 > versymOff ) {
+            return null;
+        }
+        final int ndx = shortToInt(file.getShort(versymOff + 2 * symIdx)) & ~VERSYM_HIDDEN;
+        return versionNames.get(Integer.valueOf(ndx));
+    }
+
+    /**
+     * Returns true if the symbol at the given index is the default version of the symbol,
+     * i.e. is unversioned or its <code>.gnu.version</code> entry is not hidden.
+     */
+    public final boolean isDefaultVersion(final int symIdx) {
+        checkIndex(symIdx);
+        return 0 > versymOff || 0 == ( file.getShort(versymOff + 2 * symIdx) & VERSYM_HIDDEN );
+    }
+
+    private int getInfo(final int symIdx) {
+        return file.get(symOff + symIdx * symEntSize + ( is64Bit ? 4 : 12 )) & 0xff;
+    }
+
+    private int checkIndex(final int symIdx) throws IndexOutOfBoundsException {
+        if( 0 > symIdx || symIdx >= symCount ) {
+            throw new IndexOutOfBoundsException("Symbol index "+symIdx+" not within [0.."+symCount+"[");
+        }
+        return symIdx;
+    }
+
+    /**
+     * Returns true if the given symbol name is {@link #isExported(int) exported} by this ELF object.
+     * <p>
+     * Uses the GNU hash table if available, hence does not decode any symbol name.
+     * </p>
+     */
+    public final boolean isExported(final String name) {
+        if( 0 > gnuHashOff ) {
+            return getExportedSymbols().contains(name);
+        }
+        final byte[] nameBytes = name.getBytes(ISO_8859_1);
+        final long h = gnuHash(nameBytes);
+        final int nbuckets = file.getInt(gnuHashOff);
+        final int symoffset = file.getInt(gnuHashOff + 4);
+        final int bloomSize = file.getInt(gnuHashOff + 8);
+        final int bloomShift = file.getInt(gnuHashOff + 12);
+        if( 0 >= nbuckets || 0 >= bloomSize ) {
+            return false;
+        }
+        final int wordBits = is64Bit ? 64 : 32;
+        final int bloomOff = gnuHashOff + 16;
+        final int bucketsOff = bloomOff + bloomSize * ( wordBits / 8 );
+        final int chainOff = bucketsOff + nbuckets * 4;
+
+        // Bloom filter: two bits of the hash must be set
+        final int wordIdx = (int) ( ( h / wordBits ) % bloomSize );
+        final long word = is64Bit ? file.getLong(bloomOff + wordIdx * 8) : file.getInt(bloomOff + wordIdx * 4) & 0xffffffffL;
+        final long mask = ( 1L << ( h % wordBits ) ) | ( 1L << ( ( h >>> bloomShift ) % wordBits ) );
+        if( mask != ( word & mask ) ) {
+            return false;
+        }
+        int symIdx = file.getInt(bucketsOff + (int) ( h % nbuckets ) * 4);
+        if( symIdx < symoffset ) {
+            return false;
+        }
+        // Chain: equal hashes w/ lowest bit masked, lowest bit set terminates the chain
+        for( ; symIdx < symCount; symIdx++ ) {
+            final long h2 = file.getInt(chainOff + ( symIdx - symoffset ) * 4) & 0xffffffffL;
+            if( ( h | 1 ) == ( h2 | 1 ) && nameEquals(symIdx, nameBytes) && isExported(symIdx) ) {
+                return true;
+            }
+            if( 0 != ( h2 & 1 ) ) {
+                break;
+            }
+        }
+        return false;
+    }
+
+    /** Returns the GNU hash of the given symbol name as an unsigned 32-bit value. */
+    public static long gnuHash(final byte[] name) {
+        int h = 5381;
+        for(int i=0; i<name.length; i++) {
+            h = ( h << 5 ) + h + ( name[i] & 0xff );
+        }
+        return h & 0xffffffffL;
+    }
+
+    /** Returns the unmodifiable set of all {@link #isExported(int) exported} symbol names, created on first call. */
+    public final synchronized Set<String> getExportedSymbols() {
+        if( null == exportedSymbols ) {
+            final Set<String> res = new HashSet<String>();
+            for(int i=1; i<symCount; i++) {
+                if( isExported(i) ) {
+                    res.add(getSymbolName(i));
+                }
+            }
+            exportedSymbols = Collections.unmodifiableSet(res);
+        }
+        return exportedSymbols;
+    }
+
+    @Override
+    public final String toString() {
+        return "ElfSymbolTable[symbols "+symCount+", gnuHash "+hasGnuHash()+", versions "+versionNames.size()+"]";
+    }
+}
@@ -27,8 +27,11 @@
  */
 package jogamp.common.os.elf;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 
 import com.jogamp.common.util.Bitstream;
 
@@ -50,14 +53,35 @@ class IOUtils {
         return (int)v;
     }
 
-    static void readBytes(final RandomAccessFile in, final byte[] out, final int offset, final int len)
-            throws IOException, IllegalArgumentException
-    {
-        in.readFully(out, offset, len);
+    /**
+     * Returns a read-only memory mapping of the complete given file.
+     * <p>
+     * The mapping stays valid after this method has closed the file.
+     * </p>
+     */
+    static ByteBuffer map(final File file) throws IOException {
+        final RandomAccessFile in = new RandomAccessFile(file, "r");
+        try {
+            final FileChannel fc = in.getChannel();
+            return fc.map(FileChannel.MapMode.READ_ONLY, 0, fc.size());
+        } finally {
+            in.close();
+        }
     }
 
-    static void seek(final RandomAccessFile in, final long newPos) throws IOException {
-        in.seek(newPos);
+    /**
+     * Returns a slice of the given buffer of <code>size</code> bytes at the absolute <code>offset</code>,
+     * leaving the given buffer untouched.
+     * @throws IllegalArgumentException if the requested range exceeds the given buffer
+     */
+    static ByteBuffer slice(final ByteBuffer in, final long offset, final int size) throws IllegalArgumentException {
+        if( 0 > offset || 0 > size || offset + size > in.limit() ) {
+            throw new IllegalArgumentException("Range [off "+toHexString(offset)+", size "+size+"] exceeds buffer of "+in.limit()+" bytes");
+        }
+        final ByteBuffer b = in.duplicate();
+        b.position((int)offset);
+        b.limit((int)offset + size);
+        return b.slice();
     }
 
     static int readUInt32(final boolean isBigEndian, final byte[] in, final int offset) {
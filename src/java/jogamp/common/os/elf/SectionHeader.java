@@ -27,14 +27,10 @@
  */
 package jogamp.common.os.elf;
 
-import java.io.IOException;
-import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
 
 import static jogamp.common.os.elf.IOUtils.long2Int;
-import static jogamp.common.os.elf.IOUtils.readBytes;
-import static jogamp.common.os.elf.IOUtils.seek;
-import static jogamp.common.os.elf.IOUtils.getString;
+import static jogamp.common.os.elf.IOUtils.slice;
 import static jogamp.common.os.elf.IOUtils.toHexString;
 
 /**
@@ -104,6 +100,22 @@ public class SectionHeader {
      * {@value}
      */
     public static final int SHT_NUM         = 12;
+    /**
+     * {@value}
+     */
+    public static final int SHT_GNU_HASH    = 0x6ffffff6;
+    /**
+     * {@value}
+     */
+    public static final int SHT_GNU_verdef  = 0x6ffffffd;
+    /**
+     * {@value}
+     */
+    public static final int SHT_GNU_verneed = 0x6ffffffe;
+    /**
+     * {@value}
+     */
+    public static final int SHT_GNU_versym  = 0x6fffffff;
     /**
      * {@value}
      */
@@ -185,28 +197,19 @@ public class SectionHeader {
 
     private final int idx;
     private String name;
+    private boolean nameRead;
 
-    SectionHeader(final ElfHeaderPart2 eh, final byte[] buf, final int offset, final int length, final int sectionIdx) {
-        this( eh, ByteBuffer.wrap(buf, 0, buf.length), sectionIdx );
-    }
     SectionHeader(final ElfHeaderPart2 eh, final java.nio.ByteBuffer buf, final int idx) {
         this.eh2 = eh;
         this.raw = Shdr.create(eh.eh1.machDesc.ordinal(), buf);
         this.idx = idx;
         this.name = null;
+        this.nameRead = false;
     }
 
     @Override
     public String toString() {
-        return "SectionHeader[idx "+idx+", name "+name+", type "+toHexString(getType())+", link "+raw.getSh_link()+", info "+toHexString(raw.getSh_info())+", flags "+toHexString(getFlags())+"]";
-    }
-
-    /**
-     * @param strS the {@link SectionHeader#SHT_STRTAB} section containing all strings
-     * @param nameOffset name offset within strS
-     */
-    void initName(final Section strS, final int nameOffset) throws IndexOutOfBoundsException {
-        name = getString(strS.data, strS.offset + nameOffset, strS.length - nameOffset, null);
+        return "SectionHeader[idx "+idx+", name "+getName()+", type "+toHexString(getType())+", link "+raw.getSh_link()+", info "+toHexString(raw.getSh_info())+", flags "+toHexString(getFlags())+"]";
     }
 
     /** Returns the index of this section within the Elf section header table. */
@@ -229,39 +232,67 @@ public class SectionHeader {
         return raw.getSh_size();
     }
 
-    /** Returns this section name, maybe <code>null</code> if not read. */
-    public String getName() {
+    /**
+     * Returns this section name, read from the section name string table on first call,
+     * maybe <code>null</code> if the ELF object has no section name string table.
+     * @throws IndexOutOfBoundsException if the name offset exceeds the section name string table
+     */
+    public synchronized String getName() throws IndexOutOfBoundsException {
+        if( !nameRead ) {
+            name = eh2.getSectionName(raw.getSh_name());
+            nameRead = true;
+        }
         return name;
     }
 
+    /** Returns the absolute file offset of the section */
+    public long getOffset() {
+        return raw.getSh_offset();
+    }
+
+    /** Returns the section header table index of the associated section, e.g. the string table of a symbol table */
+    public int getLink() {
+        return raw.getSh_link();
+    }
+
+    /** Returns the size of one entry in bytes for sections holding a table of fixed-size entries, otherwise 0 */
+    public long getEntrySize() {
+        return raw.getSh_entsize();
+    }
+
+    /**
+     * Returns a view of the content of this section w/o copying, i.e. a slice of the ELF object buffer.
+     *
+     * @throws IllegalArgumentException if section offset or size mismatch including size &gt; {@link Integer#MAX_VALUE}
+     */
+    public ByteBuffer getSectionBuffer() throws IllegalArgumentException {
+        return slice(eh2.eh1.getBuffer(), raw.getSh_offset(), long2Int(raw.getSh_size()));
+    }
+
     /**
      * Returns the Section referenced w/ this section header
      *
-     * @param in file owning the section
-     * @throws IOException if read error occurs
      * @throws IllegalArgumentException if section offset or size mismatch including size &gt; {@link Integer#MAX_VALUE}
      */
-    public Section readSection(final RandomAccessFile in) throws IOException, IllegalArgumentException {
+    public Section readSection() throws IllegalArgumentException {
         final int s_size = long2Int(raw.getSh_size());
         if( 0 == s_size || 0 > s_size ) {
             throw new IllegalArgumentException("Shdr["+idx+"] has invalid int size: "+raw.getSh_size()+" -> "+s_size);
         }
         final byte[] s_buf = new byte[s_size];
-        return readSectionImpl(in, s_buf, 0, s_size);
+        return readSectionImpl(s_buf, 0, s_size);
     }
 
     /**
      * Returns the Section referenced w/ this section header using given byte array.
      *
-     * @param in file owning the section
      * @param b destination buffer
      * @param b_off offset in destination buffer
      * @param r_len requested read length in bytes, which shall be &le; than this section size
-     * @throws IOException if read error occurs
      * @throws IllegalArgumentException if section offset or size mismatch including size &gt; {@link Integer#MAX_VALUE}
      * @throws IllegalArgumentException if requested read length is &gt; section size
      */
-    public Section readSection(final RandomAccessFile in, final byte[] b, final int b_off, final int r_len) throws IOException, IllegalArgumentException {
+    public Section readSection(final byte[] b, final int b_off, final int r_len) throws IllegalArgumentException {
         final int s_size = long2Int(raw.getSh_size());
         if( 0 == s_size || 0 > s_size ) {
             throw new IllegalArgumentException("Shdr["+idx+"] has invalid int size: "+raw.getSh_size()+" -> "+s_size);
@@ -269,13 +300,11 @@ public class SectionHeader {
         if( r_len > s_size ) {
             throw new IllegalArgumentException("Shdr["+idx+"] has only "+s_size+" bytes, while read request is of "+r_len+" bytes");
         }
-        return readSectionImpl(in, b, b_off, r_len);
+        return readSectionImpl(b, b_off, r_len);
     }
 
-    Section readSectionImpl(final RandomAccessFile in, final byte[] b, final int b_off, final int r_len) throws IOException, IllegalArgumentException {
-        final long s_off = raw.getSh_offset();
-        seek(in, s_off);
-        readBytes(in, b, b_off, r_len);
+    Section readSectionImpl(final byte[] b, final int b_off, final int r_len) throws IllegalArgumentException {
+        slice(eh2.eh1.getBuffer(), raw.getSh_offset(), r_len).get(b, b_off, r_len);
         if( SectionHeader.SHT_ARM_ATTRIBUTES == getType() ) {
             return new SectionArmAttributes(this, b, b_off, r_len);
         } else {
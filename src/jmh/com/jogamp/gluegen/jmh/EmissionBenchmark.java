@@ -0,0 +1,105 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.gluegen.jmh;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.jogamp.gluegen.GlueGen;
+
+/**
+ * Benchmarks a complete {@link GlueGen} run w/ the {@code JavaEmitter} and the {@code ProcAddressEmitter},
+ * sequential and parallel, on the fixtures, see {@link Fixtures}.
+ * <p>
+ * The {@code test1} fixture uses the {@code test1} configuration for the {@code JavaEmitter}
+ * and the {@code test1p2} configuration for the {@code ProcAddressEmitter}.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmissionBenchmark {
+    @Param({ Fixtures.TEST1, Fixtures.SYNTHETIC })
+    public String fixture;
+
+    @Param({ Fixtures.JAVA_EMITTER, Fixtures.PROC_ADDRESS_EMITTER })
+    public String emitter;
+
+    @Param({ "true", "false" })
+    public boolean parallel;
+
+    /** The number of symbols of the {@link Fixtures#SYNTHETIC} header. */
+    @Param({ "10000" })
+    public int symbols;
+
+    private File workDir;
+    private File source;
+    private File cfgFile;
+
+    @Setup
+    public void setup() throws Exception {
+        GlueGen.setLogLevel(Level.SEVERE);
+        GlueGen.setParallel(parallel);
+        workDir = Fixtures.createWorkDir("gluegen-jmh-emit");
+        Fixtures.createConfigs(workDir, workDir);
+        source = Fixtures.getSource(fixture, symbols, workDir);
+        if( Fixtures.TEST1.equals(fixture) ) {
+            // generate Bindingtest1.java, read by the test1p2 configuration
+            Fixtures.generate(source, Fixtures.JAVA_EMITTER, Fixtures.getConfig(workDir, fixture, Fixtures.JAVA_EMITTER), workDir);
+        }
+        cfgFile = Fixtures.getConfig(workDir, fixture, emitter);
+    }
+
+    @TearDown
+    public void tearDown() {
+        GlueGen.setParallel(false);
+        Fixtures.delete(workDir);
+    }
+
+    @Benchmark
+    public void generate() throws Exception {
+        Fixtures.generate(source, emitter, cfgFile, workDir);
+    }
+}
@@ -0,0 +1,288 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.gluegen.jmh;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import antlr.RecognitionException;
+import antlr.TokenStreamException;
+import antlr.collections.AST;
+
+import com.jogamp.gluegen.GenerationReport;
+import com.jogamp.gluegen.GenericCPP;
+import com.jogamp.gluegen.GlueGen;
+import com.jogamp.gluegen.JavaConfiguration;
+import com.jogamp.gluegen.cgram.CToken;
+import com.jogamp.gluegen.cgram.GNUCTokenTypes;
+import com.jogamp.gluegen.cgram.GnuCLexer;
+import com.jogamp.gluegen.cgram.GnuCParser;
+import com.jogamp.gluegen.cgram.HeaderParser;
+import com.jogamp.gluegen.cgram.TNode;
+import com.jogamp.gluegen.cgram.types.TypeDictionary;
+import com.jogamp.gluegen.jcpp.JCPP;
+import com.jogamp.gluegen.jcpp.LexerException;
+import com.jogamp.gluegen.pcpp.PCPP;
+import com.jogamp.gluegen.procaddress.ProcAddressConfiguration;
+
+/**
+ * Fixtures shared by the GlueGen benchmarks.
+ * <p>
+ * The benchmarks run within the {@code make} directory, like the junit tests,
+ * using the {@code test1.h} and {@code pcpptest.h} headers of the junit generation tests,
+ * see {@link #FIXTURES_PROPERTY}, and {@link SyntheticHeader synthetic} headers.
+ * </p>
+ */
+final class Fixtures {
+    /** System property of the junit generation test directory holding the fixtures, relative to the {@code make} directory. */
+    static final String FIXTURES_PROPERTY = "gluegen.jmh.fixtures";
+
+    /** The {@code test1.h} fixture, included by {@code test1-gluegen.c}. */
+    static final String TEST1 = "test1";
+    /** The {@code pcpptest.h} fixture, only suitable for preprocessing. */
+    static final String PCPPTEST = "pcpptest";
+    /** A {@link SyntheticHeader} fixture. */
+    static final String SYNTHETIC = "synthetic";
+
+    static final String JAVA_EMITTER = "JavaEmitter";
+    static final String PROC_ADDRESS_EMITTER = "ProcAddressEmitter";
+
+    private Fixtures() {}
+
+    static File getFixtureDir() {
+        return new File(System.getProperty(FIXTURES_PROPERTY, "../src/junit/com/jogamp/gluegen/test/junit/generation"));
+    }
+
+    static List<String> getIncludePaths() {
+        final List<String> includePaths = new ArrayList<String>();
+        includePaths.add(getFixtureDir().getPath());
+        includePaths.add("stub_includes/gluegen");
+        includePaths.add("stub_includes/unix");
+        return includePaths;
+    }
+
+    /**
+     * Returns the source file of the given fixture.
+     * @param symbols the number of symbols of a {@link #SYNTHETIC} header
+     * @param workDir the directory to write a {@link #SYNTHETIC} header to
+     */
+    static File getSource(final String fixture, final int symbols, final File workDir) throws IOException {
+        if( TEST1.equals(fixture) ) {
+            return new File(getFixtureDir(), "test1-gluegen.c");
+        } else if( PCPPTEST.equals(fixture) ) {
+            return new File(getFixtureDir(), "pcpptest.h");
+        } else if( SYNTHETIC.equals(fixture) ) {
+            final File file = new File(workDir, "synthetic-"+symbols+".h");
+            if( !file.exists() ) {
+                new SyntheticHeader("syn", symbols).write(file);
+            }
+            return file;
+        }
+        throw new IllegalArgumentException("Unknown fixture "+fixture);
+    }
+
+    /** Returns a new preprocessor, either {@code PCPP} or {@code JCPP}, set up like {@link GlueGen}. */
+    static GenericCPP createCPP(final String name, final List<String> includePaths) throws LexerException {
+        final GenericCPP cpp;
+        if( "PCPP".equals(name) ) {
+            cpp = new PCPP(includePaths, false, false);
+        } else if( "JCPP".equals(name) ) {
+            cpp = new JCPP(includePaths, false, false);
+        } else {
+            throw new IllegalArgumentException("Unknown preprocessor "+name);
+        }
+        cpp.addDefine(GlueGen.__GLUEGEN__, "2");
+        return cpp;
+    }
+
+    /** Preprocesses the given source file, returning the output. */
+    static byte[] preprocess(final GenericCPP cpp, final File source) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream(64*1024);
+        cpp.setOut(out);
+        final BufferedReader reader = new BufferedReader(new FileReader(source));
+        try {
+            cpp.run(reader, source.getPath());
+        } finally {
+            reader.close();
+        }
+        return out.toByteArray();
+    }
+
+    /** Lexes and parses the given preprocessor output, returning the parser holding the AST. */
+    static GnuCParser parse(final byte[] cppOutput) throws RecognitionException, TokenStreamException {
+        final GnuCLexer lexer = new GnuCLexer(new ByteArrayInputStream(cppOutput));
+        lexer.setTokenObjectClass(CToken.class.getName());
+        lexer.initialize();
+        final GnuCParser parser = new GnuCParser(lexer);
+        parser.setASTNodeClass(TNode.class.getName());
+        TNode.setTokenVocabulary(GNUCTokenTypes.class.getName());
+        parser.translationUnit();
+        return parser;
+    }
+
+    /** Walks the given AST w/ a new {@link HeaderParser}, returning the latter holding the parsed types and functions. */
+    static HeaderParser walk(final AST ast, final JavaConfiguration cfg) throws RecognitionException {
+        final HeaderParser headerParser = new HeaderParser();
+        headerParser.setJavaConfiguration(cfg);
+        headerParser.setTypedefDictionary(new TypeDictionary());
+        headerParser.setStructDictionary(new TypeDictionary());
+        headerParser.setASTNodeClass(TNode.class.getName());
+        headerParser.translationUnit(ast);
+        return headerParser;
+    }
+
+    /** Returns the configuration file of the given fixture and emitter, see {@link #createConfigs(File, File)}. */
+    static File getConfig(final File cfgDir, final String fixture, final String emitter) {
+        if( TEST1.equals(fixture) ) {
+            return new File(cfgDir, PROC_ADDRESS_EMITTER.equals(emitter) ? "test1p2-gluegen.cfg" : "test1-gluegen.cfg");
+        } else if( SYNTHETIC.equals(fixture) ) {
+            return new File(cfgDir, PROC_ADDRESS_EMITTER.equals(emitter) ? "synthetic-procaddress.cfg" : "synthetic-java.cfg");
+        }
+        throw new IllegalArgumentException("No configuration for fixture "+fixture);
+    }
+
+    /** Returns the fully qualified class name of the given emitter. */
+    static String getEmitterClassName(final String emitter) {
+        if( JAVA_EMITTER.equals(emitter) ) {
+            return "com.jogamp.gluegen.JavaEmitter";
+        } else if( PROC_ADDRESS_EMITTER.equals(emitter) ) {
+            return "com.jogamp.gluegen.procaddress.ProcAddressEmitter";
+        }
+        throw new IllegalArgumentException("Unknown emitter "+emitter);
+    }
+
+    /**
+     * Creates the configuration files of all fixtures within the given directory.
+     * <p>
+     * The junit test configuration files are copied, referring to the generated {@code Bindingtest1.java}
+     * within the given output directory instead of the junit build directory.
+     * Hence the {@code test1p*} configurations require {@code test1-gluegen.cfg} to be generated first.
+     * </p>
+     */
+    static void createConfigs(final File cfgDir, final File outputRootDir) throws IOException {
+        final File[] cfgFiles = getFixtureDir().listFiles();
+        for (final File cfgFile : cfgFiles) {
+            if( cfgFile.getName().endsWith(".cfg") ) {
+                final PrintWriter out = new PrintWriter(new BufferedWriter(new FileWriter(new File(cfgDir, cfgFile.getName()))));
+                final BufferedReader in = new BufferedReader(new FileReader(cfgFile));
+                try {
+                    String line;
+                    while( null != ( line = in.readLine() ) ) {
+                        out.println(line.replace("../build-temp/gensrc", outputRootDir.getAbsolutePath()));
+                    }
+                } finally {
+                    in.close();
+                    out.close();
+                }
+            }
+        }
+        writeLines(new File(cfgDir, "synthetic-common.cfg"),
+                   "Package com.jogamp.gluegen.jmh.synthetic",
+                   "Style AllStatic",
+                   "JavaOutputDir classes",
+                   "NativeOutputDir native",
+                   "Ignore SYN_CONST_1.*",
+                   "Ignore syn_func_.*3",
+                   "Ignore syn_func_42");
+        writeLines(new File(cfgDir, "synthetic-java.cfg"),
+                   "JavaClass Synthetic",
+                   "Include synthetic-common.cfg");
+        writeLines(new File(cfgDir, "synthetic-procaddress.cfg"),
+                   "JavaClass SyntheticProcAddress",
+                   "Include synthetic-common.cfg",
+                   "EmitProcAddressTable true",
+                   "ProcAddressTableClassName SyntheticProcAddressTable",
+                   "GetProcAddressTableExpr _table",
+                   "ProcAddressNameExpr PFN $UPPERCASE({0}) PROC",
+                   "ForceProcAddressGen __ALL__");
+    }
+
+    private static void writeLines(final File file, final String... lines) throws IOException {
+        final PrintWriter out = new PrintWriter(new BufferedWriter(new FileWriter(file)));
+        try {
+            for (final String line : lines) {
+                out.println(line);
+            }
+        } finally {
+            out.close();
+        }
+    }
+
+    /**
+     * Runs {@link GlueGen} on the given fixture w/ the given emitter and its configuration,
+     * see {@link #getConfig(File, String, String)}, returning the run's {@link GenerationReport}.
+     */
+    static GenerationReport generate(final File source, final String emitter, final File cfgFile, final File outputRootDir)
+            throws IOException, ClassNotFoundException
+    {
+        final GlueGen glueGen = new GlueGen();
+        final BufferedReader reader = new BufferedReader(new FileReader(source));
+        try {
+            glueGen.run(reader, source.getPath(), Class.forName(getEmitterClassName(emitter)), getIncludePaths(),
+                        Collections.singletonList(cfgFile.getPath()), outputRootDir.getPath(), false);
+        } finally {
+            reader.close();
+        }
+        return glueGen.getReport();
+    }
+
+    /** Reads the given configuration file into a new {@link JavaConfiguration} of the given emitter. */
+    static JavaConfiguration readConfiguration(final File cfgFile, final String emitter) throws IOException {
+        final JavaConfiguration cfg = PROC_ADDRESS_EMITTER.equals(emitter) ? new ProcAddressConfiguration() : new JavaConfiguration();
+        cfg.read(cfgFile.getPath());
+        return cfg;
+    }
+
+    static File createWorkDir(final String prefix) throws IOException {
+        final File dir = File.createTempFile(prefix, "");
+        if( !dir.delete() || !dir.mkdirs() ) {
+            throw new IOException("Cannot create directory "+dir);
+        }
+        return dir;
+    }
+
+    static void delete(final File file) {
+        final File[] children = file.listFiles();
+        if( null != children ) {
+            for (final File child : children) {
+                delete(child);
+            }
+        }
+        file.delete();
+    }
+}
@@ -0,0 +1,184 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.gluegen.jmh;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.logging.Level;
+
+import com.jogamp.gluegen.GenerationReport;
+import com.jogamp.gluegen.GenerationReport.Phase;
+import com.jogamp.gluegen.GlueGen;
+
+/**
+ * Measures how {@link GlueGen} scales w/ the header size.
+ * <p>
+ * Runs the {@code JavaEmitter} and the {@code ProcAddressEmitter} on {@link SyntheticHeader}s of increasing size
+ * and reports the wall time and peak heap usage of each {@link Phase}, see {@link GenerationReport}.
+ * A phase is flagged as super-linear, if its wall time grows faster than the number of symbols,
+ * i.e. if the scaling exponent {@code log(t2/t1) / log(n2/n1)} between two consecutive sizes exceeds the threshold,
+ * e.g. due to per-symbol regular expression scans or repeated type walks.
+ * </p>
+ * <p>
+ * Like the benchmarks it runs within the {@code make} directory:
+ * <pre>
+ *   GlueGenScaling [--sizes 1000,10000,50000] [--emitters JavaEmitter,ProcAddressEmitter]
+ *                  [--runs 3] [--threshold 1.25] [--minMillis 20] [--parallel] [--report file.json]
+ * </pre>
+ * Each size runs {@code runs} times after a warm-up run, reporting the fastest run.
+ * Hence the JVM shall be started w/ sufficient heap for the largest size.
+ * </p>
+ */
+public class GlueGenScaling {
+    private int[] sizes = { 1000, 10000, 50000 };
+    private List<String> emitters = Arrays.asList(Fixtures.JAVA_EMITTER, Fixtures.PROC_ADDRESS_EMITTER);
+    private int runs = 3;
+    private double threshold = 1.25;
+    private long minMillis = 20;
+    private File reportFile = null;
+
+    /** Super-linear phases found by {@link #run()}. */
+    private final List<String> superLinear = new ArrayList<String>();
+
+    public static void main(final String[] args) throws Exception {
+        final GlueGenScaling scaling = new GlueGenScaling();
+        for (int i = 0; i < args.length; i++) {
+            final String arg = args[i];
+            if( arg.equals("--sizes") ) {
+                final String[] s = args[++i].split(",");
+                scaling.sizes = new int[s.length];
+                for (int j = 0; j < s.length; j++) {
+                    scaling.sizes[j] = Integer.parseInt(s[j].trim());
+                }
+                Arrays.sort(scaling.sizes);
+            } else if( arg.equals("--emitters") ) {
+                scaling.emitters = Arrays.asList(args[++i].split(","));
+            } else if( arg.equals("--runs") ) {
+                scaling.runs = Math.max(1, Integer.parseInt(args[++i]));
+            } else if( arg.equals("--threshold") ) {
+                scaling.threshold = Double.parseDouble(args[++i]);
+            } else if( arg.equals("--minMillis") ) {
+                scaling.minMillis = Long.parseLong(args[++i]);
+            } else if( arg.equals("--parallel") ) {
+                GlueGen.setParallel(true);
+            } else if( arg.equals("--report") ) {
+                scaling.reportFile = new File(args[++i]);
+            } else {
+                System.err.println("Usage: GlueGenScaling [--sizes 1000,10000,50000] [--emitters JavaEmitter,ProcAddressEmitter]");
+                System.err.println("                      [--runs 3] [--threshold 1.25] [--minMillis 20] [--parallel] [--report file.json]");
+                System.exit(1);
+            }
+        }
+        scaling.run();
+    }
+
+    public void run() throws Exception {
+        GlueGen.setLogLevel(Level.SEVERE);
+        GenerationReport.setPeakHeapTracking(true);
+        final File workDir = Fixtures.createWorkDir("gluegen-scaling");
+        final List<GenerationReport> allReports = new ArrayList<GenerationReport>();
+        try {
+            Fixtures.createConfigs(workDir, workDir);
+            for (final String emitter : emitters) {
+                final File cfgFile = Fixtures.getConfig(workDir, Fixtures.SYNTHETIC, emitter);
+                // warm-up
+                Fixtures.generate(Fixtures.getSource(Fixtures.SYNTHETIC, sizes[0], workDir), emitter, cfgFile, workDir);
+
+                final GenerationReport[] reports = new GenerationReport[sizes.length];
+                final int[] symbols = new int[sizes.length];
+                for (int i = 0; i < sizes.length; i++) {
+                    symbols[i] = new SyntheticHeader("syn", sizes[i]).getSymbolCount();
+                    final File source = Fixtures.getSource(Fixtures.SYNTHETIC, sizes[i], workDir);
+                    for (int r = 0; r < runs; r++) {
+                        System.gc();
+                        final GenerationReport report = Fixtures.generate(source, emitter, cfgFile, workDir);
+                        if( null == reports[i] || report.getWallTime(Phase.TOTAL) < reports[i].getWallTime(Phase.TOTAL) ) {
+                            reports[i] = report;
+                        }
+                    }
+                    allReports.add(reports[i]);
+                }
+                print(emitter, symbols, reports);
+            }
+        } finally {
+            GenerationReport.setPeakHeapTracking(false);
+            Fixtures.delete(workDir);
+        }
+        if( null != reportFile ) {
+            GenerationReport.write(reportFile, allReports);
+        }
+        System.out.println();
+        if( superLinear.isEmpty() ) {
+            System.out.printf("No super-linear phase, threshold %.2f%n", threshold);
+        } else {
+            System.out.printf("%d super-linear phases, threshold %.2f:%n", superLinear.size(), threshold);
+            for (final String s : superLinear) {
+                System.out.println("  "+s);
+            }
+        }
+    }
+
+    private void print(final String emitter, final int[] symbols, final GenerationReport[] reports) {
+        System.out.println();
+        System.out.printf("%s, wall time [ms] / peak heap [MiB] / scaling exponent%n", emitter);
+        System.out.printf("%-14s", "symbols");
+        for (int i = 0; i < symbols.length; i++) {
+            System.out.printf(" %20d", symbols[i]);
+        }
+        System.out.println();
+        for (final Phase phase : Phase.values()) {
+            System.out.printf("%-14s", phase.name);
+            for (int i = 0; i < reports.length; i++) {
+                final double ms = reports[i].getWallTime(phase) / 1e6;
+                final double mib = reports[i].getPeakHeap(phase) / ( 1024.0 * 1024.0 );
+                if( 0 < i ) {
+                    final double exponent = exponent(symbols[i-1], reports[i-1].getWallTime(phase), symbols[i], reports[i].getWallTime(phase));
+                    final boolean flagged = exponent > threshold && ms >= minMillis && Phase.TOTAL != phase;
+                    System.out.printf(" %8.1f %5.0f %4.2f%s", ms, mib, exponent, flagged ? "!" : " ");
+                    if( flagged ) {
+                        superLinear.add(String.format("%s %s: %d -> %d symbols, %.1f -> %.1f ms, exponent %.2f",
+                                        emitter, phase.name, symbols[i-1], symbols[i], reports[i-1].getWallTime(phase) / 1e6, ms, exponent));
+                    }
+                } else {
+                    System.out.printf(" %8.1f %5.0f      ", ms, mib);
+                }
+            }
+            System.out.println();
+        }
+    }
+
+    /** Returns the scaling exponent {@code e} of {@code t ~ n^e}, or {@code 0} if not measurable. */
+    private static double exponent(final int n1, final long t1, final int n2, final long t2) {
+        if( 0 >= t1 || 0 >= t2 || n1 == n2 ) {
+            return 0;
+        }
+        return Math.log( (double)t2 / (double)t1 ) / Math.log( (double)n2 / (double)n1 );
+    }
+}
@@ -0,0 +1,102 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.gluegen.jmh;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import antlr.RecognitionException;
+import antlr.TokenStreamException;
+import antlr.collections.AST;
+
+import com.jogamp.gluegen.JavaConfiguration;
+import com.jogamp.gluegen.cgram.HeaderParser;
+
+/**
+ * Benchmarks lexing and parsing the preprocessed fixtures w/ {@code GnuCParser}
+ * and walking the resulting AST w/ {@link HeaderParser}, see {@link Fixtures}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParserBenchmark {
+    @Param({ Fixtures.TEST1, Fixtures.SYNTHETIC })
+    public String fixture;
+
+    /** The number of symbols of the {@link Fixtures#SYNTHETIC} header. */
+    @Param({ "10000" })
+    public int symbols;
+
+    private File workDir;
+    private byte[] cppOutput;
+    private AST ast;
+
+    @Setup
+    public void setup() throws Exception {
+        workDir = Fixtures.createWorkDir("gluegen-jmh-parser");
+        final File source = Fixtures.getSource(fixture, symbols, workDir);
+        cppOutput = Fixtures.preprocess(Fixtures.createCPP("JCPP", Fixtures.getIncludePaths()), source);
+        ast = Fixtures.parse(cppOutput).getAST();
+    }
+
+    @TearDown
+    public void tearDown() {
+        Fixtures.delete(workDir);
+    }
+
+    @Benchmark
+    public AST parse() throws RecognitionException, TokenStreamException {
+        return Fixtures.parse(cppOutput).getAST();
+    }
+
+    @Benchmark
+    public HeaderParser headerParser() throws RecognitionException {
+        return Fixtures.walk(ast, new JavaConfiguration());
+    }
+
+    @Benchmark
+    public HeaderParser parseAndWalk() throws RecognitionException, TokenStreamException {
+        return Fixtures.walk(Fixtures.parse(cppOutput).getAST(), new JavaConfiguration());
+    }
+}
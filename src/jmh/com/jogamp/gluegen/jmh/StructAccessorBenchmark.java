@@ -0,0 +1,171 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.gluegen.jmh;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.jogamp.common.nio.Buffers;
+import com.jogamp.common.nio.StructAccessor;
+import com.jogamp.common.nio.UnsafeStructAccessor;
+
+/**
+ * Benchmarks the {@link StructAccessor} against the {@link UnsafeStructAccessor},
+ * see the {@code StructAccessor} configuration:
+ * <ul>
+ *   <li>{@code fields*}: reading and writing the int fields of an array of structs, traversed via {@link StructAccessor#setBaseOffset(int)}</li>
+ *   <li>{@code structs*}: the same w/ one accessor per struct at base offset zero, the common non-cursor case</li>
+ *   <li>{@code bulk*}: copying a float array field of each struct into a Java array</li>
+ * </ul>
+ * The struct layout is
+ * <pre>
+ *   typedef struct { int32_t x; int32_t y; int32_t width; int32_t height; float mat4x4[16]; } Elem;
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StructAccessorBenchmark {
+    static final int x_offset = 0;
+    static final int y_offset = 4;
+    static final int width_offset = 8;
+    static final int height_offset = 12;
+    static final int mat4x4_offset = 16;
+    static final int size = mat4x4_offset + Buffers.SIZEOF_FLOAT * 16;
+
+    @Param({ "1024" })
+    public int count;
+
+    private StructAccessor bbAccessor;
+    private StructAccessor unsafeAccessor;
+    private StructAccessor[] bbAccessors;
+    private StructAccessor[] unsafeAccessors;
+    private final float[] mat4x4 = new float[16];
+
+    @Setup
+    public void setup() {
+        if( !UnsafeStructAccessor.isAvailable() ) {
+            throw new IllegalStateException("UnsafeStructAccessor not available");
+        }
+        final ByteBuffer buf = Buffers.newDirectByteBuffer(size * count);
+        bbAccessor = new StructAccessor(buf, size);
+        unsafeAccessor = new UnsafeStructAccessor(buf, size);
+        bbAccessors = new StructAccessor[count];
+        unsafeAccessors = new StructAccessor[count];
+        for(int i=0; i<count; i++) {
+            buf.limit(size * (i + 1)).position(size * i);
+            final ByteBuffer elem = buf.slice();
+            buf.clear();
+            bbAccessors[i] = new StructAccessor(elem, size);
+            unsafeAccessors[i] = new UnsafeStructAccessor(elem, size);
+            bbAccessor.setBaseOffset(size * i);
+            bbAccessor.setIntAt(x_offset, i);
+            bbAccessor.setIntAt(y_offset, i+1);
+            bbAccessor.setIntAt(width_offset, i+2);
+            bbAccessor.setIntAt(height_offset, i+3);
+            for(int j=0; j<16; j++) {
+                bbAccessor.setFloatAt(mat4x4_offset + Buffers.SIZEOF_FLOAT * j, i+j);
+            }
+        }
+    }
+
+    private long fields(final StructAccessor acc) {
+        long sum = 0;
+        for(int i=0; i<count; i++) {
+            acc.setBaseOffset(size * i);
+            acc.setIntAt(width_offset, acc.getIntAt(width_offset) + 1);
+            sum += acc.getIntAt(x_offset) + acc.getIntAt(y_offset) + acc.getIntAt(width_offset) + acc.getIntAt(height_offset);
+        }
+        return sum;
+    }
+
+    private static long structs(final StructAccessor[] accs) {
+        long sum = 0;
+        for(int i=0; i<accs.length; i++) {
+            final StructAccessor acc = accs[i];
+            acc.setIntAt(width_offset, acc.getIntAt(width_offset) + 1);
+            sum += acc.getIntAt(x_offset) + acc.getIntAt(y_offset) + acc.getIntAt(width_offset) + acc.getIntAt(height_offset);
+        }
+        return sum;
+    }
+
+    private float bulk(final StructAccessor acc) {
+        float sum = 0;
+        for(int i=0; i<count; i++) {
+            acc.setBaseOffset(size * i);
+            acc.getFloatsAt(mat4x4_offset, mat4x4);
+            sum += mat4x4[0] + mat4x4[15];
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long fieldsByteBuffer() {
+        return fields(bbAccessor);
+    }
+
+    @Benchmark
+    public long fieldsUnsafe() {
+        return fields(unsafeAccessor);
+    }
+
+    @Benchmark
+    public long structsByteBuffer() {
+        return structs(bbAccessors);
+    }
+
+    @Benchmark
+    public long structsUnsafe() {
+        return structs(unsafeAccessors);
+    }
+
+    @Benchmark
+    public float bulkByteBuffer() {
+        return bulk(bbAccessor);
+    }
+
+    @Benchmark
+    public float bulkUnsafe() {
+        return bulk(unsafeAccessor);
+    }
+}
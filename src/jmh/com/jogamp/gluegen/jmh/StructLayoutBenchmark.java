@@ -0,0 +1,113 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.gluegen.jmh;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.jogamp.common.os.MachineDataInfo;
+import com.jogamp.gluegen.JavaConfiguration;
+import com.jogamp.gluegen.cgram.HeaderParser;
+import com.jogamp.gluegen.cgram.types.CompoundType;
+import com.jogamp.gluegen.cgram.types.StructLayout;
+import com.jogamp.gluegen.cgram.types.Type;
+import com.jogamp.gluegen.cgram.types.TypeDictionary;
+
+/**
+ * Benchmarks the {@link StructLayout} of all structs of the fixtures
+ * and computing their sizes for all {@link MachineDataInfo.StaticConfig static machine configurations},
+ * see {@link Fixtures}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StructLayoutBenchmark {
+    @Param({ Fixtures.TEST1, Fixtures.SYNTHETIC })
+    public String fixture;
+
+    /** The number of symbols of the {@link Fixtures#SYNTHETIC} header. */
+    @Param({ "10000" })
+    public int symbols;
+
+    private File workDir;
+    private final List<CompoundType> structs = new ArrayList<CompoundType>();
+
+    @Setup
+    public void setup() throws Exception {
+        workDir = Fixtures.createWorkDir("gluegen-jmh-layout");
+        final byte[] cppOutput = Fixtures.preprocess(Fixtures.createCPP("JCPP", Fixtures.getIncludePaths()),
+                                                     Fixtures.getSource(fixture, symbols, workDir));
+        final HeaderParser headerParser = Fixtures.walk(Fixtures.parse(cppOutput).getAST(), new JavaConfiguration());
+        addStructs(headerParser.getTypedefDictionary());
+        addStructs(headerParser.getStructDictionary());
+    }
+
+    private void addStructs(final TypeDictionary dict) {
+        for (final String name : dict.keySet()) {
+            final Type type = dict.get(name);
+            if( type.isCompound() ) {
+                structs.add(type.asCompound());
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        Fixtures.delete(workDir);
+    }
+
+    @Benchmark
+    public long layout() {
+        long size = 0;
+        for (final CompoundType struct : structs) {
+            StructLayout.layout(0, struct);
+            for (final MachineDataInfo.StaticConfig config : MachineDataInfo.StaticConfig.values()) {
+                size += struct.getSize().computeSize(config.md);
+            }
+        }
+        return size;
+    }
+}
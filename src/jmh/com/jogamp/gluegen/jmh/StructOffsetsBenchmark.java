@@ -0,0 +1,211 @@
+/**
+ * Copyright 2015 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.gluegen.jmh;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jogamp.common.os.MachineDataInfoRuntime;
+
+import com.jogamp.common.nio.Buffers;
+import com.jogamp.common.nio.StructAccessor;
+import com.jogamp.common.os.MachineDataInfo;
+import com.jogamp.common.os.Platform;
+
+/**
+ * Benchmarks reading and writing the fields of an array of structs
+ * using the struct field offset layouts emitted by the JavaEmitter, see the {@code StructOffsets} configuration:
+ * <ul>
+ *   <li>{@code Array}: per-ABI {@code int[]} offsets indexed by {@code mdIdx} on each access (default)</li>
+ *   <li>{@code Static}: {@code static final int} offsets selected once at class initialization</li>
+ *   <li>{@code LP64_UNIX}: compile-time constant offsets of a single ABI</li>
+ * </ul>
+ * The struct classes below mirror the emitted code of the following C struct:
+ * <pre>
+ *   typedef struct { int32_t x; int32_t y; int32_t width; int32_t height; } TK_Dimension;
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StructOffsetsBenchmark {
+    @Param({ "1024" })
+    public int count;
+
+    private ArrayOffsets[] arrayStructs;
+    private StaticOffsets[] staticStructs;
+    private FixedOffsets[] fixedStructs;
+
+    @Setup
+    public void setup() {
+        Platform.initSingleton();
+        if( !FixedOffsets.isTarget() ) {
+            System.err.println("StructOffsetsBenchmark: Running on "+MachineDataInfoRuntime.getStatic()+", using "+
+                               FixedOffsets.TARGET+" layout for FixedOffsets");
+        }
+        final int size = ArrayOffsets.size();
+        final ByteBuffer buf = Buffers.newDirectByteBuffer(size * count);
+        arrayStructs = new ArrayOffsets[count];
+        staticStructs = new StaticOffsets[count];
+        fixedStructs = new FixedOffsets[count];
+        for(int i=0; i<count; i++) {
+            buf.limit(size * ( i + 1 )).position(size * i);
+            final ByteBuffer slice = buf.slice().order(buf.order());
+            arrayStructs[i] = new ArrayOffsets(slice);
+            staticStructs[i] = new StaticOffsets(slice);
+            fixedStructs[i] = new FixedOffsets(slice);
+            arrayStructs[i].setX(i).setY(i+1).setWidth(i+2).setHeight(i+3);
+        }
+    }
+
+    @Benchmark
+    public long arrayOffsets() {
+        long sum = 0;
+        for(final ArrayOffsets s : arrayStructs) {
+            s.setWidth(s.getWidth() + 1);
+            sum += s.getX() + s.getY() + s.getWidth() + s.getHeight();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long staticOffsets() {
+        long sum = 0;
+        for(final StaticOffsets s : staticStructs) {
+            s.setWidth(s.getWidth() + 1);
+            sum += s.getX() + s.getY() + s.getWidth() + s.getHeight();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long fixedOffsets() {
+        long sum = 0;
+        for(final FixedOffsets s : fixedStructs) {
+            s.setWidth(s.getWidth() + 1);
+            sum += s.getX() + s.getY() + s.getWidth() + s.getHeight();
+        }
+        return sum;
+    }
+
+    /** {@code StructOffsets Array} */
+    static class ArrayOffsets {
+        StructAccessor accessor;
+
+        private static final int mdIdx = MachineDataInfoRuntime.getStatic().ordinal();
+        private final MachineDataInfo md;
+
+        private static final int[] TK_Dimension_size = new int[] { 16 /* ARM_MIPS_32 */, 16 /* X86_32_UNIX */, 16 /* X86_32_MACOS */, 16 /* PPC_32_UNIX */, 16 /* SPARC_32_SUNOS */, 16 /* X86_32_WINDOWS */, 16 /* LP64_UNIX */, 16 /* X86_64_WINDOWS */  };
+        private static final int[] x_offset = new int[] { 0 /* ARM_MIPS_32 */, 0 /* X86_32_UNIX */, 0 /* X86_32_MACOS */, 0 /* PPC_32_UNIX */, 0 /* SPARC_32_SUNOS */, 0 /* X86_32_WINDOWS */, 0 /* LP64_UNIX */, 0 /* X86_64_WINDOWS */ };
+        private static final int[] y_offset = new int[] { 4 /* ARM_MIPS_32 */, 4 /* X86_32_UNIX */, 4 /* X86_32_MACOS */, 4 /* PPC_32_UNIX */, 4 /* SPARC_32_SUNOS */, 4 /* X86_32_WINDOWS */, 4 /* LP64_UNIX */, 4 /* X86_64_WINDOWS */ };
+        private static final int[] width_offset = new int[] { 8 /* ARM_MIPS_32 */, 8 /* X86_32_UNIX */, 8 /* X86_32_MACOS */, 8 /* PPC_32_UNIX */, 8 /* SPARC_32_SUNOS */, 8 /* X86_32_WINDOWS */, 8 /* LP64_UNIX */, 8 /* X86_64_WINDOWS */ };
+        private static final int[] height_offset = new int[] { 12 /* ARM_MIPS_32 */, 12 /* X86_32_UNIX */, 12 /* X86_32_MACOS */, 12 /* PPC_32_UNIX */, 12 /* SPARC_32_SUNOS */, 12 /* X86_32_WINDOWS */, 12 /* LP64_UNIX */, 12 /* X86_64_WINDOWS */ };
+
+        static int size() { return TK_Dimension_size[mdIdx]; }
+
+        ArrayOffsets(final ByteBuffer buf) {
+            md = MachineDataInfo.StaticConfig.values()[mdIdx].md;
+            accessor = new StructAccessor(buf);
+        }
+        ArrayOffsets setX(final int val) { accessor.setIntAt(x_offset[mdIdx], val); return this; }
+        int getX() { return accessor.getIntAt(x_offset[mdIdx]); }
+        ArrayOffsets setY(final int val) { accessor.setIntAt(y_offset[mdIdx], val); return this; }
+        int getY() { return accessor.getIntAt(y_offset[mdIdx]); }
+        ArrayOffsets setWidth(final int val) { accessor.setIntAt(width_offset[mdIdx], val); return this; }
+        int getWidth() { return accessor.getIntAt(width_offset[mdIdx]); }
+        ArrayOffsets setHeight(final int val) { accessor.setIntAt(height_offset[mdIdx], val); return this; }
+        int getHeight() { return accessor.getIntAt(height_offset[mdIdx]); }
+    }
+
+    /** {@code StructOffsets Static} */
+    static class StaticOffsets {
+        StructAccessor accessor;
+
+        private static final int mdIdx = MachineDataInfoRuntime.getStatic().ordinal();
+        private final MachineDataInfo md;
+
+        private static final int x_offset = ( new int[] { 0 /* ARM_MIPS_32 */, 0 /* X86_32_UNIX */, 0 /* X86_32_MACOS */, 0 /* PPC_32_UNIX */, 0 /* SPARC_32_SUNOS */, 0 /* X86_32_WINDOWS */, 0 /* LP64_UNIX */, 0 /* X86_64_WINDOWS */ } )[mdIdx];
+        private static final int y_offset = ( new int[] { 4 /* ARM_MIPS_32 */, 4 /* X86_32_UNIX */, 4 /* X86_32_MACOS */, 4 /* PPC_32_UNIX */, 4 /* SPARC_32_SUNOS */, 4 /* X86_32_WINDOWS */, 4 /* LP64_UNIX */, 4 /* X86_64_WINDOWS */ } )[mdIdx];
+        private static final int width_offset = ( new int[] { 8 /* ARM_MIPS_32 */, 8 /* X86_32_UNIX */, 8 /* X86_32_MACOS */, 8 /* PPC_32_UNIX */, 8 /* SPARC_32_SUNOS */, 8 /* X86_32_WINDOWS */, 8 /* LP64_UNIX */, 8 /* X86_64_WINDOWS */ } )[mdIdx];
+        private static final int height_offset = ( new int[] { 12 /* ARM_MIPS_32 */, 12 /* X86_32_UNIX */, 12 /* X86_32_MACOS */, 12 /* PPC_32_UNIX */, 12 /* SPARC_32_SUNOS */, 12 /* X86_32_WINDOWS */, 12 /* LP64_UNIX */, 12 /* X86_64_WINDOWS */ } )[mdIdx];
+
+        StaticOffsets(final ByteBuffer buf) {
+            md = MachineDataInfo.StaticConfig.values()[mdIdx].md;
+            accessor = new StructAccessor(buf);
+        }
+        StaticOffsets setWidth(final int val) { accessor.setIntAt(width_offset, val); return this; }
+        int getX() { return accessor.getIntAt(x_offset); }
+        int getY() { return accessor.getIntAt(y_offset); }
+        int getWidth() { return accessor.getIntAt(width_offset); }
+        int getHeight() { return accessor.getIntAt(height_offset); }
+    }
+
+    /**
+     * {@code StructOffsets LP64_UNIX}, w/o the emitted check of the running ABI,
+     * since all ABIs share the same layout of this struct.
+     */
+    static class FixedOffsets {
+        static final MachineDataInfo.StaticConfig TARGET = MachineDataInfo.StaticConfig.LP64_UNIX;
+        static boolean isTarget() { return TARGET.ordinal() == mdIdx; }
+
+        StructAccessor accessor;
+
+        private static final int mdIdx = MachineDataInfoRuntime.getStatic().ordinal();
+        private final MachineDataInfo md;
+
+        private static final int x_offset = 0 /* LP64_UNIX */;
+        private static final int y_offset = 4 /* LP64_UNIX */;
+        private static final int width_offset = 8 /* LP64_UNIX */;
+        private static final int height_offset = 12 /* LP64_UNIX */;
+
+        FixedOffsets(final ByteBuffer buf) {
+            md = MachineDataInfo.StaticConfig.values()[mdIdx].md;
+            accessor = new StructAccessor(buf);
+        }
+        FixedOffsets setWidth(final int val) { accessor.setIntAt(width_offset, val); return this; }
+        int getX() { return accessor.getIntAt(x_offset); }
+        int getY() { return accessor.getIntAt(y_offset); }
+        int getWidth() { return accessor.getIntAt(width_offset); }
+        int getHeight() { return accessor.getIntAt(height_offset); }
+    }
+}
@@ -0,0 +1,132 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.gluegen.jmh;
+
+import java.io.File;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.jogamp.gluegen.ConstantDefinition;
+import com.jogamp.gluegen.GenericCPP;
+import com.jogamp.gluegen.JavaConfiguration;
+import com.jogamp.gluegen.cgram.types.FunctionSymbol;
+
+/**
+ * Benchmarks the {@link JavaConfiguration} symbol filtering, i.e. its {@code Ignore}, {@code IgnoreNot}
+ * and {@code Unignore} patterns, of all constants and functions of the fixtures, see {@link Fixtures}.
+ * <p>
+ * The {@code test1} fixture uses the {@code test1p2} configuration,
+ * which also ignores the symbols of the extended {@code Bindingtest1} interface.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SymbolFilterBenchmark {
+    @Param({ Fixtures.TEST1, Fixtures.SYNTHETIC })
+    public String fixture;
+
+    /** The number of symbols of the {@link Fixtures#SYNTHETIC} header. */
+    @Param({ "10000" })
+    public int symbols;
+
+    private File workDir;
+    private File cfgFile;
+    private JavaConfiguration cfg;
+    private List<ConstantDefinition> constants;
+    private List<FunctionSymbol> functions;
+
+    @Setup
+    public void setup() throws Exception {
+        workDir = Fixtures.createWorkDir("gluegen-jmh-filter");
+        Fixtures.createConfigs(workDir, workDir);
+        final File source = Fixtures.getSource(fixture, symbols, workDir);
+        if( Fixtures.TEST1.equals(fixture) ) {
+            // generate Bindingtest1.java, read by the test1p2 configuration
+            Fixtures.generate(source, Fixtures.JAVA_EMITTER, Fixtures.getConfig(workDir, fixture, Fixtures.JAVA_EMITTER), workDir);
+        }
+        cfgFile = Fixtures.getConfig(workDir, fixture, Fixtures.PROC_ADDRESS_EMITTER);
+        cfg = Fixtures.readConfiguration(cfgFile, Fixtures.PROC_ADDRESS_EMITTER);
+
+        final GenericCPP cpp = Fixtures.createCPP("JCPP", Fixtures.getIncludePaths());
+        final byte[] cppOutput = Fixtures.preprocess(cpp, source);
+        constants = cpp.getConstantDefinitions();
+        functions = Fixtures.walk(Fixtures.parse(cppOutput).getAST(), cfg).getParsedFunctions();
+    }
+
+    @TearDown
+    public void tearDown() {
+        Fixtures.delete(workDir);
+    }
+
+    private static int filter(final JavaConfiguration cfg, final List<ConstantDefinition> constants, final List<FunctionSymbol> functions) {
+        int ignored = 0;
+        for (final ConstantDefinition def : constants) {
+            if( cfg.shouldIgnoreInInterface(def) ) {
+                ignored++;
+            }
+        }
+        for (final FunctionSymbol func : functions) {
+            if( cfg.shouldIgnoreInImpl(func) ) {
+                ignored++;
+            }
+            if( cfg.shouldIgnoreInInterface(func) ) {
+                ignored++;
+            }
+        }
+        return ignored;
+    }
+
+    /** Filters all symbols w/ a configuration, which has already filtered them before. */
+    @Benchmark
+    public int filter() {
+        return filter(cfg, constants, functions);
+    }
+
+    /** Reads the configuration and filters all symbols once. */
+    @Benchmark
+    public int readAndFilter() throws Exception {
+        return filter(Fixtures.readConfiguration(cfgFile, Fixtures.PROC_ADDRESS_EMITTER), constants, functions);
+    }
+}
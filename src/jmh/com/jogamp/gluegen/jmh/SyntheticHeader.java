@@ -0,0 +1,180 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.gluegen.jmh;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * Generates a synthetic C header of a given size for the GlueGen benchmarks.
+ * <p>
+ * The symbols are distributed over {@code #define}s, enums, structs, typedef chains and functions,
+ * resembling a large API header like {@code gl.h}:
+ * <ul>
+ *   <li>Every 4th {@code #define} references the previous one.</li>
+ *   <li>Structs hold primitive, array, function pointer and typedef chain fields,
+ *       where up to 3 consecutive structs nest their predecessor by value.</li>
+ *   <li>Typedef chains alias {@code int32_t} over a configurable number of typedefs.</li>
+ *   <li>Functions use primitives, pointers, arrays, enums, structs and typedef chains.</li>
+ * </ul>
+ * The counts default to a distribution of the given number of symbols, see {@link #SyntheticHeader(String, int)},
+ * and may be set individually.
+ * </p>
+ */
+public class SyntheticHeader {
+    private final String prefix;
+    private int defines;
+    private int enums;
+    private int enumValues = 4;
+    private int structs;
+    private int typedefChains;
+    private int typedefChainLength = 4;
+    private int functions;
+
+    /**
+     * @param prefix the prefix of all symbols, e.g. {@code syn}
+     * @param symbols the total number of symbols, see {@link #getSymbolCount()},
+     *                half of them being functions, a quarter {@code #define}s,
+     *                an eighth structs and a sixteenth each enums and typedef chains
+     */
+    public SyntheticHeader(final String prefix, final int symbols) {
+        this.prefix = prefix;
+        this.functions = Math.max(1, symbols / 2);
+        this.defines = Math.max(1, symbols / 4);
+        this.structs = Math.max(1, symbols / 8);
+        this.enums = Math.max(1, symbols / 16);
+        this.typedefChains = Math.max(1, symbols / 16);
+    }
+
+    public SyntheticHeader setDefineCount(final int v) { defines = v; return this; }
+    public SyntheticHeader setEnumCount(final int v, final int valuesPerEnum) { enums = Math.max(1, v); enumValues = Math.max(1, valuesPerEnum); return this; }
+    public SyntheticHeader setStructCount(final int v) { structs = Math.max(1, v); return this; }
+    public SyntheticHeader setTypedefChainCount(final int v, final int chainLength) { typedefChains = Math.max(1, v); typedefChainLength = Math.max(1, chainLength); return this; }
+    public SyntheticHeader setFunctionCount(final int v) { functions = v; return this; }
+
+    public int getDefineCount() { return defines; }
+    public int getEnumCount() { return enums; }
+    public int getStructCount() { return structs; }
+    public int getTypedefChainCount() { return typedefChains; }
+    public int getFunctionCount() { return functions; }
+
+    /** Returns the number of top-level symbols, i.e. {@code #define}s, enums, structs, typedef chains and functions. */
+    public int getSymbolCount() { return defines + enums + structs + typedefChains + functions; }
+
+    /** Writes the header to the given file. */
+    public void write(final File file) throws IOException {
+        final PrintWriter out = new PrintWriter(new BufferedWriter(new FileWriter(file)));
+        try {
+            write(out);
+        } finally {
+            out.close();
+        }
+        if( out.checkError() ) {
+            throw new IOException("Error writing "+file);
+        }
+    }
+
+    private String chainType(final int chain, final int link) {
+        return prefix+"_chain_"+chain+"_"+link;
+    }
+    private String lastChainType(final int chain) {
+        return chainType(chain, typedefChainLength-1);
+    }
+
+    /** Writes the header to the given writer. */
+    public void write(final PrintWriter out) {
+        final String P = prefix.toUpperCase();
+        out.println("/* Synthetic header, generated for benchmarking */");
+        out.println();
+        out.println("#include <gluegen_stdint.h>");
+        out.println("#include <gluegen_stddef.h>");
+        out.println();
+        for (int i = 0; i < defines; i++) {
+            if( i > 0 && i % 4 == 0 ) {
+                out.printf("#define %s_CONST_%d (%s_CONST_%d + 0x%X)%n", P, i, P, i-1, i);
+            } else if( i % 4 == 1 ) {
+                out.printf("#define %s_CONST_%d 0x%XU%n", P, i, i);
+            } else {
+                out.printf("#define %s_CONST_%d %d%n", P, i, i);
+            }
+        }
+        out.println();
+        for (int i = 0; i < enums; i++) {
+            out.printf("typedef enum {%n");
+            for (int j = 0; j < enumValues; j++) {
+                out.printf("    %s_ENUM_%d_%d = %d%s%n", P, i, j, i*enumValues+j, j < enumValues-1 ? "," : "");
+            }
+            out.printf("} %s_enum_%d;%n%n", prefix, i);
+        }
+        for (int i = 0; i < typedefChains; i++) {
+            out.printf("typedef int32_t %s;%n", chainType(i, 0));
+            for (int j = 1; j < typedefChainLength; j++) {
+                out.printf("typedef %s %s;%n", chainType(i, j-1), chainType(i, j));
+            }
+        }
+        out.println();
+        for (int i = 0; i < structs; i++) {
+            out.printf("typedef int32_t (* %s_callback_%d)(int32_t a, void * userData);%n", prefix, i);
+            out.printf("typedef struct {%n");
+            out.printf("    int32_t i;%n");
+            out.printf("    int64_t l;%n");
+            out.printf("    float f[4];%n");
+            out.printf("    double d;%n");
+            out.printf("    %s c;%n", lastChainType(i % typedefChains));
+            out.printf("    %s_callback_%d callback;%n", prefix, i);
+            if( i % 4 != 0 ) {
+                out.printf("    %s_struct_%d nested;%n", prefix, i-1);
+            }
+            out.printf("} %s_struct_%d;%n%n", prefix, i);
+        }
+        for (int i = 0; i < functions; i++) {
+            final int s = i % structs;
+            final int c = i % typedefChains;
+            switch( i % 5 ) {
+                case 0:
+                    out.printf("int32_t %s_func_%d(int32_t a, int64_t b, float c);%n", prefix, i);
+                    break;
+                case 1:
+                    out.printf("void %s_func_%d(%s_struct_%d * s, const int32_t * data, size_t count);%n", prefix, i, prefix, s);
+                    break;
+                case 2:
+                    out.printf("%s_struct_%d * %s_func_%d(%s_enum_%d e);%n", prefix, s, prefix, i, prefix, i % enums);
+                    break;
+                case 3:
+                    out.printf("%s %s_func_%d(%s a, const float * v, %s b);%n", lastChainType(c), prefix, i, chainType(c, 0), lastChainType(c));
+                    break;
+                default:
+                    out.printf("double %s_func_%d(const char * name, void * ptr, double d);%n", prefix, i);
+                    break;
+            }
+        }
+    }
+}
@@ -0,0 +1,141 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.common.nio;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+
+import com.jogamp.junit.util.SingletonJunitCase;
+
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestNativeMemory extends SingletonJunitCase {
+    static final int SIZE = 64;
+
+    @Test
+    public void test01Fields() {
+        Assume.assumeTrue(NativeMemory.isAvailable());
+        final NativeMemory m = NativeMemory.allocate(SIZE);
+        try {
+            m.fill(0, SIZE, (byte)0);
+            m.putByte(0, (byte)0x7f);
+            m.putShort(2, (short)0x1234);
+            m.putInt(4, 0x12345678);
+            m.putLong(8, 0x0123456789ABCDEFL);
+            m.putFloat(16, 3.14f);
+            m.putDouble(24, Math.E);
+            m.putPointer(32, 0xCAFEL);
+            Assert.assertEquals((byte)0x7f, m.getByte(0));
+            Assert.assertEquals((short)0x1234, m.getShort(2));
+            Assert.assertEquals(0x12345678, m.getInt(4));
+            Assert.assertEquals(0x0123456789ABCDEFL, m.getLong(8));
+            Assert.assertEquals(3.14f, m.getFloat(16), 0f);
+            Assert.assertEquals(Math.E, m.getDouble(24), 0d);
+            Assert.assertEquals(0xCAFEL, m.getPointer(32));
+
+            final NativeMemory s = m.slice(8, 16);
+            Assert.assertEquals(m.getAddress()+8, s.getAddress());
+            Assert.assertEquals(16, s.getSize());
+            Assert.assertFalse(s.isOwner());
+            Assert.assertEquals(0x0123456789ABCDEFL, s.getLong(0));
+        } finally {
+            m.free();
+        }
+    }
+
+    @Test
+    public void test02BulkAndCopy() {
+        Assume.assumeTrue(NativeMemory.isAvailable());
+        final NativeMemory m = NativeMemory.allocate(SIZE);
+        final NativeMemory n = NativeMemory.allocate(SIZE);
+        try {
+            final long[] longs = { Long.MIN_VALUE, 0, Long.MAX_VALUE };
+            m.put(8, longs, 0, longs.length);
+            Assert.assertArrayEquals(longs, m.get(8, new long[longs.length], 0, longs.length));
+            final float[] floats = { 1.5f, -2.5f };
+            m.put(40, floats, 0, floats.length);
+            Assert.assertArrayEquals(floats, m.get(40, new float[floats.length], 0, floats.length), 0f);
+
+            m.copyTo(8, n, 0, 3*Buffers.SIZEOF_LONG);
+            Assert.assertArrayEquals(longs, n.get(0, new long[longs.length], 0, longs.length));
+        } finally {
+            m.free();
+            n.free();
+        }
+    }
+
+    @Test
+    public void test03Bounds() {
+        Assume.assumeTrue(NativeMemory.isAvailable());
+        final NativeMemory m = NativeMemory.allocate(SIZE);
+        try {
+            try {
+                m.getLong(SIZE-4);
+                Assert.fail("Expected IndexOutOfBoundsException");
+            } catch(final IndexOutOfBoundsException e) { }
+            try {
+                m.put(SIZE-8, new int[3], 0, 3);
+                Assert.fail("Expected IndexOutOfBoundsException");
+            } catch(final IndexOutOfBoundsException e) { }
+            try {
+                m.slice(8, SIZE);
+                Assert.fail("Expected IndexOutOfBoundsException");
+            } catch(final IndexOutOfBoundsException e) { }
+        } finally {
+            m.free();
+        }
+        try {
+            m.free();
+            Assert.fail("Expected IllegalStateException");
+        } catch(final IllegalStateException e) { }
+    }
+
+    @Test
+    public void test04WrapDirectBuffer() {
+        Assume.assumeTrue(NativeMemory.isAvailable());
+        final ByteBuffer bb = Buffers.newDirectByteBuffer(SIZE);
+        final NativeMemory m = NativeMemory.wrap(bb);
+        Assert.assertEquals(SIZE, m.getSize());
+        Assert.assertFalse(m.isOwner());
+        m.putInt(12, 42);
+        Assert.assertEquals(ByteOrder.nativeOrder(), bb.order());
+        Assert.assertEquals(42, bb.getInt(12));
+    }
+
+    public static void main(final String args[]) throws IOException {
+        final String tstname = TestNativeMemory.class.getName();
+        org.junit.runner.JUnitCore.main(tstname);
+    }
+}
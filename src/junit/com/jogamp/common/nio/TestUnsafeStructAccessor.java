@@ -0,0 +1,189 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.common.nio;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+
+import com.jogamp.junit.util.SingletonJunitCase;
+
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestUnsafeStructAccessor extends SingletonJunitCase {
+    static final int STRUCT_SIZE = 32;
+
+    /** Writes via one accessor and reads back via the other one. */
+    private static void testFields(final StructAccessor w, final StructAccessor r) {
+        w.setByteAt(0, (byte)0x7f);
+        w.setBooleanAt(1, true);
+        w.setShortAt(2, (short)0x1234);
+        w.setIntAt(4, 0x12345678);
+        w.setLongAt(8, 0x0123456789ABCDEFL);
+        w.setFloatAt(16, 3.14f);
+        w.setDoubleAt(24, Math.E);
+        Assert.assertEquals((byte)0x7f, r.getByteAt(0));
+        Assert.assertEquals(true, r.getBooleanAt(1));
+        Assert.assertEquals((short)0x1234, r.getShortAt(2));
+        Assert.assertEquals(0x12345678, r.getIntAt(4));
+        Assert.assertEquals(0x0123456789ABCDEFL, r.getLongAt(8));
+        Assert.assertEquals(3.14f, r.getFloatAt(16), 0f);
+        Assert.assertEquals(Math.E, r.getDoubleAt(24), 0d);
+
+        w.setIntAt(4, 0xCAFE, 2);
+        Assert.assertEquals(0xCAFE, r.getIntAt(4, 2));
+        w.setLongAt(8, 0xDEADBEEFL, 4);
+        Assert.assertEquals(0xDEADBEEFL, r.getLongAt(8, 4));
+    }
+
+    private static void testBulk(final StructAccessor w, final StructAccessor r) {
+        final int[] ints = { 1, 2, 3, -4 };
+        w.setIntsAt(4, ints);
+        Assert.assertArrayEquals(ints, r.getIntsAt(4, new int[ints.length]));
+        final long[] longs = { Long.MIN_VALUE, 0, Long.MAX_VALUE };
+        w.setLongsAt(8, longs);
+        Assert.assertArrayEquals(longs, r.getLongsAt(8, new long[longs.length]));
+        final double[] doubles = { 1.5, -2.5 };
+        w.setDoublesAt(16, doubles);
+        Assert.assertArrayEquals(doubles, r.getDoublesAt(16, new double[doubles.length]), 0d);
+        final float[] floats = { 1.5f, -2.5f, 3.5f };
+        w.setFloatsAt(2, floats);
+        Assert.assertArrayEquals(floats, r.getFloatsAt(2, new float[floats.length]), 0f);
+        final short[] shorts = { 1, -2, 3 };
+        w.setShortsAt(0, shorts);
+        Assert.assertArrayEquals(shorts, r.getShortsAt(0, new short[shorts.length]));
+        final char[] chars = { 'a', 'b' };
+        w.setCharsAt(6, chars);
+        Assert.assertArrayEquals(chars, r.getCharsAt(6, new char[chars.length]));
+        final byte[] bytes = { 1, 2, 3, 4, 5 };
+        w.setBytesAt(27, bytes);
+        Assert.assertArrayEquals(bytes, r.getBytesAt(27, new byte[bytes.length]));
+        final boolean[] booleans = { true, false, true };
+        w.setBooleansAt(10, booleans);
+        Assert.assertTrue(java.util.Arrays.equals(booleans, r.getBooleansAt(10, new boolean[booleans.length])));
+    }
+
+    private static void testBuffer(final ByteBuffer bb) {
+        Assume.assumeTrue(UnsafeStructAccessor.isAvailable());
+        Assert.assertTrue(UnsafeStructAccessor.isApplicable(bb));
+        final StructAccessor bba = new StructAccessor(bb, STRUCT_SIZE);
+        final UnsafeStructAccessor ua = new UnsafeStructAccessor(bb, STRUCT_SIZE);
+        testFields(ua, bba);
+        testFields(bba, ua);
+        testBulk(ua, bba);
+        testBulk(bba, ua);
+
+        // second struct
+        bba.setBaseOffset(STRUCT_SIZE);
+        ua.setBaseOffset(STRUCT_SIZE);
+        testFields(ua, bba);
+        testBulk(bba, ua);
+        Assert.assertEquals(bba.getBuffer(), ua.getBuffer());
+        Assert.assertEquals(STRUCT_SIZE, bba.getBuffer().capacity());
+        Assert.assertSame(bba.getBuffer(), bba.getBuffer());
+        Assert.assertSame(ua.getBuffer(), ua.getBuffer());
+    }
+
+    @Test
+    public void test01DirectBuffer() {
+        testBuffer(Buffers.newDirectByteBuffer(2*STRUCT_SIZE));
+    }
+
+    @Test
+    public void test02ArrayBuffer() {
+        final ByteBuffer bb = ByteBuffer.wrap(new byte[3*STRUCT_SIZE], STRUCT_SIZE, 2*STRUCT_SIZE).slice();
+        testBuffer(bb);
+    }
+
+    @Test
+    public void test03Bounds() {
+        Assume.assumeTrue(UnsafeStructAccessor.isAvailable());
+        Assert.assertFalse(UnsafeStructAccessor.isApplicable(Buffers.newDirectByteBuffer(STRUCT_SIZE).asReadOnlyBuffer()));
+        try {
+            new UnsafeStructAccessor(Buffers.newDirectByteBuffer(STRUCT_SIZE-1), STRUCT_SIZE);
+            Assert.fail("Expected IndexOutOfBoundsException");
+        } catch(final IndexOutOfBoundsException e) { }
+
+        final UnsafeStructAccessor ua = new UnsafeStructAccessor(Buffers.newDirectByteBuffer(2*STRUCT_SIZE), STRUCT_SIZE);
+        try {
+            ua.setBaseOffset(STRUCT_SIZE+1);
+            Assert.fail("Expected IndexOutOfBoundsException");
+        } catch(final IndexOutOfBoundsException e) { }
+        ua.setBaseOffset(STRUCT_SIZE);
+        try {
+            ua.getIntsAt(STRUCT_SIZE-4, new int[2]);
+            Assert.fail("Expected IndexOutOfBoundsException");
+        } catch(final IndexOutOfBoundsException e) { }
+        try {
+            ua.slice(4, STRUCT_SIZE);
+            Assert.fail("Expected IndexOutOfBoundsException");
+        } catch(final IndexOutOfBoundsException e) { }
+        ua.getIntAt(STRUCT_SIZE-4);
+        try {
+            ua.getIntAt(STRUCT_SIZE-3);
+            Assert.fail("Expected IndexOutOfBoundsException");
+        } catch(final IndexOutOfBoundsException e) { }
+        try {
+            ua.setByteAt(-1, (byte)0);
+            Assert.fail("Expected IndexOutOfBoundsException");
+        } catch(final IndexOutOfBoundsException e) { }
+        try {
+            ua.setLongAt(STRUCT_SIZE-4, 0L, 8);
+            Assert.fail("Expected IndexOutOfBoundsException");
+        } catch(final IndexOutOfBoundsException e) { }
+        try {
+            ua.getDoubleAt(Integer.MAX_VALUE);
+            Assert.fail("Expected IndexOutOfBoundsException");
+        } catch(final IndexOutOfBoundsException e) { }
+    }
+
+    @Test
+    public void test04SliceIsNonMutating() {
+        Assume.assumeTrue(UnsafeStructAccessor.isAvailable());
+        final ByteBuffer bb = Buffers.newDirectByteBuffer(2*STRUCT_SIZE);
+        bb.position(3).limit(5);
+        final UnsafeStructAccessor ua = new UnsafeStructAccessor(bb, STRUCT_SIZE);
+        ua.setBaseOffset(STRUCT_SIZE);
+        ua.setIntAt(8, 42);
+        final ByteBuffer s = ua.slice(8, 8);
+        Assert.assertEquals(3, bb.position());
+        Assert.assertEquals(5, bb.limit());
+        Assert.assertEquals(8, s.capacity());
+        Assert.assertEquals(42, s.getInt(0));
+    }
+
+    public static void main(final String args[]) throws IOException {
+        final String tstname = TestUnsafeStructAccessor.class.getName();
+        org.junit.runner.JUnitCore.main(tstname);
+    }
+}
@@ -0,0 +1,192 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.common.os;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.jogamp.common.util.RunnableExecutor;
+import com.jogamp.junit.util.SingletonJunitCase;
+
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestDynamicLibraryBundleLookupCache extends SingletonJunitCase {
+    /** Exported by the gluegen-rt library, used as the Tool library. */
+    static final String LIB_FUNC = "Java_com_jogamp_common_os_Platform_currentTimeMillis";
+
+    /**
+     * Uses the gluegen-rt library as the Tool library,
+     * w/ an optional GetProcAddress resolving the names of {@link #toolAddresses}, i.e. the current context.
+     */
+    static class BundleInfo implements DynamicLibraryBundleInfo {
+        final boolean toolGetProcAddress;
+        final Map<String, Long> toolAddresses = new HashMap<String, Long>();
+        int toolLookups = 0;
+
+        BundleInfo(final boolean toolGetProcAddress) {
+            this.toolGetProcAddress = toolGetProcAddress;
+        }
+        @Override
+        public List<List<String>> getToolLibNames() {
+            final List<List<String>> libNames = new ArrayList<List<String>>();
+            final List<String> gluegen = new ArrayList<String>();
+            gluegen.add("gluegen-rt");
+            libNames.add(gluegen);
+            return libNames;
+        }
+        @Override
+        public List<String> getGlueLibNames() { return new ArrayList<String>(); }
+        @Override
+        public List<String> getToolGetProcAddressFuncNameList() {
+            if( !toolGetProcAddress ) {
+                return null;
+            }
+            final List<String> res = new ArrayList<String>();
+            res.add(LIB_FUNC);
+            return res;
+        }
+        @Override
+        public long toolGetProcAddress(final long toolGetProcAddressHandle, final String funcName) {
+            toolLookups++;
+            final Long addr = toolAddresses.get(funcName);
+            return null != addr ? addr.longValue() : 0;
+        }
+        @Override
+        public boolean useToolGetProcAdressFirst(final String funcName) { return funcName.startsWith("tool"); }
+        @Override
+        public boolean shallLinkGlobal() { return false; }
+        @Override
+        public boolean shallLookupGlobal() { return false; }
+        @Override
+        public RunnableExecutor getLibLoaderExecutor() { return DynamicLibraryBundle.getDefaultRunnableExecutor(); }
+    }
+
+    @Test
+    public void test01CacheDisabled() {
+        final DynamicLibraryBundle bundle = new DynamicLibraryBundle(new BundleInfo(false), false);
+        try {
+            Assert.assertTrue(bundle.isToolLibLoaded());
+            Assert.assertFalse(bundle.isLookupCacheEnabled());
+            final long addr = bundle.dynamicLookupFunction(LIB_FUNC);
+            Assert.assertTrue(0 != addr);
+            Assert.assertEquals(addr, bundle.dynamicLookupFunction(LIB_FUNC));
+            Assert.assertEquals(0, bundle.dynamicLookupFunction("notInLib"));
+            Assert.assertEquals(0, bundle.getLookupCacheHits());
+            Assert.assertEquals(0, bundle.getLookupCacheMisses());
+        } finally {
+            bundle.destroy();
+        }
+    }
+
+    @Test
+    public void test02CacheLibs() {
+        final DynamicLibraryBundle bundle = new DynamicLibraryBundle(new BundleInfo(false), true);
+        try {
+            Assert.assertTrue(bundle.isToolLibLoaded());
+            Assert.assertTrue(bundle.isLookupCacheEnabled());
+            final long addr = bundle.dynamicLookupFunction(LIB_FUNC);
+            Assert.assertTrue(0 != addr);
+            Assert.assertEquals(addr, bundle.dynamicLookupFunction(LIB_FUNC));
+            // failed lookups are cached w/o the Tool's GetProcAddress
+            Assert.assertEquals(0, bundle.dynamicLookupFunction("notInLib"));
+            Assert.assertEquals(0, bundle.dynamicLookupFunction("notInLib"));
+            Assert.assertEquals(2, bundle.getLookupCacheMisses());
+            Assert.assertEquals(2, bundle.getLookupCacheHits());
+
+            bundle.clearLookupCache();
+            Assert.assertEquals(addr, bundle.dynamicLookupFunction(LIB_FUNC));
+            Assert.assertEquals(3, bundle.getLookupCacheMisses());
+            Assert.assertEquals(2, bundle.getLookupCacheHits());
+        } finally {
+            bundle.destroy();
+        }
+    }
+
+    @Test
+    public void test03CacheToolGetProcAddress() {
+        final BundleInfo info = new BundleInfo(true);
+        final DynamicLibraryBundle bundle = new DynamicLibraryBundle(info, true);
+        try {
+            Assert.assertTrue(bundle.isToolLibLoaded());
+            // failed GetProcAddress lookups are not cached, e.g. w/o current context
+            Assert.assertEquals(0, bundle.dynamicLookupFunction("toolFunc"));
+            Assert.assertEquals(0, bundle.dynamicLookupFunction("toolFunc"));
+            Assert.assertEquals(2, info.toolLookups);
+            Assert.assertEquals(0, bundle.dynamicLookupFunction("notInLib"));
+            Assert.assertEquals(0, bundle.dynamicLookupFunction("notInLib"));
+            Assert.assertEquals(4, info.toolLookups);
+            Assert.assertEquals(0, bundle.getLookupCacheHits());
+
+            info.toolAddresses.put("toolFunc", Long.valueOf(0x1000));
+            Assert.assertEquals(0x1000, bundle.dynamicLookupFunction("toolFunc"));
+            Assert.assertEquals(0x1000, bundle.dynamicLookupFunction("toolFunc"));
+            Assert.assertEquals(5, info.toolLookups);
+            Assert.assertEquals(1, bundle.getLookupCacheHits());
+        } finally {
+            bundle.destroy();
+        }
+    }
+
+    @Test
+    public void test04CacheBatchedLookup() {
+        final BundleInfo info = new BundleInfo(true);
+        final DynamicLibraryBundle bundle = new DynamicLibraryBundle(info, true);
+        try {
+            final String[] names = { LIB_FUNC, "toolFunc", "notInLib" };
+            long[] addrs = bundle.dynamicLookupFunctions(names);
+            Assert.assertTrue(0 != addrs[0]);
+            Assert.assertEquals(0, addrs[1]);
+            Assert.assertEquals(0, addrs[2]);
+            // the GetProcAddress function itself is not looked up
+            Assert.assertEquals(2, bundle.getLookupCacheMisses());
+
+            info.toolAddresses.put("toolFunc", Long.valueOf(0x1000));
+            addrs = bundle.dynamicLookupFunctions(names);
+            Assert.assertEquals(0x1000, addrs[1]);
+            Assert.assertEquals(0, bundle.getLookupCacheHits());
+            Assert.assertEquals(4, bundle.getLookupCacheMisses());
+            Assert.assertEquals(0x1000, bundle.dynamicLookupFunction("toolFunc"));
+            Assert.assertEquals(1, bundle.getLookupCacheHits());
+        } finally {
+            bundle.destroy();
+        }
+    }
+
+    public static void main(final String args[]) throws IOException {
+        final String tstname = TestDynamicLibraryBundleLookupCache.class.getName();
+        org.junit.runner.JUnitCore.main(tstname);
+    }
+}
@@ -5,19 +5,24 @@ import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
-import java.io.RandomAccessFile;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.List;
 
 import jogamp.common.os.PlatformPropsImpl;
 import jogamp.common.os.elf.ElfHeaderPart1;
 import jogamp.common.os.elf.ElfHeaderPart2;
+import jogamp.common.os.elf.ElfSymbolTable;
 import jogamp.common.os.elf.Section;
 import jogamp.common.os.elf.SectionArmAttributes;
 import jogamp.common.os.elf.SectionHeader;
 
+import org.junit.Assert;
 import org.junit.Test;
 
 import com.jogamp.common.os.Platform.OSType;
+import com.jogamp.common.util.IOUtil;
 import com.jogamp.junit.util.SingletonJunitCase;
 
 import org.junit.FixMethodOrder;
@@ -76,6 +81,17 @@ public class TestElfReader01 extends SingletonJunitCase {
         }
     }
 
+    @Test
+    public void test03JavaLibDynamicSymbols() throws IOException {
+        if( null == userFile && OSType.LINUX == Platform.getOSType() ) {
+            final File javaLib = findJVMLib("java");
+            if( null != javaLib ) {
+                testDynamicSymbolsImpl(javaLib, "JNU_ThrowNullPointerException");
+                testInMemoryImpl(javaLib);
+            }
+        }
+    }
+
     @Test
     public void test99UserFile() throws IOException {
         if( null != userFile ) {
@@ -86,57 +102,107 @@ public class TestElfReader01 extends SingletonJunitCase {
     void testElfHeaderImpl(final File file, final boolean fileOutSections) throws IOException {
         Platform.initSingleton();
         System.err.println("Test file "+file.getAbsolutePath());
-        final RandomAccessFile in = new RandomAccessFile(file, "r");
+        final ElfHeaderPart1 eh1;
+        final ElfHeaderPart2 eh2;
         try {
-            final ElfHeaderPart1 eh1;
-            final ElfHeaderPart2 eh2;
-            try {
-                eh1 = ElfHeaderPart1.read(PlatformPropsImpl.OS_TYPE, in);
-                eh2 = ElfHeaderPart2.read(eh1, in);
-            } catch (final Exception e) {
-                System.err.println("Probably not an ELF file - or not in current format: (caught) "+e.getMessage());
-                e.printStackTrace();
-                return;
-            }
-            int i=0;
-            System.err.println(eh1);
-            System.err.println(eh2);
-            System.err.println("SH entsz     "+eh2.raw.getE_shentsize());
-            System.err.println("SH off       "+toHexString(eh2.raw.getE_shoff()));
-            System.err.println("SH strndx    "+eh2.raw.getE_shstrndx());
-            System.err.println("SH num "+eh2.sht.length);
-            if( 0 < eh2.sht.length ) {
-                System.err.println("SH size "+eh2.sht[0].raw.getBuffer().limit());
-            }
-            {
-                final SectionHeader sh = eh2.getSectionHeader(SectionHeader.SHT_ARM_ATTRIBUTES);
-                boolean abiVFPArgsAcceptsVFPVariant = false;
-                if( null != sh ) {
-                    final SectionArmAttributes sArmAttrs = (SectionArmAttributes) sh.readSection(in);
-                    final SectionArmAttributes.Attribute abiVFPArgsAttr = sArmAttrs.get(SectionArmAttributes.Tag.ABI_VFP_args);
-                    if( null != abiVFPArgsAttr ) {
-                        abiVFPArgsAcceptsVFPVariant = SectionArmAttributes.abiVFPArgsAcceptsVFPVariant(abiVFPArgsAttr.getULEB128());
-                    }
+            eh1 = ElfHeaderPart1.read(PlatformPropsImpl.OS_TYPE, file);
+            eh2 = ElfHeaderPart2.read(eh1);
+        } catch (final Exception e) {
+            System.err.println("Probably not an ELF file - or not in current format: (caught) "+e.getMessage());
+            e.printStackTrace();
+            return;
+        }
+        System.err.println(eh1);
+        System.err.println(eh2);
+        System.err.println("SH entsz     "+eh2.raw.getE_shentsize());
+        System.err.println("SH off       "+toHexString(eh2.raw.getE_shoff()));
+        System.err.println("SH strndx    "+eh2.raw.getE_shstrndx());
+        System.err.println("SH num "+eh2.getSectionHeaderCount());
+        if( 0 < eh2.getSectionHeaderCount() ) {
+            System.err.println("SH size "+eh2.getSectionHeaderAt(0).raw.getBuffer().limit());
+        }
+        {
+            final SectionHeader sh = eh2.getSectionHeader(SectionHeader.SHT_ARM_ATTRIBUTES);
+            boolean abiVFPArgsAcceptsVFPVariant = false;
+            if( null != sh ) {
+                final SectionArmAttributes sArmAttrs = (SectionArmAttributes) sh.readSection();
+                final SectionArmAttributes.Attribute abiVFPArgsAttr = sArmAttrs.get(SectionArmAttributes.Tag.ABI_VFP_args);
+                if( null != abiVFPArgsAttr ) {
+                    abiVFPArgsAcceptsVFPVariant = SectionArmAttributes.abiVFPArgsAcceptsVFPVariant(abiVFPArgsAttr.getULEB128());
                 }
-                System.err.println("abiVFPArgsAcceptsVFPVariant "+abiVFPArgsAcceptsVFPVariant);
             }
-            for(i=0; i<eh2.sht.length; i++) {
-                final SectionHeader sh = eh2.sht[i];
-                System.err.println(sh);
-                final int type = sh.getType();
-                if( SectionHeader.SHT_STRTAB == type ) {
-                    dumpSection(in, sh, "SHT_STRTAB", fileOutSections);
-                } else if( SectionHeader.SHT_ARM_ATTRIBUTES == type ) {
-                    dumpSection(in, sh, "SHT_ARM_ATTRIBUTES", fileOutSections);
-                }
+            System.err.println("abiVFPArgsAcceptsVFPVariant "+abiVFPArgsAcceptsVFPVariant);
+        }
+        int i=0;
+        for(final SectionHeader sh : eh2) {
+            Assert.assertSame(sh, eh2.getSectionHeaderAt(i++));
+            System.err.println(sh);
+            final int type = sh.getType();
+            if( SectionHeader.SHT_STRTAB == type ) {
+                dumpSection(sh, "SHT_STRTAB", fileOutSections);
+            } else if( SectionHeader.SHT_ARM_ATTRIBUTES == type ) {
+                dumpSection(sh, "SHT_ARM_ATTRIBUTES", fileOutSections);
             }
+        }
+        Assert.assertEquals(eh2.getSectionHeaderCount(), i);
+    }
+
+    /** Reads the ELF object from an in-memory buffer, e.g. the content of a jar entry, and compares w/ the mapped file. */
+    void testInMemoryImpl(final File file) throws IOException {
+        Platform.initSingleton();
+        final byte[] bytes;
+        final InputStream in = new FileInputStream(file);
+        try {
+            bytes = IOUtil.copyStream2ByteArray(in);
         } finally {
             in.close();
         }
+        final ElfHeaderPart2 eh2File = ElfHeaderPart2.read(ElfHeaderPart1.read(PlatformPropsImpl.OS_TYPE, file));
+        final ByteBuffer buffer = ByteBuffer.allocate(8 + bytes.length);
+        buffer.position(8);
+        buffer.put(bytes);
+        buffer.position(8);
+        final ElfHeaderPart2 eh2Mem = ElfHeaderPart2.read(ElfHeaderPart1.read(PlatformPropsImpl.OS_TYPE, buffer));
+        Assert.assertEquals(8, buffer.position());
+        Assert.assertEquals(eh2File.toString(), eh2Mem.toString());
+        Assert.assertEquals(eh2File.getSectionHeaderCount(), eh2Mem.getSectionHeaderCount());
+        for(int i=0; i<eh2File.getSectionHeaderCount(); i++) {
+            Assert.assertEquals(eh2File.getSectionHeaderAt(i).toString(), eh2Mem.getSectionHeaderAt(i).toString());
+        }
+        final ElfSymbolTable symbolsFile = ElfSymbolTable.read(eh2File);
+        final ElfSymbolTable symbolsMem = ElfSymbolTable.read(eh2Mem);
+        if( null != symbolsFile ) {
+            Assert.assertEquals(symbolsFile.getExportedSymbols(), symbolsMem.getExportedSymbols());
+        } else {
+            Assert.assertNull(symbolsMem);
+        }
+    }
+
+    void testDynamicSymbolsImpl(final File file, final String exportedSymbol) throws IOException {
+        Platform.initSingleton();
+        final ElfSymbolTable symbols = ElfSymbolTable.read(file);
+        System.err.println("Test file "+file.getAbsolutePath()+": "+symbols);
+        Assert.assertNotNull(symbols);
+        Assert.assertTrue(symbols.getExportedSymbols().contains(exportedSymbol));
+        Assert.assertTrue(symbols.isExported(exportedSymbol));
+        Assert.assertFalse(symbols.isExported(exportedSymbol+"NotExported"));
+        Assert.assertFalse(symbols.isExported(""));
+        int exported = 0;
+        for(int i=0; i<symbols.getSymbolCount(); i++) {
+            final String name = symbols.getSymbolName(i);
+            if( symbols.isExported(i) ) {
+                exported++;
+                Assert.assertTrue(name, symbols.isExported(name));
+            } else if( !symbols.getExportedSymbols().contains(name) ) {
+                Assert.assertFalse(name, symbols.isExported(name));
+            }
+        }
+        Assert.assertTrue(0 < exported);
+        Assert.assertTrue(exported >= symbols.getExportedSymbols().size());
     }
 
-    static void dumpSection(final RandomAccessFile in, final SectionHeader sh, final String name, final boolean fileOut) throws IllegalArgumentException, IOException {
-        final Section s = sh.readSection(in);
+    static void dumpSection(final SectionHeader sh, final String name, final boolean fileOut) throws IllegalArgumentException, IOException {
+        final Section s = sh.readSection();
         if(fileOut) {
             final File outFile = new File("ElfSection-"+sh.getIndex()+"-"+name);
             final OutputStream out = new BufferedOutputStream(new FileOutputStream(outFile));
@@ -0,0 +1,171 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.common.os;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import jogamp.common.os.PlatformProbeCache;
+
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.jogamp.common.util.IOUtil;
+import com.jogamp.junit.util.SingletonJunitCase;
+
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestPlatformProbeCache extends SingletonJunitCase {
+    static File dir;
+
+    @BeforeClass
+    public static void setup() throws IOException {
+        dir = new File(IOUtil.getTempDir(false), "TestPlatformProbeCache-"+System.nanoTime());
+        Assert.assertTrue(dir.mkdirs());
+    }
+
+    @AfterClass
+    public static void cleanup() {
+        deleteAll(dir);
+    }
+
+    private static void deleteAll(final File f) {
+        final File[] files = f.listFiles();
+        for(int i=0; null != files && i<files.length; i++) {
+            deleteAll(files[i]);
+        }
+        f.delete();
+    }
+
+    private static void write(final File f, final String s) throws IOException {
+        final OutputStream out = new FileOutputStream(f);
+        try {
+            out.write(s.getBytes("ISO-8859-1"));
+        } finally {
+            out.close();
+        }
+    }
+
+    @Test
+    public void test01KeyInvalidation() throws IOException {
+        final File file = new File(dir, "test01.properties");
+        final File binary = new File(dir, "test01.bin");
+        write(binary, "binary");
+
+        final PlatformProbeCache c1 = PlatformProbeCache.create(file, binary);
+        Assert.assertNull(c1.get(PlatformProbeCache.ELF_VALID));
+        c1.put(PlatformProbeCache.ELF_VALID, "false");
+        c1.putInts(PlatformProbeCache.MACHINE_DATA_INFO, new int[] { 1, 2, 3 });
+        c1.store();
+        Assert.assertTrue(file.isFile());
+
+        // same key
+        final PlatformProbeCache c2 = PlatformProbeCache.create(file, binary);
+        Assert.assertEquals("false", c2.get(PlatformProbeCache.ELF_VALID));
+        Assert.assertArrayEquals(new int[] { 1, 2, 3 }, c2.getInts(PlatformProbeCache.MACHINE_DATA_INFO, 3));
+        Assert.assertNull(c2.getInts(PlatformProbeCache.MACHINE_DATA_INFO, 4));
+
+        // changed probed binary, i.e. size
+        write(binary, "changed binary");
+        final PlatformProbeCache c3 = PlatformProbeCache.create(file, binary);
+        Assert.assertNull(c3.get(PlatformProbeCache.ELF_VALID));
+        Assert.assertNull(c3.getInts(PlatformProbeCache.MACHINE_DATA_INFO, 3));
+
+        // other probed binary
+        final PlatformProbeCache c4 = PlatformProbeCache.create(file, null);
+        Assert.assertNull(c4.get(PlatformProbeCache.ELF_VALID));
+    }
+
+    @Test
+    public void test02CorruptFile() throws IOException {
+        final File file = new File(dir, "test02.properties");
+        final File binary = new File(dir, "test02.bin");
+        write(binary, "binary");
+
+        // malformed unicode escape
+        write(file, "key.format=1\nelf.valid=\\uZZZZ\n");
+        final PlatformProbeCache c1 = PlatformProbeCache.create(file, binary);
+        Assert.assertNull(c1.get(PlatformProbeCache.ELF_VALID));
+        c1.put(PlatformProbeCache.MACHINE_DATA_INFO, "1,x,3");
+        c1.store();
+
+        // rewritten w/ valid key, corrupt values are ignored
+        final PlatformProbeCache c2 = PlatformProbeCache.create(file, binary);
+        Assert.assertEquals("1,x,3", c2.get(PlatformProbeCache.MACHINE_DATA_INFO));
+        Assert.assertNull(c2.getInts(PlatformProbeCache.MACHINE_DATA_INFO, 3));
+
+        // garbage
+        write(file, "\u0000\u0001 garbage \n=\n");
+        final PlatformProbeCache c3 = PlatformProbeCache.create(file, binary);
+        Assert.assertNull(c3.get(PlatformProbeCache.MACHINE_DATA_INFO));
+    }
+
+    @Test
+    public void test03AtomicStore() throws IOException {
+        final File sub = new File(dir, "test03");
+        final File file = new File(sub, "test03.properties");
+
+        // creates the parent directory, leaves no temporary file
+        final PlatformProbeCache c1 = PlatformProbeCache.create(file, null);
+        c1.put(PlatformProbeCache.ELF_VALID, "false");
+        c1.store();
+        Assert.assertArrayEquals(new String[] { file.getName() }, sub.list());
+
+        // replaces the existing file
+        final PlatformProbeCache c2 = PlatformProbeCache.create(file, null);
+        c2.put(PlatformProbeCache.ELF_VALID, "true");
+        c2.store();
+        Assert.assertArrayEquals(new String[] { file.getName() }, sub.list());
+        Assert.assertEquals("true", PlatformProbeCache.create(file, null).get(PlatformProbeCache.ELF_VALID));
+
+        // unchanged values are not stored
+        Assert.assertTrue(file.delete());
+        c2.store();
+        Assert.assertFalse(file.exists());
+
+        // failed rename leaves the target and no temporary file
+        final File dirFile = new File(sub, "test03.dir");
+        Assert.assertTrue(new File(dirFile, "child").mkdirs());
+        final PlatformProbeCache c3 = PlatformProbeCache.create(dirFile, null);
+        c3.put(PlatformProbeCache.ELF_VALID, "false");
+        c3.store();
+        Assert.assertTrue(dirFile.isDirectory());
+        Assert.assertArrayEquals(new String[] { dirFile.getName() }, sub.list());
+    }
+
+    public static void main(final String args[]) throws IOException {
+        final String tstname = TestPlatformProbeCache.class.getName();
+        org.junit.runner.JUnitCore.main(tstname);
+    }
+}
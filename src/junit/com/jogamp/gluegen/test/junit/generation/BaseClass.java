@@ -29,6 +29,7 @@
 package com.jogamp.gluegen.test.junit.generation;
 
 import com.jogamp.common.nio.Buffers;
+import com.jogamp.common.nio.NativeMemory;
 import com.jogamp.common.nio.PointerBuffer;
 import com.jogamp.common.os.MachineDataInfo;
 import com.jogamp.common.os.Platform;
@@ -532,6 +533,17 @@ public class BaseClass extends SingletonJunitCase {
           result = binding.arrayTestInt64(context, larray1, larray1_offset);
           Assert.assertTrue("Wrong result: "+result, 1+8000==result);
 
+          if( NativeMemory.isAvailable() ) {
+              final NativeMemory nm1 = NativeMemory.allocate(Bindingtest1.ARRAY_SIZE * Buffers.SIZEOF_LONG);
+              try {
+                  nm1.put(0, larray1, larray1_offset, Bindingtest1.ARRAY_SIZE);
+                  result = binding.arrayTestInt64(context, nm1);
+                  Assert.assertTrue("Wrong result: "+result, 1+8000==result);
+              } finally {
+                  nm1.free();
+              }
+          }
+
           result = binding.arrayTestFoo1(context, lb1);
           Assert.assertTrue("Wrong result: "+result, 1+8000==result);
 
@@ -1272,6 +1284,16 @@ public class BaseClass extends SingletonJunitCase {
             Assert.assertEquals(0x44444444 * (i+1) + 0x33333333, allclips[i].getWidth());
             Assert.assertEquals(0x44444444 * (i+1) + 0x44444444, allclips[i].getHeight());
         }
+        {
+            final TK_Dimension.Cursor clips = surface.getClipsCursor();
+            Assert.assertEquals(surface.getClipSize(), clips.count());
+            while( clips.hasNext() ) {
+                final TK_Dimension clip = clips.next();
+                final int i = clips.index();
+                Assert.assertEquals(0x44444444 * (i+1) + 0x11111111, clip.getX());
+                Assert.assertEquals(0x44444444 * (i+1) + 0x44444444, clip.getHeight());
+            }
+        }
 
         binding.destroySurface(surface);
     }
@@ -1323,6 +1345,38 @@ public class BaseClass extends SingletonJunitCase {
                 assertDim("ch11."+sub+": dimsGet[0] ", 11, 22, 33, 44, dimsGet[0]);
                 assertDim("ch11."+sub+": dimsGet[1] ",  1,  2,  3,  4, dimsGet[1]);
             }
+            {
+                sub++;
+                final TK_Dimension.Cursor cursor = dimPair.getPairCursor();
+                Assert.assertEquals(2, cursor.count());
+                final TK_Dimension c0 = cursor.next();
+                assertDim("ch11."+sub+": cursor[0] ", 11, 22, 33, 44, c0);
+                Assert.assertTrue(cursor.hasNext());
+                final TK_Dimension c1 = cursor.next();
+                Assert.assertSame(c0, c1);
+                assertDim("ch11."+sub+": cursor[1] ",  1,  2,  3,  4, c1);
+                Assert.assertSame(c1.getBuffer(), c1.getBuffer());
+                Assert.assertEquals(TK_Dimension.size(), c1.getBuffer().capacity());
+                {
+                    final int[] pos = new int[2];
+                    final int[] size = new int[2];
+                    binding.copyDimensionsToPrim(c1, pos, 0, size, 0);
+                    Assert.assertArrayEquals(new int[] { 1, 2 }, pos);
+                    Assert.assertArrayEquals(new int[] { 3, 4 }, size);
+                }
+                Assert.assertFalse(cursor.hasNext());
+                assertDim("ch11."+sub+": cursor.at(0) ", 11, 22, 33, 44, cursor.at(0));
+
+                sub++;
+                final TK_Dimension.Cursor bufCursor = TK_Dimension.cursor(Buffers.newDirectByteBuffer(3 * TK_Dimension.size()));
+                Assert.assertEquals(3, bufCursor.count());
+                while( bufCursor.hasNext() ) {
+                    final int i = bufCursor.index() + 1;
+                    bufCursor.next().setX(i).setY(i+1).setWidth(i+2).setHeight(i+3);
+                }
+                assertDim("ch11."+sub+": bufCursor.at(2) ", 2, 3, 4, 5, bufCursor.at(2));
+                assertDim("ch11."+sub+": bufCursor.at(1) ", 1, 2, 3, 4, bufCursor.rewind().at(1));
+            }
             {
                 sub++;
                 final TK_Dimension dimSum = binding.addDimensionPair(dimPair);
@@ -1486,6 +1540,12 @@ public class BaseClass extends SingletonJunitCase {
                 Assert.assertEquals(93 + i * 10, all[i].getWidth());
                 Assert.assertEquals(94 + i * 10, all[i].getHeight());
             }
+            final TK_Dimension.Cursor cursor = model.getStructPointerCustomLenCursor();
+            Assert.assertEquals(size, cursor.count());
+            for(int i=0; i<size; i++) {
+                Assert.assertEquals(91 + i * 10, cursor.at(i).getX());
+                Assert.assertEquals(94 + i * 10, cursor.at(i).getHeight());
+            }
         }
 
         // field: structPointerOneElem
@@ -29,10 +29,16 @@
 package com.jogamp.gluegen.test.junit.generation;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 import com.jogamp.gluegen.test.junit.generation.impl.Bindingtest1p1Impl;
 import com.jogamp.gluegen.test.junit.generation.impl.Bindingtest1p2Impl;
+import com.jogamp.gluegen.test.junit.generation.impl.Bindingtest1p2ProcAddressTable;
+import com.jogamp.common.os.DynamicLibraryBundle;
+import com.jogamp.common.os.DynamicLibraryBundleInfo;
 import com.jogamp.common.os.NativeLibrary;
+import com.jogamp.common.util.RunnableExecutor;
 
 import org.junit.AfterClass;
 import org.junit.Assert;
@@ -169,6 +175,72 @@ public class Test1p2ProcAddressEmitter extends BaseClass {
         chapter13TestStructArrayModelMutable(new Bindingtest1p2Impl());
     }
 
+    /**
+     * Test the generated direct entry access of the ProcAddressTable
+     */
+    @Test
+    public void chapter14TestProcAddressTable() throws Exception {
+        final Bindingtest1p2ProcAddressTable table = new Bindingtest1p2ProcAddressTable();
+        Assert.assertFalse(table.isFunctionAvailable("nopTest"));
+        table.reset(dynamicLookupHelper);
+        Assert.assertTrue(table.isFunctionAvailable("nopTest"));
+        Assert.assertTrue(table.isFunctionAvailable("arrayTestInt64"));
+        Assert.assertFalse(table.isFunctionAvailable("notInTable"));
+        Assert.assertEquals(dynamicLookupHelper.dynamicLookupFunction("nopTest"), table.getAddressFor("nopTest"));
+        Assert.assertFalse(table.getNullPointerFunctions().contains("nopTest"));
+        try {
+            table.getAddressFor("notInTable");
+            Assert.fail("Expected IllegalArgumentException");
+        } catch(final IllegalArgumentException e) { }
+    }
+
+    /** Bundles the test1 library w/o glue library and GetProcAddress. */
+    static class Test1BundleInfo implements DynamicLibraryBundleInfo {
+        @Override
+        public List<List<String>> getToolLibNames() {
+            final List<List<String>> libNames = new ArrayList<List<String>>();
+            final List<String> test1 = new ArrayList<String>();
+            test1.add("test1");
+            libNames.add(test1);
+            return libNames;
+        }
+        @Override
+        public List<String> getGlueLibNames() { return new ArrayList<String>(); }
+        @Override
+        public List<String> getToolGetProcAddressFuncNameList() { return null; }
+        @Override
+        public long toolGetProcAddress(final long toolGetProcAddressHandle, final String funcName) { return 0; }
+        @Override
+        public boolean useToolGetProcAdressFirst(final String funcName) { return false; }
+        @Override
+        public boolean shallLinkGlobal() { return false; }
+        @Override
+        public boolean shallLookupGlobal() { return false; }
+        @Override
+        public RunnableExecutor getLibLoaderExecutor() { return DynamicLibraryBundle.getDefaultRunnableExecutor(); }
+    }
+
+    @Test
+    public void chapter16TestBatchedLookup() throws Exception {
+        final String[] names = { "nopTest", "notInTest1", "arrayTestInt64", "nopTest" };
+        final long[] addrs = dynamicLookupHelper.dynamicLookupFunctions(names);
+        Assert.assertEquals(names.length, addrs.length);
+        for(int i=0; i<names.length; i++) {
+            Assert.assertEquals(names[i], dynamicLookupHelper.dynamicLookupFunction(names[i]), addrs[i]);
+        }
+        Assert.assertTrue(0 != addrs[0]);
+        Assert.assertEquals(0, addrs[1]);
+        Assert.assertEquals(0, dynamicLookupHelper.dynamicLookupFunctions(new String[0]).length);
+
+        final DynamicLibraryBundle bundle = new DynamicLibraryBundle(new Test1BundleInfo());
+        try {
+            Assert.assertArrayEquals(addrs, bundle.dynamicLookupFunctions(names));
+            Assert.assertEquals(addrs[2], bundle.dynamicLookupFunction(names[2]));
+        } finally {
+            bundle.destroy();
+        }
+    }
+
     /**
      * Verifies unloading of the new library.
      */
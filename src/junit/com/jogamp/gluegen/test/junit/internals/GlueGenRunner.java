@@ -0,0 +1,217 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.gluegen.test.junit.internals;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.Assert;
+
+import com.jogamp.gluegen.GlueGen;
+
+/**
+ * Runs GlueGen in-process on the test1 sources of the generation tests or on ad-hoc sources,
+ * and compares generated output trees.
+ * <p>
+ * The GlueGen root directory is given by the system property <code>gluegen.root</code>,
+ * as passed to all junit tests.
+ * </p>
+ */
+public class GlueGenRunner {
+    public static final String gluegenRoot = System.getProperty("gluegen.root", "..");
+    public static final File generationDir = new File(gluegenRoot, "src/junit/com/jogamp/gluegen/test/junit/generation");
+    public static final File stubIncludesDir = new File(gluegenRoot, "make/stub_includes");
+    public static final String JavaEmitter = "com.jogamp.gluegen.JavaEmitter";
+    public static final String ProcAddressEmitter = "com.jogamp.gluegen.procaddress.ProcAddressEmitter";
+
+    /** Returns a new empty temporary directory. */
+    public static File createTempDir(final String prefix) throws IOException {
+        final File dir = File.createTempFile(prefix, "");
+        Assert.assertTrue(dir.delete());
+        Assert.assertTrue(dir.mkdirs());
+        return dir;
+    }
+
+    /** Deletes the given file or directory recursively. */
+    public static void delete(final File f) {
+        final File[] children = f.listFiles();
+        if( null != children ) {
+            for(final File c : children) {
+                delete(c);
+            }
+        }
+        f.delete();
+    }
+
+    public static void writeFile(final File f, final String content) throws IOException {
+        f.getParentFile().mkdirs();
+        final Writer w = new OutputStreamWriter(new FileOutputStream(f), "UTF-8");
+        try {
+            w.write(content);
+        } finally {
+            w.close();
+        }
+    }
+
+    public static String readFile(final File f) throws IOException {
+        final StringBuilder sb = new StringBuilder();
+        final BufferedReader r = new BufferedReader(new InputStreamReader(new FileInputStream(f), "UTF-8"));
+        try {
+            String line;
+            while( null != ( line = r.readLine() ) ) {
+                // The timestamp of the generation is no content
+                if( !line.contains("autogenerated by") ) {
+                    sb.append(line).append('\n');
+                }
+            }
+        } finally {
+            r.close();
+        }
+        return sb.toString();
+    }
+
+    /** Returns the include paths for the test1 sources. */
+    public static List<String> test1IncludePaths() {
+        return Arrays.asList(generationDir.getPath(), new File(stubIncludesDir, "gluegen").getPath(), new File(stubIncludesDir, "unix").getPath());
+    }
+
+    /**
+     * Generates the test1 bindings into {@code outputRootDir}
+     * using the given emitter and configuration files of the generation test directory.
+     */
+    public static GlueGen generateTest1(final File outputRootDir, final String emitterFQN, final String... cfgNames) throws Exception {
+        final List<String> cfgFiles = new ArrayList<String>();
+        for(final String cfgName : cfgNames) {
+            cfgFiles.add(new File(cfgName).isAbsolute() ? cfgName : new File(generationDir, cfgName).getPath());
+        }
+        return generate(new File(generationDir, "test1-gluegen.c"), outputRootDir, emitterFQN, test1IncludePaths(), cfgFiles);
+    }
+
+    /**
+     * Copies all configuration files of the generation test directory into {@code cfgDir},
+     * redirecting their references to the build's generated classes into {@code outputRootDir}.
+     */
+    public static void copyTest1Configs(final File cfgDir, final File outputRootDir) throws IOException {
+        final File[] cfgs = generationDir.listFiles();
+        Assert.assertNotNull("No generation test directory "+generationDir, cfgs);
+        for(final File cfg : cfgs) {
+            if( cfg.getName().endsWith(".cfg") ) {
+                writeFile(new File(cfgDir, cfg.getName()),
+                          readFile(cfg).replace("../build-temp/gensrc/classes", new File(outputRootDir, "classes").getPath()));
+            }
+        }
+    }
+
+    /**
+     * Generates all test1 bindings into {@code outputRootDir} as the build does,
+     * i.e. the AllStatic bindings, the JavaEmitter and the ProcAddressEmitter implementation,
+     * using the configuration files copied via {@link #copyTest1Configs(File, File)}.
+     * <p>
+     * Optional {@code extraCfgNames} are appended to the JavaEmitter and ProcAddressEmitter runs.
+     * </p>
+     * @return the {@link GlueGen} instance of each run
+     */
+    public static List<GlueGen> generateAllTest1(final File outputRootDir, final String... extraCfgNames) throws Exception {
+        final File cfgDir = new File(outputRootDir, ".cfg");
+        copyTest1Configs(cfgDir, outputRootDir);
+        final String[][] runs = new String[][] {
+                { JavaEmitter, "test1-gluegen.cfg" },
+                { JavaEmitter, "test1p1-gluegen.cfg" },
+                { ProcAddressEmitter, "test1p2-gluegen.cfg" } };
+        final List<GlueGen> glueGens = new ArrayList<GlueGen>();
+        for(int i = 0; i < runs.length; ++i) {
+            final List<String> cfgFiles = new ArrayList<String>();
+            cfgFiles.add(new File(cfgDir, runs[i][1]).getPath());
+            for(int j = 0; 0 < i && j < extraCfgNames.length; ++j) {
+                cfgFiles.add(new File(cfgDir, extraCfgNames[j]).getPath());
+            }
+            glueGens.add(generate(new File(generationDir, "test1-gluegen.c"), outputRootDir, runs[i][0], test1IncludePaths(), cfgFiles));
+        }
+        return glueGens;
+    }
+
+    /** Generates the bindings of the given source into {@code outputRootDir}. */
+    public static GlueGen generate(final File source, final File outputRootDir, final String emitterFQN,
+                                   final List<String> includePaths, final List<String> cfgFiles) throws Exception {
+        final GlueGen glueGen = new GlueGen();
+        final Reader reader = new BufferedReader(new FileReader(source));
+        try {
+            glueGen.run(reader, source.getPath(), Class.forName(emitterFQN), includePaths, cfgFiles, outputRootDir.getPath(), false);
+        } finally {
+            reader.close();
+        }
+        return glueGen;
+    }
+
+    /** Returns all files within the given directory, mapping their relative path to their content w/o the generation timestamp. */
+    public static Map<String, String> readTree(final File dir) throws IOException {
+        final Map<String, String> files = new TreeMap<String, String>();
+        readTree(files, dir, "");
+        return files;
+    }
+    private static void readTree(final Map<String, String> files, final File dir, final String prefix) throws IOException {
+        final File[] children = dir.listFiles();
+        if( null == children ) {
+            return;
+        }
+        for(final File c : children) {
+            if( c.getName().startsWith(".") ) {
+                continue; // e.g. build stamps
+            }
+            if( c.isDirectory() ) {
+                readTree(files, c, prefix+c.getName()+"/");
+            } else {
+                files.put(prefix+c.getName(), readFile(c));
+            }
+        }
+    }
+
+    /** Asserts both directories contain the same files w/ equal content, ignoring the generation timestamp. */
+    public static void assertEqualTrees(final File expected, final File actual) throws IOException {
+        final Map<String, String> e = readTree(expected);
+        final Map<String, String> a = readTree(actual);
+        Assert.assertTrue("No files generated in "+expected, e.size() > 0);
+        Assert.assertEquals("Generated files", e.keySet(), a.keySet());
+        for(final Map.Entry<String, String> f : e.entrySet()) {
+            Assert.assertEquals("Content of "+f.getKey(), f.getValue(), a.get(f.getKey()));
+        }
+    }
+}
@@ -0,0 +1,180 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.gluegen.test.junit.internals;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.gluegen.GlueGen;
+import com.jogamp.junit.util.SingletonJunitCase;
+
+/**
+ * Verifies the {@code --batch} mode produces the same files as running each job on its own,
+ * using the test1 bindings of the generation tests.
+ * <p>
+ * The test1 jobs share one header. The AllStatic job runs in the first stage,
+ * since the other test1 jobs read its generated interface via {@code ExtendedInterfaceSymbolsIgnore}.
+ * The second stage runs its jobs concurrently.
+ * One of them uses {@code RelaxedEqualSemanticsTest}, hence runs in the stage's second pass.
+ * It renames a constant onto another with an equal value but a different expression,
+ * which only passes the duplicate check with relaxed semantics.
+ * </p>
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestBatchGeneration extends SingletonJunitCase {
+    private static final String Test1Header = "test1-gluegen.c";
+    private static final String RelaxedHeader = "relaxed.h";
+    private static final String RelaxedCfg = "relaxed-gluegen.cfg";
+
+    /** The jobs, each given by its name, i.e. output directory, its emitter, source and configuration files. */
+    private static final String[][] stage1 = new String[][] {
+            { "test1", GlueGenRunner.JavaEmitter, Test1Header, "test1-gluegen.cfg" } };
+    private static final String[][] stage2 = new String[][] {
+            { "test1p1", GlueGenRunner.JavaEmitter, Test1Header, "test1p1-gluegen.cfg" },
+            { "test1p2", GlueGenRunner.ProcAddressEmitter, Test1Header, "test1p2-gluegen.cfg" },
+            { "relaxed", GlueGenRunner.JavaEmitter, RelaxedHeader, RelaxedCfg } };
+
+    private File singleDir;
+    private File batchDir;
+
+    @Before
+    public void setUp() throws IOException {
+        singleDir = GlueGenRunner.createTempDir("gluegen-single");
+        batchDir = GlueGenRunner.createTempDir("gluegen-batch");
+    }
+
+    @After
+    public void tearDown() {
+        GlueGen.setParallel(false);
+        GlueGenRunner.delete(singleDir);
+        GlueGenRunner.delete(batchDir);
+    }
+
+    /**
+     * Copies the configuration files into {@code rootDir}/.cfg,
+     * referring to the generated classes of the AllStatic job,
+     * and writes the header and configuration of the relaxed job.
+     */
+    private static void writeInputs(final File rootDir) throws IOException {
+        final File cfgDir = new File(rootDir, ".cfg");
+        GlueGenRunner.copyTest1Configs(cfgDir, new File(rootDir, stage1[0][0]));
+        GlueGenRunner.writeFile(new File(cfgDir, RelaxedHeader),
+                                "#define RELAXED_A (1 + 2)\n"+
+                                "#define RELAXED_B (2 + 1)\n");
+        GlueGenRunner.writeFile(new File(cfgDir, RelaxedCfg),
+                                "RelaxedEqualSemanticsTest true\n"+
+                                "Package com.jogamp.gluegen.test.junit.generation\n"+
+                                "JavaClass BindingRelaxed\n"+
+                                "Style InterfaceOnly\n"+
+                                "JavaOutputDir classes\n"+
+                                "NativeOutputDir native\n"+
+                                "RenameJavaSymbol RELAXED_B RELAXED_A\n");
+    }
+
+    private static File source(final File rootDir, final String[] job) {
+        return Test1Header.equals(job[2]) ? new File(GlueGenRunner.generationDir, job[2]) : new File(rootDir, ".cfg/"+job[2]);
+    }
+
+    private static List<String> cfgFiles(final File rootDir, final String[] job) {
+        final List<String> cfgFiles = new ArrayList<String>();
+        for(int i = 3; i < job.length; ++i) {
+            cfgFiles.add(new File(rootDir, ".cfg/"+job[i]).getPath());
+        }
+        return cfgFiles;
+    }
+
+    private static String manifestLine(final File rootDir, final String[] job) {
+        final StringBuilder sb = new StringBuilder();
+        sb.append("-I");
+        final List<String> includePaths = GlueGenRunner.test1IncludePaths();
+        for(int i = 0; i < includePaths.size(); ++i) {
+            sb.append(0 < i ? File.pathSeparator : "").append(includePaths.get(i));
+        }
+        sb.append(" -O").append(new File(rootDir, job[0]).getPath());
+        sb.append(" -E").append(job[1]);
+        for(final String cfgFile : cfgFiles(rootDir, job)) {
+            sb.append(" -C").append(cfgFile);
+        }
+        sb.append(' ').append(source(rootDir, job).getPath());
+        return sb.append('\n').toString();
+    }
+
+    private static void generateSingle(final File rootDir, final String[] job) throws Exception {
+        GlueGenRunner.generate(source(rootDir, job), new File(rootDir, job[0]), job[1],
+                               GlueGenRunner.test1IncludePaths(), cfgFiles(rootDir, job));
+    }
+
+    @Test
+    public void test01ParallelBatchEqualsSingleJobs() throws Exception {
+        writeInputs(singleDir);
+        // The relaxed job runs last, since it switches the system wide setting,
+        // which the batch run resets when done.
+        for(final String[][] stage : new String[][][] { stage1, stage2 }) {
+            for(final String[] job : stage) {
+                generateSingle(singleDir, job);
+            }
+        }
+
+        writeInputs(batchDir);
+        final StringBuilder manifest = new StringBuilder();
+        manifest.append("# test1 and relaxed bindings\n");
+        for(final String[] job : stage1) {
+            manifest.append(manifestLine(batchDir, job));
+        }
+        manifest.append("--barrier\n");
+        for(final String[] job : stage2) {
+            manifest.append(manifestLine(batchDir, job));
+        }
+        final File manifestFile = new File(batchDir, ".batch");
+        GlueGenRunner.writeFile(manifestFile, manifest.toString());
+        GlueGen.execute("--parallel", "--batch", manifestFile.getPath());
+
+        for(final String[][] stage : new String[][][] { stage1, stage2 }) {
+            for(final String[] job : stage) {
+                final File expected = new File(singleDir, job[0]);
+                final File actual = new File(batchDir, job[0]);
+                Assert.assertTrue("No output of job "+job[0], actual.isDirectory());
+                GlueGenRunner.assertEqualTrees(expected, actual);
+            }
+        }
+    }
+
+    public static void main(final String args[]) throws IOException {
+        final String tstname = TestBatchGeneration.class.getName();
+        org.junit.runner.JUnitCore.main(tstname);
+    }
+}
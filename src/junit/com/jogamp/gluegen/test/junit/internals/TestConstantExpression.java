@@ -0,0 +1,128 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.gluegen.test.junit.internals;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.jogamp.gluegen.ConstantDefinition;
+import com.jogamp.gluegen.ConstantDefinition.JavaExpr;
+import com.jogamp.junit.util.SingletonJunitCase;
+
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestConstantExpression extends SingletonJunitCase {
+    private final Map<String, JavaExpr> constMap = new HashMap<String, JavaExpr>();
+
+    private JavaExpr compute(final String name, final String nativeExpr) {
+        final JavaExpr e = JavaExpr.compute(new ConstantDefinition(name, nativeExpr, null, null), constMap);
+        constMap.put(name, e);
+        return e;
+    }
+
+    private void testFolded(final String nativeExpr, final String javaExpr, final String javaTypeName) {
+        final JavaExpr e = compute("C", nativeExpr);
+        Assert.assertTrue(nativeExpr, e.isLiteral);
+        Assert.assertEquals(nativeExpr, javaExpr, e.javaExpression);
+        Assert.assertEquals(nativeExpr, javaTypeName, e.resultJavaTypeName);
+    }
+
+    @Test
+    public void test01Integer() {
+        testFolded("1 + 2 * 3", "0x7", "int");
+        testFolded("( 1 + 2 ) * 3", "0x9", "int");
+        testFolded("1 << 4 | 1", "0x11", "int");
+        testFolded("-7 / 2", "-3", "int");
+        testFolded("-7 % 2", "-1", "int");
+        testFolded("~0", "-1", "int");
+        testFolded("!5 + !0", "0x1", "int");
+        testFolded("0x7fffffff + 1", "-2147483648", "int");
+        testFolded("1L << 40", "0x10000000000L", "long");
+        testFolded("0xffffffffU >> 4", "0xfffffff", "int");
+        testFolded("-1 >> 4", "-1", "int");
+        testFolded("0 - 1U", "0xffffffff", "int");
+        testFolded("-1 < 0U", "0x0", "int");
+        testFolded("-1 < 0L", "0x1", "int");
+        testFolded("0xffffffffffffffffUL / 2", "0x7fffffffffffffffL", "long");
+        testFolded("1 ? 2 : 3L", "0x2L", "long");
+        testFolded("0 && 1 / 0", "0x0", "int");
+        testFolded("'A' + '\\n'", "0x4b", "int");
+    }
+
+    @Test
+    public void test02Casts() {
+        testFolded("( (int ) 3 )", "0x3", "int");
+        testFolded("(unsigned char) 257", "0x1", "int");
+        testFolded("(signed char) 255", "-1", "int");
+        testFolded("(unsigned int) -1", "0xffffffff", "int");
+        testFolded("(long long) 1 << 33", "0x200000000L", "long");
+        testFolded("(int) 2.9f", "0x2", "int");
+        testFolded("(double) 1", "1.0", "double");
+    }
+
+    @Test
+    public void test03FloatingPoint() {
+        testFolded("1.5f * 2", "3.0f", "float");
+        testFolded("0.1f + 0.2f", "0.3f", "float");
+        testFolded("1.0d / 4", "0.25", "double");
+        testFolded("1e30f * 1e30f", "Float.POSITIVE_INFINITY", "float");
+        testFolded("1.0f < 2", "0x1", "int");
+    }
+
+    @Test
+    public void test04References() {
+        compute("ONE", "1");
+        compute("TWO", "ONE + ONE");
+        testFolded("( ONE << TWO ) + TWO", "0x6", "int");
+        Assert.assertTrue(constMap.get("TWO").isLiteral);
+        Assert.assertEquals(2, constMap.get("TWO").resultType.i);
+    }
+
+    @Test
+    public void test05NotEvaluable() {
+        // unknown identifiers keep the java expression
+        final JavaExpr e = compute("C", "UNKNOWN + 1");
+        Assert.assertFalse(e.isLiteral);
+        Assert.assertEquals("UNKNOWN + 0x1", e.javaExpression);
+        Assert.assertEquals("int", e.resultJavaTypeName);
+        // and expressions referencing those
+        final JavaExpr d = compute("D", "C * 2");
+        Assert.assertFalse(d.isLiteral);
+        Assert.assertEquals("C * 0x2", d.javaExpression);
+    }
+
+    public static void main(final String args[]) {
+        final String tstname = TestConstantExpression.class.getName();
+        org.junit.runner.JUnitCore.main(tstname);
+    }
+}
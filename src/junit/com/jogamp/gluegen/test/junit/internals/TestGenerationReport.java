@@ -0,0 +1,217 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.gluegen.test.junit.internals;
+
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.gluegen.GenerationReport;
+import com.jogamp.gluegen.GlueGen;
+import com.jogamp.junit.util.SingletonJunitCase;
+
+/**
+ * Verifies the JSON {@link GenerationReport} of a small {@link GlueGen} run
+ * against the parsed symbols and the generated files.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestGenerationReport extends SingletonJunitCase {
+    File dir, header, cfg, out, reportFile;
+
+    @Before
+    public void setUp() throws Exception {
+        dir = GlueGenRunner.createTempDir("gluegen_report");
+        header = new File(dir, "report.h");
+        cfg = new File(dir, "report.cfg");
+        out = new File(dir, "out");
+        reportFile = new File(dir, "report.json");
+        GlueGenRunner.writeFile(header, "#define REPORT_ONE 1\n#define REPORT_TWO 2\nint foo(int a);\nint bar(int b);\nint baz(int c);\n");
+        GlueGenRunner.writeFile(cfg, "Package test.report\nStyle AllStatic\nJavaClass Report\nJavaOutputDir classes\nNativeOutputDir native\n");
+    }
+
+    @After
+    public void tearDown() {
+        // reset the global options set by execute
+        GlueGen.setIncremental(false);
+        GlueGen.setReportFile(null);
+        GlueGenRunner.delete(dir);
+    }
+
+    private String generate(final String... options) throws Exception {
+        final String[] args = new String[options.length + 6];
+        System.arraycopy(options, 0, args, 0, options.length);
+        int i = options.length;
+        args[i++] = "-O" + out.getPath();
+        args[i++] = "-E" + GlueGenRunner.JavaEmitter;
+        args[i++] = "-C" + cfg.getPath();
+        args[i++] = "--report";
+        args[i++] = reportFile.getPath();
+        args[i++] = header.getPath();
+        GlueGen.execute(args);
+        Assert.assertTrue("No report", reportFile.isFile());
+        return GlueGenRunner.readFile(reportFile);
+    }
+
+    private static long getLong(final String json, final String name) {
+        final Matcher m = Pattern.compile("\"" + name + "\": (-?\\d+)").matcher(json);
+        Assert.assertTrue("Missing "+name+" in "+json, m.find());
+        return Long.parseLong(m.group(1));
+    }
+
+    private static long getPhaseNanos(final String json, final GenerationReport.Phase phase, final String kind) {
+        final Matcher m = Pattern.compile("\"" + phase.name + "\": \\{ \"wallNanos\": (\\d+), \"cpuNanos\": (-?\\d+)").matcher(json);
+        Assert.assertTrue("Missing phase "+phase.name+" in "+json, m.find());
+        return Long.parseLong(m.group("wall".equals(kind) ? 1 : 2));
+    }
+
+    /** Returns the number of files and their total size in the given directory w/o dot files, e.g. build stamps. */
+    private static long[] sizeOf(final File f) {
+        final long[] r = new long[2];
+        final File[] children = f.listFiles();
+        if( null != children ) {
+            for(final File c : children) {
+                if( !c.getName().startsWith(".") ) {
+                    final long[] cr = sizeOf(c);
+                    r[0] += cr[0];
+                    r[1] += cr[1];
+                }
+            }
+        } else {
+            r[0] = 1;
+            r[1] = f.length();
+        }
+        return r;
+    }
+
+    private void assertReport(final String json) {
+        Assert.assertTrue(json, json.contains("\"source\": \"" + header.getPath().replace("\\", "\\\\") + "\""));
+        Assert.assertTrue(json, json.contains("\"emitter\": \"" + GlueGenRunner.JavaEmitter + "\""));
+        Assert.assertTrue(json, json.contains("\"parseCached\": false"));
+
+        Assert.assertEquals("parsedFunctions", 3, getLong(json, GenerationReport.Counter.PARSED_FUNCTIONS.name));
+        Assert.assertEquals("functions", 3, getLong(json, GenerationReport.Counter.FUNCTIONS.name));
+        Assert.assertEquals("parsedConstants", 2, getLong(json, GenerationReport.Counter.PARSED_CONSTANTS.name));
+        Assert.assertEquals("constants", 2, getLong(json, GenerationReport.Counter.CONSTANTS.name));
+
+        final long[] size = sizeOf(out);
+        Assert.assertTrue("No files generated", 0 < size[0]);
+        Assert.assertEquals("files", size[0], getLong(json, GenerationReport.Counter.FILES.name));
+        Assert.assertEquals("filesUnchanged", 0, getLong(json, GenerationReport.Counter.FILES_UNCHANGED.name));
+        Assert.assertEquals("bytesWritten", size[1], getLong(json, GenerationReport.Counter.BYTES_WRITTEN.name));
+
+        final long total = getPhaseNanos(json, GenerationReport.Phase.TOTAL, "wall");
+        Assert.assertTrue("total", 0 < total);
+        for(final GenerationReport.Phase phase : GenerationReport.Phase.values()) {
+            final long wall = getPhaseNanos(json, phase, "wall");
+            Assert.assertTrue(phase.name+" "+wall+" > total "+total, wall <= total);
+        }
+        Assert.assertTrue(json, json.contains("\"cpuTimeSupported\": " + GenerationReport.isCpuTimeSupported()));
+        if( GenerationReport.isCpuTimeSupported() ) {
+            final long totalCpu = getPhaseNanos(json, GenerationReport.Phase.TOTAL, "cpu");
+            for(final GenerationReport.Phase phase : GenerationReport.Phase.values()) {
+                final long cpu = getPhaseNanos(json, phase, "cpu");
+                Assert.assertTrue(phase.name+" cpu "+cpu, 0 <= cpu && cpu <= totalCpu);
+            }
+        }
+        Assert.assertTrue("parse", 0 < getPhaseNanos(json, GenerationReport.Phase.PARSE, "wall"));
+        Assert.assertTrue("writeFiles", 0 < getPhaseNanos(json, GenerationReport.Phase.WRITE_FILES, "wall"));
+    }
+
+    @Test
+    public void test01Report() throws Exception {
+        assertReport(generate());
+    }
+
+    @Test
+    public void test02IncrementalReport() throws Exception {
+        assertReport(generate("--incremental"));
+    }
+
+    /** Burns the given CPU time of the current thread, returning it as measured. */
+    private static long burnCpu(final long nanos) {
+        final long t0 = ManagementFactory.getThreadMXBean().getCurrentThreadCpuTime();
+        long t1;
+        double x = 1;
+        do {
+            for(int i = 0; i < 10000; i++) {
+                x = Math.sqrt(x + i);
+            }
+            t1 = ManagementFactory.getThreadMXBean().getCurrentThreadCpuTime();
+        } while( t1 - t0 < nanos && !Double.isNaN(x) );
+        return t1 - t0;
+    }
+
+    /**
+     * A phase's CPU time includes its workers, e.g. the preprocessor thread,
+     * but not other threads, e.g. of concurrent batch jobs.
+     */
+    @Test
+    public void test03WorkerCpuTime() throws Exception {
+        if( !GenerationReport.isCpuTimeSupported() ) {
+            return;
+        }
+        final GenerationReport report = new GenerationReport("worker.h", GlueGenRunner.JavaEmitter, Collections.<String>emptyList());
+        final long[] burnt = new long[2];
+        final Thread worker = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                final long cpuStart = report.beginWorker();
+                burnt[0] = burnCpu(50000000L);
+                report.endWorker(cpuStart);
+            } });
+        final Thread other = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                burnt[1] = burnCpu(200000000L);
+            } });
+        report.begin(GenerationReport.Phase.PARSE);
+        worker.start();
+        other.start();
+        worker.join();
+        other.join();
+        report.end(GenerationReport.Phase.PARSE);
+
+        final long cpu = report.getCpuTime(GenerationReport.Phase.PARSE);
+        Assert.assertTrue("cpu "+cpu+" < worker "+burnt[0], burnt[0] <= cpu);
+        Assert.assertTrue("cpu "+cpu+" includes other "+burnt[1], cpu < burnt[0] + burnt[1]);
+    }
+
+    public static void main(final String args[]) {
+        final String tstname = TestGenerationReport.class.getName();
+        org.junit.runner.JUnitCore.main(tstname);
+    }
+}
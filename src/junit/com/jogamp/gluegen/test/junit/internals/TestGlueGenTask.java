@@ -0,0 +1,138 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.gluegen.test.junit.internals;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URLClassLoader;
+import java.util.Map;
+
+import org.apache.tools.ant.Project;
+import org.apache.tools.ant.types.Path;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.gluegen.GlueGen;
+import com.jogamp.gluegen.ant.GlueGenTask;
+import com.jogamp.junit.util.SingletonJunitCase;
+
+/**
+ * Runs the {@link GlueGenTask} on the test1 bindings of the generation tests within this JVM
+ * and forked, verifying repeated in-process runs w/ their shared class loader produce the forked run's files.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestGlueGenTask extends SingletonJunitCase {
+    private File forkedDir;
+    private File inProcessDir;
+
+    @Before
+    public void setUp() throws IOException {
+        forkedDir = GlueGenRunner.createTempDir("gluegen-forked");
+        inProcessDir = GlueGenRunner.createTempDir("gluegen-inprocess");
+    }
+
+    @After
+    public void tearDown() {
+        GlueGenRunner.delete(forkedDir);
+        GlueGenRunner.delete(inProcessDir);
+    }
+
+    /** Generates all test1 bindings into {@code outputRootDir} via the {@link GlueGenTask} as the build does. */
+    private static Project generate(final File outputRootDir, final boolean fork) throws IOException {
+        final File cfgDir = new File(outputRootDir, ".cfg");
+        GlueGenRunner.copyTest1Configs(cfgDir, outputRootDir);
+
+        final Project project = new Project();
+        project.init();
+        // in-process execution requires the working directory as base directory
+        project.setBaseDir(new File(System.getProperty("user.dir")));
+        final String[][] runs = new String[][] {
+                { GlueGenRunner.JavaEmitter, "test1-gluegen.cfg" },
+                { GlueGenRunner.JavaEmitter, "test1p1-gluegen.cfg" },
+                { GlueGenRunner.ProcAddressEmitter, "test1p2-gluegen.cfg" } };
+        final StringBuilder includes = new StringBuilder();
+        for(final String includePath : GlueGenRunner.test1IncludePaths()) {
+            includes.append(includes.length() > 0 ? "," : "").append(new File(includePath).getAbsolutePath());
+        }
+        for(int i = 0; i < runs.length; ++i) {
+            final GlueGenTask task = new GlueGenTask();
+            task.setProject(project);
+            task.setTaskName("gluegen");
+            task.setFork(fork);
+            task.setLogLevel("SEVERE");
+            task.setOutputRootDir(outputRootDir.getPath());
+            task.setEmitter(runs[i][0]);
+            task.setConfig(new File(cfgDir, runs[i][1]).getPath());
+            task.setSrc(new File(GlueGenRunner.generationDir, "test1-gluegen.c").getAbsolutePath());
+            task.setLiteralInclude(includes.toString());
+            task.createClasspath().add(new Path(project, System.getProperty("java.class.path")));
+            task.execute();
+        }
+        return project;
+    }
+
+    @Test
+    public void test01InProcessTwiceEqualsForked() throws Exception {
+        generate(forkedDir, true);
+        for(int i = 0; i < 2; ++i) {
+            GlueGenRunner.delete(inProcessDir);
+            generate(inProcessDir, false);
+            GlueGenRunner.assertEqualTrees(forkedDir, inProcessDir);
+        }
+    }
+
+    @Test
+    public void test02ExecuteInvalidArguments() throws Exception {
+        try {
+            GlueGen.execute("--unknownOption", "value", "test1-gluegen.c");
+            Assert.fail("Invalid arguments accepted");
+        } catch(final IllegalArgumentException iae) {
+            // expected, w/o exiting the JVM
+        }
+    }
+
+    @Test
+    public void test03ClassLoadersClosedAfterBuild() throws Exception {
+        final Project project = generate(inProcessDir, false);
+        final Map<?, ?> classLoaders = project.getReference("com.jogamp.gluegen.ant.GlueGenTask.classLoaders");
+        Assert.assertEquals("Class loaders", 1, classLoaders.size());
+        final URLClassLoader classLoader = (URLClassLoader) classLoaders.values().iterator().next();
+        project.fireBuildFinished(null);
+        Assert.assertTrue("Class loaders not released", classLoaders.isEmpty());
+        Assert.assertNull("Class loader not closed", classLoader.getResource("com/jogamp/gluegen/GlueGen.class"));
+    }
+
+    public static void main(final String args[]) throws IOException {
+        final String tstname = TestGlueGenTask.class.getName();
+        org.junit.runner.JUnitCore.main(tstname);
+    }
+}
@@ -0,0 +1,150 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.gluegen.test.junit.internals;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.jogamp.gluegen.GlueGen;
+import com.jogamp.junit.util.SingletonJunitCase;
+
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Tests {@link GlueGen#setIncremental(boolean) incremental generation}:
+ * An unchanged rerun writes nothing, a changed header or configuration regenerates the output.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestIncrementalGeneration extends SingletonJunitCase {
+    static final long OLD_TIME = 1000000000000L;
+
+    File dir, header, cfg, out, javaFile, stampDir;
+
+    @Before
+    public void setUp() throws Exception {
+        dir = GlueGenRunner.createTempDir("gluegen_incr");
+        header = new File(dir, "incr.h");
+        cfg = new File(dir, "incr.cfg");
+        out = new File(dir, "out");
+        javaFile = new File(out, "classes/test/incr/Incr.java");
+        stampDir = new File(out, ".gluegen");
+        GlueGenRunner.writeFile(header, "int foo(int a);\n");
+        GlueGenRunner.writeFile(cfg, "Package test.incr\nStyle AllStatic\nJavaClass Incr\nJavaOutputDir classes\nNativeOutputDir native\n");
+        GlueGen.setIncremental(true);
+    }
+
+    @After
+    public void tearDown() {
+        GlueGen.setIncremental(false);
+        GlueGenRunner.delete(dir);
+    }
+
+    private void generate() throws Exception {
+        GlueGenRunner.generate(header, out, GlueGenRunner.JavaEmitter, Collections.<String>emptyList(), Arrays.asList(cfg.getPath()));
+    }
+
+    /** Marks all outputs and the stamp as old, returns the number of marked files. */
+    private static int touchOld(final File f) {
+        int n = 0;
+        final File[] children = f.listFiles();
+        if( null != children ) {
+            for(final File c : children) {
+                n += touchOld(c);
+            }
+        } else {
+            Assert.assertTrue(f.setLastModified(OLD_TIME));
+            n++;
+        }
+        return n;
+    }
+
+    /** Returns the number of files in the given directory modified after {@link #OLD_TIME}. */
+    private static int countWritten(final File f) {
+        int n = 0;
+        final File[] children = f.listFiles();
+        if( null != children ) {
+            for(final File c : children) {
+                n += countWritten(c);
+            }
+        } else if( f.lastModified() != OLD_TIME ) {
+            n++;
+        }
+        return n;
+    }
+
+    @Test
+    public void test01UnchangedRerunSkipped() throws Exception {
+        generate();
+        Assert.assertTrue(javaFile.isFile());
+        Assert.assertEquals(1, stampDir.list().length);
+        final String content = GlueGenRunner.readFile(javaFile);
+        Assert.assertTrue(0 < touchOld(out));
+
+        generate();
+        Assert.assertEquals("Files written by unchanged rerun", 0, countWritten(out));
+        Assert.assertEquals(content, GlueGenRunner.readFile(javaFile));
+    }
+
+    @Test
+    public void test02ChangedHeaderRegenerates() throws Exception {
+        generate();
+        Assert.assertFalse(GlueGenRunner.readFile(javaFile).contains(" bar("));
+        touchOld(out);
+
+        GlueGenRunner.writeFile(header, "int foo(int a);\nint bar(int b);\n");
+        generate();
+        Assert.assertTrue(GlueGenRunner.readFile(javaFile).contains(" bar("));
+        Assert.assertNotEquals(OLD_TIME, javaFile.lastModified());
+        Assert.assertTrue(0 < countWritten(stampDir));
+    }
+
+    @Test
+    public void test03ChangedConfigRegenerates() throws Exception {
+        GlueGenRunner.writeFile(header, "int foo(int a);\nint bar(int b);\n");
+        generate();
+        Assert.assertTrue(GlueGenRunner.readFile(javaFile).contains(" bar("));
+        touchOld(out);
+
+        GlueGenRunner.writeFile(cfg, GlueGenRunner.readFile(cfg)+"Ignore bar\n");
+        generate();
+        Assert.assertFalse(GlueGenRunner.readFile(javaFile).contains(" bar("));
+        Assert.assertNotEquals(OLD_TIME, javaFile.lastModified());
+    }
+
+    public static void main(final String args[]) {
+        final String tstname = TestIncrementalGeneration.class.getName();
+        org.junit.runner.JUnitCore.main(tstname);
+    }
+}
@@ -0,0 +1,99 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.gluegen.test.junit.internals;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.gluegen.GlueGen;
+import com.jogamp.junit.util.SingletonJunitCase;
+
+/**
+ * Verifies the parallel emission produces the same files as the default sequential emission,
+ * using the test1 bindings of the generation tests.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestParallelGeneration extends SingletonJunitCase {
+    private File sequentialDir;
+    private File parallelDir;
+
+    @Before
+    public void setUp() throws IOException {
+        sequentialDir = GlueGenRunner.createTempDir("gluegen-seq");
+        parallelDir = GlueGenRunner.createTempDir("gluegen-par");
+    }
+
+    @After
+    public void tearDown() {
+        GlueGen.setParallel(false);
+        GlueGenRunner.delete(sequentialDir);
+        GlueGenRunner.delete(parallelDir);
+    }
+
+    private void generate(final File outputRootDir, final boolean parallel) throws Exception {
+        GlueGen.setParallel(parallel);
+        GlueGenRunner.generateAllTest1(outputRootDir);
+    }
+
+    @Test
+    public void test01ParallelEqualsSequential() throws Exception {
+        generate(sequentialDir, false);
+        generate(parallelDir, true);
+        GlueGenRunner.assertEqualTrees(sequentialDir, parallelDir);
+    }
+
+    /**
+     * Struct classes are emitted concurrently, one task per class,
+     * hence repeat the parallel run to expose an order dependent emission.
+     */
+    @Test
+    public void test02ParallelStructsEqualSequential() throws Exception {
+        generate(sequentialDir, false);
+        final File structDir = new File(sequentialDir, "classes/com/jogamp/gluegen/test/junit/generation");
+        for(final String struct : new String[] { "TK_ComplicatedSuperSet", "TK_ModelConst", "TK_Surface", "Int32Struct" }) {
+            Assert.assertTrue("Struct class "+struct+" not emitted", new File(structDir, struct+".java").isFile());
+        }
+        for(int i = 0; i < 3; ++i) {
+            GlueGenRunner.delete(parallelDir);
+            generate(parallelDir, true);
+            GlueGenRunner.assertEqualTrees(sequentialDir, parallelDir);
+        }
+    }
+
+    public static void main(final String args[]) throws IOException {
+        final String tstname = TestParallelGeneration.class.getName();
+        org.junit.runner.JUnitCore.main(tstname);
+    }
+}
@@ -0,0 +1,137 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.gluegen.test.junit.internals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.common.os.MachineDataInfo;
+import com.jogamp.gluegen.GlueGen;
+import com.jogamp.gluegen.cgram.types.SizeThunk;
+import com.jogamp.junit.util.SingletonJunitCase;
+
+/**
+ * Verifies the bindings generated from a {@link com.jogamp.gluegen.ParseCache cached} parse result
+ * equal the ones generated from parsing the headers, using the test1 bindings of the generation tests.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestParseCache extends SingletonJunitCase {
+    private File cacheDir;
+    private File parsedDir;
+    private File cachedDir;
+
+    @Before
+    public void setUp() throws IOException {
+        cacheDir = GlueGenRunner.createTempDir("gluegen-cache");
+        parsedDir = GlueGenRunner.createTempDir("gluegen-parsed");
+        cachedDir = GlueGenRunner.createTempDir("gluegen-cached");
+    }
+
+    @After
+    public void tearDown() {
+        GlueGen.setParseCacheDir(null);
+        GlueGenRunner.delete(cacheDir);
+        GlueGenRunner.delete(parsedDir);
+        GlueGenRunner.delete(cachedDir);
+    }
+
+    private static void assertParseCached(final List<GlueGen> glueGens, final boolean expected) {
+        for(final GlueGen glueGen : glueGens) {
+            Assert.assertEquals("Parse cached", expected, glueGen.getReport().isParseCached());
+        }
+    }
+
+    @Test
+    public void test01ColdEqualsCached() throws Exception {
+        GlueGen.setParseCacheDir(cacheDir);
+        // The first run parses and fills the cache, all later runs of the same header use it
+        final List<GlueGen> parsed = GlueGenRunner.generateAllTest1(parsedDir);
+        Assert.assertFalse("Parse cached", parsed.get(0).getReport().isParseCached());
+        assertParseCached(parsed.subList(1, parsed.size()), true);
+        Assert.assertTrue("No cache file", 0 < cacheDir.list().length);
+
+        assertParseCached(GlueGenRunner.generateAllTest1(cachedDir), true);
+        GlueGenRunner.assertEqualTrees(parsedDir, cachedDir);
+    }
+
+    @Test
+    public void test02UncachedEqualsCached() throws Exception {
+        final List<GlueGen> parsed = GlueGenRunner.generateAllTest1(parsedDir);
+        assertParseCached(parsed, false);
+
+        GlueGen.setParseCacheDir(cacheDir);
+        GlueGenRunner.generateAllTest1(cachedDir);
+        GlueGenRunner.delete(cachedDir);
+        assertParseCached(GlueGenRunner.generateAllTest1(cachedDir), true);
+        GlueGenRunner.assertEqualTrees(parsedDir, cachedDir);
+    }
+
+    private static Object copy(final Object o) throws IOException, ClassNotFoundException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final ObjectOutputStream out = new ObjectOutputStream(bytes);
+        out.writeObject(o);
+        out.close();
+        return new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray())).readObject();
+    }
+
+    @Test
+    public void test03SizeThunkSerialization() throws Exception {
+        final SizeThunk[] primitives = { SizeThunk.INT8, SizeThunk.INT16, SizeThunk.INT32, SizeThunk.INTxx, SizeThunk.LONG,
+                                         SizeThunk.INT64, SizeThunk.FLOAT, SizeThunk.DOUBLE, SizeThunk.POINTER };
+        for(final SizeThunk t : primitives) {
+            Assert.assertSame(t, copy(t));
+        }
+        final SizeThunk composite = SizeThunk.align(SizeThunk.add(SizeThunk.mul(SizeThunk.INT16, SizeThunk.constant(3)),
+                                                                  SizeThunk.max(SizeThunk.INT8, SizeThunk.POINTER)),
+                                                    SizeThunk.LONG);
+        final SizeThunk copy = (SizeThunk) copy(composite);
+        Assert.assertEquals(composite, copy);
+        for(final MachineDataInfo.StaticConfig config : MachineDataInfo.StaticConfig.values()) {
+            final MachineDataInfo md = config.md;
+            Assert.assertEquals(composite.computeSize(md), copy.computeSize(md));
+            Assert.assertEquals(composite.computeAlignment(md), copy.computeAlignment(md));
+        }
+    }
+
+    public static void main(final String args[]) throws IOException {
+        final String tstname = TestParseCache.class.getName();
+        org.junit.runner.JUnitCore.main(tstname);
+    }
+}
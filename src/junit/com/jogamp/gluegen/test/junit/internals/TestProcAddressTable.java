@@ -0,0 +1,312 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.gluegen.test.junit.internals;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.jogamp.common.os.BatchDynamicLookupHelper;
+import com.jogamp.common.os.DynamicLookupHelper;
+import com.jogamp.gluegen.procaddress.ProcAddressEmitter;
+import com.jogamp.gluegen.runtime.ProcAddressTable;
+import com.jogamp.junit.util.SingletonJunitCase;
+
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestProcAddressTable extends SingletonJunitCase {
+
+    static class Emitter extends ProcAddressEmitter {
+        static String hash(final List<String> names, final String[] entryNames) {
+            return computePerfectHash(names, entryNames);
+        }
+    }
+    static abstract class Table extends ProcAddressTable {
+        static int index(final String[] names, final String displacements, final String name) {
+            return perfectHashIndex(names, displacements, name);
+        }
+    }
+
+    /** A table w/ direct entry access like the generated ones. */
+    static class DirectTable extends ProcAddressTable {
+        final String[] entryNames;
+        final String displacements;
+        final long[] addresses;
+
+        DirectTable(final List<String> names, final boolean lazy) {
+            super(null, lazy);
+            entryNames = new String[names.size()];
+            displacements = Emitter.hash(names, entryNames);
+            addresses = new long[names.size()];
+        }
+        @Override
+        protected String[] getEntryNames() { return entryNames; }
+        @Override
+        protected int getEntryIndex(final String functionName) { return perfectHashIndex(entryNames, displacements, functionName); }
+        @Override
+        protected long getEntryAddress(final int index) { return addresses[index]; }
+        @Override
+        protected void setEntryAddress(final int index, final long address) { addresses[index] = address; }
+    }
+
+    /** A table w/ array layout like the generated ones, entries indexed in the given order. */
+    static class ArrayTable extends ProcAddressTable {
+        final String[] entryNames;
+        final String order;
+        volatile long[] addr;
+
+        ArrayTable(final List<String> names, final boolean lazy) {
+            super(null, lazy);
+            entryNames = names.toArray(new String[names.size()]);
+            final String[] sorted = entryNames.clone();
+            Arrays.sort(sorted);
+            final char[] slots = new char[sorted.length];
+            for (int i = 0; i < sorted.length; ++i) {
+                slots[i] = (char)names.indexOf(sorted[i]);
+            }
+            order = new String(slots);
+            addr = new long[names.size()];
+        }
+        @Override
+        protected String[] getEntryNames() { return entryNames; }
+        @Override
+        protected int getEntryIndex(final String functionName) { return sortedIndex(entryNames, order, functionName); }
+        @Override
+        protected long getEntryAddress(final int index) { return addr[index]; }
+        @Override
+        protected void setEntryAddress(final int index, final long address) {
+            final long[] _addr = addr.clone();
+            _addr[index] = address;
+            addr = _addr;
+        }
+        @Override
+        protected void setEntryAddresses(final long[] addresses) { addr = addresses; }
+    }
+
+    /** Resolves all functions but <code>glMissing</code>, counting the lookups. */
+    static class CountingLookup implements DynamicLookupHelper {
+        final List<String> lookups = new ArrayList<String>();
+        @Override
+        public void claimAllLinkPermission() { }
+        @Override
+        public void releaseAllLinkPermission() { }
+        @Override
+        public long dynamicLookupFunction(final String funcName) {
+            lookups.add(funcName);
+            return "glMissing".equals(funcName) ? 0 : 0x1000 + funcName.length();
+        }
+        @Override
+        public boolean isFunctionAvailable(final String funcName) {
+            return 0 != dynamicLookupFunction(funcName);
+        }
+    }
+
+    /** {@link CountingLookup} resolving a set of functions at once, counting the batches. */
+    static class BatchCountingLookup extends CountingLookup implements BatchDynamicLookupHelper {
+        int batches = 0;
+        @Override
+        public long[] dynamicLookupFunctions(final String[] funcNames) {
+            batches++;
+            final long[] addrs = new long[funcNames.length];
+            for (int i = 0; i < funcNames.length; ++i) {
+                addrs[i] = dynamicLookupFunction(funcNames[i]);
+            }
+            return addrs;
+        }
+    }
+
+    static final List<String> tableNames = Arrays.asList("glClear", "glFlush", "glFinish", "glMissing", "glViewport");
+
+    private static void testNames(final List<String> names) {
+        final String[] entryNames = new String[names.size()];
+        final String displacements = Emitter.hash(names, entryNames);
+        Assert.assertNotNull(displacements);
+        for (final String name : names) {
+            final int index = Table.index(entryNames, displacements, name);
+            Assert.assertTrue("Missing "+name, 0 <= index);
+            Assert.assertEquals(name, entryNames[index]);
+        }
+        Assert.assertEquals(-1, Table.index(entryNames, displacements, "glNotInTable"));
+        Assert.assertEquals(-1, Table.index(entryNames, displacements, ""));
+    }
+
+    @Test
+    public void test01Small() {
+        final List<String> names = new ArrayList<String>();
+        testNames(names);
+        names.add("glClear");
+        testNames(names);
+        names.add("glFlush");
+        names.add("glFinish");
+        testNames(names);
+    }
+
+    @Test
+    public void test02Large() {
+        final String[] suffixes = { "", "ARB", "EXT", "NV", "OES", "1f", "2fv", "3iv" };
+        final List<String> names = new ArrayList<String>();
+        for (int i = 0; names.size() < 4096; ++i) {
+            names.add("glFunction" + ( i / suffixes.length ) + suffixes[i % suffixes.length]);
+        }
+        testNames(names);
+    }
+
+    @Test
+    public void test03EqualStringHashCodes() {
+        final List<String> names = new ArrayList<String>();
+        names.add("Aa");
+        names.add("BB"); // same String.hashCode() as "Aa"
+        names.add("AaAa");
+        names.add("BBBB");
+        names.add("AaBB");
+        testNames(names);
+    }
+
+    @Test
+    public void test04EagerTable() {
+        final DirectTable table = new DirectTable(tableNames, false);
+        final BatchCountingLookup lookup = new BatchCountingLookup();
+        Assert.assertFalse(table.isLazy());
+        table.reset(lookup);
+        Assert.assertEquals(1, lookup.batches);
+        Assert.assertEquals(tableNames.size(), lookup.lookups.size());
+        Assert.assertEquals(new HashSet<String>(tableNames), table.getResolvedFunctions());
+        Assert.assertEquals(0x1000 + 7, table.getAddressFor("glClear"));
+        Assert.assertFalse(table.isFunctionAvailable("glMissing"));
+        Assert.assertFalse(table.isFunctionAvailable("glNotInTable"));
+        Assert.assertEquals(new HashSet<String>(Arrays.asList("glMissing")), table.getNullPointerFunctions());
+        Assert.assertEquals(tableNames.size(), lookup.lookups.size());
+
+        // w/o batched lookup, each entry is looked up on its own
+        final DirectTable table2 = new DirectTable(tableNames, false);
+        final CountingLookup lookup2 = new CountingLookup();
+        table2.reset(lookup2);
+        Assert.assertEquals(tableNames.size(), lookup2.lookups.size());
+        Assert.assertEquals(new HashSet<String>(tableNames), new HashSet<String>(lookup2.lookups));
+        Assert.assertEquals(0x1000 + 7, table2.getAddressFor("glClear"));
+        Assert.assertEquals(new HashSet<String>(Arrays.asList("glMissing")), table2.getNullPointerFunctions());
+    }
+
+    @Test
+    public void test05LazyTable() {
+        final DirectTable table = new DirectTable(tableNames, true);
+        final BatchCountingLookup lookup = new BatchCountingLookup();
+        Assert.assertTrue(table.isLazy());
+        Assert.assertEquals(0, table.resolveEntry("glClear"));
+        table.reset(lookup);
+        Assert.assertEquals(0, lookup.lookups.size());
+        Assert.assertEquals(0, lookup.batches);
+        Assert.assertTrue(table.getResolvedFunctions().isEmpty());
+
+        Assert.assertEquals(0x1000 + 7, table.resolveEntry("glClear"));
+        Assert.assertEquals(0x1000 + 7, table.resolveEntry("glClear"));
+        Assert.assertEquals(0, table.resolveEntry("glMissing"));
+        Assert.assertEquals(0, table.resolveEntry("glMissing"));
+        Assert.assertEquals(Arrays.asList("glClear", "glMissing"), lookup.lookups);
+
+        Assert.assertTrue(table.isFunctionAvailable("glFlush"));
+        Assert.assertEquals(new HashSet<String>(Arrays.asList("glClear", "glMissing", "glFlush")), table.getResolvedFunctions());
+        Assert.assertEquals(new HashSet<String>(Arrays.asList("glMissing")), table.getNullPointerFunctions());
+
+        // reset clears all entries
+        table.reset(lookup);
+        Assert.assertTrue(table.getResolvedFunctions().isEmpty());
+        Assert.assertEquals(0, table.addresses[table.getEntryIndex("glClear")]);
+        try {
+            table.resolveEntry("glNotInTable");
+            Assert.fail("Expected IllegalArgumentException");
+        } catch(final IllegalArgumentException e) { }
+    }
+
+    @Test
+    public void test06LazyTableResetLookup() {
+        final DirectTable table = new DirectTable(tableNames, true);
+        final CountingLookup lookup1 = new CountingLookup();
+        final CountingLookup lookup2 = new CountingLookup();
+        table.reset(lookup1);
+        Assert.assertEquals(0x1000 + 7, table.resolveEntry("glClear"));
+
+        // pending entries are resolved w/ the lookup of the last reset
+        table.reset(lookup2);
+        Assert.assertEquals(0x1000 + 7, table.resolveEntry("glClear"));
+        Assert.assertEquals(Arrays.asList("glClear"), lookup1.lookups);
+        Assert.assertEquals(Arrays.asList("glClear"), lookup2.lookups);
+
+        // all resolved, no further lookups
+        table.initEntry("glFlush", lookup2);
+        for(final String name : tableNames) {
+            table.resolveEntry(name);
+        }
+        Assert.assertEquals(tableNames.size(), lookup2.lookups.size());
+        Assert.assertEquals(new HashSet<String>(tableNames), table.getResolvedFunctions());
+        for(final String name : tableNames) {
+            table.resolveEntry(name);
+        }
+        Assert.assertEquals(tableNames.size(), lookup2.lookups.size());
+    }
+
+    @Test
+    public void test07ArrayTable() {
+        final ArrayTable eager = new ArrayTable(tableNames, false);
+        final CountingLookup lookup = new CountingLookup();
+        final long[] addr0 = eager.addr;
+        eager.reset(lookup);
+        Assert.assertNotSame(addr0, eager.addr);
+        for (int i = 0; i < tableNames.size(); ++i) {
+            Assert.assertEquals(i, eager.getEntryIndex(tableNames.get(i)));
+        }
+        Assert.assertEquals(-1, eager.getEntryIndex("glNotInTable"));
+        Assert.assertEquals(-1, eager.getEntryIndex("a"));
+        Assert.assertEquals(-1, eager.getEntryIndex("z"));
+        Assert.assertEquals(0x1000 + 7, eager.addr[tableNames.indexOf("glClear")]);
+        Assert.assertEquals(new HashSet<String>(Arrays.asList("glMissing")), eager.getNullPointerFunctions());
+
+        // lazy entries are published in a new array, previous snapshots stay unchanged
+        final ArrayTable lazy = new ArrayTable(tableNames, true);
+        lazy.reset(lookup);
+        final long[] addr1 = lazy.addr;
+        Assert.assertEquals(0x1000 + 7, lazy.resolveEntry(tableNames.indexOf("glClear")));
+        Assert.assertNotSame(addr1, lazy.addr);
+        Assert.assertEquals(0, addr1[tableNames.indexOf("glClear")]);
+        Assert.assertEquals(0x1000 + 7, lazy.addr[tableNames.indexOf("glClear")]);
+        Assert.assertTrue(lazy.isFunctionAvailable("glViewport"));
+        Assert.assertEquals(0x1000 + 7, lazy.addr[tableNames.indexOf("glClear")]);
+    }
+
+    public static void main(final String args[]) throws IOException {
+        final String tstname = TestProcAddressTable.class.getName();
+        org.junit.runner.JUnitCore.main(tstname);
+    }
+}
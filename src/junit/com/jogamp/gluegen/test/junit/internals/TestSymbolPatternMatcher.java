@@ -0,0 +1,116 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.gluegen.test.junit.internals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.jogamp.gluegen.SymbolPatternMatcher;
+import com.jogamp.junit.util.SingletonJunitCase;
+
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestSymbolPatternMatcher extends SingletonJunitCase {
+    static final String[] regexes = {
+        "glFoo", "glBar\\.x", "glVertex.*", ".*EXT", ".*", "GL_(A|B)_.*", "(gl)\\1Twice", "\\Qa.b\\E", "[a-z]+[0-9]"
+    };
+    static final String[] names = {
+        "glFoo", "glFoo2", "glBar.x", "glBarXx", "glVertex3f", "glVertex", "glColorEXT", "EXT", "GL_A_ONE", "GL_C_ONE",
+        "glglTwice", "a.b", "axb", "abc1", "ABC1", ""
+    };
+
+    private static List<Pattern> compile(final String... regexes) {
+        final List<Pattern> patterns = new ArrayList<Pattern>();
+        for(final String regex : regexes) {
+            patterns.add(Pattern.compile(regex));
+        }
+        return patterns;
+    }
+
+    private static boolean matchesBruteForce(final List<Pattern> patterns, final String name) {
+        for(final Pattern p : patterns) {
+            if( p.matcher(name).matches() ) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean oneMismatchesBruteForce(final List<Pattern> patterns, final String name, final String alias) {
+        for(final Pattern p : patterns) {
+            if( !p.matcher(name).matches() && !p.matcher(alias).matches() ) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Test
+    public void test01MatchesEach() {
+        for(final String regex : regexes) {
+            final List<Pattern> patterns = compile(regex);
+            final SymbolPatternMatcher m = new SymbolPatternMatcher(patterns);
+            for(final String name : names) {
+                Assert.assertEquals(regex+" ~ "+name, matchesBruteForce(patterns, name), m.matches(name));
+                Assert.assertEquals(regex+" ~ "+name, matchesBruteForce(patterns, name), m.matches(name)); // memoized
+            }
+        }
+    }
+
+    @Test
+    public void test02MatchesAll() {
+        // w/o '.*', which matches all
+        final List<Pattern> patterns = compile(Arrays.copyOf(regexes, 4));
+        patterns.addAll(compile(Arrays.copyOfRange(regexes, 5, regexes.length)));
+        final SymbolPatternMatcher m = new SymbolPatternMatcher(patterns);
+        for(final String name : names) {
+            Assert.assertEquals(name, matchesBruteForce(patterns, name), m.matches(name));
+            for(final String alias : names) {
+                Assert.assertEquals(name+", "+alias, matchesBruteForce(patterns, name) || matchesBruteForce(patterns, alias),
+                                    m.matches(name, new HashSet<String>(Arrays.asList(alias))));
+                Assert.assertEquals(name+", "+alias, oneMismatchesBruteForce(patterns, name, alias),
+                                    m.oneMismatches(name, new HashSet<String>(Arrays.asList(alias))));
+            }
+        }
+        Assert.assertFalse(new SymbolPatternMatcher(new ArrayList<Pattern>()).matches("glFoo"));
+    }
+
+    public static void main(final String args[]) {
+        final String tstname = TestSymbolPatternMatcher.class.getName();
+        org.junit.runner.JUnitCore.main(tstname);
+    }
+
+}
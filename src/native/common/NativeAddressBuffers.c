@@ -0,0 +1,14 @@
+
+#include <jni.h>
+
+#include <assert.h>
+
+#include <gluegen_stdint.h>
+
+#include "com_jogamp_common_nio_NativeAddressBuffers.h"
+
+JNIEXPORT jobject JNICALL 
+Java_com_jogamp_common_nio_NativeAddressBuffers_newDirectByteBufferImpl(JNIEnv *env, jclass _unused, jlong address, jlong capacity) {
+    return (*env)->NewDirectByteBuffer(env, (void *) (intptr_t) address, capacity);
+}
+
@@ -8,6 +8,8 @@
 
  #include <dlfcn.h>
  #include <inttypes.h>
+ #include <stdlib.h>
+ #include <string.h>
 
 #ifndef RTLD_DEFAULT
     #define RTLD_DEFAULT   ((void *) 0)
@@ -127,3 +129,33 @@ Java_jogamp_common_os_UnixDynamicLinkerImpl_dlsym(JNIEnv *env, jclass _unused, j
   return (jlong) (intptr_t) _res;
 }
 
+/*
+ * Class:     jogamp_common_os_UnixDynamicLinkerImpl
+ * Method:    dlsyms
+ * Signature: (JLjava/nio/ByteBuffer;I[J)V
+ */
+JNIEXPORT void JNICALL 
+Java_jogamp_common_os_UnixDynamicLinkerImpl_dlsyms(JNIEnv *env, jclass _unused, jlong arg0, jobject names, jint count, jlongArray addresses) {
+  const char * name = (const char *) (*env)->GetDirectBufferAddress(env, names);
+  jlong * _res;
+  int i;
+  if (name == NULL) {
+    (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/IllegalArgumentException"),
+                     "Argument \"names\" is not a direct buffer in native dispatcher for \"dlsyms\"");
+    return;
+  }
+  _res = (jlong *) malloc(count * sizeof(jlong));
+  if (_res == NULL) {
+    (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"),
+                     "Failed to allocate results in native dispatcher for \"dlsyms\"");
+    return;
+  }
+  for (i = 0; i < count; i++) {
+    _res[i] = (jlong) (intptr_t) dlsym((void *) (intptr_t) arg0, name);
+    DBG_PRINT("XXX dlsyms: handle %p, symbol %s -> %p\n", (void *) (intptr_t) arg0, name, (void *) (intptr_t) _res[i]);
+    name += strlen(name) + 1;
+  }
+  (*env)->SetLongArrayRegion(env, addresses, 0, count, _res);
+  free(_res);
+}
+